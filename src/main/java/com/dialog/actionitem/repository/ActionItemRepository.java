@@ -1,11 +1,23 @@
 package com.dialog.actionitem.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.dialog.actionitem.domain.ActionItem;
 
+import jakarta.persistence.LockModeType;
+
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ActionItemRepository extends JpaRepository<ActionItem, Long> {
     Optional<ActionItem> findByGoogleEventId(String googleEventId);
+
+    // 캘린더 내보내기 저장 시 같은 항목을 동시에 내보내는 요청과 직렬화 (googleEventId 재확인용)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM ActionItem a WHERE a.id IN :ids")
+    List<ActionItem> findAllByIdInForUpdate(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,37 @@
+package com.dialog.aicache.controller;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dialog.aicache.domain.AiCacheStatsDto;
+import com.dialog.aicache.service.AiResponseCacheService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/ai-cache")
+@RequiredArgsConstructor
+public class AiCacheAdminController {
+
+	private final AiResponseCacheService aiResponseCacheService;
+
+	// AI 응답 캐시 히트/미스 통계
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/stats")
+	public ResponseEntity<AiCacheStatsDto> getStats() {
+		return ResponseEntity.ok(aiResponseCacheService.getStats());
+	}
+
+	// 캐시 전체 비우기
+	@PreAuthorize("hasRole('ADMIN')")
+	@DeleteMapping
+	public ResponseEntity<Map<String, Object>> clear() {
+		return ResponseEntity.ok(Map.of("removed", aiResponseCacheService.clear()));
+	}
+}
@@ -0,0 +1,20 @@
+package com.dialog.aicache.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// AI 응답 캐시 통계 (관리자 조회용)
+@Getter
+@Builder
+public class AiCacheStatsDto {
+
+	private final boolean enabled;
+	private final long hits;        // 캐시에서 바로 응답한 횟수 (= 절약한 FastAPI 호출 수)
+	private final long misses;      // FastAPI를 호출한 횟수
+	private final double hitRate;   // hits / (hits + misses)
+	private final long stores;      // 캐시에 저장한 횟수
+	private final long evictions;   // TTL/LRU 정리로 삭제된 항목 수
+	private final long entries;     // 현재 저장된 항목 수
+	private final long maxEntries;
+	private final long ttlHours;
+}
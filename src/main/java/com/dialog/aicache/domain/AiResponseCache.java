@@ -0,0 +1,56 @@
+package com.dialog.aicache.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// FastAPI 응답 캐시 (요청 endpoint + 정규화된 payload의 SHA-256 해시를 키로 사용)
+// 저장은 AiResponseCacheRepository.upsert(네이티브 쿼리)로만 수행
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "ai_response_cache", indexes = {
+		@Index(name = "idx_ai_cache_last_accessed", columnList = "last_accessed_at"),
+		@Index(name = "idx_ai_cache_expires", columnList = "expires_at") })
+public class AiResponseCache {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "cache_key", nullable = false, unique = true, length = 64)
+	private String cacheKey; // SHA-256 hex
+
+	@Column(nullable = false, length = 100)
+	private String endpoint; // 예: /summary/generate
+
+	@Lob
+	@Column(name = "response_body", nullable = false, columnDefinition = "LONGTEXT")
+	private String responseBody; // 가공된 응답(Map)의 JSON
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	@Column(name = "last_accessed_at", nullable = false)
+	private LocalDateTime lastAccessedAt; // LRU 정리 기준
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt; // TTL 만료 시각
+
+	@Column(name = "hit_count", nullable = false)
+	private long hitCount;
+
+	public boolean isExpired(LocalDateTime now) {
+		return expiresAt.isBefore(now);
+	}
+}
@@ -0,0 +1,58 @@
+package com.dialog.aicache.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dialog.aicache.domain.AiResponseCache;
+
+public interface AiResponseCacheRepository extends JpaRepository<AiResponseCache, Long> {
+
+	Optional<AiResponseCache> findByCacheKey(String cacheKey);
+
+	// 같은 키를 동시에 저장해도 유니크 제약 위반이 나지 않도록 INSERT ... ON DUPLICATE KEY UPDATE 사용
+	@Modifying
+	@Transactional
+	@Query(value = "INSERT INTO ai_response_cache "
+			+ "(cache_key, endpoint, response_body, created_at, last_accessed_at, expires_at, hit_count) "
+			+ "VALUES (:cacheKey, :endpoint, :responseBody, :now, :now, :expiresAt, 0) "
+			+ "ON DUPLICATE KEY UPDATE response_body = VALUES(response_body), last_accessed_at = VALUES(last_accessed_at), "
+			+ "expires_at = VALUES(expires_at)", nativeQuery = true)
+	int upsert(@Param("cacheKey") String cacheKey, @Param("endpoint") String endpoint,
+			@Param("responseBody") String responseBody, @Param("now") LocalDateTime now,
+			@Param("expiresAt") LocalDateTime expiresAt);
+
+	// 캐시 히트 시 LRU 기준 시각과 히트 수 갱신
+	@Modifying
+	@Transactional
+	@Query("UPDATE AiResponseCache c SET c.lastAccessedAt = :now, c.hitCount = c.hitCount + 1 WHERE c.id = :id")
+	int touch(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+	// TTL 만료 항목 일괄 삭제
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM AiResponseCache c WHERE c.expiresAt < :now")
+	int deleteExpired(@Param("now") LocalDateTime now);
+
+	// 가장 오래 사용되지 않은 항목 ID 조회 (LRU 정리용)
+	@Query("SELECT c.id FROM AiResponseCache c ORDER BY c.lastAccessedAt ASC")
+	List<Long> findLeastRecentlyUsedIds(Pageable pageable);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM AiResponseCache c WHERE c.id IN :ids")
+	int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+	@Modifying
+	@Transactional
+	@Query("DELETE FROM AiResponseCache c")
+	int deleteAllEntries();
+}
@@ -0,0 +1,181 @@
+package com.dialog.aicache.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.dialog.aicache.domain.AiCacheStatsDto;
+import com.dialog.aicache.domain.AiResponseCache;
+import com.dialog.aicache.repository.AiResponseCacheRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import lombok.extern.slf4j.Slf4j;
+
+// FastAPI(/summary/generate, /actions/generate) 응답 캐시
+// 같은 endpoint에 같은 내용(정규화 후)을 보내면 이전 응답을 DB에서 바로 돌려주고 네트워크 호출을 생략
+// 캐시 오류는 기능에 영향을 주지 않도록 로그만 남기고 미스로 처리
+@Slf4j
+@Service
+public class AiResponseCacheService {
+
+	private static final TypeReference<Map<String, Object>> MAP_TYPE = new TypeReference<>() {};
+
+	// LRU 정리 시 한 번에 삭제할 최대 건수
+	private static final int EVICTION_BATCH_SIZE = 500;
+
+	private final AiResponseCacheRepository cacheRepository;
+	private final ObjectMapper objectMapper;
+	// 해시 입력용: Map 키 순서에 관계없이 같은 JSON이 나오도록 정렬
+	private final ObjectMapper canonicalMapper;
+
+	@Value("${ai.cache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${ai.cache.ttl-hours:168}")
+	private long ttlHours;
+
+	@Value("${ai.cache.max-entries:5000}")
+	private long maxEntries;
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong stores = new AtomicLong();
+	private final AtomicLong evictions = new AtomicLong();
+
+	public AiResponseCacheService(AiResponseCacheRepository cacheRepository, ObjectMapper objectMapper) {
+		this.cacheRepository = cacheRepository;
+		this.objectMapper = objectMapper;
+		this.canonicalMapper = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+	}
+
+	// endpoint + 정규화된 payload로 캐시 키(SHA-256 hex) 생성
+	public String keyOf(String endpoint, Object payload) {
+		try {
+			String canonical = endpoint + "\n" + canonicalMapper.writeValueAsString(normalize(payload));
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+			return HexFormat.of().formatHex(digest);
+		} catch (JsonProcessingException | NoSuchAlgorithmException e) {
+			throw new IllegalStateException("AI 캐시 키 생성 실패", e);
+		}
+	}
+
+	// 캐시 조회 (없거나 만료된 경우 empty, 미스 카운트 증가)
+	public Optional<Map<String, Object>> get(String cacheKey) {
+		if (!enabled) {
+			return Optional.empty();
+		}
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			Optional<AiResponseCache> cached = cacheRepository.findByCacheKey(cacheKey)
+					.filter(entry -> !entry.isExpired(now));
+			if (cached.isEmpty()) {
+				misses.incrementAndGet();
+				return Optional.empty();
+			}
+			AiResponseCache entry = cached.get();
+			cacheRepository.touch(entry.getId(), now);
+			hits.incrementAndGet();
+			log.debug("AI 캐시 히트 - endpoint: {}, key: {}", entry.getEndpoint(), cacheKey);
+			return Optional.of(objectMapper.readValue(entry.getResponseBody(), MAP_TYPE));
+		} catch (Exception e) {
+			log.warn("AI 캐시 조회 실패 - key: {}, {}", cacheKey, e.getMessage());
+			misses.incrementAndGet();
+			return Optional.empty();
+		}
+	}
+
+	// 성공한 응답만 저장 (같은 키가 있으면 덮어쓰고 TTL 연장)
+	public void put(String cacheKey, String endpoint, Map<String, Object> response) {
+		if (!enabled) {
+			return;
+		}
+		try {
+			LocalDateTime now = LocalDateTime.now();
+			cacheRepository.upsert(cacheKey, endpoint, objectMapper.writeValueAsString(response), now,
+					now.plusHours(ttlHours));
+			stores.incrementAndGet();
+		} catch (Exception e) {
+			log.warn("AI 캐시 저장 실패 - endpoint: {}, {}", endpoint, e.getMessage());
+		}
+	}
+
+	// 주기적 정리: TTL 만료 삭제 후 최대 건수 초과분을 LRU 순서로 삭제
+	@Scheduled(fixedDelayString = "${ai.cache.eviction-interval-ms:600000}")
+	public void evict() {
+		if (!enabled) {
+			return;
+		}
+		long removed = cacheRepository.deleteExpired(LocalDateTime.now());
+
+		long overflow = cacheRepository.count() - maxEntries;
+		while (overflow > 0) {
+			int size = (int) Math.min(overflow, EVICTION_BATCH_SIZE);
+			List<Long> ids = cacheRepository.findLeastRecentlyUsedIds(PageRequest.of(0, size));
+			if (ids.isEmpty()) {
+				break;
+			}
+			int deleted = cacheRepository.deleteByIdIn(ids);
+			removed += deleted;
+			overflow -= deleted;
+		}
+
+		if (removed > 0) {
+			evictions.addAndGet(removed);
+			log.info("AI 캐시 정리 - 삭제 {}건", removed);
+		}
+	}
+
+	public long clear() {
+		long removed = cacheRepository.deleteAllEntries();
+		evictions.addAndGet(removed);
+		return removed;
+	}
+
+	public AiCacheStatsDto getStats() {
+		long hitCount = hits.get();
+		long missCount = misses.get();
+		long total = hitCount + missCount;
+		return AiCacheStatsDto.builder()
+				.enabled(enabled)
+				.hits(hitCount)
+				.misses(missCount)
+				.hitRate(total == 0 ? 0.0 : (double) hitCount / total)
+				.stores(stores.get())
+				.evictions(evictions.get())
+				.entries(cacheRepository.count())
+				.maxEntries(maxEntries)
+				.ttlHours(ttlHours)
+				.build();
+	}
+
+	// 의미 없는 차이(앞뒤 공백, 연속 공백/줄바꿈)로 캐시가 빗나가지 않도록 문자열 정규화
+	private Object normalize(Object value) {
+		if (value instanceof String text) {
+			return text.strip().replaceAll("\\s+", " ");
+		}
+		if (value instanceof Map<?, ?> map) {
+			Map<String, Object> normalized = new LinkedHashMap<>();
+			map.forEach((k, v) -> normalized.put(String.valueOf(k), normalize(v)));
+			return normalized;
+		}
+		if (value instanceof List<?> list) {
+			return list.stream().map(this::normalize).toList();
+		}
+		return value;
+	}
+}
@@ -18,10 +18,13 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.dialog.calendarevent.domain.ActionItemExportResponse;
 import com.dialog.calendarevent.domain.CalendarCreateRequest;
 import com.dialog.calendarevent.domain.CalendarEventResponse;
+import com.dialog.calendarevent.domain.CalendarEventsResult;
 import com.dialog.calendarevent.domain.EventCompletionRequest;
 import com.dialog.calendarevent.domain.GoogleEventResponseDTO;
+import com.dialog.calendarevent.service.ActionItemCalendarExportService;
 import com.dialog.calendarevent.service.CalendarEventService;
 import com.dialog.token.service.SocialTokenService;
 
@@ -36,8 +39,11 @@ import lombok.extern.log4j.Log4j2;
 public class CalendarEventController {
 
 	private final CalendarEventService calendarEventService;
+	private final ActionItemCalendarExportService actionItemCalendarExportService;
 	private final SocialTokenService tokenManagerService;
 
+	private static final String PARTIAL_HEADER = "X-Calendar-Partial";
+
 	@GetMapping("/calendar/events")
 	public ResponseEntity<List<CalendarEventResponse>> getEvents(Principal principal, // ResponseEntity<?> ->
 																						// ResponseEntity<List<CalendarEventResponse>>
@@ -48,9 +54,10 @@ public class CalendarEventController {
 			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
 		}
 
-		List<CalendarEventResponse> events = calendarEventService.getEventsByDateRange(principal.getName(), startDate,
+		CalendarEventsResult result = calendarEventService.getEventsByDateRange(principal.getName(), startDate,
 				endDate);
-		return ResponseEntity.ok(events);
+		// Google 조회가 제한 시간을 넘긴 경우 로컬 일정만 담겨 있음을 헤더로 알림 (본문 형식은 그대로 유지)
+		return ResponseEntity.ok().header(PARTIAL_HEADER, String.valueOf(result.isPartial())).body(result.getEvents());
 	}
 
 	@PostMapping("/calendar/events")
@@ -143,4 +150,16 @@ public class CalendarEventController {
 		return ResponseEntity.ok().build();
 	}
 
+	// 회의 액션 아이템 일괄 내보내기 (마감일이 있고 아직 캘린더에 없는 항목을 Google 배치 요청 한 번으로 등록)
+	@PostMapping("/calendar/meetings/{meetingId}/action-items")
+	public ResponseEntity<ActionItemExportResponse> exportActionItems(@PathVariable("meetingId") Long meetingId,
+			Principal principal) {
+
+		if (principal == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+
+		return ResponseEntity.ok(actionItemCalendarExportService.exportMeetingActionItems(principal.getName(), meetingId));
+	}
+
 }
@@ -0,0 +1,35 @@
+package com.dialog.calendarevent.domain;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+// 회의 액션 아이템 일괄 캘린더 내보내기 결과
+@Getter
+@Builder
+@AllArgsConstructor
+public class ActionItemExportResponse {
+
+	private Long meetingId;
+	private int requested; // 내보내기를 시도한 항목 수
+	private int created;
+	private int failed;
+	private int skipped; // 마감일이 없거나 이미 캘린더에 추가된 항목
+	private List<Item> items;
+
+	public enum ItemStatus {
+		CREATED, FAILED, SKIPPED
+	}
+
+	@Getter
+	@AllArgsConstructor
+	public static class Item {
+		private Long actionItemId;
+		private String task;
+		private ItemStatus status;
+		private String googleEventId;
+		private String message;
+	}
+}
@@ -0,0 +1,24 @@
+package com.dialog.calendarevent.domain;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 기간별 캘린더 조회 결과
+// partial = true 면 Google 조회가 제한 시간 안에 끝나지 않아 로컬 일정만 담긴 결과
+@Getter
+@RequiredArgsConstructor
+public class CalendarEventsResult {
+
+	private final List<CalendarEventResponse> events;
+	private final boolean partial;
+
+	public static CalendarEventsResult complete(List<CalendarEventResponse> events) {
+		return new CalendarEventsResult(events, false);
+	}
+
+	public static CalendarEventsResult partial(List<CalendarEventResponse> events) {
+		return new CalendarEventsResult(events, true);
+	}
+}
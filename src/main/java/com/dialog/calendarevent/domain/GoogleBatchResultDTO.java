@@ -0,0 +1,23 @@
+package com.dialog.calendarevent.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Google 배치 요청의 개별 응답 (요청 순서와 같은 위치)
+@Getter
+@AllArgsConstructor
+public class GoogleBatchResultDTO {
+
+	// 개별 요청의 HTTP 상태 코드 (응답 파트가 없으면 0)
+	private final int statusCode;
+
+	// 성공 시 생성된 이벤트
+	private final GoogleEventResponseDTO event;
+
+	// 실패 시 오류 내용
+	private final String error;
+
+	public boolean isSuccess() {
+		return statusCode >= 200 && statusCode < 300 && event != null && event.getId() != null;
+	}
+}
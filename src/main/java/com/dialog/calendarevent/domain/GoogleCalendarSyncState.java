@@ -0,0 +1,66 @@
+package com.dialog.calendarevent.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자별 Google 캘린더 증분 동기화 상태
+@Entity
+@Table(name = "google_calendar_sync_state")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GoogleCalendarSyncState {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "user_id", nullable = false, unique = true)
+	private Long userId;
+
+	// 다음 증분 조회에 사용할 Google nextSyncToken (null 이면 전체 동기화 필요)
+	@Column(name = "sync_token", length = 512)
+	private String syncToken;
+
+	@Column(name = "last_synced_at")
+	private LocalDateTime lastSyncedAt;
+
+	@Column(name = "last_full_synced_at")
+	private LocalDateTime lastFullSyncedAt;
+
+	// 로컬 사본이 보장하는 가장 이른 날짜 (전체 동기화 시 timeMin) - 이보다 이전 기간은 Google 을 직접 조회
+	@Column(name = "window_start")
+	private LocalDate windowStart;
+
+	// 마지막으로 캘린더 화면을 본 시각 - 최근 본 사용자만 백그라운드로 갱신
+	@Column(name = "last_viewed_at")
+	private LocalDateTime lastViewedAt;
+
+	public GoogleCalendarSyncState(Long userId) {
+		this.userId = userId;
+		this.lastViewedAt = LocalDateTime.now();
+	}
+
+	public void markSynced(String nextSyncToken, LocalDate fullSyncWindowStart) {
+		LocalDateTime now = LocalDateTime.now();
+		this.syncToken = nextSyncToken;
+		this.lastSyncedAt = now;
+		if (fullSyncWindowStart != null) {
+			this.lastFullSyncedAt = now;
+			this.windowStart = fullSyncWindowStart;
+		}
+	}
+
+	// 해당 기간을 로컬 사본으로 응답할 수 있는지
+	public boolean covers(LocalDate startDate) {
+		return isInitialized() && windowStart != null && !startDate.isBefore(windowStart);
+	}
+
+	public boolean isInitialized() {
+		return syncToken != null;
+	}
+}
@@ -0,0 +1,85 @@
+package com.dialog.calendarevent.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자별 Google 캘린더 일정 로컬 사본
+// 캘린더 화면은 Google API 대신 이 테이블에서 읽고, GoogleCalendarSyncService 가 syncToken 변경분으로 갱신
+@Entity
+@Table(name = "google_event_mirror",
+		uniqueConstraints = @UniqueConstraint(name = "uq_google_event_mirror_user_event", columnNames = { "user_id", "google_event_id" }),
+		indexes = @Index(name = "idx_google_event_mirror_user_date", columnList = "user_id, start_date, end_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class GoogleEventMirror {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+
+	@Column(name = "google_event_id", nullable = false)
+	private String googleEventId;
+
+	@Column(nullable = false)
+	private String title;
+
+	// 시작일/종료일 (종일 일정의 Google 종료일은 다음 날이므로 하루 뺀 값)
+	@Column(name = "start_date", nullable = false)
+	private LocalDate startDate;
+
+	@Column(name = "end_date", nullable = false)
+	private LocalDate endDate;
+
+	@Column(length = 20)
+	private String status;
+
+	@UpdateTimestamp
+	@Column(name = "updated_at")
+	private LocalDateTime updatedAt;
+
+	@Builder
+	public GoogleEventMirror(Long userId, String googleEventId, String title, LocalDate startDate, LocalDate endDate,
+			String status) {
+		this.userId = userId;
+		this.googleEventId = googleEventId;
+		this.title = title;
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.status = status;
+	}
+
+	public void update(String title, LocalDate startDate, LocalDate endDate, String status) {
+		this.title = title;
+		this.startDate = startDate;
+		this.endDate = endDate;
+		this.status = status;
+	}
+
+	// 캘린더 화면 응답 형식으로 변환 (GoogleCalendarApiClient 의 구글 이벤트 변환과 같은 값)
+	public CalendarEventResponse toResponse() {
+		return CalendarEventResponse.builder()
+				.id(null) // Google 이벤트는 우리 DB ID가 없음
+				.userId(null)
+				.title(title)
+				.eventDate(startDate.toString())
+				.time(null)
+				.eventType("MEETING")
+				.isImportant(false)
+				.sourceId(googleEventId)
+				.googleEventId(googleEventId)
+				.createdAt(null)
+				.status(status)
+				.build();
+	}
+}
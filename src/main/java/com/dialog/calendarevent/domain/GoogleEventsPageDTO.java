@@ -0,0 +1,24 @@
+package com.dialog.calendarevent.domain;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Google events.list 응답 한 페이지 (증분 동기화용)
+// 마지막 페이지에만 nextSyncToken 이 있고, 그 전 페이지에는 nextPageToken 이 있음
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class GoogleEventsPageDTO {
+
+	private List<GoogleEventResponseDTO> items;
+
+	private String nextPageToken;
+
+	private String nextSyncToken;
+}
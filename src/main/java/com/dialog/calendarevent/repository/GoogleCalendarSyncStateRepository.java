@@ -0,0 +1,28 @@
+package com.dialog.calendarevent.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dialog.calendarevent.domain.GoogleCalendarSyncState;
+
+public interface GoogleCalendarSyncStateRepository extends JpaRepository<GoogleCalendarSyncState, Long> {
+
+	Optional<GoogleCalendarSyncState> findByUserId(Long userId);
+
+	// 최근 캘린더를 본 사용자 (백그라운드 갱신 대상)
+	List<GoogleCalendarSyncState> findByLastViewedAtAfter(LocalDateTime time);
+
+	@Modifying
+	@Query("UPDATE GoogleCalendarSyncState s SET s.lastViewedAt = :now WHERE s.userId = :userId")
+	int touchViewed(@Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+	@Modifying
+	@Query("DELETE FROM GoogleCalendarSyncState s WHERE s.userId = :userId")
+	int deleteByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,31 @@
+package com.dialog.calendarevent.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.dialog.calendarevent.domain.GoogleEventMirror;
+
+public interface GoogleEventMirrorRepository extends JpaRepository<GoogleEventMirror, Long> {
+
+	// 기간과 겹치는 일정 (여러 날에 걸친 일정 포함)
+	@Query("SELECT e FROM GoogleEventMirror e WHERE e.userId = :userId AND e.startDate <= :end AND e.endDate >= :start "
+			+ "ORDER BY e.startDate")
+	List<GoogleEventMirror> findOverlapping(@Param("userId") Long userId, @Param("start") LocalDate start,
+			@Param("end") LocalDate end);
+
+	List<GoogleEventMirror> findByUserIdAndGoogleEventIdIn(Long userId, Collection<String> googleEventIds);
+
+	@Modifying
+	@Query("DELETE FROM GoogleEventMirror e WHERE e.userId = :userId")
+	int deleteByUserId(@Param("userId") Long userId);
+
+	@Modifying
+	@Query("DELETE FROM GoogleEventMirror e WHERE e.userId = :userId AND e.googleEventId = :googleEventId")
+	int deleteByUserIdAndGoogleEventId(@Param("userId") Long userId, @Param("googleEventId") String googleEventId);
+}
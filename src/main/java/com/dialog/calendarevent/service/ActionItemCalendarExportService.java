@@ -0,0 +1,284 @@
+package com.dialog.calendarevent.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.actionitem.domain.ActionItem;
+import com.dialog.actionitem.repository.ActionItemRepository;
+import com.dialog.calendarevent.domain.ActionItemExportResponse;
+import com.dialog.calendarevent.domain.ActionItemExportResponse.ItemStatus;
+import com.dialog.calendarevent.domain.CalendarEvent;
+import com.dialog.calendarevent.domain.EventDateTimeDTO;
+import com.dialog.calendarevent.domain.EventType;
+import com.dialog.calendarevent.domain.GoogleBatchResultDTO;
+import com.dialog.calendarevent.domain.GoogleEventRequestDTO;
+import com.dialog.calendarevent.repository.CalendarEventRepository;
+import com.dialog.exception.ResourceNotFoundException;
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.meeting.repository.MeetingRepository;
+import com.dialog.meetingresult.domain.MeetingResult;
+import com.dialog.todo.domain.Todo;
+import com.dialog.todo.domain.TodoSource;
+import com.dialog.todo.repository.TodoRepository;
+import com.dialog.token.service.SocialTokenService;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 회의 액션 아이템 일괄 Google 캘린더 내보내기
+// 항목마다 createEvent 를 호출하던 방식 대신 Google 배치 요청(최대 50건)으로 한 번에 생성하고,
+// googleEventId 반영과 로컬 CalendarEvent/Todo 저장은 한 트랜잭션으로 처리
+// 같은 회의를 동시에 내보내면 저장 단계에서 액션 아이템을 잠그고 googleEventId 를 다시 확인해,
+// 먼저 저장한 요청만 반영하고 나머지 요청이 만든 Google 일정은 삭제함 (그 사이 삭제된 항목도 동일)
+@Slf4j
+@Service
+public class ActionItemCalendarExportService {
+
+	private static final String CALENDAR_ID = "primary";
+
+	private final MeetingRepository meetingRepository;
+	private final MeetUserRepository meetUserRepository;
+	private final ActionItemRepository actionItemRepository;
+	private final CalendarEventRepository calendarEventRepository;
+	private final TodoRepository todoRepository;
+	private final SocialTokenService tokenManagerService;
+	private final GoogleCalendarApiClient googleCalendarApiClient;
+	private final TransactionTemplate transactionTemplate;
+	private final TransactionTemplate readTransaction;
+
+	public ActionItemCalendarExportService(MeetingRepository meetingRepository,
+			MeetUserRepository meetUserRepository,
+			ActionItemRepository actionItemRepository,
+			CalendarEventRepository calendarEventRepository,
+			TodoRepository todoRepository,
+			SocialTokenService tokenManagerService,
+			GoogleCalendarApiClient googleCalendarApiClient,
+			PlatformTransactionManager transactionManager) {
+		this.meetingRepository = meetingRepository;
+		this.meetUserRepository = meetUserRepository;
+		this.actionItemRepository = actionItemRepository;
+		this.calendarEventRepository = calendarEventRepository;
+		this.todoRepository = todoRepository;
+		this.tokenManagerService = tokenManagerService;
+		this.googleCalendarApiClient = googleCalendarApiClient;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.readTransaction = new TransactionTemplate(transactionManager);
+		this.readTransaction.setReadOnly(true);
+	}
+
+	// 내보낼 항목 (트랜잭션 밖에서 Google 호출 시 사용할 값만 복사)
+	private record ExportTarget(Long actionItemId, String task, LocalDate dueDate, boolean aiExtracted) {
+	}
+
+	private record ExportPlan(Long userId, Long meetingId, String meetingTitle, List<ExportTarget> targets,
+			List<ActionItemExportResponse.Item> skipped) {
+	}
+
+	// 로컬 저장 결과 (discardedEventIds: 반영하지 않아 Google 에서 지워야 하는 일정)
+	private record SaveResult(List<ActionItemExportResponse.Item> items, List<String> discardedEventIds) {
+	}
+
+	public ActionItemExportResponse exportMeetingActionItems(String userEmail, Long meetingId) {
+		// 1. 대상 항목 수집 (마감일이 있고 아직 캘린더에 없는 항목)
+		ExportPlan plan = readTransaction.execute(status -> plan(userEmail, meetingId));
+
+		List<ActionItemExportResponse.Item> items = new ArrayList<>(plan.skipped());
+		if (plan.targets().isEmpty()) {
+			return buildResponse(meetingId, 0, items);
+		}
+
+		// 2. Google 배치 생성 (DB 트랜잭션 밖에서 호출)
+		String accessToken = tokenManagerService.getToken(userEmail, "google");
+		List<GoogleBatchResultDTO> results = createInBatches(accessToken, plan);
+
+		// 3. 성공한 항목만 한 트랜잭션으로 로컬 반영
+		SaveResult saved;
+		try {
+			saved = transactionTemplate.execute(status -> saveLocal(plan, results));
+		} catch (RuntimeException e) {
+			// 로컬 저장 실패 시 방금 만든 Google 일정을 되돌려 화면과 캘린더가 어긋나지 않게 함
+			log.error("액션 아이템 내보내기 로컬 저장 실패 (meetingId={}). 생성된 Google 일정을 삭제합니다.", meetingId, e);
+			rollbackGoogleEvents(accessToken, results.stream().filter(GoogleBatchResultDTO::isSuccess)
+					.map(result -> result.getEvent().getId()).collect(Collectors.toList()));
+			throw new RuntimeException("액션 아이템 캘린더 내보내기 중 로컬 저장에 실패했습니다.", e);
+		}
+		// 동시 요청에 밀렸거나 그 사이 삭제된 항목의 일정은 커밋 후 Google 에서 삭제
+		if (!saved.discardedEventIds().isEmpty()) {
+			log.info("액션 아이템 내보내기 중복/삭제 항목 일정 정리 (meetingId={}) - {}건", meetingId,
+					saved.discardedEventIds().size());
+			rollbackGoogleEvents(accessToken, saved.discardedEventIds());
+		}
+		items.addAll(saved.items());
+
+		ActionItemExportResponse response = buildResponse(meetingId, plan.targets().size(), items);
+		log.info("액션 아이템 캘린더 내보내기 완료 (meetingId={}) - 생성 {}건, 실패 {}건, 건너뜀 {}건", meetingId,
+				response.getCreated(), response.getFailed(), response.getSkipped());
+		return response;
+	}
+
+	private ExportPlan plan(String userEmail, Long meetingId) {
+		MeetUser user = meetUserRepository.findByEmail(userEmail)
+				.orElseThrow(() -> new ResourceNotFoundException("사용자를 찾을 수 없습니다: " + userEmail));
+		Meeting meeting = meetingRepository.findById(meetingId)
+				.orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다. ID: " + meetingId));
+		if (!meeting.getHostUser().getId().equals(user.getId())) {
+			throw new IllegalArgumentException("이 회의의 액션 아이템을 내보낼 권한이 없습니다.");
+		}
+
+		List<ExportTarget> targets = new ArrayList<>();
+		List<ActionItemExportResponse.Item> skipped = new ArrayList<>();
+		MeetingResult result = meeting.getMeetingResult();
+		if (result != null) {
+			for (ActionItem item : result.getActionItems()) {
+				if (item.getGoogleEventId() != null) {
+					skipped.add(new ActionItemExportResponse.Item(item.getId(), item.getTask(), ItemStatus.SKIPPED,
+							item.getGoogleEventId(), "이미 캘린더에 추가된 항목입니다."));
+				} else if (item.getDueDate() == null) {
+					skipped.add(new ActionItemExportResponse.Item(item.getId(), item.getTask(), ItemStatus.SKIPPED,
+							null, "마감일이 없는 항목입니다."));
+				} else {
+					targets.add(new ExportTarget(item.getId(), item.getTask(), item.getDueDate().toLocalDate(),
+							"AI".equalsIgnoreCase(item.getSource())));
+				}
+			}
+		}
+		return new ExportPlan(user.getId(), meetingId, meeting.getTitle(), targets, skipped);
+	}
+
+	private List<GoogleBatchResultDTO> createInBatches(String accessToken, ExportPlan plan) {
+		List<GoogleEventRequestDTO> requests = plan.targets().stream()
+				.map(target -> toEventRequest(target, plan.meetingTitle()))
+				.collect(Collectors.toList());
+
+		List<GoogleBatchResultDTO> results = new ArrayList<>(requests.size());
+		for (int from = 0; from < requests.size(); from += GoogleCalendarApiClient.MAX_BATCH_SIZE) {
+			List<GoogleEventRequestDTO> chunk = requests.subList(from,
+					Math.min(from + GoogleCalendarApiClient.MAX_BATCH_SIZE, requests.size()));
+			try {
+				results.addAll(googleCalendarApiClient.batchCreateEventsMono(accessToken, CALENDAR_ID, chunk).block());
+			} catch (RuntimeException e) {
+				// 첫 배치부터 실패(토큰 만료 등)면 그대로 전달, 앞 배치가 이미 생성됐으면 남은 항목만 실패 처리
+				if (from == 0) {
+					throw e;
+				}
+				log.warn("액션 아이템 배치 내보내기 중단 ({}번째 항목부터 실패): {}", from, e.getMessage());
+				for (int i = from; i < requests.size(); i++) {
+					results.add(new GoogleBatchResultDTO(0, null, "Google 배치 요청 실패: " + e.getMessage()));
+				}
+				break;
+			}
+		}
+		return results;
+	}
+
+	// 액션 아이템은 마감일 종일 일정으로 등록 (Google 종일 일정의 end 는 다음 날)
+	private GoogleEventRequestDTO toEventRequest(ExportTarget target, String meetingTitle) {
+		EventDateTimeDTO start = new EventDateTimeDTO();
+		start.setDate(target.dueDate().toString());
+		EventDateTimeDTO end = new EventDateTimeDTO();
+		end.setDate(target.dueDate().plusDays(1).toString());
+
+		GoogleEventRequestDTO request = new GoogleEventRequestDTO();
+		request.setSummary(target.task());
+		request.setDescription(description(meetingTitle));
+		request.setStart(start);
+		request.setEnd(end);
+		return request;
+	}
+
+	private String description(String meetingTitle) {
+		return "회의 '" + meetingTitle + "'의 액션 아이템";
+	}
+
+	private SaveResult saveLocal(ExportPlan plan, List<GoogleBatchResultDTO> results) {
+		// 잠근 뒤 googleEventId 를 다시 확인하므로, 동시에 내보낸 요청 중 하나만 반영됨
+		Map<Long, ActionItem> actionItems = actionItemRepository
+				.findAllByIdInForUpdate(plan.targets().stream().map(ExportTarget::actionItemId).collect(Collectors.toList()))
+				.stream().collect(Collectors.toMap(ActionItem::getId, Function.identity()));
+		MeetUser user = meetUserRepository.getReferenceById(plan.userId());
+		Meeting meeting = meetingRepository.getReferenceById(plan.meetingId());
+
+		List<ActionItemExportResponse.Item> items = new ArrayList<>();
+		List<String> discardedEventIds = new ArrayList<>();
+		List<Todo> todos = new ArrayList<>();
+		List<CalendarEvent> events = new ArrayList<>();
+		for (int i = 0; i < plan.targets().size(); i++) {
+			ExportTarget target = plan.targets().get(i);
+			GoogleBatchResultDTO result = results.get(i);
+			ActionItem actionItem = actionItems.get(target.actionItemId());
+
+			if (!result.isSuccess()) {
+				items.add(new ActionItemExportResponse.Item(target.actionItemId(), target.task(), ItemStatus.FAILED,
+						null, result.getError()));
+				continue;
+			}
+
+			String googleEventId = result.getEvent().getId();
+			if (actionItem == null) {
+				// 계획 이후 삭제된 항목 - 로컬에 남기지 않고 만든 일정도 삭제
+				discardedEventIds.add(googleEventId);
+				items.add(new ActionItemExportResponse.Item(target.actionItemId(), target.task(), ItemStatus.SKIPPED,
+						null, "내보내는 중에 삭제된 항목입니다."));
+				continue;
+			}
+			if (actionItem.getGoogleEventId() != null) {
+				// 다른 요청이 먼저 내보낸 항목 - 그 일정을 유지하고 이번에 만든 일정은 삭제
+				discardedEventIds.add(googleEventId);
+				items.add(new ActionItemExportResponse.Item(target.actionItemId(), target.task(), ItemStatus.SKIPPED,
+						actionItem.getGoogleEventId(), "이미 캘린더에 추가된 항목입니다."));
+				continue;
+			}
+			actionItem.setGoogleEventId(googleEventId);
+
+			// 캘린더에서 직접 추가한 종일 일정(TASK)과 같은 형태로 로컬 저장
+			Todo todo = Todo.builder().title(target.task()).description(description(plan.meetingTitle()))
+					.dueDate(target.dueDate()).user(user).meeting(meeting)
+					.source(target.aiExtracted() ? TodoSource.AI_EXTRACTED : TodoSource.MANUAL).build();
+			todos.add(todo);
+			events.add(CalendarEvent.builder().userId(plan.userId()).title(target.task()).eventDate(target.dueDate())
+					.googleEventId(googleEventId).eventType(EventType.TASK).isImportant(false).task(todo).build());
+
+			items.add(new ActionItemExportResponse.Item(target.actionItemId(), target.task(), ItemStatus.CREATED,
+					googleEventId, null));
+		}
+
+		todoRepository.saveAll(todos);
+		calendarEventRepository.saveAll(events);
+		return new SaveResult(items, discardedEventIds);
+	}
+
+	private void rollbackGoogleEvents(String accessToken, List<String> eventIds) {
+		for (String eventId : eventIds) {
+			try {
+				googleCalendarApiClient.deleteEvent(accessToken, CALENDAR_ID, eventId);
+			} catch (Exception e) {
+				log.warn("내보내기 롤백 중 Google 일정 삭제 실패 (eventId={}): {}", eventId, e.getMessage());
+			}
+		}
+	}
+
+	private ActionItemExportResponse buildResponse(Long meetingId, int requested,
+			List<ActionItemExportResponse.Item> items) {
+		int created = 0;
+		int failed = 0;
+		int skipped = 0;
+		for (ActionItemExportResponse.Item item : items) {
+			switch (item.getStatus()) {
+				case CREATED -> created++;
+				case FAILED -> failed++;
+				case SKIPPED -> skipped++;
+			}
+		}
+		return ActionItemExportResponse.builder().meetingId(meetingId).requested(requested).created(created)
+				.failed(failed).skipped(skipped).items(items).build();
+	}
+}
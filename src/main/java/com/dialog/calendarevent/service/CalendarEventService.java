@@ -6,14 +6,25 @@ import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import com.dialog.calendarevent.domain.CalendarEvent;
 import com.dialog.calendarevent.domain.CalendarEventResponse;
+import com.dialog.calendarevent.domain.CalendarEventsResult;
 import com.dialog.calendarevent.domain.EventType;
 import com.dialog.calendarevent.domain.GoogleEventRequestDTO;
 import com.dialog.calendarevent.domain.GoogleEventResponseDTO;
@@ -32,11 +43,9 @@ import com.dialog.actionitem.domain.ActionItem;
 import com.dialog.actionitem.repository.ActionItemRepository;
 
 import jakarta.persistence.EntityNotFoundException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
-@RequiredArgsConstructor // final 필드를 위한 생성자 주입
 @Transactional(readOnly = true)
 @Slf4j
 public class CalendarEventService {
@@ -44,76 +53,147 @@ public class CalendarEventService {
 	private final CalendarEventRepository calendarEventRepository;
 	private final SocialTokenService tokenManagerService;
 	private final GoogleCalendarApiClient googleCalendarApiClient;
+	private final GoogleCalendarSyncService googleCalendarSyncService;
 	private final MeetUserRepository meetUserRepository;
 	private final MeetingRepository meetingRepository;
 	private final TodoRepository todoRepository;
   private final ActionItemRepository actionItemRepository;
+	private final ThreadPoolTaskExecutor calendarFetchExecutor;
+
+	// Google 결과를 기다리는 최대 시간 (초과 시 로컬 일정만 partial 로 응답)
+	@Value("${google.calendar.fetch.deadline-ms:3000}")
+	private long fetchDeadlineMs;
+
+	public CalendarEventService(CalendarEventRepository calendarEventRepository,
+			SocialTokenService tokenManagerService,
+			GoogleCalendarApiClient googleCalendarApiClient,
+			GoogleCalendarSyncService googleCalendarSyncService,
+			MeetUserRepository meetUserRepository,
+			MeetingRepository meetingRepository,
+			TodoRepository todoRepository,
+			ActionItemRepository actionItemRepository,
+			@Qualifier("calendarFetchExecutor") ThreadPoolTaskExecutor calendarFetchExecutor) {
+		this.calendarEventRepository = calendarEventRepository;
+		this.tokenManagerService = tokenManagerService;
+		this.googleCalendarApiClient = googleCalendarApiClient;
+		this.googleCalendarSyncService = googleCalendarSyncService;
+		this.meetUserRepository = meetUserRepository;
+		this.meetingRepository = meetingRepository;
+		this.todoRepository = todoRepository;
+		this.actionItemRepository = actionItemRepository;
+		this.calendarFetchExecutor = calendarFetchExecutor;
+	}
+
+	// Google 동기화(별도 트랜잭션 커밋)를 바로 읽어야 하므로 바깥 읽기 트랜잭션 없이 실행
+	// 토큰 갱신 + Google 일정 조회는 calendarFetchExecutor 에서, 로컬 DB 조회는 요청 스레드에서 동시에 수행
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public CalendarEventsResult getEventsByDateRange(String userEmail, LocalDate startDate, LocalDate endDate) {
 
-	public List<CalendarEventResponse> getEventsByDateRange(String userEmail, LocalDate startDate, LocalDate endDate) {
+	    long deadline = System.currentTimeMillis() + fetchDeadlineMs;
 
 	    // 사용자 검증
 	    MeetUser meetUser = meetUserRepository.findByEmail(userEmail)
 	            .orElseThrow(() -> new ResourceNotFoundException("MeetUser를 찾을 수 없습니다: " + userEmail));
 
 	    Long userId = meetUser.getId();
-	    String accessToken = tokenManagerService.getToken(userEmail, "google");
 
-	    // 로컬 DB 조회 (Task 및 로컬 이벤트)
-	    // List는 나중에 구글 이벤트를 추가해야 하므로 수정 가능한 ArrayList로 감싸는 것이 안전합니다.
+	    // 토큰 조회(만료 임박 시 Google 토큰 엔드포인트 호출) -> Google 일정 조회를 먼저 시작
+	    // 실행기가 포화라 거절되면 Google 쪽은 건너뛰고 로컬 일정만 부분 응답
+	    CompletableFuture<String> tokenFuture;
+	    try {
+	        tokenFuture = CompletableFuture
+	                .supplyAsync(() -> tokenManagerService.getToken(userEmail, "google"), calendarFetchExecutor);
+	    } catch (RejectedExecutionException e) {
+	        log.warn("캘린더 조회 실행기가 포화 상태라 로컬 일정만 반환합니다. userId={}", userId);
+	        return CalendarEventsResult.partial(toResponses(
+	                calendarEventRepository.findByUserIdAndEventDateBetween(userId, startDate, endDate)));
+	    }
+	    CompletableFuture<List<CalendarEventResponse>> googleFuture = tokenFuture.thenApplyAsync(accessToken -> {
+	        // 토큰이 없으면 로컬 데이터만 반환
+	        if (accessToken == null || accessToken.isEmpty()) {
+	            log.warn("Google AccessToken이 없어 로컬 데이터만 반환합니다.");
+	            return Collections.<CalendarEventResponse>emptyList();
+	        }
+	        // 구글 일정은 증분 동기화된 로컬 사본에서 조회 (최초 1회만 Google 전체 조회)
+	        return googleCalendarSyncService.getGoogleEvents(meetUser, accessToken, startDate, endDate);
+	    }, calendarFetchExecutor);
+
+	    // 로컬 DB 조회 (Task 및 로컬 이벤트) - Google 쪽과 동시에 진행
 	    List<CalendarEvent> localEvents = calendarEventRepository.findByUserIdAndEventDateBetween(userId, startDate, endDate);
-	    
-	    List<CalendarEventResponse> responseEvents = localEvents.stream()
+	    List<CalendarEventResponse> responseEvents = toResponses(localEvents);
+
+	    List<CalendarEventResponse> googleEvents;
+	    try {
+	        long remaining = Math.max(0, deadline - System.currentTimeMillis());
+	        googleEvents = googleFuture.get(remaining, TimeUnit.MILLISECONDS);
+	    } catch (TimeoutException e) {
+	        // Google 이 느리면 화면을 붙잡지 않고 로컬 일정만 응답 (조회는 계속 진행되어 사본이 채워짐)
+	        log.warn("Google 일정 조회가 {}ms 안에 끝나지 않아 로컬 일정만 반환합니다. userId={}", fetchDeadlineMs, userId);
+	        return CalendarEventsResult.partial(responseEvents);
+	    } catch (InterruptedException e) {
+	        Thread.currentThread().interrupt();
+	        return CalendarEventsResult.partial(responseEvents);
+	    } catch (ExecutionException e) {
+	        Throwable cause = e.getCause() != null ? e.getCause() : e;
+	        // 토큰 조회 뒤 일정 조회 단계가 실행기에서 거절된 경우
+	        if (cause instanceof RejectedExecutionException) {
+	            log.warn("캘린더 조회 실행기가 포화 상태라 로컬 일정만 반환합니다. userId={}", userId);
+	            return CalendarEventsResult.partial(responseEvents);
+	        }
+	        // 토큰 조회 단계 실패(연동 없음 등)는 그대로 전달
+	        if (tokenFuture.isCompletedExceptionally() && cause instanceof RuntimeException runtimeException) {
+	            throw runtimeException;
+	        }
+	        throw toGoogleFetchException(cause);
+	    }
+
+	    mergeGoogleEvents(responseEvents, googleEvents);
+	    return CalendarEventsResult.complete(responseEvents);
+	}
+
+	// List는 나중에 구글 이벤트를 추가해야 하므로 수정 가능한 리스트로 수집
+	private List<CalendarEventResponse> toResponses(List<CalendarEvent> localEvents) {
+	    return localEvents.stream()
 	            .map(CalendarEventResponse::from)
 	            .collect(Collectors.toList());
+	}
 
-	    // 토큰이 없으면 로컬 데이터만 반환
-	    if (accessToken == null || accessToken.isEmpty()) {
-	        log.warn("Google AccessToken이 없어 로컬 데이터만 반환합니다.");
-	        return responseEvents;
-	    }
+	private void mergeGoogleEvents(List<CalendarEventResponse> responseEvents, List<CalendarEventResponse> googleEvents) {
+	    // 로컬 DB에 이미 저장된 구글 이벤트 ID를 매핑 (중복 방지용)
+	    Map<String, CalendarEventResponse> localGoogleMap = responseEvents.stream()
+	            .filter(e -> e.getGoogleEventId() != null)
+	            .collect(Collectors.toMap(CalendarEventResponse::getGoogleEventId, e -> e, (oldValue, newValue) -> oldValue));
 
-	    try {
-	        // 구글 캘린더 API 호출
-	        List<CalendarEventResponse> googleEvents = googleCalendarApiClient.getEvents(accessToken, "primary",
-	                startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
+	    // 구글 이벤트 병합 및 필터링
+	    for (CalendarEventResponse gEvent : googleEvents) {
 	        
-	        // 로컬 DB에 이미 저장된 구글 이벤트 ID를 매핑 (중복 방지용)
-	        Map<String, CalendarEventResponse> localGoogleMap = responseEvents.stream()
-	                .filter(e -> e.getGoogleEventId() != null)
-	                .collect(Collectors.toMap(CalendarEventResponse::getGoogleEventId, e -> e, (oldValue, newValue) -> oldValue));
-
-	        // 구글 이벤트 병합 및 필터링
-	        for (CalendarEventResponse gEvent : googleEvents) {
-	            
-	            // 이미 로컬 DB에 존재하는 이벤트는 건너뜀 (로컬 데이터 우선)
-	            if (localGoogleMap.containsKey(gEvent.getGoogleEventId())) {
-	                continue;
-	            }
-
-	            // 삭제된(cancelled) 이벤트 필터링 (좀비 데이터 방지 핵심)
-	            // DTO에 'private String status;' 필드가 있어야 동작합니다.
-	            if (gEvent.getStatus() != null && "cancelled".equalsIgnoreCase(gEvent.getStatus())) {
-	                continue;
-	            }
-	            
-	            // 검증 통과된 구글 전용 일정만 리스트에 추가
-	            responseEvents.add(gEvent); 
+	        // 이미 로컬 DB에 존재하는 이벤트는 건너뜀 (로컬 데이터 우선)
+	        if (localGoogleMap.containsKey(gEvent.getGoogleEventId())) {
+	            continue;
 	        }
-	        
-	        return responseEvents;
-
-	    } catch (Exception e) {
-	        String errorMessage = (e.getMessage() != null) ? e.getMessage() : "";
 
-	        // 토큰 만료 관련 에러 처리
-	        if (errorMessage.contains("invalid_grant") || errorMessage.contains("토큰 갱신 실패") || errorMessage.contains("401")) {
-	            throw new GoogleOAuthException("Google 토큰이 만료되었거나 무효화되었습니다. 재연동이 필요합니다.");
+	        // 삭제된(cancelled) 이벤트 필터링 (좀비 데이터 방지 핵심)
+	        // DTO에 'private String status;' 필드가 있어야 동작합니다.
+	        if (gEvent.getStatus() != null && "cancelled".equalsIgnoreCase(gEvent.getStatus())) {
+	            continue;
 	        }
 	        
-	        // 그 외 API 오류는 로그를 남기고 런타임 예외 발생
-	        log.error("Google Calendar API 조회 중 심각한 오류 발생", e);
-	        throw new RuntimeException("Google Calendar API 조회 중 오류가 발생했습니다.", e);
+	        // 검증 통과된 구글 전용 일정만 리스트에 추가
+	        responseEvents.add(gEvent); 
+	    }
+	}
+
+	private RuntimeException toGoogleFetchException(Throwable e) {
+	    String errorMessage = (e.getMessage() != null) ? e.getMessage() : "";
+
+	    // 토큰 만료 관련 에러 처리
+	    if (errorMessage.contains("invalid_grant") || errorMessage.contains("토큰 갱신 실패") || errorMessage.contains("401")) {
+	        return new GoogleOAuthException("Google 토큰이 만료되었거나 무효화되었습니다. 재연동이 필요합니다.");
 	    }
+	    
+	    // 그 외 API 오류는 로그를 남기고 런타임 예외 발생
+	    log.error("Google Calendar API 조회 중 심각한 오류 발생", e);
+	    return new RuntimeException("Google Calendar API 조회 중 오류가 발생했습니다.", e);
 	}
 
 	@Transactional
@@ -276,6 +356,11 @@ public class CalendarEventService {
           }
       }
 
+      // 동기화 사본에서도 제거 (다음 동기화 전까지 화면에 남지 않도록)
+      if (targetGoogleEventId != null) {
+          googleCalendarSyncService.removeFromMirror(user.getId(), targetGoogleEventId);
+      }
+
       // 2. 연결된 Todo 삭제
       Todo linkedTodo = localEvent.getTask();
 
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import reactor.core.publisher.Mono;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -14,11 +15,20 @@ import org.springframework.web.reactive.function.client.WebClient;
 import com.dialog.calendarevent.domain.CalendarEventResponse;
 import com.dialog.calendarevent.domain.EventDateTimeDTO;
 import com.dialog.calendarevent.domain.EventType;
+import com.dialog.calendarevent.domain.GoogleBatchResultDTO;
 import com.dialog.calendarevent.domain.GoogleEventRequestDTO;
 import com.dialog.calendarevent.domain.GoogleEventResponseDTO;
+import com.dialog.calendarevent.domain.GoogleEventsPageDTO;
 import com.dialog.exception.GoogleOAuthException;
+import com.dialog.exception.GoogleSyncTokenExpiredException;
 
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import java.time.Duration;
 import java.time.LocalDate;
@@ -26,8 +36,12 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -37,16 +51,38 @@ public class GoogleCalendarApiClient {
 
 	private final WebClient webClient;
 	private final String googleCalendarUrl;
+	// 배치 요청 엔드포인트 (multipart/mixed)
+	private final String googleBatchUrl;
+	private final ObjectMapper objectMapper;
+	// 호출 단위 전체 제한 시간 (연결 대기 + 응답 포함)
+	private final Duration callTimeout;
 	private static final DateTimeFormatter ISO_OFFSET_DATE_TIME = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
 
-	public GoogleCalendarApiClient(WebClient webClient, 
-								  @Value("${google.api.calendar-url}") String googleCalendarUrl) {
+	// Google 배치 요청 한 번에 담을 수 있는 최대 요청 수
+	public static final int MAX_BATCH_SIZE = 50;
+	private static final Pattern RESPONSE_CONTENT_ID = Pattern.compile("(?im)^Content-ID:\\s*<response-item-(\\d+)>");
+
+	public GoogleCalendarApiClient(@Qualifier("googleWebClient") WebClient webClient,
+								  @Value("${google.api.calendar-url}") String googleCalendarUrl,
+								  @Value("${google.api.batch-url:https://www.googleapis.com/batch/calendar/v3}") String googleBatchUrl,
+								  @Value("${google.api.http.call-timeout-seconds:10}") long callTimeoutSeconds,
+								  ObjectMapper objectMapper) {
 		this.webClient = webClient;
 		this.googleCalendarUrl = googleCalendarUrl;
+		this.googleBatchUrl = googleBatchUrl;
+		this.callTimeout = Duration.ofSeconds(callTimeoutSeconds);
+		this.objectMapper = objectMapper;
 	}
 
 	public List<CalendarEventResponse> getEvents(String accessToken, String calendarId, LocalDateTime timeMin,
 			LocalDateTime timeMax) {
+		List<CalendarEventResponse> events = getEventsMono(accessToken, calendarId, timeMin, timeMax).block(); // 동기적으로 결과 대기
+		return events != null ? events : Collections.emptyList();
+	}
+
+	// 논블로킹 조회 - 여러 호출을 조합하는 쪽에서 block 없이 사용
+	public Mono<List<CalendarEventResponse>> getEventsMono(String accessToken, String calendarId, LocalDateTime timeMin,
+			LocalDateTime timeMax) {
 
 		// 1. Google API가 요구하는 ISO 8601 UTC 형식으로 변환
 		// Timezone을 시스템 기본값으로 설정하고 UTC로 변환하여 API 요청 파라미터를 만듭니다.
@@ -55,82 +91,229 @@ public class GoogleCalendarApiClient {
 		String timeMaxStr = timeMax.atZone(ZoneId.systemDefault()).toInstant().atOffset(java.time.ZoneOffset.UTC)
 				.format(DateTimeFormatter.ISO_INSTANT);
 
-		try {
-			// 2. WebClient를 사용하여 요청 구성 및 실행
-			GoogleEventResponseDTO eventsContainer = webClient.get().uri(this.googleCalendarUrl, uriBuilder -> uriBuilder
-					// API 요구사항에 맞는 쿼리 파라미터 추가
-					.queryParam("timeMin", timeMinStr).queryParam("timeMax", timeMaxStr)
-					.queryParam("singleEvents", true) // 반복 일정을 개별 이벤트로 확장
-					.queryParam("orderBy", "startTime") // 시작 시간 순으로 정렬
-					.build(calendarId)) // 경로 변수 {calendarId} 설정
-
-					// 3. Authorization: Bearer [accessToken] 헤더 설정
-					.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-
-					// 4. API 호출 및 응답 처리
-					.retrieve().onStatus(HttpStatusCode::isError, response -> {
-						log.error("Google Calendar API 호출 실패. Status: {}", response.statusCode());
-						// 오류 발생 시 사용자 정의 예외를 발생시킵니다.
-						// 이 단계에서 403, 401 오류 등을 잡아서 상위 레이어로 전달해야 합니다.
-						return Mono.error(
-								new GoogleOAuthException("Google Calendar API 호출 중 오류 발생: " + response.statusCode()));
-					})
-					// 응답을 GoogleEventResponseDTO 컨테이너 객체로 파싱
-					.bodyToMono(GoogleEventResponseDTO.class).block(); // 동기적으로 결과 대기
-
-			// 5. 결과 검증 및 데이터 변환
-			if (eventsContainer == null || eventsContainer.getItems() == null) {
-				return Collections.emptyList();
-			}
-
-			// items 리스트를 가져와 CalendarEventDTO로 최종 변환합니다.
-			// (주의: GoogleEventResponseDTO 클래스 내부에 List<GoogleEventItemDTO> items가 있다고 가정)
-			return eventsContainer.getItems().stream().map(this::convertToCalendarEventDTO)
-					.collect(Collectors.toList());
-
-		} catch (Exception e) {
-			log.error("Google API 통신 중 예외 발생", e);
+		// 2. WebClient를 사용하여 요청 구성 및 실행
+		return webClient.get().uri(this.googleCalendarUrl, uriBuilder -> uriBuilder
+				// API 요구사항에 맞는 쿼리 파라미터 추가
+				.queryParam("timeMin", timeMinStr).queryParam("timeMax", timeMaxStr)
+				.queryParam("singleEvents", true) // 반복 일정을 개별 이벤트로 확장
+				.queryParam("orderBy", "startTime") // 시작 시간 순으로 정렬
+				.build(calendarId)) // 경로 변수 {calendarId} 설정
+
+				// 3. Authorization: Bearer [accessToken] 헤더 설정
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+
+				// 4. API 호출 및 응답 처리
+				.retrieve().onStatus(HttpStatusCode::isError, response -> {
+					log.error("Google Calendar API 호출 실패. Status: {}", response.statusCode());
+					// 오류 발생 시 사용자 정의 예외를 발생시킵니다.
+					// 이 단계에서 403, 401 오류 등을 잡아서 상위 레이어로 전달해야 합니다.
+					return Mono.error(
+							new GoogleOAuthException("Google Calendar API 호출 중 오류 발생: " + response.statusCode()));
+				})
+				// 응답을 GoogleEventResponseDTO 컨테이너 객체로 파싱
+				.bodyToMono(GoogleEventResponseDTO.class)
+				.timeout(callTimeout)
+
+				// 5. 결과 검증 및 데이터 변환
+				// items 리스트를 가져와 CalendarEventDTO로 최종 변환합니다.
+				.map(eventsContainer -> eventsContainer.getItems() == null
+						? Collections.<CalendarEventResponse>emptyList()
+						: eventsContainer.getItems().stream().map(this::convertToCalendarEventDTO)
+								.collect(Collectors.toList()))
+				.defaultIfEmpty(Collections.emptyList())
+				.onErrorMap(e -> !(e instanceof GoogleOAuthException), e -> {
+					log.error("Google API 통신 중 예외 발생", e);
+					return new GoogleOAuthException("Google API 통신 중 예외 발생: " + e.getMessage());
+				});
+	}
 
-			if (e instanceof GoogleOAuthException) {
-				throw (GoogleOAuthException) e; // 이미 GoogleOAuthException이면 그대로 던짐
+	// 증분 동기화용 events.list 한 페이지 조회
+	// syncToken 이 있으면 변경분만, 없으면 timeMin 이후 전체를 조회 (Google 은 syncToken 과 timeMin 동시 사용 불가)
+	public Mono<GoogleEventsPageDTO> listEventsPageMono(String accessToken, String calendarId, String syncToken,
+			String pageToken, LocalDateTime timeMin) {
+
+		return webClient.get().uri(this.googleCalendarUrl, uriBuilder -> {
+			uriBuilder.queryParam("singleEvents", true)
+					.queryParam("showDeleted", true) // 삭제된 일정도 cancelled 로 받아야 로컬 사본에서 지울 수 있음
+					.queryParam("maxResults", 2500);
+			if (syncToken != null) {
+				uriBuilder.queryParam("syncToken", syncToken);
+			} else if (timeMin != null) {
+				uriBuilder.queryParam("timeMin", timeMin.atZone(ZoneId.systemDefault()).toInstant().toString());
 			}
-			throw new GoogleOAuthException("Google API 통신 중 예외 발생: " + e.getMessage());
-		}
+			if (pageToken != null) {
+				uriBuilder.queryParam("pageToken", pageToken);
+			}
+			return uriBuilder.build(calendarId);
+		})
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+				.retrieve().onStatus(HttpStatusCode::isError, response -> {
+					// 410 Gone: syncToken 만료 -> 호출자가 전체 동기화로 전환
+					if (response.statusCode().value() == HttpStatus.GONE.value()) {
+						log.info("Google Calendar syncToken 만료 (410). 전체 동기화가 필요합니다.");
+						return Mono.error(new GoogleSyncTokenExpiredException("Google Calendar syncToken이 만료되었습니다."));
+					}
+					log.error("Google Calendar 변경분 조회 실패. Status: {}", response.statusCode());
+					return Mono.error(
+							new GoogleOAuthException("Google Calendar API 호출 중 오류 발생: " + response.statusCode()));
+				})
+				.bodyToMono(GoogleEventsPageDTO.class)
+				.timeout(callTimeout)
+				.onErrorMap(e -> !(e instanceof GoogleOAuthException) && !(e instanceof GoogleSyncTokenExpiredException), e -> {
+					log.error("Google API 통신 중 예외 발생", e);
+					return new GoogleOAuthException("Google API 통신 중 예외 발생: " + e.getMessage());
+				});
 	}
 
 	public GoogleEventResponseDTO createEvent(String accessToken, String calendarId, GoogleEventRequestDTO requestDTO) {
+		return createEventMono(accessToken, calendarId, requestDTO).block(); // 동기적으로 결과 대기
+	}
+
+	// 논블로킹 생성
+	public Mono<GoogleEventResponseDTO> createEventMono(String accessToken, String calendarId,
+			GoogleEventRequestDTO requestDTO) {
 
 		if (requestDTO == null) {
 			throw new IllegalArgumentException("Google Calendar 이벤트를 생성하기 위한 requestDTO가 null입니다. 상위 서비스 로직을 확인하세요.");
 		}
 
-		try {
-			GoogleEventResponseDTO responseBody = webClient.post() // POST 요청
-					.uri(this.googleCalendarUrl, calendarId) // 캘린더 ID를 경로 변수로 설정
+		return webClient.post() // POST 요청
+				.uri(this.googleCalendarUrl, calendarId) // 캘린더 ID를 경로 변수로 설정
+
+				// 1. 헤더 설정: 인증 토큰 및 JSON 타입 명시
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken).contentType(MediaType.APPLICATION_JSON)
+
+				// 2. 요청 본문 설정: 일정 데이터를 JSON 형태로 보냅니다.
+				.bodyValue(requestDTO)
+
+				// 3. API 호출 및 응답 처리
+				.retrieve().onStatus(HttpStatusCode::isError, response -> {
+					log.error("Google Calendar 이벤트 생성 실패. Status: {}", response.statusCode());
+					return Mono.error(
+							new GoogleOAuthException("Google Calendar API 생성 중 오류 발생: " + response.statusCode()));
+				}).bodyToMono(GoogleEventResponseDTO.class) // 4. 응답 JSON을 DTO로 파싱
+				.timeout(callTimeout)
+				.switchIfEmpty(Mono.error(() -> new GoogleOAuthException("Google Calendar 이벤트 생성 후 응답 본문이 비어있습니다.")))
+				.onErrorMap(e -> {
+					log.error("Google API 통신 중 일정 생성 예외 발생", e);
+					return new GoogleOAuthException("일정 생성 API 통신 실패", e);
+				});
+	}
+
+	// 여러 일정을 Google 배치 요청(multipart/mixed) 한 번으로 생성
+	// 결과는 요청 순서와 같은 위치에 담기며, 개별 실패는 예외 대신 결과의 statusCode/error 로 전달
+	public Mono<List<GoogleBatchResultDTO>> batchCreateEventsMono(String accessToken, String calendarId,
+			List<GoogleEventRequestDTO> requests) {
 
-					// 1. 헤더 설정: 인증 토큰 및 JSON 타입 명시
-					.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken).contentType(MediaType.APPLICATION_JSON)
+		if (requests.isEmpty()) {
+			return Mono.just(Collections.emptyList());
+		}
+		if (requests.size() > MAX_BATCH_SIZE) {
+			throw new IllegalArgumentException("Google 배치 요청은 최대 " + MAX_BATCH_SIZE + "건까지 가능합니다.");
+		}
 
-					// 2. 요청 본문 설정: 일정 데이터를 JSON 형태로 보냅니다.
-					.bodyValue(requestDTO)
+		String boundary = "batch_" + UUID.randomUUID().toString().replace("-", "");
+		String body;
+		try {
+			body = buildBatchBody(boundary, calendarId, requests);
+		} catch (JsonProcessingException e) {
+			return Mono.error(new IllegalArgumentException("Google 배치 요청 본문 생성 실패", e));
+		}
 
-					// 3. API 호출 및 응답 처리
-					.retrieve().onStatus(HttpStatusCode::isError, response -> {
-						log.error("Google Calendar 이벤트 생성 실패. Status: {}", response.statusCode());
-						// [ 4. 수정 ] RuntimeException -> GoogleOAuthException
-						return Mono.error(
-								new GoogleOAuthException("Google Calendar API 생성 중 오류 발생: " + response.statusCode()));
-					}).bodyToMono(GoogleEventResponseDTO.class) // 4. 응답 JSON을 DTO로 파싱
-					.block(); // 동기적으로 결과 대기
+		return webClient.post().uri(this.googleBatchUrl)
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+				.contentType(MediaType.parseMediaType("multipart/mixed; boundary=" + boundary))
+				.bodyValue(body)
+				.retrieve().onStatus(HttpStatusCode::isError, response -> {
+					// 배치 전체 실패 (인증 오류 등) - 개별 요청 실패는 200 응답 안의 각 파트로 옴
+					log.error("Google Calendar 배치 요청 실패. Status: {}", response.statusCode());
+					return Mono.error(
+							new GoogleOAuthException("Google Calendar 배치 요청 중 오류 발생: " + response.statusCode()));
+				})
+				.toEntity(String.class)
+				.timeout(callTimeout)
+				.map(entity -> parseBatchResponse(entity, requests.size()))
+				.onErrorMap(e -> !(e instanceof GoogleOAuthException), e -> {
+					log.error("Google 배치 API 통신 중 예외 발생", e);
+					return new GoogleOAuthException("Google 배치 API 통신 중 예외 발생: " + e.getMessage(), e);
+				});
+	}
 
-			if (responseBody == null) {
-				throw new GoogleOAuthException("Google Calendar 이벤트 생성 후 응답 본문이 비어있습니다.");
+	// 파트마다 events.insert 요청 하나 (Content-ID 로 응답과 요청 위치를 연결)
+	private String buildBatchBody(String boundary, String calendarId, List<GoogleEventRequestDTO> requests)
+			throws JsonProcessingException {
+		String eventsPath = UriComponentsBuilder.fromUriString(this.googleCalendarUrl).buildAndExpand(calendarId)
+				.encode().toUri().getRawPath();
+
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < requests.size(); i++) {
+			body.append("--").append(boundary).append("\r\n")
+					.append("Content-Type: application/http\r\n")
+					.append("Content-ID: <item-").append(i).append(">\r\n\r\n")
+					.append("POST ").append(eventsPath).append("\r\n")
+					.append("Content-Type: application/json; charset=UTF-8\r\n\r\n")
+					.append(objectMapper.writeValueAsString(requests.get(i))).append("\r\n");
+		}
+		body.append("--").append(boundary).append("--");
+		return body.toString();
+	}
+
+	private List<GoogleBatchResultDTO> parseBatchResponse(ResponseEntity<String> entity, int size) {
+		GoogleBatchResultDTO[] results = new GoogleBatchResultDTO[size];
+
+		MediaType contentType = entity.getHeaders().getContentType();
+		String boundary = contentType != null ? contentType.getParameter("boundary") : null;
+		String body = entity.getBody();
+		if (boundary != null && body != null) {
+			boundary = boundary.replace("\"", "");
+			for (String part : body.replace("\r\n", "\n").split(Pattern.quote("--" + boundary))) {
+				int headerEnd = part.indexOf("\n\n");
+				if (headerEnd < 0) {
+					continue; // 앞부분/종료 구분자
+				}
+				Matcher contentId = RESPONSE_CONTENT_ID.matcher(part.substring(0, headerEnd));
+				if (!contentId.find()) {
+					continue;
+				}
+				int index = Integer.parseInt(contentId.group(1));
+				if (index < 0 || index >= size) {
+					continue;
+				}
+				results[index] = parseBatchPart(part.substring(headerEnd + 2).trim());
 			}
-			return responseBody;
+		}
+
+		List<GoogleBatchResultDTO> list = new ArrayList<>(size);
+		for (GoogleBatchResultDTO result : results) {
+			list.add(result != null ? result : new GoogleBatchResultDTO(0, null, "배치 응답에 결과가 없습니다."));
+		}
+		return list;
+	}
+
+	// 파트 본문: "HTTP/1.1 200 OK" + 헤더 + 빈 줄 + JSON
+	private GoogleBatchResultDTO parseBatchPart(String httpResponse) {
+		int lineEnd = httpResponse.indexOf('\n');
+		String statusLine = lineEnd < 0 ? httpResponse : httpResponse.substring(0, lineEnd);
+		String[] tokens = statusLine.trim().split(" ");
+		int statusCode;
+		try {
+			statusCode = tokens.length > 1 ? Integer.parseInt(tokens[1]) : 0;
+		} catch (NumberFormatException e) {
+			statusCode = 0;
+		}
 
-		} catch (Exception e) {
-			log.error("Google API 통신 중 일정 생성 예외 발생", e);
-			throw new GoogleOAuthException("일정 생성 API 통신 실패");
+		int bodyStart = httpResponse.indexOf("\n\n");
+		String json = bodyStart < 0 ? "" : httpResponse.substring(bodyStart + 2).trim();
+		try {
+			if (statusCode >= 200 && statusCode < 300) {
+				return new GoogleBatchResultDTO(statusCode, objectMapper.readValue(json, GoogleEventResponseDTO.class), null);
+			}
+			JsonNode message = objectMapper.readTree(json).path("error").path("message");
+			return new GoogleBatchResultDTO(statusCode, null,
+					message.isMissingNode() ? statusLine.trim() : statusCode + " " + message.asText());
+		} catch (JsonProcessingException e) {
+			log.warn("Google 배치 응답 파트 파싱 실패: {}", statusLine);
+			return new GoogleBatchResultDTO(statusCode, null, "응답 파싱 실패: " + statusLine.trim());
 		}
 	}
 
@@ -204,6 +387,12 @@ public class GoogleCalendarApiClient {
 
 	public GoogleEventResponseDTO patchEvent(String accessToken, String calendarId, String eventId,
 			GoogleEventRequestDTO eventData) {
+		return patchEventMono(accessToken, calendarId, eventId, eventData).block();
+	}
+
+	// 논블로킹 수정
+	public Mono<GoogleEventResponseDTO> patchEventMono(String accessToken, String calendarId, String eventId,
+			GoogleEventRequestDTO eventData) {
 
 		if (eventData == null) {
 			throw new IllegalArgumentException("eventData가 null입니다.");
@@ -212,49 +401,47 @@ public class GoogleCalendarApiClient {
 		//final String GOOGLE_EVENT_PATCH_URL = GOOGLE_CALENDAR_URL + "/{eventId}";
 		String patchUrl = this.googleCalendarUrl + "/{eventId}";
 
-		try {
-			GoogleEventResponseDTO responseBody = webClient.patch().uri(patchUrl, calendarId, eventId)
-					.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken).contentType(MediaType.APPLICATION_JSON)
-					.bodyValue(eventData).retrieve().onStatus(HttpStatusCode::isError, response -> {
-						log.error("Google Calendar 이벤트 수정(Patch) 실패. Status: {}", response.statusCode());
-						return Mono.error(new RuntimeException(
-								"Google Calendar API 수정(Patch) 중 오류 발생: " + response.statusCode()));
-					}).bodyToMono(GoogleEventResponseDTO.class).block(Duration.ofSeconds(5)); // 5초까지 기다렸다가 구글 서버가 응답
-																								// 안주면 에러발생시킴.
-
-			if (responseBody == null) {
-				throw new RuntimeException("Google Calendar 이벤트 수정 후 응답 본문이 비어있습니다.");
-			}
-			return responseBody;
-
-		} catch (Exception e) {
-			log.error("Google API 통신 중 일정 수정(Patch) 예외 발생", e);
-			throw new RuntimeException("일정 수정(Patch) API 통신 실패", e);
-		}
+		return webClient.patch().uri(patchUrl, calendarId, eventId)
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken).contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(eventData).retrieve().onStatus(HttpStatusCode::isError, response -> {
+					log.error("Google Calendar 이벤트 수정(Patch) 실패. Status: {}", response.statusCode());
+					return Mono.error(new RuntimeException(
+							"Google Calendar API 수정(Patch) 중 오류 발생: " + response.statusCode()));
+				}).bodyToMono(GoogleEventResponseDTO.class)
+				.timeout(callTimeout) // 구글 서버가 제한 시간 안에 응답 안주면 에러발생시킴.
+				.switchIfEmpty(Mono.error(() -> new RuntimeException("Google Calendar 이벤트 수정 후 응답 본문이 비어있습니다.")))
+				.onErrorMap(e -> {
+					log.error("Google API 통신 중 일정 수정(Patch) 예외 발생", e);
+					return new RuntimeException("일정 수정(Patch) API 통신 실패", e);
+				});
 	}
 
 	public void deleteEvent(String accessToken, String calendarId, String eventId) {
+		deleteEventMono(accessToken, calendarId, eventId).block();
+	}
+
+	// 논블로킹 삭제
+	public Mono<Void> deleteEventMono(String accessToken, String calendarId, String eventId) {
 		//final String GOOGLE_EVENT_DELETE_URL = GOOGLE_CALENDAR_URL + "/{eventId}";
 		String deleteUrl = this.googleCalendarUrl + "/{eventId}";
-		try {
-			webClient.delete() // delete() 메서드 사용
-					.uri(deleteUrl, calendarId, eventId) // URL 변수 매핑
-					.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken) // 헤더 설정
-					.retrieve().onStatus(HttpStatusCode::isError, response -> {
-						log.error("Google Calendar 이벤트 삭제(Delete) 실패. Status: {}", response.statusCode());
-
-						if (response.statusCode().equals(HttpStatus.UNAUTHORIZED)
-								|| response.statusCode().equals(HttpStatus.FORBIDDEN)) {
-							return Mono.error(
-									new RuntimeException("Google API 오류(invalid_grant): " + response.statusCode()));
-						}
-						return Mono.error(new RuntimeException(
-								"Google Calendar API 삭제(Delete) 중 오류 발생: " + response.statusCode()));
-					}).bodyToMono(Void.class).block();
-
-		} catch (Exception e) {
-			log.error("Google API 통신 중 일정 삭제(Delete) 예외 발생", e);
-			throw new RuntimeException(e.getMessage(), e);
-		}
+		return webClient.delete() // delete() 메서드 사용
+				.uri(deleteUrl, calendarId, eventId) // URL 변수 매핑
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken) // 헤더 설정
+				.retrieve().onStatus(HttpStatusCode::isError, response -> {
+					log.error("Google Calendar 이벤트 삭제(Delete) 실패. Status: {}", response.statusCode());
+
+					if (response.statusCode().equals(HttpStatus.UNAUTHORIZED)
+							|| response.statusCode().equals(HttpStatus.FORBIDDEN)) {
+						return Mono.error(
+								new RuntimeException("Google API 오류(invalid_grant): " + response.statusCode()));
+					}
+					return Mono.error(new RuntimeException(
+							"Google Calendar API 삭제(Delete) 중 오류 발생: " + response.statusCode()));
+				}).bodyToMono(Void.class)
+				.timeout(callTimeout)
+				.onErrorMap(e -> {
+					log.error("Google API 통신 중 일정 삭제(Delete) 예외 발생", e);
+					return new RuntimeException(e.getMessage(), e);
+				});
 	}
 }
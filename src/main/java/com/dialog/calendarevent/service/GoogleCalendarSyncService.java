@@ -0,0 +1,373 @@
+package com.dialog.calendarevent.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.calendarevent.domain.CalendarEventResponse;
+import com.dialog.calendarevent.domain.EventDateTimeDTO;
+import com.dialog.calendarevent.domain.GoogleCalendarSyncState;
+import com.dialog.calendarevent.domain.GoogleEventMirror;
+import com.dialog.calendarevent.domain.GoogleEventResponseDTO;
+import com.dialog.calendarevent.domain.GoogleEventsPageDTO;
+import com.dialog.calendarevent.repository.GoogleCalendarSyncStateRepository;
+import com.dialog.calendarevent.repository.GoogleEventMirrorRepository;
+import com.dialog.exception.GoogleOAuthException;
+import com.dialog.exception.GoogleSyncTokenExpiredException;
+import com.dialog.token.service.SocialTokenService;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.UserChangedEvent;
+import com.dialog.user.repository.MeetUserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// Google 캘린더 증분 동기화
+// 사용자별 일정 사본(google_event_mirror)을 syncToken 변경분으로 갱신하고, 캘린더 화면은 이 사본에서 읽음
+// 최초 조회 시 한 번 전체 동기화하고, 이후에는 최근 캘린더를 본 사용자만 주기적으로 변경분을 가져옴
+// 백그라운드 갱신은 사용자별로 calendarSyncExecutor 에 넘기고 공용 스케줄러 스레드는 기다리지 않음
+@Slf4j
+@Service
+public class GoogleCalendarSyncService {
+
+	private static final String CALENDAR_ID = "primary";
+
+	private final GoogleCalendarApiClient googleCalendarApiClient;
+	private final GoogleEventMirrorRepository googleEventMirrorRepository;
+	private final GoogleCalendarSyncStateRepository syncStateRepository;
+	private final SocialTokenService tokenManagerService;
+	private final MeetUserRepository meetUserRepository;
+	// 호출하는 쪽 트랜잭션 유무와 관계없이 바로 커밋되도록 쓰기는 별도 트랜잭션(REQUIRES_NEW)으로 수행
+	private final TransactionTemplate writeTransaction;
+	private final ThreadPoolTaskExecutor calendarSyncExecutor;
+
+	// 전체 동기화 시 가져올 과거 기간
+	private final int initialLookbackDays;
+	// 이 시간 안에 캘린더를 본 사용자만 백그라운드 갱신
+	private final long activeWindowMinutes;
+	// 마지막 조회 시각 기록 간격 (조회할 때마다 UPDATE 하지 않도록, activeWindowMinutes 보다 짧아야 함)
+	private final long touchIntervalMinutes;
+	// 백그라운드 갱신 한 주기의 시간 예산 (넘기면 남은 사용자는 다음 주기로 미룸, 주기 간격보다 짧게)
+	private final long runBudgetMs;
+
+	// 사용자별 동기화 잠금 (화면 조회와 백그라운드 갱신이 같은 사용자를 동시에 동기화하지 않도록)
+	private final Map<Long, ReentrantLock> syncLocks = new ConcurrentHashMap<>();
+
+	// 백그라운드 갱신이 실행기에 넘겨져 아직 끝나지 않은 사용자 (이전 주기 작업이 남아 있으면 다시 넣지 않음)
+	private final Set<Long> queuedUserIds = ConcurrentHashMap.newKeySet();
+
+	public GoogleCalendarSyncService(GoogleCalendarApiClient googleCalendarApiClient,
+			GoogleEventMirrorRepository googleEventMirrorRepository,
+			GoogleCalendarSyncStateRepository syncStateRepository,
+			SocialTokenService tokenManagerService,
+			MeetUserRepository meetUserRepository,
+			PlatformTransactionManager transactionManager,
+			@Qualifier("calendarSyncExecutor") ThreadPoolTaskExecutor calendarSyncExecutor,
+			@Value("${google.calendar.sync.initial-lookback-days:365}") int initialLookbackDays,
+			@Value("${google.calendar.sync.active-window-minutes:30}") long activeWindowMinutes,
+			@Value("${google.calendar.sync.touch-interval-minutes:5}") long touchIntervalMinutes,
+			@Value("${google.calendar.sync.run-budget-ms:45000}") long runBudgetMs) {
+		this.googleCalendarApiClient = googleCalendarApiClient;
+		this.googleEventMirrorRepository = googleEventMirrorRepository;
+		this.syncStateRepository = syncStateRepository;
+		this.tokenManagerService = tokenManagerService;
+		this.meetUserRepository = meetUserRepository;
+		this.writeTransaction = new TransactionTemplate(transactionManager);
+		this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.calendarSyncExecutor = calendarSyncExecutor;
+		this.initialLookbackDays = initialLookbackDays;
+		this.activeWindowMinutes = activeWindowMinutes;
+		this.touchIntervalMinutes = touchIntervalMinutes;
+		this.runBudgetMs = runBudgetMs;
+	}
+
+	// 캘린더 화면용 Google 일정 조회
+	// 사본이 준비되지 않았으면 먼저 동기화하고, 사본 범위보다 이전 기간이면 Google 을 직접 조회
+	public List<CalendarEventResponse> getGoogleEvents(MeetUser user, String accessToken, LocalDate startDate,
+			LocalDate endDate) {
+		Long userId = user.getId();
+		GoogleCalendarSyncState state = syncStateRepository.findByUserId(userId).orElse(null);
+
+		if (state == null || !state.isInitialized()) {
+			syncWithLock(userId, accessToken, true, Long.MAX_VALUE);
+			state = syncStateRepository.findByUserId(userId).orElse(null);
+		}
+
+		if (state == null || !state.covers(startDate)) {
+			log.debug("동기화 범위 밖 기간이라 Google을 직접 조회합니다. userId={}, startDate={}", userId, startDate);
+			return googleCalendarApiClient.getEvents(accessToken, CALENDAR_ID, startDate.atStartOfDay(),
+					endDate.plusDays(1).atStartOfDay());
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		if (state.getLastViewedAt() == null || state.getLastViewedAt().isBefore(now.minusMinutes(touchIntervalMinutes))) {
+			writeTransaction.executeWithoutResult(status -> syncStateRepository.touchViewed(userId, now));
+		}
+
+		return googleEventMirrorRepository.findOverlapping(userId, startDate, endDate).stream()
+				.map(GoogleEventMirror::toResponse)
+				.collect(Collectors.toList());
+	}
+
+	// 최근 캘린더를 본 사용자의 변경분 갱신
+	// 대상만 골라 사용자별 작업으로 넘기고 바로 반환 (Google 호출/페이지 대기로 공용 스케줄러 스레드를 잡지 않도록)
+	@Scheduled(fixedDelayString = "${google.calendar.sync.interval-ms:60000}",
+			initialDelayString = "${google.calendar.sync.interval-ms:60000}")
+	public void refreshActiveUsers() {
+		List<GoogleCalendarSyncState> targets = syncStateRepository
+				.findByLastViewedAtAfter(LocalDateTime.now().minusMinutes(activeWindowMinutes));
+		if (targets.isEmpty()) {
+			return;
+		}
+
+		long deadline = System.currentTimeMillis() + runBudgetMs;
+		int submitted = 0;
+		for (GoogleCalendarSyncState state : targets) {
+			Long userId = state.getUserId();
+			// 화면 조회 쪽에서 동기화 중이거나 이전 주기 작업이 아직 남은 사용자는 건너뜀
+			ReentrantLock lock = syncLocks.get(userId);
+			if ((lock != null && lock.isLocked()) || !queuedUserIds.add(userId)) {
+				continue;
+			}
+			try {
+				calendarSyncExecutor.execute(() -> {
+					try {
+						refreshUser(userId, deadline);
+					} finally {
+						queuedUserIds.remove(userId);
+					}
+				});
+				submitted++;
+			} catch (RejectedExecutionException e) {
+				// 대기열이 가득 참 - 남은 사용자는 다음 주기에
+				queuedUserIds.remove(userId);
+				log.warn("Google 캘린더 백그라운드 동기화 대기열이 가득 차 남은 사용자는 다음 주기로 미룹니다. (대상 {}명, 등록 {}명)",
+						targets.size(), submitted);
+				break;
+			}
+		}
+		log.debug("Google 캘린더 백그라운드 동기화 - 대상 {}명, 작업 등록 {}명", targets.size(), submitted);
+	}
+
+	// 사용자 한 명의 백그라운드 갱신 (calendarSyncExecutor 스레드)
+	private void refreshUser(Long userId, long deadline) {
+		// 대기열에서 기다리는 동안 이번 주기 시간 예산을 다 썼으면 다음 주기에
+		if (System.currentTimeMillis() > deadline) {
+			log.debug("Google 캘린더 동기화 시간 예산 초과로 다음 주기로 미룸 (userId={})", userId);
+			return;
+		}
+		try {
+			MeetUser user = meetUserRepository.findById(userId).orElse(null);
+			if (user == null) {
+				clearUser(userId);
+				return;
+			}
+			String accessToken = tokenManagerService.getToken(user.getEmail(), "google");
+			if (accessToken == null || accessToken.isEmpty()) {
+				return;
+			}
+			// 그 사이 화면 조회 쪽에서 동기화를 시작했으면 이번 주기는 건너뜀
+			syncWithLock(userId, accessToken, false, deadline);
+		} catch (GoogleOAuthException e) {
+			// 연동 해제/토큰 무효 - 재연동 후 처음부터 다시 동기화
+			log.warn("Google 캘린더 동기화 중단 (userId={}): {}", userId, e.getMessage());
+			clearUser(userId);
+		} catch (Exception e) {
+			log.error("Google 캘린더 백그라운드 동기화 실패 (userId={})", userId, e);
+		}
+	}
+
+	// 로컬에서 삭제한 일정을 사본에서도 바로 제거 (다음 동기화 전에 화면에 다시 보이지 않도록)
+	public void removeFromMirror(Long userId, String googleEventId) {
+		writeTransaction.executeWithoutResult(
+				status -> googleEventMirrorRepository.deleteByUserIdAndGoogleEventId(userId, googleEventId));
+	}
+
+	// 사용자의 동기화 상태와 사본 삭제
+	public void clearUser(Long userId) {
+		writeTransaction.executeWithoutResult(status -> {
+			googleEventMirrorRepository.deleteByUserId(userId);
+			syncStateRepository.deleteByUserId(userId);
+		});
+	}
+
+	// 탈퇴/비활성화된 사용자는 더 이상 동기화하지 않음
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onUserChanged(UserChangedEvent event) {
+		if (event.getType() == UserChangedEvent.ChangeType.DELETED
+				|| event.getType() == UserChangedEvent.ChangeType.DEACTIVATED) {
+			clearUser(event.getUserId());
+			syncLocks.remove(event.getUserId());
+		}
+	}
+
+	// wait=true 면 다른 스레드의 동기화가 끝날 때까지 기다림 (최초 조회), false 면 바로 포기 (백그라운드)
+	// deadline 이 지나면 남은 페이지를 받지 않고 반영 없이 끝냄 (syncToken 이 그대로라 다음 동기화에서 다시 받음)
+	private boolean syncWithLock(Long userId, String accessToken, boolean wait, long deadline) {
+		ReentrantLock lock = syncLocks.computeIfAbsent(userId, id -> new ReentrantLock());
+		if (wait) {
+			lock.lock();
+		} else if (!lock.tryLock()) {
+			return false;
+		}
+		try {
+			// 기다리는 동안 다른 스레드가 최초 동기화를 끝냈으면 다시 하지 않음
+			if (wait && syncStateRepository.findByUserId(userId).map(GoogleCalendarSyncState::isInitialized)
+					.orElse(false)) {
+				return true;
+			}
+			return sync(userId, accessToken, deadline);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private boolean sync(Long userId, String accessToken, long deadline) {
+		String syncToken = syncStateRepository.findByUserId(userId).map(GoogleCalendarSyncState::getSyncToken)
+				.orElse(null);
+
+		LocalDate windowStart = null;
+		FetchResult result;
+		if (syncToken != null) {
+			try {
+				result = fetchAll(accessToken, syncToken, null, deadline);
+			} catch (GoogleSyncTokenExpiredException e) {
+				// 410 Gone: 토큰 만료 -> 전체 동기화
+				windowStart = LocalDate.now().minusDays(initialLookbackDays);
+				result = fetchAll(accessToken, null, windowStart.atStartOfDay(), deadline);
+			}
+		} else {
+			windowStart = LocalDate.now().minusDays(initialLookbackDays);
+			result = fetchAll(accessToken, null, windowStart.atStartOfDay(), deadline);
+		}
+		if (result == null) {
+			log.debug("Google 캘린더 동기화 시간 예산 초과로 반영하지 않음 (userId={})", userId);
+			return false;
+		}
+
+		boolean full = windowStart != null;
+		LocalDate fullWindowStart = windowStart;
+		int[] counts = writeTransaction.execute(status -> apply(userId, result, full, fullWindowStart));
+		log.debug("Google 캘린더 동기화 완료 (userId={}, full={}) - 반영 {}건, 삭제 {}건", userId, full, counts[0],
+				counts[1]);
+		return true;
+	}
+
+	// 모든 페이지를 받아 변경 목록과 nextSyncToken 을 모음, 다음 페이지 전에 deadline 이 지났으면 null
+	private FetchResult fetchAll(String accessToken, String syncToken, LocalDateTime timeMin, long deadline) {
+		List<GoogleEventResponseDTO> items = new ArrayList<>();
+		String pageToken = null;
+		while (true) {
+			GoogleEventsPageDTO page = googleCalendarApiClient
+					.listEventsPageMono(accessToken, CALENDAR_ID, syncToken, pageToken, timeMin).block();
+			if (page == null) {
+				throw new GoogleOAuthException("Google Calendar 변경분 조회 응답이 비어있습니다.");
+			}
+			if (page.getItems() != null) {
+				items.addAll(page.getItems());
+			}
+			if (page.getNextPageToken() == null) {
+				return new FetchResult(items, page.getNextSyncToken());
+			}
+			if (System.currentTimeMillis() > deadline) {
+				return null;
+			}
+			pageToken = page.getNextPageToken();
+		}
+	}
+
+	// 변경분 반영: cancelled 는 삭제, 나머지는 추가/수정. 전체 동기화면 기존 사본을 비우고 다시 채움
+	private int[] apply(Long userId, FetchResult result, boolean full, LocalDate windowStart) {
+		if (full) {
+			googleEventMirrorRepository.deleteByUserId(userId);
+		}
+
+		List<String> ids = result.items().stream().map(GoogleEventResponseDTO::getId).distinct()
+				.collect(Collectors.toList());
+		Map<String, GoogleEventMirror> mirrors = new HashMap<>();
+		if (!full && !ids.isEmpty()) {
+			googleEventMirrorRepository.findByUserIdAndGoogleEventIdIn(userId, ids)
+					.forEach(mirror -> mirrors.put(mirror.getGoogleEventId(), mirror));
+		}
+
+		List<GoogleEventMirror> toDelete = new ArrayList<>();
+		for (GoogleEventResponseDTO item : result.items()) {
+			GoogleEventMirror mirror = mirrors.get(item.getId());
+			LocalDate startDate = parseDate(item.getStart());
+			if ("cancelled".equalsIgnoreCase(item.getStatus()) || startDate == null) {
+				if (mirror != null) {
+					mirrors.remove(item.getId());
+					if (mirror.getId() != null) {
+						toDelete.add(mirror);
+					}
+				}
+				continue;
+			}
+
+			LocalDate endDate = parseEndDate(item.getEnd(), startDate);
+			String title = item.getSummary() != null ? item.getSummary() : "(제목 없음)";
+			if (mirror != null) {
+				mirror.update(title, startDate, endDate, item.getStatus());
+			} else {
+				mirrors.put(item.getId(), GoogleEventMirror.builder().userId(userId).googleEventId(item.getId())
+						.title(title).startDate(startDate).endDate(endDate).status(item.getStatus()).build());
+			}
+		}
+
+		googleEventMirrorRepository.deleteAll(toDelete);
+		googleEventMirrorRepository.saveAll(mirrors.values());
+
+		GoogleCalendarSyncState state = syncStateRepository.findByUserId(userId)
+				.orElseGet(() -> new GoogleCalendarSyncState(userId));
+		state.markSynced(result.nextSyncToken(), windowStart);
+		syncStateRepository.save(state);
+
+		return new int[] { mirrors.size(), toDelete.size() };
+	}
+
+	private LocalDate parseDate(EventDateTimeDTO dateTime) {
+		if (dateTime == null) {
+			return null;
+		}
+		if (dateTime.getDate() != null) {
+			return LocalDate.parse(dateTime.getDate());
+		}
+		if (dateTime.getDateTime() != null) {
+			return LocalDate.parse(dateTime.getDateTime(), DateTimeFormatter.ISO_DATE_TIME);
+		}
+		return null;
+	}
+
+	// Google 종일 일정의 종료일은 다음 날(미포함)이므로 하루 뺌
+	private LocalDate parseEndDate(EventDateTimeDTO end, LocalDate startDate) {
+		LocalDate endDate = parseDate(end);
+		if (endDate == null) {
+			return startDate;
+		}
+		if (end.getDate() != null) {
+			endDate = endDate.minusDays(1);
+		}
+		return endDate.isBefore(startDate) ? startDate : endDate;
+	}
+
+	private record FetchResult(List<GoogleEventResponseDTO> items, String nextSyncToken) {
+	}
+}
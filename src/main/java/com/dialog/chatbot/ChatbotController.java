@@ -1,143 +1,78 @@
 package com.dialog.chatbot;
 
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.ResourceAccessException;
-import org.springframework.web.client.RestTemplate;
 import com.dialog.user.service.CustomUserDetails;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.util.Map;
 
-import com.dialog.exception.ChatbotApiException;
-import com.dialog.user.domain.MeetUser;
-
+// FastAPI 호출은 ChatbotService(WebClient)에서 논블로킹으로 처리
+// Mono/Flux 반환 시 FastAPI 응답을 기다리는 동안 서블릿 스레드가 반납됨
 @RestController
 @RequestMapping("/api/chatbot")
+@RequiredArgsConstructor
 @Slf4j	// sysout 대신 log 찍는 어노테이션
 public class ChatbotController {
     
-    @Value("${fastapi.base-url}")
-    private String fastApiBaseUrl;
-    
-    private final RestTemplate restTemplate;
-    
-    @Autowired
-    public ChatbotController(RestTemplate restTemplate) {
-        this.restTemplate = restTemplate;
-    }
+    private final ChatbotService chatbotService;
+    private final FaqAnswerService faqAnswerService;
     
     // 회의록 검색 챗봇 (Python으로 전달)
     @PostMapping("/search")
-    public ResponseEntity<String> searchChat(
+    public Mono<ResponseEntity<String>> searchChat(
             @RequestBody Map<String, Object> request,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         
         log.info("🔹 [ChatBot] 요청 시작");
+        chatbotService.enrichRequest(request, userDetails, "ChatBot");
         
-        if (userDetails != null) {
-            MeetUser meetUser = userDetails.getMeetUser();
-            
-            Long userId = meetUser.getId();
-            String job = meetUser.getJob() != null 
-                ? meetUser.getJob().name() 
-                : "NONE";
-            String position = meetUser.getPosition() != null 
-                ? meetUser.getPosition().name() 
-                : "NONE";
-            String userName = meetUser.getName();
-            
-            request.put("user_id", userId);
-            request.put("user_job", job);
-            request.put("user_position", position);
-            request.put("user_name", userName);
-            
-            log.info("[ChatBot] User: " + userName + " (ID: " + userId + ", Job: " + job + ", Position: " + position + ")");
-        }
-        
-        String url = fastApiBaseUrl + "/api/chat";
-        log.info("[ChatBot] 전송 데이터: " + request);
+        return chatbotService.ask("/api/chat", request, "ChatBot")
+                .map(body -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body));
+    }
+    
+    // 회의록 검색 챗봇 - 답변을 생성되는 대로 SSE 로 전달
+    @PostMapping(value = "/search/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> searchChatStream(
+            @RequestBody Map<String, Object> request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
         
-        try {
-            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
-
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new ChatbotApiException("Python API 호출 실패: 상태 코드 " + response.getStatusCodeValue());
-            }
-
-            return ResponseEntity.ok()
-                    .contentType(MediaType.APPLICATION_JSON)
-                    .body(response.getBody());
-
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
-            log.error("HTTP 오류 발생: {}", e.getStatusCode(), e);
-            throw new ChatbotApiException("Python API 호출 HTTP 오류", e);
-        } catch (ResourceAccessException e) {
-            log.error("네트워크 오류: {}", e.getMessage(), e);
-            throw new ChatbotApiException("Python API 호출 네트워크 오류", e);
-        } catch (Exception e) {
-            log.error("기타 오류: {}", e.getMessage(), e);
-            throw new ChatbotApiException("Python API 호출 실패", e);
-        }
+        log.info("🔹 [ChatBot] 스트리밍 요청 시작");
+        chatbotService.enrichRequest(request, userDetails, "ChatBot");
+        return chatbotService.stream("/api/chat/stream", request, "ChatBot");
     }
     
     // FAQ 챗봇 (Python으로 전달)
     @PostMapping("/faq")
-    public ResponseEntity<String> faqChat(
+    public Mono<ResponseEntity<String>> faqChat(
             @RequestBody Map<String, Object> request,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
         
     	log.info("[FAQ] 요청 시작");
+        chatbotService.enrichRequest(request, userDetails, "FAQ");
         
-        if (userDetails != null) {
-            MeetUser meetUser = userDetails.getMeetUser();
-            
-            Long userId = meetUser.getId();
-            String job = meetUser.getJob() != null 
-                ? meetUser.getJob().name() 
-                : "NONE";
-            String position = meetUser.getPosition() != null 
-                ? meetUser.getPosition().name() 
-                : "NONE";
-            String userName = meetUser.getName();
-            
-            request.put("user_id", userId);
-            request.put("user_job", job);
-            request.put("user_position", position);
-            request.put("user_name", userName);
-            
-            log.info("[FAQ] User: " + userName + " (ID: " + userId + ", Job: " + job + ", Position: " + position + ")");
-        }
-        
-        String url = fastApiBaseUrl + "/api/faq";
-        log.info("[FAQ] 전송 데이터: " + request);
+        // 정규화한 질문 기준 답변 캐시 경유
+        return faqAnswerService.answer(request)
+                .map(ResponseEntity::ok);
+    }
+    
+    // FAQ 챗봇 - 답변을 생성되는 대로 SSE 로 전달
+    @PostMapping(value = "/faq/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<String>> faqChatStream(
+            @RequestBody Map<String, Object> request,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
         
-        try {
-            ResponseEntity<String> response = restTemplate.postForEntity(url, request, String.class);
-
-            if (!response.getStatusCode().is2xxSuccessful()) {
-                throw new ChatbotApiException("Python API 호출 실패: 상태 코드 " + response.getStatusCodeValue());
-            }
-
-            log.info("[FAQ] Python 응답 성공");
-            return ResponseEntity.ok(response.getBody());
-
-        } catch (HttpClientErrorException | HttpServerErrorException e) {
-            log.error("[FAQ] HTTP 오류: {}", e.getStatusCode(), e);
-            throw new ChatbotApiException("Python API 호출 HTTP 오류", e);
-        } catch (ResourceAccessException e) {
-            log.error("[FAQ] 네트워크 오류: {}", e.getMessage(), e);
-            throw new ChatbotApiException("Python API 호출 네트워크 오류", e);
-        } catch (Exception e) {
-            log.error("[FAQ] Python 호출 실패: {}", e.getMessage(), e);
-            throw new ChatbotApiException("Python API 호출 실패", e);
-        }
+        log.info("[FAQ] 스트리밍 요청 시작");
+        chatbotService.enrichRequest(request, userDetails, "FAQ");
+        return chatbotService.stream("/api/faq/stream", request, "FAQ");
     }
-}
\ No newline at end of file
+}
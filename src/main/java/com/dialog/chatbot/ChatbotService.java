@@ -0,0 +1,134 @@
+package com.dialog.chatbot;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.dialog.exception.ChatbotApiException;
+import com.dialog.user.domain.UserSnapshot;
+import com.dialog.user.service.CustomUserDetails;
+import com.dialog.user.service.UserSnapshotCache;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// FastAPI 챗봇 프록시
+// WebClient(논블로킹)로 호출하므로 FastAPI 가 답변을 만드는 동안 Tomcat 스레드를 잡고 있지 않음
+// (컨트롤러가 Mono/Flux 를 반환하면 Spring MVC 비동기 처리로 응답)
+@Slf4j
+@Service
+public class ChatbotService {
+
+	private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+			new ParameterizedTypeReference<>() {};
+
+	private final WebClient webClient;
+	private final String fastApiBaseUrl;
+	private final Duration responseTimeout;
+	private final Duration streamIdleTimeout;
+	private final UserSnapshotCache userSnapshotCache;
+
+	public ChatbotService(WebClient webClient, UserSnapshotCache userSnapshotCache,
+			@Value("${fastapi.base-url}") String fastApiBaseUrl,
+			@Value("${chatbot.response-timeout-seconds:60}") long responseTimeoutSeconds,
+			@Value("${chatbot.stream-idle-timeout-seconds:30}") long streamIdleTimeoutSeconds) {
+		this.webClient = webClient;
+		this.fastApiBaseUrl = fastApiBaseUrl;
+		this.responseTimeout = Duration.ofSeconds(responseTimeoutSeconds);
+		this.streamIdleTimeout = Duration.ofSeconds(streamIdleTimeoutSeconds);
+		this.userSnapshotCache = userSnapshotCache;
+	}
+
+	// 로그인 사용자 정보(직무/직급 등)를 요청에 추가 - 답변 개인화용
+	public void enrichRequest(Map<String, Object> request, CustomUserDetails userDetails, String logTag) {
+		if (userDetails == null) {
+			return;
+		}
+		// 직무/직급은 토큰에 없으므로 사용자 캐시에서 조회
+		UserSnapshot user = userDetails.getMeetUser() != null
+				? UserSnapshot.from(userDetails.getMeetUser())
+				: userSnapshotCache.getById(userDetails.getId()).orElse(null);
+		if (user == null) {
+			return;
+		}
+
+		Long userId = user.getId();
+		String job = user.getJob() != null ? user.getJob().name() : "NONE";
+		String position = user.getPosition() != null ? user.getPosition().name() : "NONE";
+		String userName = user.getName();
+
+		request.put("user_id", userId);
+		request.put("user_job", job);
+		request.put("user_position", position);
+		request.put("user_name", userName);
+
+		log.info("[{}] User: {} (ID: {}, Job: {}, Position: {})", logTag, userName, userId, job, position);
+	}
+
+	// 전체 답변을 한 번에 받는 호출 (응답 본문 JSON 그대로 반환)
+	public Mono<String> ask(String path, Map<String, Object> request, String logTag) {
+		String url = fastApiBaseUrl + path;
+		log.info("[{}] 전송 데이터: {}", logTag, request);
+
+		return webClient.post()
+				.uri(url)
+				.contentType(MediaType.APPLICATION_JSON)
+				.bodyValue(request)
+				.retrieve()
+				.bodyToMono(String.class)
+				.timeout(responseTimeout)
+				.doOnSuccess(body -> log.info("[{}] Python 응답 성공", logTag))
+				.onErrorMap(e -> toChatbotException(e, logTag));
+	}
+
+	// 토큰 단위 스트리밍 호출 - FastAPI 스트리밍 엔드포인트(text/event-stream)의 이벤트를 그대로 전달
+	// 토큰 사이 간격이 streamIdleTimeout 을 넘으면 끊음
+	// 응답 헤더가 이미 나간 뒤라 HTTP 상태로 오류를 알릴 수 없으므로 실패는 error 이벤트로 보내고 종료
+	public Flux<ServerSentEvent<String>> stream(String path, Map<String, Object> request, String logTag) {
+		String url = fastApiBaseUrl + path;
+		log.info("[{}] 스트리밍 요청: {}", logTag, request);
+
+		return webClient.post()
+				.uri(url)
+				.contentType(MediaType.APPLICATION_JSON)
+				.accept(MediaType.TEXT_EVENT_STREAM)
+				.bodyValue(request)
+				.retrieve()
+				.bodyToFlux(SSE_TYPE)
+				.timeout(streamIdleTimeout)
+				.doOnComplete(() -> log.info("[{}] 스트리밍 완료", logTag))
+				.doOnCancel(() -> log.info("[{}] 클라이언트 연결 종료로 스트리밍 중단", logTag))
+				.onErrorResume(e -> {
+					ChatbotApiException ex = toChatbotException(e, logTag);
+					return Flux.just(ServerSentEvent.<String>builder()
+							.event("error")
+							.data(ex.getMessage())
+							.build());
+				});
+	}
+
+	private ChatbotApiException toChatbotException(Throwable e, String logTag) {
+		if (e instanceof ChatbotApiException chatbotApiException) {
+			return chatbotApiException;
+		}
+		if (e instanceof WebClientResponseException responseException) {
+			log.error("[{}] HTTP 오류: {}", logTag, responseException.getStatusCode(), e);
+			return new ChatbotApiException("Python API 호출 HTTP 오류", e);
+		}
+		if (e instanceof WebClientRequestException) {
+			log.error("[{}] 네트워크 오류: {}", logTag, e.getMessage(), e);
+			return new ChatbotApiException("Python API 호출 네트워크 오류", e);
+		}
+		log.error("[{}] Python 호출 실패: {}", logTag, e.getMessage(), e);
+		return new ChatbotApiException("Python API 호출 실패", e);
+	}
+}
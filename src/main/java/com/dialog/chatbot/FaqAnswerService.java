@@ -0,0 +1,197 @@
+package com.dialog.chatbot;
+
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// FAQ 챗봇 답변 캐시
+// FAQ 질문은 대부분 표현만 조금 다른 같은 질문이므로, 정규화한 질문(+ 답변이 달라지는 사용자 직무/직급)을 키로 답변을 재사용
+// - 공백/문장부호 제거, 소문자, 어절 끝 조사 제거 ("회의록을 어떻게 내보내나요?" == "회의록 어떻게 내보내나요")
+// - 같은 질문이 동시에 들어오면 FastAPI 호출은 한 번만 (진행 중인 호출 결과를 함께 사용)
+// - 실패한 호출은 캐시에 남지 않음
+// - 캐싱하는 요청은 키에 들어가는 필드만 FastAPI 로 보냄 (user_id/user_name 으로 개인화된 답변이 다른 사용자에게 가지 않도록)
+// - 기동 시 자주 묻는 질문 목록으로 미리 채움
+@Slf4j
+@Service
+public class FaqAnswerService {
+
+	private static final String FAQ_PATH = "/api/faq";
+	private static final String LOG_TAG = "FAQ";
+
+	// 질문이 담겨 오는 필드 (프론트 버전에 따라 이름이 다름)
+	private static final List<String> QUESTION_FIELDS = List.of("question", "query", "message");
+
+	// enrichRequest 가 붙이는 사용자 정보 필드 - 이 외의 필드(대화 이력 등)가 있으면 문맥 의존 질문이라 캐싱하지 않음
+	private static final Set<String> USER_FIELDS = Set.of("user_id", "user_job", "user_position", "user_name");
+	// 답변이 달라질 수 있는 사용자 문맥 필드 (include-user-context 일 때 키에 포함)
+	private static final List<String> CONTEXT_FIELDS = List.of("user_job", "user_position");
+
+	// 어절 끝에서 떼어낼 조사/어미 (긴 것부터 검사)
+	private static final List<String> PARTICLES = List.of(
+			"에서는", "으로는", "이라도", "까지는",
+			"에서", "으로", "에게", "한테", "까지", "부터", "이나", "이랑", "처럼", "보다", "나요", "까요", "세요", "니까",
+			"은", "는", "이", "가", "을", "를", "에", "로", "와", "과", "도", "의", "만", "요");
+
+	private final ChatbotService chatbotService;
+	private final AsyncCache<String, String> answerCache;
+	private final boolean includeUserContext;
+	private final List<String> warmupQuestions;
+	private final long maxEntries;
+	private final long ttlMinutes;
+
+	public FaqAnswerService(ChatbotService chatbotService,
+			@Value("${chatbot.faq-cache.max-size:1000}") long maxEntries,
+			@Value("${chatbot.faq-cache.ttl-minutes:360}") long ttlMinutes,
+			@Value("${chatbot.faq-cache.include-user-context:true}") boolean includeUserContext,
+			@Value("${chatbot.faq-cache.warmup-questions:}") List<String> warmupQuestions) {
+		this.chatbotService = chatbotService;
+		this.includeUserContext = includeUserContext;
+		this.warmupQuestions = warmupQuestions;
+		this.maxEntries = maxEntries;
+		this.ttlMinutes = ttlMinutes;
+		this.answerCache = Caffeine.newBuilder()
+				.maximumSize(maxEntries)
+				.expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+				.recordStats()
+				.buildAsync();
+	}
+
+	// FAQ 답변 (캐시 히트 시 FastAPI 호출 없이 바로 반환)
+	public Mono<String> answer(Map<String, Object> request) {
+		String key = keyOf(request);
+		if (key == null) {
+			return chatbotService.ask(FAQ_PATH, request, LOG_TAG);
+		}
+		Map<String, Object> cacheableRequest = cacheableRequestOf(request);
+		// 여러 요청이 같은 호출을 기다리므로, 한 클라이언트가 연결을 끊어도 공유 중인 호출은 취소하지 않음
+		return Mono.fromFuture(answerCache.get(key,
+				(k, executor) -> chatbotService.ask(FAQ_PATH, cacheableRequest, LOG_TAG).toFuture()), true);
+	}
+
+	// 캐시 키에 들어가는 필드(질문 + 직무/직급)만 남긴 요청 - 캐시된 답변은 이 값들로만 결정됨
+	private Map<String, Object> cacheableRequestOf(Map<String, Object> request) {
+		Map<String, Object> result = new LinkedHashMap<>();
+		String questionField = questionFieldOf(request);
+		result.put(questionField, request.get(questionField));
+		for (String field : CONTEXT_FIELDS) {
+			result.put(field, includeUserContext ? request.getOrDefault(field, "NONE") : "NONE");
+		}
+		return result;
+	}
+
+	// 캐시 키 (캐싱할 수 없는 요청이면 null)
+	String keyOf(Map<String, Object> request) {
+		String questionField = questionFieldOf(request);
+		if (questionField == null) {
+			return null;
+		}
+		String question = (String) request.get(questionField);
+		for (String field : request.keySet()) {
+			if (!QUESTION_FIELDS.contains(field) && !USER_FIELDS.contains(field)) {
+				return null;
+			}
+		}
+
+		String normalized = normalize(question);
+		if (normalized.isEmpty()) {
+			return null;
+		}
+		if (!includeUserContext) {
+			return normalized;
+		}
+		return request.getOrDefault("user_job", "NONE") + "|" + request.getOrDefault("user_position", "NONE") + "|"
+				+ normalized;
+	}
+
+	// 질문이 담긴 필드 이름 (없으면 null)
+	private static String questionFieldOf(Map<String, Object> request) {
+		for (String field : QUESTION_FIELDS) {
+			if (request.get(field) instanceof String value && !value.isBlank()) {
+				return field;
+			}
+		}
+		return null;
+	}
+
+	// 질문 정규화: 유니코드 정규화 -> 소문자 -> 문장부호 제거 -> 어절별 조사 제거 -> 공백 하나로
+	static String normalize(String question) {
+		String text = Normalizer.normalize(question, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		text = text.replaceAll("[^\\p{L}\\p{N}\\s]", " ");
+
+		List<String> tokens = new ArrayList<>();
+		for (String token : text.trim().split("\\s+")) {
+			if (!token.isEmpty()) {
+				tokens.add(stripParticle(token));
+			}
+		}
+		return String.join(" ", tokens);
+	}
+
+	private static String stripParticle(String token) {
+		for (String particle : PARTICLES) {
+			// 조사를 떼고도 한 글자 이상 남는 경우만 (예: "이" 한 글자 어절은 그대로)
+			if (token.length() > particle.length() && token.endsWith(particle)) {
+				return token.substring(0, token.length() - particle.length());
+			}
+		}
+		return token;
+	}
+
+	// 기동 시 자주 묻는 질문으로 캐시 미리 채우기 (사용자 정보 없는 기본 문맥, FastAPI 부하를 고려해 동시 2건)
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (warmupQuestions.isEmpty()) {
+			return;
+		}
+		Flux.fromIterable(warmupQuestions)
+				.filter(q -> !q.isBlank())
+				.flatMap(q -> {
+					Map<String, Object> request = new LinkedHashMap<>();
+					request.put("question", q);
+					request.put("user_job", "NONE");
+					request.put("user_position", "NONE");
+					return answer(request).onErrorResume(e -> Mono.empty());
+				}, 2)
+				.count()
+				.subscribe(count -> log.info("[FAQ] 캐시 예열 완료 - {}/{}건", count, warmupQuestions.size()));
+	}
+
+	public long clear() {
+		long size = answerCache.synchronous().estimatedSize();
+		answerCache.synchronous().invalidateAll();
+		log.info("[FAQ] 답변 캐시 비움 - {}건", size);
+		return size;
+	}
+
+	public Map<String, Object> getStats() {
+		CacheStats stats = answerCache.synchronous().stats();
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("hits", stats.hitCount());
+		result.put("misses", stats.missCount());
+		result.put("hitRate", stats.hitRate());
+		result.put("evictions", stats.evictionCount());
+		result.put("entries", answerCache.synchronous().estimatedSize());
+		result.put("maxEntries", maxEntries);
+		result.put("ttlMinutes", ttlMinutes);
+		result.put("includeUserContext", includeUserContext);
+		return result;
+	}
+}
@@ -0,0 +1,44 @@
+package com.dialog.chatbot;
+
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/chatbot/faq-cache")
+@RequiredArgsConstructor
+public class FaqCacheAdminController {
+
+	private final FaqAnswerService faqAnswerService;
+
+	// FAQ 답변 캐시 통계
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/stats")
+	public ResponseEntity<Map<String, Object>> getStats() {
+		return ResponseEntity.ok(faqAnswerService.getStats());
+	}
+
+	// 캐시 전체 비우기 (FAQ 문서가 바뀌었을 때)
+	@PreAuthorize("hasRole('ADMIN')")
+	@DeleteMapping
+	public ResponseEntity<Map<String, Object>> clear() {
+		return ResponseEntity.ok(Map.of("removed", faqAnswerService.clear()));
+	}
+
+	// 비운 뒤 자주 묻는 질문으로 다시 채우기
+	@PreAuthorize("hasRole('ADMIN')")
+	@PostMapping("/warmup")
+	public ResponseEntity<Map<String, Object>> warmUp() {
+		long removed = faqAnswerService.clear();
+		faqAnswerService.warmUp();
+		return ResponseEntity.accepted().body(Map.of("removed", removed));
+	}
+}
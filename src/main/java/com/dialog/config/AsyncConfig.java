@@ -0,0 +1,121 @@
+package com.dialog.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+// 백그라운드 작업용 실행기 및 스케줄링 설정
+@Configuration
+@EnableScheduling
+public class AsyncConfig {
+
+	// AI 요약 작업 전용 스레드 풀
+	// Tomcat 요청 스레드 대신 여기서 FastAPI 호출을 수행하고, 큐가 가득 차면 요청을 거절(AbortPolicy)해 과부하를 막음
+	@Bean(name = "summaryJobExecutor")
+	public ThreadPoolTaskExecutor summaryJobExecutor(
+			@Value("${ai.summary-job.pool-size:4}") int poolSize,
+			@Value("${ai.summary-job.queue-capacity:50}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("summary-job-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		executor.initialize();
+		return executor;
+	}
+
+	// 긴 회의 청크 요약용 스레드 풀 (구간별 FastAPI 동시 호출 수 제한)
+	// 큐가 가득 차면 호출한 요약 작업 스레드가 직접 실행(CallerRunsPolicy)해 작업이 유실되지 않게 함
+	@Bean(name = "summaryChunkExecutor")
+	public ThreadPoolTaskExecutor summaryChunkExecutor(
+			@Value("${ai.summary.chunk.parallelism:3}") int parallelism,
+			@Value("${ai.summary.chunk.queue-capacity:100}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(parallelism);
+		executor.setMaxPoolSize(parallelism);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("summary-chunk-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	// 캘린더 조회 시 Google 토큰 갱신/일정 조회를 로컬 DB 조회와 동시에 수행하는 스레드 풀
+	// 큐가 가득 차면 거절(AbortPolicy) - 요청 스레드가 Google 호출을 떠안아 마감 시간을 넘기지 않도록,
+	// CalendarEventService 가 거절을 잡아 로컬 일정만 부분 응답(X-Calendar-Partial: true)으로 반환
+	@Bean(name = "calendarFetchExecutor")
+	public ThreadPoolTaskExecutor calendarFetchExecutor(
+			@Value("${google.calendar.fetch.pool-size:8}") int poolSize,
+			@Value("${google.calendar.fetch.queue-capacity:100}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("calendar-fetch-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	// Google 캘린더 백그라운드 증분 동기화용 스레드 풀 (사용자별 작업, Google 동시 호출 수 제한)
+	// 큐가 가득 차면 거절(AbortPolicy) - 스케줄러 스레드가 동기화를 떠안지 않고 남은 사용자는 다음 주기로 미룸
+	@Bean(name = "calendarSyncExecutor")
+	public ThreadPoolTaskExecutor calendarSyncExecutor(
+			@Value("${google.calendar.sync.pool-size:4}") int poolSize,
+			@Value("${google.calendar.sync.queue-capacity:200}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("calendar-sync-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	// 소셜 토큰 백그라운드 선갱신용 스레드 풀 (한 번에 갱신하는 토큰 수 제한)
+	@Bean(name = "socialTokenRefreshExecutor")
+	public ThreadPoolTaskExecutor socialTokenRefreshExecutor(
+			@Value("${social-token.proactive.concurrency:4}") int concurrency) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(concurrency);
+		executor.setMaxPoolSize(concurrency);
+		executor.setQueueCapacity(1000);
+		executor.setThreadNamePrefix("token-refresh-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.initialize();
+		return executor;
+	}
+
+	// 비슷한 회의 인덱스 전체 재구성용 스레드 (기동 시 인덱스 파일이 없을 때 ApplicationReadyEvent 를 막지 않도록)
+	@Bean(name = "searchIndexExecutor")
+	public ThreadPoolTaskExecutor searchIndexExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.setThreadNamePrefix("search-index-");
+		executor.initialize();
+		return executor;
+	}
+
+	// 만료/고아 데이터 정리 작업 전용 스레드 (청크 사이 대기 동안 공용 스케줄러 스레드를 잡지 않도록)
+	// 동시 실행은 DataPurgeService 가 막으므로 스레드 하나로 충분
+	@Bean(name = "maintenanceExecutor")
+	public ThreadPoolTaskExecutor maintenanceExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.setThreadNamePrefix("maintenance-");
+		executor.initialize();
+		return executor;
+	}
+}
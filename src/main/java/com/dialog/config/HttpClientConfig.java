@@ -0,0 +1,85 @@
+package com.dialog.config;
+
+import java.net.URI;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.routing.HttpRoute;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+// FastAPI 호출용 RestTemplate (Apache HttpClient 5 커넥션 풀)
+// 기본 RestTemplate(SimpleClientHttpRequestFactory)은 요청마다 TCP 연결을 새로 맺고 타임아웃이 없어
+// FastAPI 가 멈추면 호출 스레드가 계속 묶이므로, 커넥션 재사용 + 연결/응답/풀 대기 타임아웃 + 유휴 연결 정리를 설정
+@Slf4j
+@Configuration
+public class HttpClientConfig {
+
+	@Value("${fastapi.base-url}")
+	private String fastApiBaseUrl;
+
+	@Bean(destroyMethod = "close")
+	public PoolingHttpClientConnectionManager fastApiConnectionManager(
+			@Value("${fastapi.http.max-total:50}") int maxTotal,
+			@Value("${fastapi.http.max-per-route:20}") int maxPerRoute,
+			@Value("${fastapi.http.connect-timeout-ms:3000}") long connectTimeoutMs,
+			@Value("${fastapi.http.read-timeout-ms:120000}") long readTimeoutMs,
+			@Value("${fastapi.http.time-to-live-minutes:5}") long timeToLiveMinutes) {
+		PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(maxTotal)
+				.setMaxConnPerRoute(maxPerRoute)
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+						.setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+						.setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+						// 오래 쉬던 연결은 재사용 전에 살아있는지 확인 (FastAPI keep-alive 만료로 끊긴 연결 방지)
+						.setValidateAfterInactivity(TimeValue.ofSeconds(2))
+						.setTimeToLive(TimeValue.ofMinutes(timeToLiveMinutes))
+						.build())
+				.build();
+
+		// FastAPI 경로는 요약 작업/청크 병렬 호출이 몰리므로 라우트 한도를 명시
+		try {
+			HttpHost fastApiHost = HttpHost.create(URI.create(fastApiBaseUrl));
+			connectionManager.setMaxPerRoute(new HttpRoute(fastApiHost), maxPerRoute);
+		} catch (IllegalArgumentException e) {
+			log.warn("fastapi.base-url 을 해석할 수 없어 기본 라우트 한도를 사용합니다: {}", fastApiBaseUrl);
+		}
+		return connectionManager;
+	}
+
+	@Bean(destroyMethod = "close")
+	public CloseableHttpClient fastApiHttpClient(PoolingHttpClientConnectionManager fastApiConnectionManager,
+			@Value("${fastapi.http.connection-request-timeout-ms:5000}") long connectionRequestTimeoutMs,
+			@Value("${fastapi.http.read-timeout-ms:120000}") long readTimeoutMs,
+			@Value("${fastapi.http.idle-eviction-seconds:30}") long idleEvictionSeconds) {
+		return HttpClients.custom()
+				.setConnectionManager(fastApiConnectionManager)
+				.setDefaultRequestConfig(RequestConfig.custom()
+						// 풀이 가득 찼을 때 연결을 기다리는 최대 시간 (넘으면 예외 - 무한 대기 방지)
+						.setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+						.setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+						.build())
+				.evictExpiredConnections()
+				.evictIdleConnections(TimeValue.ofSeconds(idleEvictionSeconds))
+				.build();
+	}
+
+	// HTTP 통신용 클라이언트
+	// Python FastAPI(포트 8000)와 통신 (AI 요약, 액션 아이템 생성)
+	@Bean
+	public RestTemplate restTemplate(CloseableHttpClient fastApiHttpClient) {
+		return new RestTemplate(new HttpComponentsClientHttpRequestFactory(fastApiHttpClient));
+	}
+}
@@ -1,17 +1,64 @@
 package com.dialog.config;
 
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
 @Configuration
 public class WebClientConfig {
 	/**
-	 * WebClient 인스턴스를 Spring Bean으로 등록합니다. GoogleCalendarApiClient를 포함한 모든 API 호출에
+	 * WebClient 인스턴스를 Spring Bean으로 등록합니다. 챗봇(FastAPI), 소셜 토큰 갱신 등 기본 API 호출에
 	 * 사용됩니다.
 	 */
 	@Bean
+	@Primary
 	public WebClient webClient() {
 		return WebClient.builder().build();
 	}
+
+	/**
+	 * Google Calendar API 전용 커넥션 풀. 기본 풀을 다른 호출과 나눠 쓰지 않도록 분리하고,
+	 * 풀 크기/대기 한도와 유휴·수명 만료를 지정해 오래된 연결이 Google 쪽에서 끊겨 실패하는 일을 줄입니다.
+	 */
+	@Bean(destroyMethod = "dispose")
+	public ConnectionProvider googleApiConnectionProvider(
+			@Value("${google.api.http.max-connections:50}") int maxConnections,
+			@Value("${google.api.http.pending-acquire-max-count:200}") int pendingAcquireMaxCount,
+			@Value("${google.api.http.pending-acquire-timeout-ms:3000}") long pendingAcquireTimeoutMs,
+			@Value("${google.api.http.max-idle-seconds:30}") long maxIdleSeconds,
+			@Value("${google.api.http.max-life-minutes:5}") long maxLifeMinutes) {
+		return ConnectionProvider.builder("google-api")
+				.maxConnections(maxConnections)
+				.pendingAcquireMaxCount(pendingAcquireMaxCount)
+				.pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+				.maxIdleTime(Duration.ofSeconds(maxIdleSeconds))
+				.maxLifeTime(Duration.ofMinutes(maxLifeMinutes))
+				.evictInBackground(Duration.ofSeconds(maxIdleSeconds))
+				.build();
+	}
+
+	/**
+	 * Google Calendar API 호출용 WebClient (전용 풀 + 연결/응답 타임아웃 + gzip 응답 압축).
+	 */
+	@Bean
+	public WebClient googleWebClient(ConnectionProvider googleApiConnectionProvider,
+			@Value("${google.api.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+			@Value("${google.api.http.response-timeout-seconds:10}") long responseTimeoutSeconds) {
+		HttpClient httpClient = HttpClient.create(googleApiConnectionProvider)
+				.option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+				.responseTimeout(Duration.ofSeconds(responseTimeoutSeconds))
+				.compress(true);
+		return WebClient.builder()
+				.clientConnector(new ReactorClientHttpConnector(httpClient))
+				.build();
+	}
 }
@@ -20,6 +20,7 @@ public class WebConfig implements WebMvcConfigurer {
                 )
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS") // "*" 대신 명시하는 것이 보안상 좋음
                 .allowedHeaders("*")
+                .exposedHeaders("X-Calendar-Partial") // 캘린더 조회 부분 응답 여부
                 .allowCredentials(true) // 쿠키 인증 요청 허용 (중요)
                 .maxAge(3600); // Preflight 요청 캐시 시간 (1시간)
     }
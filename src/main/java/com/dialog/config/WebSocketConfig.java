@@ -0,0 +1,29 @@
+package com.dialog.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+import com.dialog.transcript.controller.LiveTranscriptWebSocketHandler;
+
+import lombok.RequiredArgsConstructor;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+	private final LiveTranscriptWebSocketHandler liveTranscriptWebSocketHandler;
+
+	// 녹음 중 실시간 발화 수신 엔드포인트 (핸드셰이크는 일반 요청과 같이 JWT 쿠키로 인증됨)
+	@Override
+	public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+		registry.addHandler(liveTranscriptWebSocketHandler, "/ws/meetings/*/transcripts")
+				.setAllowedOrigins(
+						"http://localhost:5500",
+						"http://127.0.0.1:5500",
+						"http://dialogai.ddns.net",
+						"https://dialogai.ddns.net");
+	}
+}
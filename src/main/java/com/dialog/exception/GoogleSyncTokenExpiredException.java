@@ -0,0 +1,9 @@
+package com.dialog.exception;
+
+// Google Calendar syncToken 이 만료되어 (410 Gone) 전체 동기화가 필요한 경우
+public class GoogleSyncTokenExpiredException extends RuntimeException {
+
+	public GoogleSyncTokenExpiredException(String message) {
+		super(message);
+	}
+}
@@ -0,0 +1,16 @@
+package com.dialog.exception;
+
+import lombok.Getter;
+
+// 실시간 발화 버퍼가 상한에 도달했을 때 (DB 저장이 계속 실패하는 경우) 발생
+// 이번 발화는 ack 하지 않으므로 클라이언트가 잠시 후 다시 보내야 함
+@Getter
+public class LiveTranscriptBufferFullException extends RuntimeException {
+
+    private final int pending;
+
+    public LiveTranscriptBufferFullException(String message, int pending) {
+        super(message);
+        this.pending = pending;
+    }
+}
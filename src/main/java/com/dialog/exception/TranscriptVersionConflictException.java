@@ -0,0 +1,15 @@
+package com.dialog.exception;
+
+import lombok.Getter;
+
+// 발화 패치의 baseVersion이 서버의 현재 버전과 다를 때 (다른 곳에서 먼저 수정됨) 발생
+@Getter
+public class TranscriptVersionConflictException extends RuntimeException {
+
+    private final long currentVersion;
+
+    public TranscriptVersionConflictException(String message, long currentVersion) {
+        super(message);
+        this.currentVersion = currentVersion;
+    }
+}
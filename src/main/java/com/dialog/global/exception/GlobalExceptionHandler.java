@@ -19,6 +19,7 @@ import com.dialog.exception.ResourceNotFoundException;
 import com.dialog.exception.SocialUserInfoException;
 import com.dialog.exception.SocialUserSaveException;
 import com.dialog.exception.TermsNotAcceptedException;
+import com.dialog.exception.TranscriptVersionConflictException;
 import com.dialog.exception.UserAlreadyExistsException;
 import com.dialog.exception.UserNotFoundException;
 import com.dialog.exception.UserRoleAccessDeniedException;
@@ -148,6 +149,14 @@ public class GlobalExceptionHandler {
                 .body(Map.of("error", "약관 미동의", "message", e.getMessage()));
     }
     
+    // 발화 패치 버전 충돌 (409)
+    @ExceptionHandler(TranscriptVersionConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleTranscriptVersionConflict(TranscriptVersionConflictException e) {
+        log.warn("Transcript Version Conflict: {}", e.getMessage());
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(Map.of("error", "Conflict", "message", e.getMessage(), "currentVersion", e.getCurrentVersion()));
+    }
+
     @ExceptionHandler(ChatbotApiException.class)
     public ResponseEntity<Map<String, String>> handleChatbotApiException(ChatbotApiException e) {
         log.error("챗봇 API 호출 실패: {}", e.getMessage(), e);
@@ -0,0 +1,78 @@
+package com.dialog.global.utill;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// 문자열용 블룸 필터 (멤버십 사전 확인용)
+// mightContain 이 false 면 확실히 없음, true 면 "있을 수도 있음" (오탐률은 생성 시 지정)
+// 삭제는 지원하지 않으므로 항목이 빠지면 새 필터를 만들어 교체해야 함
+// put / mightContain 은 여러 스레드에서 동시에 호출해도 안전
+public class BloomFilter {
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashCount;
+
+	// expectedInsertions: 예상 항목 수, fpp: 허용 오탐률 (예: 0.001)
+	public BloomFilter(int expectedInsertions, double fpp) {
+		int n = Math.max(1, expectedInsertions);
+		double p = Math.min(Math.max(fpp, 1e-9), 0.5);
+		long m = (long) Math.ceil(-n * Math.log(p) / (Math.log(2) * Math.log(2)));
+		this.bitSize = Math.max(64, ((m + 63) / 64) * 64);
+		this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * Math.log(2)));
+		this.bits = new AtomicLongArray((int) (bitSize / 64));
+	}
+
+	public void put(String value) {
+		long hash = murmur64(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long index = toIndex(h1 + i * h2);
+			int word = (int) (index >>> 6);
+			long mask = 1L << index;
+			long current;
+			do {
+				current = bits.get(word);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(word, current, current | mask));
+		}
+	}
+
+	public boolean mightContain(String value) {
+		long hash = murmur64(value);
+		int h1 = (int) hash;
+		int h2 = (int) (hash >>> 32);
+		for (int i = 1; i <= hashCount; i++) {
+			long index = toIndex(h1 + i * h2);
+			if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// 이중 해싱(h1 + i * h2)으로 k 개의 비트 위치 생성
+	private long toIndex(int combined) {
+		return (combined & Integer.MAX_VALUE) % bitSize;
+	}
+
+	// MurmurHash3 fmix64 기반 64비트 해시 (바이트 단위로 섞은 뒤 최종 혼합)
+	private static long murmur64(String value) {
+		byte[] data = value.getBytes(StandardCharsets.UTF_8);
+		long h = 0x9E3779B97F4A7C15L ^ data.length;
+		for (byte b : data) {
+			h ^= (b & 0xff);
+			h *= 0xff51afd7ed558ccdL;
+			h = Long.rotateLeft(h, 31);
+		}
+		h ^= h >>> 33;
+		h *= 0xff51afd7ed558ccdL;
+		h ^= h >>> 33;
+		h *= 0xc4ceb9fe1a85ec53L;
+		h ^= h >>> 33;
+		return h;
+	}
+}
@@ -0,0 +1,31 @@
+package com.dialog.global.utill;
+
+import org.springframework.http.MediaType;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 관리자 내보내기 응답 형식 (NDJSON: 한 줄에 JSON 객체 하나, CSV: 엑셀 호환)
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+	NDJSON(MediaType.parseMediaType("application/x-ndjson;charset=UTF-8"), "ndjson"),
+	CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+	private final MediaType mediaType;
+	private final String extension;
+
+	// 요청 파라미터(format=ndjson|csv) 파싱, 지원하지 않는 값은 400 처리를 위해 IllegalArgumentException
+	public static ExportFormat from(String value) {
+		if (value == null || value.isBlank()) {
+			return NDJSON;
+		}
+		for (ExportFormat format : values()) {
+			if (format.extension.equalsIgnoreCase(value.trim())) {
+				return format;
+			}
+		}
+		throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value);
+	}
+}
@@ -0,0 +1,85 @@
+package com.dialog.global.utill;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// 행 단위로 NDJSON/CSV를 바로 출력 스트림에 쓰는 writer
+// 전체 목록을 메모리에 모으지 않고, 일정 행마다 flush 해서 클라이언트로 청크 전송
+public class StreamingExportWriter<T> implements Closeable {
+
+	private static final int FLUSH_INTERVAL = 500;
+	private static final char UTF8_BOM = '\uFEFF';
+
+	private final BufferedWriter writer;
+	private final ExportFormat format;
+	private final ObjectMapper objectMapper;
+	private final Function<T, List<Object>> csvColumns;
+	private long rowCount;
+
+	public StreamingExportWriter(OutputStream out, ExportFormat format, ObjectMapper objectMapper,
+			List<String> csvHeader, Function<T, List<Object>> csvColumns) throws IOException {
+		this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		this.format = format;
+		this.objectMapper = objectMapper;
+		this.csvColumns = csvColumns;
+
+		if (format == ExportFormat.CSV) {
+			// 엑셀에서 한글이 깨지지 않도록 BOM 추가
+			writer.write(UTF8_BOM);
+			writeCsvLine(List.copyOf(csvHeader));
+		}
+	}
+
+	public void write(T row) throws IOException {
+		if (format == ExportFormat.CSV) {
+			writeCsvLine(csvColumns.apply(row));
+		} else {
+			// writeValue(writer, ...)는 대상 스트림을 닫아버리므로 문자열로 변환 후 기록
+			writer.write(objectMapper.writeValueAsString(row));
+			writer.write('\n');
+		}
+
+		if (++rowCount % FLUSH_INTERVAL == 0) {
+			writer.flush();
+		}
+	}
+
+	public long getRowCount() {
+		return rowCount;
+	}
+
+	// 응답 스트림 자체는 컨테이너가 닫으므로 여기서는 flush만 수행
+	@Override
+	public void close() throws IOException {
+		writer.flush();
+	}
+
+	private void writeCsvLine(List<?> values) throws IOException {
+		for (int i = 0; i < values.size(); i++) {
+			if (i > 0) {
+				writer.write(',');
+			}
+			writer.write(escapeCsv(values.get(i)));
+		}
+		writer.write("\r\n");
+	}
+
+	private String escapeCsv(Object value) {
+		if (value == null) {
+			return "";
+		}
+		String text = value.toString();
+		if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+			return "\"" + text.replace("\"", "\"\"") + "\"";
+		}
+		return text;
+	}
+}
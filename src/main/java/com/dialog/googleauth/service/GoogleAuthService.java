@@ -7,6 +7,7 @@ import java.util.Base64;
 import java.util.Collections;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,6 +17,7 @@ import com.dialog.exception.GoogleTokenExchangeException;
 import com.dialog.exception.UserNotFoundException;
 import com.dialog.googleauth.domain.GoogleAuthDTO;
 import com.dialog.security.oauth2.CustomOAuth2User;
+import com.dialog.token.domain.SocialTokenChangedEvent;
 import com.dialog.token.domain.UserSocialToken;
 import com.dialog.token.repository.UserSocialTokenRepository;
 import com.dialog.user.domain.MeetUser;
@@ -35,6 +37,7 @@ public class GoogleAuthService {
 
     private final MeetUserRepository meetUserRepository;
     private final UserSocialTokenRepository tokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${google.client.id}")
     private String clientId;
@@ -124,6 +127,7 @@ public String generateAuthUrl(Long userId) {
             token.setExpiresAt(expiresAt);
             
             tokenRepository.save(token);
+            eventPublisher.publishEvent(new SocialTokenChangedEvent(userId, "google"));
             log.info("구글 캘린더 연동 성공 (UserId: {})", userId);
 
         } catch (IOException e) {
@@ -1,10 +1,14 @@
 package com.dialog.keyword.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.dialog.keyword.domain.Keyword;
@@ -12,10 +16,36 @@ import com.dialog.keyword.domain.Keyword;
 public interface KeywordRepository extends JpaRepository<Keyword, Long> {
 	// 이름으로 키워드 찾기 (MeetingService에서 사용 중)
 	Optional<Keyword> findByName(String name);
+
+	// 여러 키워드를 IN 한 번으로 조회 (KeywordService 일괄 처리용)
+	// 일관된 읽기(스냅샷)가 아니라 잠금 읽기라서 트랜잭션 시작 뒤 다른 트랜잭션이 커밋한 키워드도 보임
+	// (INSERT IGNORE 가 무시한 행을 REPEATABLE READ 스냅샷 때문에 못 찾는 문제 방지)
+	// 찾은 키워드도 트랜잭션이 끝날 때까지 공유 잠금 (아래 lockExistingIds 와 같은 이유)
+	@Query(value = "SELECT * FROM keyword WHERE name IN (:names) LOCK IN SHARE MODE", nativeQuery = true)
+	List<Keyword> lockByNameIn(@Param("names") Collection<String> names);
+
+	// 캐시에서 꺼낸 키워드 ID 가 아직 있는지 확인하고, 호출한 트랜잭션이 끝날 때까지 공유 잠금
+	// (그 사이 정리 작업이 같은 키워드를 지우지 못하게 해서 회의 결과 연결 시 FK 위반을 막음)
+	@Query(value = "SELECT id FROM keyword WHERE id IN (:ids) LOCK IN SHARE MODE", nativeQuery = true)
+	List<Long> lockExistingIds(@Param("ids") Collection<Long> ids);
 	
 	// MeetingResultKeyword 테이블에 자신의 ID가 없는 Keyword를 찾아서 삭제합니다.
     @Modifying
     @Transactional
     @Query("DELETE FROM Keyword k WHERE NOT EXISTS (SELECT 1 FROM MeetingResultKeyword mrk WHERE mrk.keyword = k)")
     void deleteOrphanKeywords();
+
+    // 어떤 회의에도 연결되지 않은 키워드를 최대 limit 건만 삭제 (정리 작업용)
+    // 방금 만들어져 아직 회의 결과에 연결되기 전인 키워드는 cutoff 이전 생성분만 대상으로 해서 제외
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM keyword WHERE (created_at IS NULL OR created_at < :cutoff) "
+            + "AND NOT EXISTS (SELECT 1 FROM meeting_result_keyword mrk WHERE mrk.keyword_id = keyword.id) "
+            + "LIMIT :limit", nativeQuery = true)
+    int deleteOrphanChunk(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // 남아 있는 정리 대상 키워드 중 가장 오래된 생성 시각 (정리 지연 확인용)
+    @Query("SELECT MIN(k.createdAt) FROM Keyword k WHERE k.createdAt < :cutoff "
+            + "AND NOT EXISTS (SELECT 1 FROM MeetingResultKeyword mrk WHERE mrk.keyword = k)")
+    LocalDateTime findOldestOrphanCreatedAt(@Param("cutoff") LocalDateTime cutoff);
 }
\ No newline at end of file
@@ -0,0 +1,178 @@
+package com.dialog.keyword.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dialog.keyword.domain.Keyword;
+import com.dialog.keyword.repository.KeywordRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 키워드 이름 -> ID 일괄 변환
+// 1) 자주 쓰이는 키워드는 메모리 캐시에서 바로 반환
+// 2) 캐시에 없는 키워드는 IN 조회 한 번
+// 3) 그래도 없는 키워드는 INSERT IGNORE 배치로 생성 (동시 저장으로 유니크 제약에 걸려도 무시) 후 다시 IN 조회
+//    IN 조회는 잠금 읽기(LOCK IN SHARE MODE)라서, 다른 트랜잭션이 먼저 만들어 무시된 키워드도 스냅샷과 관계없이 찾음
+// 키워드 수와 관계없이 최대 4번의 쿼리로 끝남 (캐시 확인 1 + IN 조회 2 + INSERT 배치 1)
+// 3) 에서 만든 키워드 ID 는 호출한 트랜잭션이 커밋된 뒤에만 캐시에 넣음 (롤백되면 없는 ID 가 캐시에 남지 않도록)
+// 캐시에서 찾은 ID 는 PK 조회 한 번으로 아직 있는지 확인하고 잠가 둠 - 정리 작업이 지운 ID 는 캐시에서 빼고 다시 조회/생성
+@Slf4j
+@Service
+public class KeywordService {
+
+	private static final int NAME_MAX_LENGTH = 100;
+
+	private static final String INSERT_IGNORE_SQL = "INSERT IGNORE INTO keyword (name, created_at) VALUES (?, ?)";
+
+	private final KeywordRepository keywordRepository;
+	private final JdbcTemplate jdbcTemplate;
+
+	// 소문자 키워드 이름 -> ID (MySQL 기본 콜레이션이 대소문자를 구분하지 않으므로 키도 소문자로 통일)
+	private final Cache<String, Long> keywordIdCache;
+
+	public KeywordService(KeywordRepository keywordRepository, JdbcTemplate jdbcTemplate,
+			@Value("${keyword.cache.max-size:10000}") long maxSize) {
+		this.keywordRepository = keywordRepository;
+		this.jdbcTemplate = jdbcTemplate;
+		this.keywordIdCache = Caffeine.newBuilder().maximumSize(maxSize).build();
+	}
+
+	// 키워드 이름 목록을 ID로 변환 (없는 키워드는 생성), 반환 맵의 키는 요청한 이름 그대로
+	@Transactional
+	public Map<String, Long> resolveIds(Collection<String> names) {
+		Set<String> requested = new LinkedHashSet<>();
+		for (String name : names) {
+			if (name == null || name.isBlank()) {
+				continue;
+			}
+			String trimmed = name.trim();
+			if (trimmed.length() > NAME_MAX_LENGTH) {
+				throw new IllegalArgumentException("키워드는 " + NAME_MAX_LENGTH + "자를 넘을 수 없습니다: " + trimmed);
+			}
+			requested.add(trimmed);
+		}
+
+		Map<String, Long> resolved = new HashMap<>();
+		List<String> missing = new ArrayList<>();
+		for (String name : requested) {
+			Long id = keywordIdCache.getIfPresent(cacheKey(name));
+			if (id != null) {
+				resolved.put(name, id);
+			} else {
+				missing.add(name);
+			}
+		}
+		missing.addAll(evictDeleted(resolved));
+		if (missing.isEmpty()) {
+			return resolved;
+		}
+
+		// 기존 키워드 IN 조회
+		missing = lookup(missing, resolved, keywordIdCache::put);
+		if (missing.isEmpty()) {
+			return resolved;
+		}
+
+		// 신규 키워드 일괄 생성 후 다시 조회
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> rows = missing.stream().map(name -> new Object[] { name, now }).toList();
+		jdbcTemplate.batchUpdate(INSERT_IGNORE_SQL, rows);
+
+		Map<String, Long> created = new HashMap<>();
+		missing = lookup(missing, resolved, created::put);
+		if (!missing.isEmpty()) {
+			throw new IllegalStateException("키워드 생성에 실패했습니다: " + missing);
+		}
+		cacheAfterCommit(created);
+		return resolved;
+	}
+
+	// 캐시에서 찾은 ID 중 이미 삭제된 키워드를 resolved/캐시에서 빼고 그 이름 목록 반환
+	private List<String> evictDeleted(Map<String, Long> resolved) {
+		if (resolved.isEmpty()) {
+			return List.of();
+		}
+		Set<Long> existing = new HashSet<>(keywordRepository.lockExistingIds(resolved.values()));
+		List<String> deleted = new ArrayList<>();
+		resolved.entrySet().removeIf(entry -> {
+			if (existing.contains(entry.getValue())) {
+				return false;
+			}
+			keywordIdCache.invalidate(cacheKey(entry.getKey()));
+			deleted.add(entry.getKey());
+			return true;
+		});
+		if (!deleted.isEmpty()) {
+			log.info("삭제된 키워드 ID 가 캐시에 남아 있어 다시 조회합니다: {}", deleted);
+		}
+		return deleted;
+	}
+
+	// 트랜잭션 안이면 커밋된 뒤에 캐시, 아니면 바로 캐시
+	private void cacheAfterCommit(Map<String, Long> created) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			keywordIdCache.putAll(created);
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				keywordIdCache.putAll(created);
+			}
+		});
+	}
+
+	// 키워드 정리 후 캐시에 삭제된 ID가 남지 않도록 함께 비움
+	@Transactional
+	public void deleteOrphanKeywords() {
+		keywordRepository.deleteOrphanKeywords();
+		keywordIdCache.invalidateAll();
+	}
+
+	public void clearCache() {
+		keywordIdCache.invalidateAll();
+	}
+
+	// IN 조회로 찾은 키워드를 resolved 와 cacheSink 에 넣고, 찾지 못한 이름 목록 반환
+	private List<String> lookup(List<String> names, Map<String, Long> resolved, BiConsumer<String, Long> cacheSink) {
+		Map<String, Long> found = new HashMap<>();
+		for (Keyword keyword : keywordRepository.lockByNameIn(names)) {
+			found.put(cacheKey(keyword.getName()), keyword.getId());
+		}
+
+		List<String> notFound = new ArrayList<>();
+		for (String name : names) {
+			Long id = found.get(cacheKey(name));
+			if (id != null) {
+				resolved.put(name, id);
+				cacheSink.accept(cacheKey(name), id);
+			} else {
+				notFound.add(name);
+			}
+		}
+		return notFound;
+	}
+
+	private String cacheKey(String name) {
+		return name.toLowerCase(Locale.ROOT);
+	}
+}
@@ -0,0 +1,53 @@
+package com.dialog.maintenance.controller;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dialog.maintenance.domain.PurgeCategory;
+import com.dialog.maintenance.service.DataPurgeService;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/admin/maintenance")
+@RequiredArgsConstructor
+public class MaintenanceAdminController {
+
+	private final DataPurgeService dataPurgeService;
+
+	// 정리 작업 즉시 실행 (POST /api/admin/maintenance/purge?category=refresh-token&category=orphan-keyword)
+	// category 를 생략하면 전체 대상, 백그라운드로 실행하고 결과는 GET 으로 확인
+	@PreAuthorize("hasRole('ADMIN')")
+	@PostMapping("/purge")
+	public ResponseEntity<Map<String, Object>> purge(
+			@RequestParam(name = "category", required = false) List<String> categories) {
+		List<PurgeCategory> targets = categories == null
+				? List.of()
+				: categories.stream().map(PurgeCategory::from).toList();
+		if (!dataPurgeService.start(targets, "admin")) {
+			return ResponseEntity.status(HttpStatus.CONFLICT)
+					.body(Map.of("started", false, "message", "정리 작업이 이미 실행 중입니다."));
+		}
+		return ResponseEntity.accepted().body(Map.of("started", true));
+	}
+
+	// 실행 여부와 마지막 실행 결과 (대상별 처리 건수, 초당 처리량, 지연)
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/purge")
+	public ResponseEntity<Map<String, Object>> getStatus() {
+		Map<String, Object> result = new HashMap<>();
+		result.put("running", dataPurgeService.isRunning());
+		result.put("lastReport", dataPurgeService.getLastReport().orElse(null));
+		return ResponseEntity.ok(result);
+	}
+}
@@ -0,0 +1,28 @@
+package com.dialog.maintenance.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 주기 정리(purge) 대상 종류
+@Getter
+@RequiredArgsConstructor
+public enum PurgeCategory {
+
+	REFRESH_TOKEN("refresh-token"),                 // 만료된 리프레시 토큰
+	REVOKED_ACCESS_TOKEN("revoked-access-token"),   // 원래 토큰까지 만료된 액세스 토큰 폐기 기록
+	PASSWORD_RESET_TOKEN("password-reset-token"),   // 만료된 비밀번호 재설정 토큰 (user 컬럼 비움)
+	DELETED_TRANSCRIPT("deleted-transcript"),       // 보관 기간이 지난 삭제(숨김) 발화
+	ORPHAN_KEYWORD("orphan-keyword");               // 어떤 회의에도 연결되지 않은 키워드
+
+	private final String key;
+
+	// 요청 파라미터(category=refresh-token 등) 파싱, 지원하지 않는 값은 400 처리를 위해 IllegalArgumentException
+	public static PurgeCategory from(String value) {
+		for (PurgeCategory category : values()) {
+			if (category.key.equalsIgnoreCase(value.trim()) || category.name().equalsIgnoreCase(value.trim())) {
+				return category;
+			}
+		}
+		throw new IllegalArgumentException("지원하지 않는 정리 대상입니다: " + value);
+	}
+}
@@ -0,0 +1,31 @@
+package com.dialog.maintenance.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// 정리 작업 1회 실행 결과 (관리자 조회용)
+@Getter
+@Builder
+public class PurgeReportDto {
+
+	private final String trigger;           // scheduled / admin
+	private final LocalDateTime startedAt;
+	private final LocalDateTime finishedAt;
+	private final List<CategoryResult> results;
+
+	@Getter
+	@Builder
+	public static class CategoryResult {
+		private final PurgeCategory category;
+		private final long rows;            // 삭제(또는 비운) 행 수
+		private final int chunks;           // 실행한 DELETE/UPDATE 문 수
+		private final long elapsedMs;
+		private final double rowsPerSecond;
+		private final boolean backlog;      // 한 번 실행 상한에 걸려 남은 행이 있음
+		private final long lagSeconds;      // 남은 정리 대상 중 가장 오래된 행이 대상이 된 지 지난 시간 (없으면 0)
+		private final String error;         // 실패 시 메시지
+	}
+}
@@ -0,0 +1,231 @@
+package com.dialog.maintenance.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.dialog.keyword.repository.KeywordRepository;
+import com.dialog.keyword.service.KeywordService;
+import com.dialog.maintenance.domain.PurgeCategory;
+import com.dialog.maintenance.domain.PurgeReportDto;
+import com.dialog.token.repository.RefreshTokenRepository;
+import com.dialog.token.repository.RevokedAccessTokenRepository;
+import com.dialog.transcript.repository.TranscriptRepository;
+import com.dialog.user.repository.MeetUserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 만료/고아 데이터 주기 정리
+// 대상마다 "DELETE ... LIMIT N" 을 여러 번 나눠 실행하고 사이에 잠깐 쉬어서,
+// 한 문장이 많은 행을 오래 잠그거나 복제 지연을 만들지 않도록 함 (각 문장은 별도 트랜잭션)
+// 스케줄러 스레드(다른 @Scheduled 작업과 공유)를 잡지 않도록 전용 실행기에서 돌리고, 동시에 한 번만 실행
+@Slf4j
+@Service
+public class DataPurgeService {
+
+	private final RefreshTokenRepository refreshTokenRepository;
+	private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+	private final MeetUserRepository meetUserRepository;
+	private final TranscriptRepository transcriptRepository;
+	private final KeywordRepository keywordRepository;
+	private final KeywordService keywordService;
+	private final ThreadPoolTaskExecutor maintenanceExecutor;
+
+	// 한 문장에서 지우는 최대 행 수
+	private final int chunkSize;
+	// 문장 사이 대기 시간
+	private final long pauseMs;
+	// 대상별 1회 실행 최대 문장 수 (넘으면 다음 실행으로 미룸)
+	private final int maxChunksPerRun;
+	// 삭제(숨김)한 발화를 되돌릴 수 있도록 보관하는 기간
+	private final Duration transcriptRetention;
+	// 막 생성되어 아직 회의 결과에 연결되지 않은 키워드를 지우지 않도록 두는 유예 시간
+	private final Duration keywordGrace;
+
+	private final AtomicBoolean running = new AtomicBoolean();
+	private volatile PurgeReportDto lastReport;
+
+	public DataPurgeService(RefreshTokenRepository refreshTokenRepository,
+			RevokedAccessTokenRepository revokedAccessTokenRepository,
+			MeetUserRepository meetUserRepository,
+			TranscriptRepository transcriptRepository,
+			KeywordRepository keywordRepository,
+			KeywordService keywordService,
+			@Qualifier("maintenanceExecutor") ThreadPoolTaskExecutor maintenanceExecutor,
+			@Value("${maintenance.purge.chunk-size:1000}") int chunkSize,
+			@Value("${maintenance.purge.pause-ms:200}") long pauseMs,
+			@Value("${maintenance.purge.max-chunks-per-run:500}") int maxChunksPerRun,
+			@Value("${maintenance.purge.transcript-retention-days:30}") long transcriptRetentionDays,
+			@Value("${maintenance.purge.keyword-grace-minutes:60}") long keywordGraceMinutes) {
+		this.refreshTokenRepository = refreshTokenRepository;
+		this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+		this.meetUserRepository = meetUserRepository;
+		this.transcriptRepository = transcriptRepository;
+		this.keywordRepository = keywordRepository;
+		this.keywordService = keywordService;
+		this.maintenanceExecutor = maintenanceExecutor;
+		this.chunkSize = chunkSize;
+		this.pauseMs = pauseMs;
+		this.maxChunksPerRun = maxChunksPerRun;
+		this.transcriptRetention = Duration.ofDays(transcriptRetentionDays);
+		this.keywordGrace = Duration.ofMinutes(keywordGraceMinutes);
+	}
+
+	@Scheduled(cron = "${maintenance.purge.cron:0 30 3 * * *}")
+	public void scheduledPurge() {
+		if (!start(EnumSet.allOf(PurgeCategory.class), "scheduled")) {
+			log.info("이전 정리 작업이 아직 실행 중이라 이번 예약 실행은 건너뜁니다.");
+		}
+	}
+
+	// 정리 작업 시작 (비동기), 이미 실행 중이면 false
+	public boolean start(Collection<PurgeCategory> categories, String trigger) {
+		if (!running.compareAndSet(false, true)) {
+			return false;
+		}
+		Set<PurgeCategory> targets = categories.isEmpty()
+				? EnumSet.allOf(PurgeCategory.class)
+				: EnumSet.copyOf(categories);
+		try {
+			maintenanceExecutor.execute(() -> {
+				try {
+					lastReport = run(targets, trigger);
+				} finally {
+					running.set(false);
+				}
+			});
+		} catch (RuntimeException e) {
+			running.set(false);
+			throw e;
+		}
+		return true;
+	}
+
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	public Optional<PurgeReportDto> getLastReport() {
+		return Optional.ofNullable(lastReport);
+	}
+
+	private PurgeReportDto run(Set<PurgeCategory> categories, String trigger) {
+		LocalDateTime startedAt = LocalDateTime.now();
+		List<PurgeReportDto.CategoryResult> results = new ArrayList<>();
+		for (PurgeCategory category : categories) {
+			PurgeReportDto.CategoryResult result = purge(category);
+			results.add(result);
+			if (result.getError() != null) {
+				log.warn("[정리] {} 실패 - {}건 처리 후 중단: {}", category, result.getRows(), result.getError());
+			} else {
+				log.info("[정리] {} - {}건, {}회, {}ms, {}건/s, 지연 {}s{}", category, result.getRows(),
+						result.getChunks(), result.getElapsedMs(), String.format("%.1f", result.getRowsPerSecond()),
+						result.getLagSeconds(), result.isBacklog() ? " (남은 행 있음)" : "");
+			}
+			if (Thread.currentThread().isInterrupted()) {
+				break;
+			}
+		}
+		return PurgeReportDto.builder()
+				.trigger(trigger)
+				.startedAt(startedAt)
+				.finishedAt(LocalDateTime.now())
+				.results(results)
+				.build();
+	}
+
+	// 대상 하나를 chunkSize 단위로 정리 (기준 시각은 시작 시점에 고정)
+	private PurgeReportDto.CategoryResult purge(PurgeCategory category) {
+		LocalDateTime cutoff = cutoffFor(category, LocalDateTime.now());
+		long startNanos = System.nanoTime();
+		long rows = 0;
+		int chunks = 0;
+		boolean backlog = false;
+		String error = null;
+		try {
+			while (true) {
+				int deleted = deleteChunk(category, cutoff);
+				rows += deleted;
+				chunks++;
+				if (category == PurgeCategory.ORPHAN_KEYWORD && deleted > 0) {
+					// 방금 지운 키워드 ID 가 다음 청크까지 이름 -> ID 캐시에 남지 않도록 청크마다 비움
+					keywordService.clearCache();
+				}
+				if (deleted < chunkSize) {
+					break;
+				}
+				if (chunks >= maxChunksPerRun) {
+					backlog = true;
+					break;
+				}
+				Thread.sleep(pauseMs);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			backlog = true;
+		} catch (DataAccessException e) {
+			error = e.getMessage();
+		}
+		long elapsedMs = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+
+		return PurgeReportDto.CategoryResult.builder()
+				.category(category)
+				.rows(rows)
+				.chunks(chunks)
+				.elapsedMs(elapsedMs)
+				.rowsPerSecond(elapsedMs == 0 ? rows : rows * 1000.0 / elapsedMs)
+				.backlog(backlog)
+				.lagSeconds(lagSeconds(category, cutoff))
+				.error(error)
+				.build();
+	}
+
+	// 이 시각 이전에 대상이 된 행만 정리
+	private LocalDateTime cutoffFor(PurgeCategory category, LocalDateTime now) {
+		return switch (category) {
+			case DELETED_TRANSCRIPT -> now.minus(transcriptRetention);
+			case ORPHAN_KEYWORD -> now.minus(keywordGrace);
+			default -> now;
+		};
+	}
+
+	private int deleteChunk(PurgeCategory category, LocalDateTime cutoff) {
+		return switch (category) {
+			case REFRESH_TOKEN -> refreshTokenRepository.deleteExpiredChunk(cutoff, chunkSize);
+			case REVOKED_ACCESS_TOKEN -> revokedAccessTokenRepository.deleteExpiredChunk(cutoff, chunkSize);
+			case PASSWORD_RESET_TOKEN -> meetUserRepository.clearExpiredResetTokensChunk(cutoff, chunkSize);
+			case DELETED_TRANSCRIPT -> transcriptRepository.deleteSoftDeletedChunk(cutoff, chunkSize);
+			case ORPHAN_KEYWORD -> keywordRepository.deleteOrphanChunk(cutoff, chunkSize);
+		};
+	}
+
+	// 남은 정리 대상 중 가장 오래된 행이 대상이 된 뒤 지난 시간 (초)
+	private long lagSeconds(PurgeCategory category, LocalDateTime cutoff) {
+		try {
+			LocalDateTime oldest = switch (category) {
+				case REFRESH_TOKEN -> refreshTokenRepository.findOldestExpiredAt(cutoff);
+				case REVOKED_ACCESS_TOKEN -> revokedAccessTokenRepository.findOldestExpiredAt(cutoff);
+				case PASSWORD_RESET_TOKEN -> meetUserRepository.findOldestExpiredResetTokenAt(cutoff);
+				case DELETED_TRANSCRIPT -> transcriptRepository.findOldestSoftDeletedAt(cutoff);
+				case ORPHAN_KEYWORD -> keywordRepository.findOldestOrphanCreatedAt(cutoff);
+			};
+			return oldest == null ? 0 : Math.max(0, Duration.between(oldest, cutoff).getSeconds());
+		} catch (DataAccessException e) {
+			log.debug("[정리] {} 지연 계산 실패: {}", category, e.getMessage());
+			return -1;
+		}
+	}
+}
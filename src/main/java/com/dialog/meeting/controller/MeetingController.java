@@ -1,10 +1,11 @@
 package com.dialog.meeting.controller;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -17,13 +18,21 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.dialog.exception.AccessDeniedException;
+import com.dialog.exception.TranscriptVersionConflictException;
 import com.dialog.meeting.domain.MeetingCreateRequestDto;
 import com.dialog.meeting.domain.MeetingCreateResponseDto;
 import com.dialog.meeting.domain.MeetingFinishRequestDto;
 import com.dialog.meeting.domain.MeetingUpdateResultDto;
+import com.dialog.meeting.domain.SummaryJob;
+import com.dialog.meeting.domain.SummaryJobResponseDto;
 import com.dialog.meeting.service.MeetingService;
+import com.dialog.meeting.service.SummaryJobService;
 import com.dialog.security.oauth2.CustomOAuth2User;
+import com.dialog.transcript.domain.TranscriptPatchDto;
+import com.dialog.transcript.domain.TranscriptPatchResultDto;
 import com.dialog.user.service.CustomUserDetails;
 
 import lombok.RequiredArgsConstructor;
@@ -36,6 +45,7 @@ import lombok.extern.slf4j.Slf4j;
 public class MeetingController {
 
 	private final MeetingService meetingService;
+	private final SummaryJobService summaryJobService;
 
 	// 새 회의 생성
 	@PostMapping
@@ -99,6 +109,36 @@ public class MeetingController {
 		}
 	}
 
+	// 회의 녹음 시작 (상태: SCHEDULED -> RECORDING)
+	// 이후 /ws/meetings/{meetingId}/transcripts 로 실시간 발화 전송 가능
+	@PostMapping("/{meetingId}/start")
+	public ResponseEntity<?> startRecording(@PathVariable("meetingId") Long meetingId,
+			Authentication authentication) {
+		if (authentication == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+		}
+
+		Object principal = authentication.getPrincipal();
+		Long currentUserId;
+
+		if (principal instanceof CustomOAuth2User) {
+			currentUserId = ((CustomOAuth2User) principal).getMeetuser().getId();
+		} else if (principal instanceof CustomUserDetails) {
+			currentUserId = ((CustomUserDetails) principal).getId();
+		} else {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("잘못된 인증 정보입니다.");
+		}
+
+		try {
+			meetingService.startRecording(meetingId, currentUserId);
+			log.info("회의 녹음 시작 - meetingId: {}", meetingId);
+			return ResponseEntity.ok().build();
+		} catch (IllegalArgumentException e) {
+			log.error("회의 녹음 시작 실패: {}", e.getMessage());
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+
 	@PostMapping("/{meetingId}/finish")
 	public ResponseEntity<?> finishMeeting(@PathVariable("meetingId") Long meetingId,
 			@RequestBody MeetingFinishRequestDto requestDto) {
@@ -151,6 +191,8 @@ public class MeetingController {
 
 			return ResponseEntity.ok().body("회의 결과가 성공적으로 저장되었습니다.");
 
+		} catch (TranscriptVersionConflictException e) {
+			throw e; // 409 응답은 GlobalExceptionHandler에서 처리
 		} catch (IllegalArgumentException e) {
 			log.error("회의 결과 저장 실패 (잘못된 요청): {}", e.getMessage());
 			return ResponseEntity.badRequest().body(e.getMessage());
@@ -160,6 +202,31 @@ public class MeetingController {
 		}
 	}
 
+	// 발화 변경분 패치 (변경된 발화만 전송, baseVersion 불일치 시 409)
+	// PATCH /api/meetings/{meetingId}/transcripts
+	@PatchMapping("/{meetingId}/transcripts")
+	public ResponseEntity<?> patchTranscripts(@PathVariable("meetingId") Long meetingId,
+			@RequestBody TranscriptPatchDto patch,
+			Authentication authentication) {
+		if (authentication == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+		}
+
+		Object principal = authentication.getPrincipal();
+		Long currentUserId;
+
+		if (principal instanceof CustomOAuth2User) {
+			currentUserId = ((CustomOAuth2User) principal).getMeetuser().getId();
+		} else if (principal instanceof CustomUserDetails) {
+			currentUserId = ((CustomUserDetails) principal).getId();
+		} else {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("잘못된 인증 정보입니다.");
+		}
+
+		TranscriptPatchResultDto result = meetingService.patchTranscripts(meetingId, patch, currentUserId);
+		return ResponseEntity.ok(result);
+	}
+
   // 회의 삭제 엔드포인트
   @DeleteMapping("/{meetingId}")
   public ResponseEntity<?> deleteMeeting(@PathVariable("meetingId") Long meetingId) {
@@ -176,34 +243,59 @@ public class MeetingController {
       }
   }
 	
-	  // AI 요약 생성 요청
-    // POST /api/meetings/summarize?meetingId={id}
-    @PostMapping("/summarize")
-    public ResponseEntity<?> generateSummary(@RequestParam("meetingId") Long meetingId) {
-        try {
-            log.info("AI 요약 생성 요청 - meetingId: {}", meetingId);
-            
-            // 1. 서비스 호출 (이제 DB 저장을 안 하고 Map만 리턴함)
-            Map<String, Object> resultData = meetingService.generateAISummary(meetingId);
-            
-            // 2. 프론트엔드 응답 구조 맞추기
-            // 서비스에서 이미 필요한 데이터를 Map으로 만들어서 줬으므로 구조만 맞춰서 반환
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("summary", resultData); 
-            
-            return ResponseEntity.ok(response);
+	// AI 요약 작업 등록 (즉시 작업 ID 반환, 결과는 폴링 또는 SSE로 조회)
+	// POST /api/meetings/summarize?meetingId={id}
+	@PostMapping("/summarize")
+	public ResponseEntity<?> generateSummary(@RequestParam("meetingId") Long meetingId,
+			Authentication authentication) {
+		try {
+			log.info("AI 요약 작업 요청 - meetingId: {}", meetingId);
+			SummaryJob job = summaryJobService.submit(meetingId, currentUserIdOf(authentication));
+			return ResponseEntity.status(HttpStatus.ACCEPTED).body(SummaryJobResponseDto.from(job));
+
+		} catch (IllegalArgumentException e) {
+			log.error("요약 작업 등록 실패 (잘못된 요청): {}", e.getMessage());
+			return ResponseEntity.badRequest().body(e.getMessage());
+		} catch (AccessDeniedException e) {
+			return ResponseEntity.status(HttpStatus.FORBIDDEN).body(e.getMessage());
+		} catch (TaskRejectedException e) {
+			log.warn("요약 작업 대기열 초과 - meetingId: {}", meetingId);
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+					.body("요약 요청이 많아 잠시 후 다시 시도해주세요.");
+		} catch (Exception e) {
+			log.error("요약 작업 등록 중 서버 오류", e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body("서버 오류가 발생했습니다: " + e.getMessage());
+		}
+	}
+
+	// AI 요약 작업 상태 조회 (폴링)
+	// GET /api/meetings/summarize/jobs/{jobId}
+	@GetMapping("/summarize/jobs/{jobId}")
+	public ResponseEntity<SummaryJobResponseDto> getSummaryJob(@PathVariable("jobId") String jobId,
+			Authentication authentication) {
+		return ResponseEntity.ok(SummaryJobResponseDto.from(
+				summaryJobService.getJob(jobId, currentUserIdOf(authentication))));
+	}
+
+	// AI 요약 작업 상태 스트리밍 (SSE, 이벤트 이름: status)
+	// GET /api/meetings/summarize/jobs/{jobId}/events
+	@GetMapping(value = "/summarize/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamSummaryJob(@PathVariable("jobId") String jobId, Authentication authentication) {
+		return summaryJobService.subscribe(jobId, currentUserIdOf(authentication));
+	}
+
+	// 현재 로그인 사용자 ID (알 수 없는 인증 방식이면 null)
+	private Long currentUserIdOf(Authentication authentication) {
+		Object principal = authentication != null ? authentication.getPrincipal() : null;
+		if (principal instanceof CustomOAuth2User) {
+			return ((CustomOAuth2User) principal).getMeetuser().getId();
+		} else if (principal instanceof CustomUserDetails) {
+			return ((CustomUserDetails) principal).getId();
+		}
+		return null;
+	}
 
-        } catch (IllegalArgumentException e) {
-            log.error("요약 생성 실패 (잘못된 요청): {}", e.getMessage());
-            return ResponseEntity.badRequest().body(e.getMessage());
-        } catch (Exception e) {
-            log.error("요약 생성 중 서버 오류", e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("서버 오류가 발생했습니다: " + e.getMessage());
-        }
-    }
-    
     // 전체 액션 아이템 생성 요청 (generate-all-actions 추가)
     @PostMapping("/generate-all-actions")
     public ResponseEntity<?> generateAllActions(
@@ -88,6 +88,13 @@ public class Meeting {
 	@Column(name = "highlight_keywords")
 	private String highlightKeywords;
 
+	// 발화 목록 버전 (발화가 바뀔 때마다 1씩 증가, 변경분 패치의 baseVersion 비교용)
+	// TranscriptVersionService 의 UPDATE 쿼리로만 증가시키고, 엔티티 flush 로 덮어쓰지 않도록 updatable = false
+	@Column(name = "transcript_version", nullable = false, updatable = false,
+			columnDefinition = "BIGINT NOT NULL DEFAULT 0")
+	@Builder.Default
+	private long transcriptVersion = 0L;
+
 	// --- 연관 관계 ---
 
 	@OneToMany(mappedBy = "meeting", fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
@@ -125,6 +132,11 @@ public class Meeting {
 		this.endedAt = LocalDateTime.now();
 	}
 
+	// UPDATE 쿼리로 증가시킨 버전을 메모리의 엔티티에만 반영 (컬럼이 updatable = false 라 추가 UPDATE 없음)
+	public void syncTranscriptVersion(long transcriptVersion) {
+		this.transcriptVersion = transcriptVersion;
+	}
+
 	public void toggleImportance() {
 		this.isImportant = !this.isImportant;
 	}
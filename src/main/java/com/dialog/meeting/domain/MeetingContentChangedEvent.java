@@ -0,0 +1,28 @@
+package com.dialog.meeting.domain;
+
+import lombok.Getter;
+
+// 회의의 발화 로그나 요약/안건이 저장, 수정, 삭제되었을 때 발행하는 이벤트
+// 검색 색인 등 회의 내용을 따로 가공해 두는 쪽에서 구독함
+@Getter
+public class MeetingContentChangedEvent {
+
+	private final Long meetingId;
+
+	// 녹음 중 새 발화가 뒤에 추가되기만 한 경우 (기존 발화/요약은 그대로)
+	// 검색 색인은 이때 새 발화만 추가하고, 그 밖의 변경은 회의 전체를 다시 만듦
+	private final boolean transcriptsAppendedOnly;
+
+	public MeetingContentChangedEvent(Long meetingId) {
+		this(meetingId, false);
+	}
+
+	private MeetingContentChangedEvent(Long meetingId, boolean transcriptsAppendedOnly) {
+		this.meetingId = meetingId;
+		this.transcriptsAppendedOnly = transcriptsAppendedOnly;
+	}
+
+	public static MeetingContentChangedEvent transcriptsAppended(Long meetingId) {
+		return new MeetingContentChangedEvent(meetingId, true);
+	}
+}
@@ -22,6 +22,7 @@ public class MeetingCreateResponseDto {
     private String title;     // 생성된 회의 제목
     private Status status;    // 현재 상태 (예: SCHEDULED)
     private LocalDateTime scheduledAt; // 예약 시간
+    private long transcriptVersion;    // 발화 목록 버전 (발화 패치 baseVersion)
     private List<String> participants; // 참가자 이름 리스트
     private List<KeywordDto> keywords; // 키워드 리스트
     private String authorName;         // 작성자 이름 관련 변수 추가
@@ -82,6 +83,7 @@ public class MeetingCreateResponseDto {
     this.title = meeting.getTitle();
     this.status = meeting.getStatus();
     this.scheduledAt = meeting.getScheduledAt();
+    this.transcriptVersion = meeting.getTranscriptVersion();
     
     // 참가자 Null 방지
     if (meeting.getParticipants() != null) {
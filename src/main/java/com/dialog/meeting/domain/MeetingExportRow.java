@@ -0,0 +1,34 @@
+package com.dialog.meeting.domain;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 관리자 회의 내보내기용 행 (JPQL 생성자 프로젝션으로 조회해 엔티티를 영속성 컨텍스트에 쌓지 않음)
+@Getter
+@AllArgsConstructor
+public class MeetingExportRow {
+
+	public static final List<String> CSV_HEADER = List.of("id", "title", "status", "scheduledAt", "startedAt",
+			"endedAt", "important", "hostUserId", "hostName", "hostEmail", "createdAt");
+
+	private final Long id;
+	private final String title;
+	private final Status status;
+	private final LocalDateTime scheduledAt;
+	private final LocalDateTime startedAt;
+	private final LocalDateTime endedAt;
+	private final boolean important;
+	private final Long hostUserId;
+	private final String hostName;
+	private final String hostEmail;
+	private final LocalDateTime createdAt;
+
+	public List<Object> toCsvColumns() {
+		return Arrays.asList(id, title, status, scheduledAt, startedAt, endedAt, important, hostUserId, hostName,
+				hostEmail, createdAt);
+	}
+}
@@ -2,6 +2,7 @@ package com.dialog.meeting.domain;
 
 import java.util.List;
 
+import com.dialog.transcript.domain.TranscriptPatchDto;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
 import lombok.Getter;
@@ -25,6 +26,8 @@ public class MeetingUpdateResultDto {
     private List<KeywordDto> keywords;
     private List<ActionItemDto> actionItems;
     private List<TranscriptDto> transcripts;
+    // 변경분만 보내는 발화 패치 (있으면 transcripts 대신 사용)
+    private TranscriptPatchDto transcriptPatch;
     
     @Getter
     @Setter
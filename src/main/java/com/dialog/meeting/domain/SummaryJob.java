@@ -0,0 +1,44 @@
+package com.dialog.meeting.domain;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.Getter;
+
+// AI 요약 비동기 작업 (메모리에만 보관, DB 엔티티 아님)
+// 요청 스레드와 작업 스레드가 동시에 읽으므로 상태 필드는 volatile + synchronized 변경
+@Getter
+public class SummaryJob {
+
+	private final String jobId;
+	private final Long meetingId;
+	private final LocalDateTime createdAt;
+
+	private volatile SummaryJobStatus status = SummaryJobStatus.QUEUED;
+	private volatile Map<String, Object> summary;
+	private volatile String error;
+	private volatile LocalDateTime finishedAt;
+
+	public SummaryJob(Long meetingId) {
+		this.jobId = UUID.randomUUID().toString();
+		this.meetingId = meetingId;
+		this.createdAt = LocalDateTime.now();
+	}
+
+	public synchronized void start() {
+		this.status = SummaryJobStatus.RUNNING;
+	}
+
+	public synchronized void complete(Map<String, Object> summary) {
+		this.summary = summary;
+		this.status = SummaryJobStatus.COMPLETED;
+		this.finishedAt = LocalDateTime.now();
+	}
+
+	public synchronized void fail(String error) {
+		this.error = error;
+		this.status = SummaryJobStatus.FAILED;
+		this.finishedAt = LocalDateTime.now();
+	}
+}
@@ -0,0 +1,35 @@
+package com.dialog.meeting.domain;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import lombok.Builder;
+import lombok.Getter;
+
+// AI 요약 작업 상태 응답 (폴링 / SSE 공통)
+@Getter
+@Builder
+public class SummaryJobResponseDto {
+
+	private final boolean success;
+	private final String jobId;
+	private final Long meetingId;
+	private final SummaryJobStatus status;
+	private final Map<String, Object> summary; // COMPLETED 일 때만 채워짐 (기존 /summarize 응답의 summary와 동일 구조)
+	private final String error;                 // FAILED 일 때만 채워짐
+	private final LocalDateTime createdAt;
+	private final LocalDateTime finishedAt;
+
+	public static SummaryJobResponseDto from(SummaryJob job) {
+		return SummaryJobResponseDto.builder()
+				.success(job.getStatus() != SummaryJobStatus.FAILED)
+				.jobId(job.getJobId())
+				.meetingId(job.getMeetingId())
+				.status(job.getStatus())
+				.summary(job.getSummary())
+				.error(job.getError())
+				.createdAt(job.getCreatedAt())
+				.finishedAt(job.getFinishedAt())
+				.build();
+	}
+}
@@ -0,0 +1,13 @@
+package com.dialog.meeting.domain;
+
+// AI 요약 비동기 작업 상태
+public enum SummaryJobStatus {
+	QUEUED,     // 실행 대기
+	RUNNING,    // FastAPI 요약 진행 중
+	COMPLETED,  // 요약 완료 (결과 조회 가능)
+	FAILED;     // 실패 (error 메시지 확인)
+
+	public boolean isFinished() {
+		return this == COMPLETED || this == FAILED;
+	}
+}
@@ -1,16 +1,25 @@
 package com.dialog.meeting.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.dialog.meeting.domain.Meeting;
+import com.dialog.meeting.domain.MeetingExportRow;
 import com.dialog.meeting.domain.Status;
 import com.dialog.user.domain.MeetUser;
 
+import jakarta.persistence.QueryHint;
+
 public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
     void deleteByHostUser(MeetUser user);
@@ -36,6 +45,9 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
     // 특정 사용자의 회의 목록 조회 (예약 시간 내림차순 정렬)
     List<Meeting> findAllByHostUser_IdOrderByScheduledAtDesc(Long hostUserId);
 
+    // 회의 주최자 여부 확인 (요약 작업 조회 권한 확인용)
+    boolean existsByIdAndHostUser_Id(Long meetingId, Long hostUserId);
+
     // 특정 유저의 기간 내 모든 회의 리스트 조회 (총 참여 시간 계산용)
     List<Meeting> findAllByHostUserAndScheduledAtBetween(MeetUser hostUser, LocalDateTime start, LocalDateTime end);
 
@@ -44,5 +56,43 @@ public interface MeetingRepository extends JpaRepository<Meeting, Long> {
 
     // 특정 유저의 기간 내 특정 상태(예: COMPLETED)인 회의 개수 조회 
     long countByHostUserAndStatusAndScheduledAtBetween(MeetUser hostUser, Status status, LocalDateTime start, LocalDateTime end);
-  
-}
\ No newline at end of file
+
+    // 목록 조회 1단계: 회의 ID만 먼저 조회 (연관관계는 아래 IN 배치 쿼리로 초기화)
+    @Query("SELECT m.id FROM Meeting m ORDER BY m.id")
+    List<Long> findAllIds();
+
+    // 회의 + 작성자 + 결과 + 녹음 (to-one 관계는 한 번에 fetch join)
+    // meetingResult, recording은 mappedBy 쪽 1:1이라 LAZY가 동작하지 않으므로 반드시 함께 가져와야 N+1이 생기지 않음
+    @Query("SELECT m FROM Meeting m LEFT JOIN FETCH m.hostUser LEFT JOIN FETCH m.meetingResult LEFT JOIN FETCH m.recording "
+            + "WHERE m.id IN :ids ORDER BY m.id")
+    List<Meeting> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 참석자 컬렉션 초기화용 (결과는 영속성 컨텍스트의 같은 Meeting 인스턴스에 채워짐)
+    @Query("SELECT DISTINCT m FROM Meeting m LEFT JOIN FETCH m.participants WHERE m.id IN :ids")
+    List<Meeting> fetchParticipantsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 발화 버전 조건부 증가 (baseVersion이 현재 버전과 같을 때만 1 증가, 0 반환 시 충돌)
+    @Modifying
+    @Query("UPDATE Meeting m SET m.transcriptVersion = m.transcriptVersion + 1 "
+            + "WHERE m.id = :meetingId AND m.transcriptVersion = :baseVersion")
+    int increaseTranscriptVersion(@Param("meetingId") Long meetingId, @Param("baseVersion") long baseVersion);
+
+    // 발화 버전 무조건 증가 (baseVersion 없이 발화를 바꾸는 쓰기 경로)
+    @Modifying
+    @Query("UPDATE Meeting m SET m.transcriptVersion = m.transcriptVersion + 1 WHERE m.id = :meetingId")
+    int increaseTranscriptVersion(@Param("meetingId") Long meetingId);
+
+    @Query("SELECT m.transcriptVersion FROM Meeting m WHERE m.id = :meetingId")
+    Optional<Long> findTranscriptVersionById(@Param("meetingId") Long meetingId);
+
+    // 관리자 내보내기용 전방향 커서 조회 (반드시 트랜잭션 안에서 try-with-resources로 닫아야 함)
+    // MySQL 드라이버는 fetchSize = Integer.MIN_VALUE 일 때만 결과를 한 번에 올리지 않고 행 단위로 스트리밍
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT new com.dialog.meeting.domain.MeetingExportRow(m.id, m.title, m.status, m.scheduledAt, m.startedAt, "
+            + "m.endedAt, m.isImportant, h.id, h.name, h.email, m.createdAt) "
+            + "FROM Meeting m LEFT JOIN m.hostUser h ORDER BY m.id")
+    Stream<MeetingExportRow> streamAllForExport();
+
+}
@@ -9,15 +9,19 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import com.dialog.actionitem.domain.ActionItem;
+import com.dialog.aicache.service.AiResponseCacheService;
 import com.dialog.actionitem.repository.ActionItemRepository;
 import com.dialog.calendarevent.domain.CalendarEvent;
 import com.dialog.calendarevent.domain.EventType;
@@ -27,12 +31,15 @@ import com.dialog.keyword.domain.KeywordSource;
 import com.dialog.keyword.domain.MeetingResultKeyword;
 import com.dialog.keyword.repository.KeywordRepository;
 import com.dialog.keyword.repository.MeetingResultKeywordRepository;
+import com.dialog.keyword.service.KeywordService;
 import com.dialog.meeting.domain.AISummaryResponse;
 import com.dialog.meeting.domain.Meeting;
+import com.dialog.meeting.domain.MeetingContentChangedEvent;
 import com.dialog.meeting.domain.MeetingCreateRequestDto;
 import com.dialog.meeting.domain.MeetingCreateResponseDto;
 import com.dialog.meeting.domain.MeetingFinishRequestDto;
 import com.dialog.meeting.domain.MeetingUpdateResultDto;
+import com.dialog.meeting.domain.Status;
 import com.dialog.meeting.repository.MeetingRepository;
 import com.dialog.meetingresult.domain.ImportanceLevel;
 import com.dialog.meetingresult.domain.MeetingResult;
@@ -42,10 +49,18 @@ import com.dialog.participant.repository.ParticipantRepository;
 import com.dialog.recording.domain.Recording;
 import com.dialog.recording.repository.RecordingRepository;
 import com.dialog.transcript.domain.Transcript;
+import com.dialog.transcript.domain.TranscriptPatchDto;
+import com.dialog.transcript.domain.TranscriptPatchResultDto;
+import com.dialog.transcript.repository.TranscriptBulkRepository;
 import com.dialog.transcript.repository.TranscriptRepository;
+import com.dialog.transcript.service.LiveTranscriptService;
+import com.dialog.transcript.service.TranscriptPatchService;
+import com.dialog.transcript.service.TranscriptVersionService;
 import com.dialog.user.domain.MeetUser;
 import com.dialog.user.repository.MeetUserRepository;
+import com.dialog.user.service.AssigneeResolver;
 
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -55,16 +70,33 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class MeetingService {
 
+	// 목록 조회 시 IN 절 하나에 담을 회의 ID 개수
+	private static final int READ_BATCH_SIZE = 500;
+
+	// FastAPI 엔드포인트 경로 (AI 응답 캐시 키에도 사용)
+	private static final String SUMMARY_ENDPOINT = "/summary/generate";
+	private static final String ACTIONS_ENDPOINT = "/actions/generate";
+
 	private final MeetingRepository meetingRepository;
 	private final MeetingResultRepository meetingResultRepository;
 	private final MeetingResultKeywordRepository meetingResultKeywordRepository;
 	private final MeetUserRepository meetUserRepository;
 	private final ParticipantRepository participantRepository;
 	private final KeywordRepository keywordRepository;
+	private final KeywordService keywordService;
 	private final RecordingRepository recordingRepository;
 	private final TranscriptRepository transcriptRepository;
+	private final TranscriptBulkRepository transcriptBulkRepository;
 	private final CalendarEventRepository calendarEventRepository;
 	private final ActionItemRepository actionItemRepository;
+	private final EntityManager entityManager;
+	private final AiResponseCacheService aiResponseCacheService;
+	private final SummaryChunkService summaryChunkService;
+	private final LiveTranscriptService liveTranscriptService;
+	private final TranscriptPatchService transcriptPatchService;
+	private final TranscriptVersionService transcriptVersionService;
+	private final AssigneeResolver assigneeResolver;
+	private final ApplicationEventPublisher eventPublisher;
 
 	private final RestTemplate restTemplate;
 	@Value("${fastapi.base-url}")
@@ -128,19 +160,88 @@ public class MeetingService {
 
 	// 2. 회의 단건 조회
 	public MeetingCreateResponseDto findById(Long meetingId) {
+		List<MeetingCreateResponseDto> found = findMeetingDtos(List.of(meetingId));
+		if (found.isEmpty()) {
+			throw new IllegalArgumentException("회의를 찾을 수 없습니다.");
+		}
+		return found.get(0);
+	}
+
+	// 3. 전체 회의 조회
+	public List<MeetingCreateResponseDto> getAllMeetings() {
+		// ID 먼저 조회 후 연관관계는 IN 배치로 초기화
+		// 쿼리 수는 회의 수가 아니라 배치 수에 비례: ID 1번 + 배치(500건)마다 최대 4번
+		return findMeetingDtos(meetingRepository.findAllIds());
+	}
+
+	// 회의 ID 목록 -> 응답 DTO 변환
+	// 배치마다 회의(+작성자/결과/녹음), 참석자, 키워드, 액션 아이템을 각각 한 번의 쿼리로 초기화한 뒤
+	// 트랜잭션 안에서 DTO 매핑까지 끝내므로 직렬화 시점에는 지연 로딩이 발생하지 않습니다.
+	private List<MeetingCreateResponseDto> findMeetingDtos(List<Long> meetingIds) {
+		List<MeetingCreateResponseDto> dtos = new ArrayList<>(meetingIds.size());
+
+		for (int from = 0; from < meetingIds.size(); from += READ_BATCH_SIZE) {
+			List<Long> batchIds = meetingIds.subList(from, Math.min(from + READ_BATCH_SIZE, meetingIds.size()));
+
+			List<Meeting> meetings = meetingRepository.findAllWithDetailsByIdIn(batchIds);
+			if (meetings.isEmpty()) {
+				continue;
+			}
+			meetingRepository.fetchParticipantsByIdIn(batchIds);
+
+			List<Long> resultMeetingIds = meetings.stream()
+					.filter(m -> m.getMeetingResult() != null)
+					.map(Meeting::getId)
+					.collect(Collectors.toList());
+			if (!resultMeetingIds.isEmpty()) {
+				meetingResultRepository.fetchKeywordsByMeetingIdIn(resultMeetingIds);
+				meetingResultRepository.fetchActionItemsByMeetingIdIn(resultMeetingIds);
+			}
+
+			meetings.stream().map(MeetingCreateResponseDto::new).forEach(dtos::add);
+
+			// 읽기 전용 조회이므로 배치가 끝나면 영속성 컨텍스트를 비워 메모리 사용량을 배치 크기로 제한
+			entityManager.clear();
+		}
+		return dtos;
+	}
+
+	// 발화 변경분 패치 (PATCH /api/meetings/{meetingId}/transcripts)
+	@Transactional
+	public TranscriptPatchResultDto patchTranscripts(Long meetingId, TranscriptPatchDto patch, Long currentUserId) {
 		Meeting meeting = meetingRepository.findById(meetingId)
 				.orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다."));
 
-		// 생성자 하나로 모든 데이터 매핑 처리
-		return new MeetingCreateResponseDto(meeting);
+		if (!meeting.getHostUser().getId().equals(currentUserId)) {
+			throw new IllegalArgumentException("이 회의를 수정할 권한이 없습니다.");
+		}
+
+		// 표시 이름만 온 발화의 화자 ID 보정용
+		Map<String, String> speakerIdsByName = new HashMap<>();
+		for (Participant p : meeting.getParticipants()) {
+			speakerIdsByName.put(p.getName(), p.getSpeakerId());
+		}
+		TranscriptPatchResultDto result = transcriptPatchService.apply(meeting, patch, speakerIdsByName);
+		eventPublisher.publishEvent(new MeetingContentChangedEvent(meetingId));
+		return result;
 	}
 
-	// 3. 전체 회의 조회
-	public List<MeetingCreateResponseDto> getAllMeetings() {
-		List<Meeting> meetings = meetingRepository.findAll();
+	// 회의 녹음 시작 (RECORDING 상태가 되어야 실시간 발화 수신 가능)
+	@Transactional
+	public void startRecording(Long meetingId, Long currentUserId) {
+		Meeting meeting = meetingRepository.findById(meetingId)
+				.orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다. ID: " + meetingId));
 
-		// 생성자 사용
-		return meetings.stream().map(MeetingCreateResponseDto::new).collect(Collectors.toList());
+		if (!meeting.getHostUser().getId().equals(currentUserId)) {
+			throw new IllegalArgumentException("이 회의를 시작할 권한이 없습니다.");
+		}
+		if (meeting.getStatus() == Status.RECORDING) {
+			return;
+		}
+		if (meeting.getStatus() != Status.SCHEDULED) {
+			throw new IllegalArgumentException("예정된 회의만 시작할 수 있습니다. 현재 상태: " + meeting.getStatus());
+		}
+		meeting.startRecording();
 	}
 
 	// 4. 회의 종료 처리 (상태 변경, 녹음 및 스크립트 저장)
@@ -162,20 +263,25 @@ public class MeetingService {
 			}
 		}
 
-		// 스크립트 저장 (기존 데이터 삭제 후 재저장)
-		if (requestDto.getTranscripts() != null && !requestDto.getTranscripts().isEmpty()) {
-			if (transcriptRepository.existsByMeetingId(meetingId)) {
-				transcriptRepository.deleteByMeetingId(meetingId);
-			}
+		// 스크립트 저장
+		// 실시간 수신을 사용한 경우 요청에 발화가 없으므로 버퍼에 남은 꼬리 부분만 저장
+		// 요청에 전체 발화가 포함된 경우(기존 방식)는 버퍼를 버리고 기존 데이터 삭제 후 재저장
+		if (requestDto.getTranscripts() == null || requestDto.getTranscripts().isEmpty()) {
+			liveTranscriptService.finish(meetingId);
+		} else {
+			liveTranscriptService.discard(meetingId);
+			transcriptRepository.deleteByMeetingId(meetingId);
 			List<Transcript> transcripts = requestDto.getTranscripts().stream()
 					.map(t -> Transcript.builder().meeting(meeting).speakerId(t.getSpeakerId())
 							.speakerName(t.getSpeakerName()).speakerLabel(t.getSpeakerLabel()).text(t.getText())
 							.startTime(t.getStartTime()).endTime(t.getEndTime()).sequenceOrder(t.getSequenceOrder())
 							.isDeleted(false).build())
 					.collect(Collectors.toList());
-			transcriptRepository.saveAll(transcripts);
+			transcriptBulkRepository.insertAll(transcripts);
+			meeting.syncTranscriptVersion(transcriptVersionService.bumpAndGet(meetingId));
 		}
 		meetingRepository.save(meeting);
+		eventPublisher.publishEvent(new MeetingContentChangedEvent(meetingId));
 	}
 
 	  // 5. 회의 결과(요약, 안건, 키워드, 액션아이템) 저장 및 업데이트
@@ -289,12 +395,18 @@ public class MeetingService {
             
             Set<String> processedKeywords = new HashSet<>();
 
+            // 키워드 이름 -> ID 일괄 변환 (캐시 + IN 조회 + 없는 것만 일괄 생성)
+            Map<String, Long> keywordIds = keywordService.resolveIds(updateDto.getKeywords().stream()
+                    .map(MeetingUpdateResultDto.KeywordDto::getText)
+                    .collect(Collectors.toList()));
+
             for (MeetingUpdateResultDto.KeywordDto kDto : updateDto.getKeywords()) {
+                if (kDto.getText() == null || kDto.getText().isBlank()) continue;
                 String kName = kDto.getText().trim();
                 if (processedKeywords.contains(kName)) continue;
 
-                Keyword keyword = keywordRepository.findByName(kName)
-                        .orElseGet(() -> keywordRepository.save(Keyword.builder().name(kName).build()));
+                // 엔티티를 조회하지 않고 ID 참조만 사용
+                Keyword keyword = keywordRepository.getReferenceById(keywordIds.get(kName));
 
                 KeywordSource sourceEnum = KeywordSource.USER;
                 if ("AI".equalsIgnoreCase(kDto.getSource())) sourceEnum = KeywordSource.AI;
@@ -318,11 +430,17 @@ public class MeetingService {
             meetingResultRepository.saveAndFlush(meetingResult); // 부모 먼저 저장하여 관계 정리
             
             List<ActionItem> newActionItems = new ArrayList<>();
+
+            // 담당자 이름을 한 번에 조회 (액션 아이템마다 조회하지 않음)
+            Map<String, Long> assigneeIds = assigneeResolver.resolveIds(updateDto.getActionItems().stream()
+                    .map(MeetingUpdateResultDto.ActionItemDto::getAssignee)
+                    .toList());
             
             for (MeetingUpdateResultDto.ActionItemDto itemDto : updateDto.getActionItems()) {
                 MeetUser assignee = null;
                 if (itemDto.getAssignee() != null && !itemDto.getAssignee().isEmpty()) {
-                    assignee = meetUserRepository.findByName(itemDto.getAssignee()).orElse(null);
+                    Long assigneeId = assigneeIds.get(itemDto.getAssignee().trim());
+                    assignee = assigneeId != null ? meetUserRepository.getReferenceById(assigneeId) : null;
                 }
                 
                 LocalDateTime dueDateTime = null;
@@ -354,7 +472,12 @@ public class MeetingService {
         // ------------------------------------------------------------
         // [발화 로그(Transcript) 처리] - Soft Delete (0/1) + ID/순서 보존
         // ------------------------------------------------------------
-        if (updateDto.getTranscripts() != null) {
+        if (updateDto.getTranscriptPatch() != null) {
+            // 변경분 패치: 연산에 포함된 발화만 수정 (전체 목록 비교 없음)
+            transcriptPatchService.apply(meeting, updateDto.getTranscriptPatch(), existingNameIdMap);
+        } else if (updateDto.getTranscripts() != null) {
+            // 엔티티 값을 올리는 대신 UPDATE 쿼리로 증가 (동시에 들어온 패치가 올린 버전을 덮어쓰지 않도록)
+            meeting.syncTranscriptVersion(transcriptVersionService.bumpAndGet(meetingId));
             List<Transcript> currentTranscripts = meeting.getTranscripts();
             
             // (1) 요청 데이터(DTO)를 ID 기준으로 맵핑 (빠른 검색용)
@@ -427,6 +550,9 @@ public class MeetingService {
                 currentTranscripts.add(newTranscript);
             }
         }
+
+        // 요약/안건/발화 변경을 검색 색인에 반영 (커밋 후)
+        eventPublisher.publishEvent(new MeetingContentChangedEvent(meetingId));
     }
 
     // 6. 회의 삭제
@@ -441,9 +567,12 @@ public class MeetingService {
         // Meeting 엔티티의 CascadeType.ALL 설정 덕분에 
         // 연결된 Participants, Transcripts, MeetingResult 등은 자동 삭제됩니다.
         meetingRepository.delete(meeting);
+        eventPublisher.publishEvent(new MeetingContentChangedEvent(meetingId)); // 색인 문서 정리
     }
 
     // AI 요약 생성 요청 (DB 저장 X, Map 반환 O)
+    // FastAPI 응답을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행 (조회는 리포지토리 자체 트랜잭션 사용)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, Object> generateAISummary(Long meetingId) {
         
         // Meeting 객체 조회 -> 존재 여부 확인으로 변경 (Unused Warning 해결)
@@ -456,10 +585,6 @@ public class MeetingService {
             throw new IllegalArgumentException("요약할 대화 내용이 없습니다.");
         }
 
-        // 요청 데이터 구성
-        Map<String, Object> requestPayload = new HashMap<>();
-        requestPayload.put("meeting_id", meetingId);
-
         List<Map<String, Object>> transcriptList = transcripts.stream().map(t -> {
             Map<String, Object> item = new HashMap<>();
             item.put("speaker", t.getSpeakerName() != null ? t.getSpeakerName() : t.getSpeakerId());
@@ -467,9 +592,31 @@ public class MeetingService {
             return item;
         }).collect(Collectors.toList());
 
+        // 긴 회의는 구간별로 나눠 병렬 요약한 뒤 한 번 더 합쳐서 요약 (map-reduce)
+        if (summaryChunkService.needsChunking(transcriptList)) {
+            return summaryChunkService.summarize(meetingId, transcriptList,
+                    chunk -> requestSummary(meetingId, chunk));
+        }
+        return requestSummary(meetingId, transcriptList);
+    }
+
+    // FastAPI /summary/generate 단일 호출 (청크 요약에서도 구간마다 이 메서드 사용)
+    private Map<String, Object> requestSummary(Long meetingId, List<Map<String, Object>> transcriptList) {
+
+        // 요청 데이터 구성
+        Map<String, Object> requestPayload = new HashMap<>();
+        requestPayload.put("meeting_id", meetingId);
         requestPayload.put("transcripts", transcriptList);
 
-        String pythonEndpoint = fastApiBaseUrl + "/summary/generate";
+        // 같은 대화 내용으로 이미 요약한 적이 있으면 FastAPI 호출 없이 이전 결과 반환
+        String cacheKey = aiResponseCacheService.keyOf(SUMMARY_ENDPOINT, requestPayload);
+        Optional<Map<String, Object>> cached = aiResponseCacheService.get(cacheKey);
+        if (cached.isPresent()) {
+            log.info("AI 요약 캐시 사용 - meetingId: {}", meetingId);
+            return cached.get();
+        }
+
+        String pythonEndpoint = fastApiBaseUrl + SUMMARY_ENDPOINT;
 
         try {
             // AI 서버 호출
@@ -495,6 +642,7 @@ public class MeetingService {
                 // 키워드 처리 (단순 문자열 리스트로 반환)
                 resultMap.put("keywords", (data.getKeywords() != null) ? data.getKeywords() : new ArrayList<>());
 
+                aiResponseCacheService.put(cacheKey, SUMMARY_ENDPOINT, resultMap);
                 return resultMap;
 
             } else {
@@ -509,11 +657,21 @@ public class MeetingService {
     }
 
 	// AI 액션 아이템 생성 요청
+	// 요약과 마찬가지로 FastAPI 대기 중에는 트랜잭션(DB 커넥션)을 잡지 않음
 	@SuppressWarnings("unchecked")
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
 	public Map<String, Object> generateAllActions(Long meetingId, Map<String, Object> requestData) {
+		// 같은 요청 내용이면 캐시된 결과 반환
+		String cacheKey = aiResponseCacheService.keyOf(ACTIONS_ENDPOINT, requestData);
+		Optional<Map<String, Object>> cached = aiResponseCacheService.get(cacheKey);
+		if (cached.isPresent()) {
+			log.info("AI 액션 아이템 캐시 사용 - meetingId: {}", meetingId);
+			return cached.get();
+		}
+
 		// Python 서버의 액션 아이템 생성 엔드포인트 (Python 코드에서 확인 필요)
 		// 예: main.py에 @app.post("/actions/generate")가 있어야 함
-		String pythonEndpoint = fastApiBaseUrl + "/actions/generate";
+		String pythonEndpoint = fastApiBaseUrl + ACTIONS_ENDPOINT;
 
 		try {
 			// 프론트엔드에서 받은 데이터를 그대로 Python으로 전달하거나 필요한 데이터만 추출
@@ -523,7 +681,9 @@ public class MeetingService {
 				// 응답 구조: { "actions": [ ... ] } 가정
 				List<Map<String, Object>> actions = (List<Map<String, Object>>) aiResponse.get("actions");
 
-				return Map.of("success", true, "actions", actions != null ? actions : new ArrayList<>());
+				Map<String, Object> result = Map.of("success", true, "actions", actions != null ? actions : new ArrayList<>());
+				aiResponseCacheService.put(cacheKey, ACTIONS_ENDPOINT, result);
+				return result;
 			} else {
 				throw new RuntimeException("AI 서버로부터 빈 응답을 받았습니다.");
 			}
@@ -0,0 +1,282 @@
+package com.dialog.meeting.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import com.dialog.meetingresult.domain.ImportanceLevel;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 긴 회의 요약용 map-reduce 처리
+// 1) 같은 화자의 연속 발화를 하나의 발언(turn)으로 묶고
+// 2) 발언 경계에서 글자 수 예산(max-chars) 이내의 구간으로 나눈 뒤
+// 3) 구간별 요약을 제한된 병렬도로 동시에 요청하고
+// 4) 구간 요약들을 모아 마지막으로 한 번 더 요약
+// 전체 지연 시간이 회의 길이가 아니라 가장 긴 구간 + 합치기 호출 시간에 비례하게 됨
+@Slf4j
+@Service
+public class SummaryChunkService {
+
+	private static final String SPEAKER = "speaker";
+	private static final String TEXT = "text";
+
+	private final ThreadPoolTaskExecutor summaryChunkExecutor;
+
+	@Value("${ai.summary.chunk.enabled:true}")
+	private boolean enabled;
+
+	// 한 번의 FastAPI 요청에 담을 최대 글자 수 (화자 이름 포함)
+	@Value("${ai.summary.chunk.max-chars:12000}")
+	private int maxChars;
+
+	// 합치기(reduce)를 다시 나눠 요약하는 최대 단계 수, 넘으면 구간 요약을 잘라서 한 번에 합침
+	@Value("${ai.summary.chunk.max-depth:3}")
+	private int maxDepth;
+
+	public SummaryChunkService(@Qualifier("summaryChunkExecutor") ThreadPoolTaskExecutor summaryChunkExecutor) {
+		this.summaryChunkExecutor = summaryChunkExecutor;
+	}
+
+	public boolean needsChunking(List<Map<String, Object>> transcripts) {
+		return enabled && totalChars(transcripts) > maxChars;
+	}
+
+	// summarizer: 구간(발화 목록) 하나를 받아 요약 Map을 돌려주는 단일 호출 함수
+	public Map<String, Object> summarize(Long meetingId, List<Map<String, Object>> transcripts,
+			Function<List<Map<String, Object>>, Map<String, Object>> summarizer) {
+		return summarize(meetingId, transcripts, summarizer, 1);
+	}
+
+	private Map<String, Object> summarize(Long meetingId, List<Map<String, Object>> transcripts,
+			Function<List<Map<String, Object>>, Map<String, Object>> summarizer, int depth) {
+		long start = System.currentTimeMillis();
+
+		List<List<Map<String, Object>>> chunks = split(mergeTurns(transcripts));
+		log.info("청크 요약 시작 - meetingId: {}, 단계 {}, 발화 {}건, {}자 -> 구간 {}개", meetingId, depth,
+				transcripts.size(), totalChars(transcripts), chunks.size());
+
+		// map: 구간별 요약을 병렬로 요청 (병렬도는 summaryChunkExecutor 풀 크기로 제한)
+		// CompletableFuture.cancel 은 실행 중인 작업을 멈추지 못하므로 executor.submit 의 Future 를 그대로 보관
+		List<Future<Map<String, Object>>> futures = chunks.stream()
+				.map(chunk -> summaryChunkExecutor.submit(() -> summarizer.apply(chunk)))
+				.toList();
+
+		List<Map<String, Object>> partials = new ArrayList<>(futures.size());
+		try {
+			for (Future<Map<String, Object>> future : futures) {
+				partials.add(future.get());
+			}
+		} catch (ExecutionException e) {
+			cancelAll(futures);
+			Throwable cause = e.getCause() != null ? e.getCause() : e;
+			throw new RuntimeException("구간 요약 생성에 실패했습니다: " + cause.getMessage(), cause);
+		} catch (InterruptedException e) {
+			cancelAll(futures);
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("구간 요약이 중단되었습니다.", e);
+		}
+
+		// reduce: 구간 요약을 발화 형태로 바꿔 다시 요약 (합친 내용도 길면 같은 방식으로 한 단계 더 나눔)
+		// 단계 상한에 걸렸거나 구간 요약이 입력보다 줄지 않았으면 더 나눠도 끝나지 않으므로 잘라서 한 번에 합침
+		List<Map<String, Object>> partialTranscripts = toTranscripts(partials);
+		Map<String, Object> reduced;
+		if (!needsChunking(partialTranscripts)) {
+			reduced = summarizer.apply(partialTranscripts);
+		} else if (depth >= maxDepth || totalChars(partialTranscripts) >= totalChars(transcripts)) {
+			log.warn("청크 요약 합치기 축소 실패 - meetingId: {}, 단계 {}, {}자 -> {}자, 구간 요약을 잘라서 합칩니다.",
+					meetingId, depth, totalChars(transcripts), totalChars(partialTranscripts));
+			reduced = summarizer.apply(truncate(partialTranscripts));
+		} else {
+			reduced = summarize(meetingId, partialTranscripts, summarizer, depth + 1);
+		}
+
+		Map<String, Object> result = new HashMap<>(reduced);
+		result.put("importance", highestImportance(reduced, partials));
+		result.put("keywords", mergeKeywords(reduced, partials));
+
+		log.info("청크 요약 완료 - meetingId: {}, 구간 {}개, {}ms", meetingId, chunks.size(),
+				System.currentTimeMillis() - start);
+		return result;
+	}
+
+	// 한 구간이 실패하면 나머지 구간 요약은 쓸모가 없으므로 취소
+	// 큐에서 대기 중인 구간은 FastAPI 를 호출하지 않고 버려지고, 실행 중인 구간은 스레드 인터럽트만 걸림
+	// (HttpClient 의 블로킹 소켓 읽기는 인터럽트로 끊기지 않아 fastapi.http.read-timeout-ms 까지는 연결을 잡고 있음)
+	private void cancelAll(List<Future<Map<String, Object>>> futures) {
+		futures.forEach(future -> future.cancel(true));
+	}
+
+	// 같은 화자의 연속 발화를 하나로 합침 (화자가 바뀌는 지점만 구간 경계 후보가 되도록)
+	private List<Map<String, Object>> mergeTurns(List<Map<String, Object>> transcripts) {
+		List<Map<String, Object>> turns = new ArrayList<>();
+		Map<String, Object> current = null;
+		for (Map<String, Object> item : transcripts) {
+			String speaker = String.valueOf(item.get(SPEAKER));
+			String text = Objects.toString(item.get(TEXT), "");
+			if (current != null && speaker.equals(current.get(SPEAKER))) {
+				current.put(TEXT, current.get(TEXT) + " " + text);
+			} else {
+				current = turn(speaker, text);
+				turns.add(current);
+			}
+		}
+		return turns;
+	}
+
+	// 발언 단위로 글자 수 예산을 채워 구간 생성, 한 발언이 예산보다 길면 문장 단위로 자름
+	private List<List<Map<String, Object>>> split(List<Map<String, Object>> turns) {
+		List<List<Map<String, Object>>> chunks = new ArrayList<>();
+		List<Map<String, Object>> current = new ArrayList<>();
+		int currentChars = 0;
+
+		for (Map<String, Object> turn : turns) {
+			for (Map<String, Object> piece : splitLongTurn(turn)) {
+				int size = chars(piece);
+				if (!current.isEmpty() && currentChars + size > maxChars) {
+					chunks.add(current);
+					current = new ArrayList<>();
+					currentChars = 0;
+				}
+				current.add(piece);
+				currentChars += size;
+			}
+		}
+		if (!current.isEmpty()) {
+			chunks.add(current);
+		}
+		return chunks;
+	}
+
+	private List<Map<String, Object>> splitLongTurn(Map<String, Object> turn) {
+		if (chars(turn) <= maxChars) {
+			return List.of(turn);
+		}
+		String speaker = String.valueOf(turn.get(SPEAKER));
+		int budget = Math.max(1, maxChars - speaker.length());
+
+		List<Map<String, Object>> pieces = new ArrayList<>();
+		StringBuilder buffer = new StringBuilder();
+		for (String sentence : String.valueOf(turn.get(TEXT)).split("(?<=[.!?。])\\s+")) {
+			// 문장 하나가 예산보다 길면 글자 수로 강제 분할
+			while (sentence.length() > budget) {
+				if (buffer.length() > 0) {
+					pieces.add(turn(speaker, buffer.toString()));
+					buffer.setLength(0);
+				}
+				pieces.add(turn(speaker, sentence.substring(0, budget)));
+				sentence = sentence.substring(budget);
+			}
+			if (buffer.length() > 0 && buffer.length() + 1 + sentence.length() > budget) {
+				pieces.add(turn(speaker, buffer.toString()));
+				buffer.setLength(0);
+			}
+			if (buffer.length() > 0) {
+				buffer.append(' ');
+			}
+			buffer.append(sentence);
+		}
+		if (buffer.length() > 0) {
+			pieces.add(turn(speaker, buffer.toString()));
+		}
+		return pieces;
+	}
+
+	// 구간 요약 결과를 합치기 호출용 발화 목록으로 변환
+	private List<Map<String, Object>> toTranscripts(List<Map<String, Object>> partials) {
+		List<Map<String, Object>> items = new ArrayList<>();
+		for (int i = 0; i < partials.size(); i++) {
+			Map<String, Object> partial = partials.get(i);
+			StringBuilder text = new StringBuilder();
+			appendLine(text, "목적", partial.get("purpose"));
+			appendLine(text, "안건", partial.get("agenda"));
+			appendLine(text, "요약", partial.get("overallSummary"));
+			items.add(turn("구간 " + (i + 1) + "/" + partials.size(), text.toString().trim()));
+		}
+		return items;
+	}
+
+	// 구간 요약마다 같은 글자 수 예산을 나눠 주고 넘는 부분은 잘라냄 (합계가 maxChars 이내)
+	private List<Map<String, Object>> truncate(List<Map<String, Object>> items) {
+		int perItem = Math.max(1, maxChars / items.size());
+		List<Map<String, Object>> truncated = new ArrayList<>();
+		for (Map<String, Object> item : items) {
+			String speaker = String.valueOf(item.get(SPEAKER));
+			String text = Objects.toString(item.get(TEXT), "");
+			int budget = Math.max(0, perItem - speaker.length());
+			truncated.add(turn(speaker, text.length() > budget ? text.substring(0, budget) : text));
+		}
+		return truncated;
+	}
+
+	private void appendLine(StringBuilder text, String label, Object value) {
+		if (value != null && !String.valueOf(value).isBlank()) {
+			text.append(label).append(": ").append(value).append('\n');
+		}
+	}
+
+	// 중요도는 구간 중 가장 높은 값 기준 (한 구간이라도 HIGH면 회의 전체를 HIGH로)
+	private ImportanceLevel highestImportance(Map<String, Object> reduced, List<Map<String, Object>> partials) {
+		ImportanceLevel highest = toImportance(reduced.get("importance"));
+		for (Map<String, Object> partial : partials) {
+			ImportanceLevel level = toImportance(partial.get("importance"));
+			if (level.ordinal() < highest.ordinal()) {
+				highest = level;
+			}
+		}
+		return highest;
+	}
+
+	private ImportanceLevel toImportance(Object value) {
+		if (value instanceof ImportanceLevel level) {
+			return level;
+		}
+		try {
+			return value != null ? ImportanceLevel.valueOf(value.toString()) : ImportanceLevel.MEDIUM;
+		} catch (IllegalArgumentException e) {
+			return ImportanceLevel.MEDIUM;
+		}
+	}
+
+	// 키워드는 합치기 결과를 우선하고 구간별 키워드를 중복 없이 뒤에 추가
+	private List<String> mergeKeywords(Map<String, Object> reduced, List<Map<String, Object>> partials) {
+		Set<String> keywords = new LinkedHashSet<>();
+		addKeywords(keywords, reduced.get("keywords"));
+		partials.forEach(partial -> addKeywords(keywords, partial.get("keywords")));
+		return new ArrayList<>(keywords);
+	}
+
+	private void addKeywords(Set<String> keywords, Object value) {
+		if (value instanceof List<?> list) {
+			list.stream().filter(Objects::nonNull).map(Object::toString).map(String::trim)
+					.filter(k -> !k.isEmpty()).forEach(keywords::add);
+		}
+	}
+
+	private Map<String, Object> turn(String speaker, String text) {
+		Map<String, Object> item = new HashMap<>();
+		item.put(SPEAKER, speaker);
+		item.put(TEXT, text);
+		return item;
+	}
+
+	private int chars(Map<String, Object> item) {
+		return String.valueOf(item.get(SPEAKER)).length() + Objects.toString(item.get(TEXT), "").length();
+	}
+
+	private int totalChars(List<Map<String, Object>> items) {
+		return items.stream().mapToInt(this::chars).sum();
+	}
+}
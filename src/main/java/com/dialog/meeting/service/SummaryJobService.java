@@ -0,0 +1,194 @@
+package com.dialog.meeting.service;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.dialog.exception.AccessDeniedException;
+import com.dialog.exception.ResourceNotFoundException;
+import com.dialog.meeting.domain.SummaryJob;
+import com.dialog.meeting.domain.SummaryJobResponseDto;
+import com.dialog.meeting.repository.MeetingRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// AI 요약 비동기 작업 관리
+// 요청 스레드는 작업 ID만 받아 즉시 반환하고, 실제 FastAPI 호출은 summaryJobExecutor 스레드에서 수행
+@Slf4j
+@Service
+public class SummaryJobService {
+
+	private final MeetingService meetingService;
+	private final MeetingRepository meetingRepository;
+	private final ThreadPoolTaskExecutor summaryJobExecutor;
+
+	// 완료된 작업 결과 보관 시간 (분)
+	@Value("${ai.summary-job.retention-minutes:30}")
+	private long retentionMinutes;
+
+	// SSE 연결 유지 시간 (ms)
+	@Value("${ai.summary-job.sse-timeout-ms:300000}")
+	private long sseTimeoutMs;
+
+	// jobId -> 작업
+	private final Map<String, SummaryJob> jobs = new ConcurrentHashMap<>();
+	// meetingId -> 진행 중인 작업 (같은 회의 중복 요청은 이 작업에 합류)
+	private final Map<Long, SummaryJob> activeJobs = new ConcurrentHashMap<>();
+	// jobId -> 상태 구독 중인 SSE 연결
+	private final Map<String, List<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+	public SummaryJobService(MeetingService meetingService, MeetingRepository meetingRepository,
+			@Qualifier("summaryJobExecutor") ThreadPoolTaskExecutor summaryJobExecutor) {
+		this.meetingService = meetingService;
+		this.meetingRepository = meetingRepository;
+		this.summaryJobExecutor = summaryJobExecutor;
+	}
+
+	// 요약 작업 등록 (이미 같은 회의의 작업이 진행 중이면 새로 만들지 않고 그 작업을 반환)
+	public SummaryJob submit(Long meetingId, Long currentUserId) {
+		if (!meetingRepository.existsById(meetingId)) {
+			throw new IllegalArgumentException("회의를 찾을 수 없습니다.");
+		}
+		checkOwner(meetingId, currentUserId);
+
+		SummaryJob[] created = new SummaryJob[1];
+		SummaryJob job = activeJobs.computeIfAbsent(meetingId, id -> {
+			SummaryJob newJob = new SummaryJob(id);
+			jobs.put(newJob.getJobId(), newJob);
+			created[0] = newJob;
+			return newJob;
+		});
+
+		if (created[0] == null) {
+			log.info("진행 중인 요약 작업에 합류 - meetingId: {}, jobId: {}", meetingId, job.getJobId());
+			return job;
+		}
+
+		try {
+			summaryJobExecutor.execute(() -> run(job));
+		} catch (TaskRejectedException e) {
+			// 큐가 가득 찬 경우 등록을 되돌리고 호출 측에서 503 처리
+			activeJobs.remove(meetingId, job);
+			jobs.remove(job.getJobId());
+			throw e;
+		}
+
+		log.info("요약 작업 등록 - meetingId: {}, jobId: {}", meetingId, job.getJobId());
+		return job;
+	}
+
+	// 작업 조회 (회의 주최자만, 작업 ID 만 알아서는 다른 사람의 회의 요약을 볼 수 없음)
+	public SummaryJob getJob(String jobId, Long currentUserId) {
+		SummaryJob job = jobs.get(jobId);
+		if (job == null) {
+			throw new ResourceNotFoundException("요약 작업을 찾을 수 없습니다. jobId=" + jobId);
+		}
+		checkOwner(job.getMeetingId(), currentUserId);
+		return job;
+	}
+
+	// 작업 상태 SSE 구독 (현재 상태를 바로 한 번 보내고, 이후 상태가 바뀔 때마다 전송)
+	public SseEmitter subscribe(String jobId, Long currentUserId) {
+		SummaryJob job = getJob(jobId, currentUserId);
+		SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+
+		// 이미 끝난 작업은 구독 목록에 넣지 않고 최종 상태만 보내고 바로 종료
+		if (job.getStatus().isFinished()) {
+			send(emitter, job);
+			emitter.complete();
+			return emitter;
+		}
+
+		emitters.computeIfAbsent(jobId, id -> new CopyOnWriteArrayList<>()).add(emitter);
+		emitter.onCompletion(() -> removeEmitter(jobId, emitter));
+		emitter.onTimeout(emitter::complete);
+		emitter.onError(e -> removeEmitter(jobId, emitter));
+
+		send(emitter, job);
+		// 등록하는 사이에 작업이 끝나 publish 가 이미 지나간 경우 여기서 종료 (목록에서도 제거됨)
+		if (job.getStatus().isFinished()) {
+			emitter.complete();
+			removeEmitter(jobId, emitter);
+		}
+		return emitter;
+	}
+
+	private void checkOwner(Long meetingId, Long currentUserId) {
+		if (currentUserId == null || !meetingRepository.existsByIdAndHostUser_Id(meetingId, currentUserId)) {
+			throw new AccessDeniedException("이 회의의 요약 작업에 접근할 권한이 없습니다.");
+		}
+	}
+
+	private void run(SummaryJob job) {
+		job.start();
+		publish(job);
+		try {
+			Map<String, Object> summary = meetingService.generateAISummary(job.getMeetingId());
+			job.complete(summary);
+			log.info("요약 작업 완료 - meetingId: {}, jobId: {}", job.getMeetingId(), job.getJobId());
+		} catch (Exception e) {
+			log.error("요약 작업 실패 - meetingId: {}, jobId: {}", job.getMeetingId(), job.getJobId(), e);
+			job.fail(e.getMessage());
+		} finally {
+			activeJobs.remove(job.getMeetingId(), job);
+			publish(job);
+		}
+	}
+
+	// 구독자 전체에 현재 상태 전송, 작업이 끝났으면 연결 종료
+	private void publish(SummaryJob job) {
+		List<SseEmitter> subscribers = emitters.get(job.getJobId());
+		if (subscribers == null) {
+			return;
+		}
+		for (SseEmitter emitter : subscribers) {
+			send(emitter, job);
+			if (job.getStatus().isFinished()) {
+				emitter.complete();
+			}
+		}
+		if (job.getStatus().isFinished()) {
+			emitters.remove(job.getJobId());
+		}
+	}
+
+	private void send(SseEmitter emitter, SummaryJob job) {
+		try {
+			emitter.send(SseEmitter.event().name("status").data(SummaryJobResponseDto.from(job)));
+		} catch (IOException | IllegalStateException e) {
+			// 클라이언트가 이미 연결을 끊은 경우
+			log.debug("SSE 전송 실패 - jobId: {}, {}", job.getJobId(), e.getMessage());
+			removeEmitter(job.getJobId(), emitter);
+		}
+	}
+
+	// 마지막 구독자가 빠지면 목록도 제거 (빈 목록이 맵에 남지 않도록)
+	private void removeEmitter(String jobId, SseEmitter emitter) {
+		emitters.computeIfPresent(jobId, (id, subscribers) -> {
+			subscribers.remove(emitter);
+			return subscribers.isEmpty() ? null : subscribers;
+		});
+	}
+
+	// 보관 시간이 지난 완료 작업 정리
+	@Scheduled(fixedDelayString = "${ai.summary-job.cleanup-interval-ms:60000}")
+	public void evictFinishedJobs() {
+		LocalDateTime threshold = LocalDateTime.now().minusMinutes(retentionMinutes);
+		jobs.values().removeIf(job -> job.getStatus().isFinished()
+				&& job.getFinishedAt() != null
+				&& job.getFinishedAt().isBefore(threshold));
+		// 정리된 작업에 남은 구독 목록 (정상이라면 publish 에서 이미 제거됨)
+		emitters.keySet().removeIf(jobId -> !jobs.containsKey(jobId));
+	}
+}
@@ -1,8 +1,12 @@
 package com.dialog.meetingresult.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.dialog.meetingresult.domain.MeetingResult;
 
@@ -12,4 +16,14 @@ public interface MeetingResultRepository extends JpaRepository<MeetingResult, Lo
 
 	// Meeting ID로 결과 삭제
 	void deleteByMeetingId(Long meetingId);
+
+	// 키워드(+Keyword) 컬렉션 일괄 초기화 (bag 두 개를 한 쿼리로 fetch 할 수 없어 액션 아이템과 분리)
+	@Query("SELECT DISTINCT mr FROM MeetingResult mr LEFT JOIN FETCH mr.keywords mrk LEFT JOIN FETCH mrk.keyword "
+			+ "WHERE mr.meeting.id IN :meetingIds")
+	List<MeetingResult> fetchKeywordsByMeetingIdIn(@Param("meetingIds") Collection<Long> meetingIds);
+
+	// 액션 아이템(+담당자) 컬렉션 일괄 초기화
+	@Query("SELECT DISTINCT mr FROM MeetingResult mr LEFT JOIN FETCH mr.actionItems ai LEFT JOIN FETCH ai.assignee "
+			+ "WHERE mr.meeting.id IN :meetingIds")
+	List<MeetingResult> fetchActionItemsByMeetingIdIn(@Param("meetingIds") Collection<Long> meetingIds);
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.dialog.search.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dialog.search.domain.RelatedMeetingDto;
+import com.dialog.search.service.RelatedMeetingService;
+import com.dialog.security.oauth2.CustomOAuth2User;
+import com.dialog.user.service.CustomUserDetails;
+
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequiredArgsConstructor
+public class RelatedMeetingController {
+
+	private final RelatedMeetingService relatedMeetingService;
+
+	// 회의 상세 화면의 "비슷한 회의" (내 회의 중 유사도 상위 k 개)
+	@GetMapping("/api/meetings/{meetingId}/related")
+	public ResponseEntity<?> getRelatedMeetings(@PathVariable("meetingId") Long meetingId,
+			@RequestParam(value = "k", defaultValue = "5") int k,
+			Authentication authentication) {
+		if (authentication == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+		}
+
+		Object principal = authentication.getPrincipal();
+		Long currentUserId;
+
+		if (principal instanceof CustomOAuth2User) {
+			currentUserId = ((CustomOAuth2User) principal).getMeetuser().getId();
+		} else if (principal instanceof CustomUserDetails) {
+			currentUserId = ((CustomUserDetails) principal).getId();
+		} else {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("잘못된 인증 정보입니다.");
+		}
+
+		List<RelatedMeetingDto> related = relatedMeetingService.findRelated(meetingId, currentUserId, k);
+		return ResponseEntity.ok(related);
+	}
+
+	// 인덱스 전체 재구성 (관리자)
+	@PreAuthorize("hasRole('ADMIN')")
+	@PostMapping("/api/admin/search/related/rebuild")
+	public ResponseEntity<Map<String, Object>> rebuild() {
+		return ResponseEntity.ok(Map.of("meetings", relatedMeetingService.rebuild()));
+	}
+}
@@ -0,0 +1,69 @@
+package com.dialog.search.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dialog.search.domain.SearchHitDto;
+import com.dialog.search.service.SearchIndexService;
+import com.dialog.search.service.SearchService;
+import com.dialog.security.oauth2.CustomOAuth2User;
+import com.dialog.user.service.CustomUserDetails;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequiredArgsConstructor
+public class SearchController {
+
+	private final SearchService searchService;
+	private final SearchIndexService searchIndexService;
+
+	// 내 회의 전체 검색 (발화 + 요약/안건), 점수 순
+	@GetMapping("/api/search")
+	public ResponseEntity<?> search(@RequestParam("q") String query,
+			@RequestParam(value = "page", defaultValue = "0") int page,
+			@RequestParam(value = "size", defaultValue = "20") int size,
+			Authentication authentication) {
+		if (authentication == null) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("로그인이 필요합니다.");
+		}
+
+		Object principal = authentication.getPrincipal();
+		Long currentUserId;
+
+		if (principal instanceof CustomOAuth2User) {
+			currentUserId = ((CustomOAuth2User) principal).getMeetuser().getId();
+		} else if (principal instanceof CustomUserDetails) {
+			currentUserId = ((CustomUserDetails) principal).getId();
+		} else {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("잘못된 인증 정보입니다.");
+		}
+
+		try {
+			List<SearchHitDto> hits = searchService.search(currentUserId, query, page, size);
+			return ResponseEntity.ok(hits);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().body(e.getMessage());
+		}
+	}
+
+	// 전체 회의 재색인 요청 (관리자)
+	@PreAuthorize("hasRole('ADMIN')")
+	@PostMapping("/api/admin/search/reindex")
+	public ResponseEntity<Map<String, Object>> reindex() {
+		int queued = searchIndexService.requestFullReindex();
+		log.info("검색 전체 재색인 요청 - 회의 {}건", queued);
+		return ResponseEntity.ok(Map.of("queued", queued, "fulltext", searchIndexService.isFulltextAvailable()));
+	}
+}
@@ -0,0 +1,17 @@
+package com.dialog.search.domain;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 비슷한 회의 추천 한 건
+@Getter
+@AllArgsConstructor
+public class RelatedMeetingDto {
+
+	private Long meetingId;
+	private String title;
+	private LocalDateTime scheduledAt;
+	private double score; // 코사인 유사도 (0 ~ 1)
+}
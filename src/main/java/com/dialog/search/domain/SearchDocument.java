@@ -0,0 +1,63 @@
+package com.dialog.search.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 회의 검색용 색인 문서 (발화 한 건 또는 요약/안건 하나가 문서 하나)
+// content 컬럼의 FULLTEXT(ngram) 인덱스는 JPA 로 만들 수 없어 SearchIndexService 기동 시 생성
+// 회의 호스트 ID 를 함께 저장해 검색 시 다른 테이블 조인 없이 사용자별로 거름
+// 회의별 인덱스는 (회의, 문서 종류, 원본 ID) 순이라 회의 단위 삭제와 마지막 색인 발화 ID 조회에 함께 사용
+// 행은 SearchDocumentRepository 에서 JDBC 로만 쓰고 읽음 (엔티티는 테이블 정의용)
+@Entity
+@Table(name = "search_document", indexes = {
+		@Index(name = "idx_search_document_host_user", columnList = "host_user_id"),
+		@Index(name = "idx_search_document_meeting_source", columnList = "meeting_id, source_type, source_id") })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SearchDocument {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "meeting_id", nullable = false)
+	private Long meetingId;
+
+	@Column(name = "host_user_id", nullable = false)
+	private Long hostUserId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "source_type", length = 20, nullable = false)
+	private SearchSourceType sourceType;
+
+	/** 발화 ID 또는 회의 결과 ID */
+	@Column(name = "source_id", nullable = false)
+	private Long sourceId;
+
+	/** 발화 순서 (요약/안건은 null) */
+	@Column(name = "sequence_order")
+	private Integer sequenceOrder;
+
+	/** 발화 시작/종료 시간 (밀리초, 요약/안건은 null) */
+	@Column(name = "start_time")
+	private Long startTime;
+
+	@Column(name = "end_time")
+	private Long endTime;
+
+	@Column(name = "speaker_name", length = 100)
+	private String speakerName;
+
+	@Column(nullable = false, columnDefinition = "MEDIUMTEXT")
+	private String content;
+}
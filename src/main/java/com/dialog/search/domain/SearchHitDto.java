@@ -0,0 +1,42 @@
+package com.dialog.search.domain;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.Setter;
+
+// 검색 결과 한 건
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+public class SearchHitDto {
+
+	private Long meetingId;
+	private String meetingTitle;
+	private SearchSourceType sourceType;
+	private Long sourceId;
+	private Integer sequenceOrder;
+	private String speakerName;
+
+	// 발화 위치 (밀리초) - 녹음 재생 위치로 바로 이동할 때 사용
+	private Long startTime;
+	private Long endTime;
+
+	// 일치 구간 주변 본문 (긴 요약은 잘라서 반환)
+	private String snippet;
+
+	// snippet 안에서 검색어가 나온 위치 (문자 offset, [start, end))
+	private List<Highlight> highlights;
+
+	private double score;
+
+	@Getter
+	@AllArgsConstructor
+	public static class Highlight {
+		private final int start;
+		private final int end;
+	}
+}
@@ -0,0 +1,8 @@
+package com.dialog.search.domain;
+
+// 검색 문서의 출처
+public enum SearchSourceType {
+	TRANSCRIPT, // 발화 한 건
+	SUMMARY,    // 회의 결과 요약
+	AGENDA      // 회의 결과 주요 안건
+}
@@ -0,0 +1,76 @@
+package com.dialog.search.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.dialog.search.domain.RelatedMeetingDto;
+
+import lombok.RequiredArgsConstructor;
+
+// 비슷한 회의 인덱스의 원본(요약, 안건, 키워드) 조회용 JDBC 리포지토리
+@Repository
+@RequiredArgsConstructor
+public class RelatedMeetingSourceRepository {
+
+	private final JdbcTemplate jdbcTemplate;
+	private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+	// 회의 결과가 있는 회의의 요약/안건/키워드
+	public record MeetingSource(long meetingId, long hostUserId, String summary, String agenda, List<String> keywords) {
+	}
+
+	public List<MeetingSource> findSources(Collection<Long> meetingIds) {
+		if (meetingIds.isEmpty()) {
+			return List.of();
+		}
+		MapSqlParameterSource params = new MapSqlParameterSource("ids", meetingIds);
+
+		Map<Long, List<String>> keywordsByMeeting = new HashMap<>();
+		namedParameterJdbcTemplate.query("SELECT r.meeting_id, k.name FROM meeting_result r "
+				+ "JOIN meeting_result_keyword mrk ON mrk.meeting_result_id = r.id "
+				+ "JOIN keyword k ON k.id = mrk.keyword_id WHERE r.meeting_id IN (:ids)", params,
+				rs -> {
+					keywordsByMeeting.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>()).add(rs.getString(2));
+				});
+
+		return namedParameterJdbcTemplate.query("SELECT m.id, m.host_user_id, r.summary, r.agenda FROM meeting m "
+				+ "JOIN meeting_result r ON r.meeting_id = m.id WHERE m.id IN (:ids)", params,
+				(rs, rowNum) -> new MeetingSource(rs.getLong(1), rs.getLong(2), rs.getString(3), rs.getString(4),
+						keywordsByMeeting.getOrDefault(rs.getLong(1), List.of())));
+	}
+
+	public List<Long> findAllResultMeetingIds() {
+		return jdbcTemplate.queryForList("SELECT meeting_id FROM meeting_result ORDER BY meeting_id", Long.class);
+	}
+
+	// 인덱스 파일 저장 이후 바뀐 회의 결과 (재기동 시 따라잡기용)
+	public List<Long> findResultMeetingIdsUpdatedAfter(LocalDateTime time) {
+		return jdbcTemplate.queryForList("SELECT meeting_id FROM meeting_result WHERE updated_at > ?", Long.class,
+				Timestamp.valueOf(time));
+	}
+
+	// 추천 결과 표시용 회의 제목/일시 (삭제된 회의는 결과에 없음)
+	public Map<Long, RelatedMeetingDto> findSummaries(Collection<Long> meetingIds) {
+		Map<Long, RelatedMeetingDto> result = new HashMap<>();
+		if (meetingIds.isEmpty()) {
+			return result;
+		}
+		namedParameterJdbcTemplate.query("SELECT id, title, scheduled_at FROM meeting WHERE id IN (:ids)",
+				new MapSqlParameterSource("ids", meetingIds), rs -> {
+					Timestamp scheduledAt = rs.getTimestamp(3);
+					result.put(rs.getLong(1), new RelatedMeetingDto(rs.getLong(1), rs.getString(2),
+							scheduledAt != null ? scheduledAt.toLocalDateTime() : null, 0));
+				});
+		return result;
+	}
+}
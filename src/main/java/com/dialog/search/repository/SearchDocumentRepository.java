@@ -0,0 +1,125 @@
+package com.dialog.search.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import com.dialog.search.domain.SearchHitDto;
+import com.dialog.search.domain.SearchSourceType;
+
+import lombok.RequiredArgsConstructor;
+
+// search_document 색인 갱신/조회 전용 JDBC 리포지토리
+// 색인 갱신은 회의 단위로 기존 문서를 지우고 원본 테이블에서 INSERT ... SELECT 로 다시 채움 (데이터가 애플리케이션을 거치지 않음)
+// 녹음 중 발화 추가만 있었던 회의는 이미 색인된 마지막 발화 ID 이후 발화만 추가
+@Repository
+@RequiredArgsConstructor
+public class SearchDocumentRepository {
+
+	private static final String FULLTEXT_INDEX_NAME = "ft_search_document_content";
+
+	private static final String INSERT_TRANSCRIPTS_SQL = "INSERT INTO search_document "
+			+ "(meeting_id, host_user_id, source_type, source_id, sequence_order, start_time, end_time, speaker_name, content) "
+			+ "SELECT t.meeting_id, m.host_user_id, 'TRANSCRIPT', t.id, t.sequence_order, t.start_time, t.end_time, t.speaker_name, t.text "
+			+ "FROM transcript t JOIN meeting m ON m.id = t.meeting_id "
+			+ "WHERE t.meeting_id = ? AND t.is_deleted = 0 AND t.text <> ''";
+
+	// 발화 ID 는 IDENTITY 라 나중에 저장된 발화일수록 큼
+	private static final String INSERT_TRANSCRIPTS_AFTER_SQL = INSERT_TRANSCRIPTS_SQL + " AND t.id > ?";
+
+	private static final String LAST_TRANSCRIPT_ID_SQL = "SELECT COALESCE(MAX(source_id), 0) FROM search_document "
+			+ "WHERE meeting_id = ? AND source_type = 'TRANSCRIPT'";
+
+	// 요약/안건은 컬럼만 다르고 형태가 같음
+	private static final String INSERT_RESULT_SQL = "INSERT INTO search_document "
+			+ "(meeting_id, host_user_id, source_type, source_id, content) "
+			+ "SELECT r.meeting_id, m.host_user_id, ?, r.id, r.%1$s "
+			+ "FROM meeting_result r JOIN meeting m ON m.id = r.meeting_id "
+			+ "WHERE r.meeting_id = ? AND r.%1$s IS NOT NULL AND r.%1$s <> ''";
+
+	private static final String HIT_COLUMNS = "SELECT d.meeting_id, m.title, d.source_type, d.source_id, d.sequence_order, "
+			+ "d.speaker_name, d.start_time, d.end_time, d.content, ";
+
+	// 점수 순 정렬, 사용자 필터는 host_user_id 로만 (권한 = 회의 호스트)
+	private static final String FULLTEXT_SEARCH_SQL = HIT_COLUMNS
+			+ "MATCH(d.content) AGAINST (? IN NATURAL LANGUAGE MODE) AS score "
+			+ "FROM search_document d JOIN meeting m ON m.id = d.meeting_id "
+			+ "WHERE d.host_user_id = ? AND MATCH(d.content) AGAINST (? IN NATURAL LANGUAGE MODE) "
+			+ "ORDER BY score DESC, d.meeting_id DESC, d.sequence_order LIMIT ? OFFSET ?";
+
+	// FULLTEXT 인덱스를 만들 수 없는 DB 용 (점수 없이 최근 회의 순)
+	private static final String LIKE_SEARCH_SQL = HIT_COLUMNS
+			+ "0 AS score "
+			+ "FROM search_document d JOIN meeting m ON m.id = d.meeting_id "
+			+ "WHERE d.host_user_id = ? AND d.content LIKE ? "
+			+ "ORDER BY d.meeting_id DESC, d.sequence_order LIMIT ? OFFSET ?";
+
+	private static final RowMapper<SearchHitDto> HIT_MAPPER = (rs, rowNum) -> SearchHitDto.builder()
+			.meetingId(rs.getLong("meeting_id"))
+			.meetingTitle(rs.getString("title"))
+			.sourceType(SearchSourceType.valueOf(rs.getString("source_type")))
+			.sourceId(rs.getLong("source_id"))
+			.sequenceOrder(rs.getObject("sequence_order", Integer.class))
+			.speakerName(rs.getString("speaker_name"))
+			.startTime(rs.getObject("start_time", Long.class))
+			.endTime(rs.getObject("end_time", Long.class))
+			.snippet(rs.getString("content"))
+			.score(rs.getDouble("score"))
+			.build();
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 회의 하나의 색인 문서를 원본 기준으로 다시 만듦 (호출 측 트랜잭션 안에서 실행), 반환값은 새 문서 수
+	// 회의가 삭제된 경우 JOIN 결과가 없으므로 기존 문서만 지워짐
+	public int replaceMeeting(Long meetingId) {
+		deleteByMeetingId(meetingId);
+		int inserted = jdbcTemplate.update(INSERT_TRANSCRIPTS_SQL, meetingId);
+		inserted += jdbcTemplate.update(String.format(INSERT_RESULT_SQL, "summary"), SearchSourceType.SUMMARY.name(), meetingId);
+		inserted += jdbcTemplate.update(String.format(INSERT_RESULT_SQL, "agenda"), SearchSourceType.AGENDA.name(), meetingId);
+		return inserted;
+	}
+
+	// 이미 색인된 발화 뒤에 새로 저장된 발화만 추가 (호출 측 트랜잭션 안에서 실행), 반환값은 새 문서 수
+	// 녹음 중 flush 마다 회의 전체를 지우고 다시 넣으면 쓰기량이 발화 수에 비례해 계속 커지므로 사용
+	// 기존 발화 수정/삭제나 요약 변경은 반영하지 않음 (그런 변경은 replaceMeeting)
+	public int appendTranscripts(Long meetingId) {
+		Long lastSourceId = jdbcTemplate.queryForObject(LAST_TRANSCRIPT_ID_SQL, Long.class, meetingId);
+		return jdbcTemplate.update(INSERT_TRANSCRIPTS_AFTER_SQL, meetingId, lastSourceId != null ? lastSourceId : 0L);
+	}
+
+	public int deleteByMeetingId(Long meetingId) {
+		return jdbcTemplate.update("DELETE FROM search_document WHERE meeting_id = ?", meetingId);
+	}
+
+	public List<SearchHitDto> searchFulltext(Long hostUserId, String query, int limit, int offset) {
+		return jdbcTemplate.query(FULLTEXT_SEARCH_SQL, HIT_MAPPER, query, hostUserId, query, limit, offset);
+	}
+
+	public List<SearchHitDto> searchLike(Long hostUserId, String query, int limit, int offset) {
+		String pattern = "%" + query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%";
+		return jdbcTemplate.query(LIKE_SEARCH_SQL, HIT_MAPPER, hostUserId, pattern, limit, offset);
+	}
+
+	public boolean isEmpty() {
+		return jdbcTemplate.queryForList("SELECT id FROM search_document LIMIT 1", Long.class).isEmpty();
+	}
+
+	public List<Long> findAllMeetingIds() {
+		return jdbcTemplate.queryForList("SELECT id FROM meeting ORDER BY id", Long.class);
+	}
+
+	public boolean fulltextIndexExists() {
+		Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.statistics "
+				+ "WHERE table_schema = DATABASE() AND table_name = 'search_document' AND index_name = ?",
+				Integer.class, FULLTEXT_INDEX_NAME);
+		return count != null && count > 0;
+	}
+
+	// 한국어는 띄어쓰기 단위로 나누면 조사 때문에 검색이 안 되므로 ngram 파서 사용 (토큰 크기는 서버 ngram_token_size, 기본 2)
+	public void createFulltextIndex() {
+		jdbcTemplate.execute("ALTER TABLE search_document ADD FULLTEXT INDEX " + FULLTEXT_INDEX_NAME
+				+ " (content) WITH PARSER ngram");
+	}
+}
@@ -0,0 +1,271 @@
+package com.dialog.search.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.dialog.meeting.domain.MeetingContentChangedEvent;
+import com.dialog.search.domain.RelatedMeetingDto;
+import com.dialog.search.repository.RelatedMeetingSourceRepository;
+import com.dialog.search.repository.RelatedMeetingSourceRepository.MeetingSource;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+// 비슷한 회의 추천 (Python 서비스 호출 없이 로컬 TF-IDF 코사인 유사도)
+// 회의 결과의 요약 + 안건 + 키워드로 회의별 벡터를 만들어 메모리 인덱스(TfIdfIndex)에 보관하고 주기적으로 디스크에 저장
+// 회의 결과가 저장되면 해당 회의 벡터만 다시 만듦
+@Slf4j
+@Service
+public class RelatedMeetingService {
+
+	private static final int MAX_K = 20;
+	private static final int REBUILD_CHUNK_SIZE = 500;
+
+	// 키워드는 본문 단어보다 주제를 잘 나타내므로 가중치를 높게
+	private static final int KEYWORD_WEIGHT = 3;
+	private static final String KEYWORD_PREFIX = "#";
+
+	// 저장 시각을 이만큼 앞당겨 기록 (변경 커밋과 이벤트 도착 사이에 저장된 경우도 기동 시 다시 읽도록)
+	private static final long SAVE_OVERLAP_MS = 60_000;
+
+	private final RelatedMeetingSourceRepository sourceRepository;
+	private final ThreadPoolTaskExecutor searchIndexExecutor;
+	private final Path indexPath;
+
+	private final TfIdfIndex index = new TfIdfIndex();
+	// 아직 인덱스에 반영하지 않은 회의 ID -> 처음 변경 이벤트를 받은 시각 (epoch ms)
+	private final Map<Long, Long> pendingMeetingIds = new ConcurrentHashMap<>();
+	private final AtomicBoolean dirty = new AtomicBoolean(false);
+	// 전체 재구성 중에는 일부만 채워진 인덱스를 파일로 저장하지 않음
+	private final AtomicBoolean rebuilding = new AtomicBoolean(false);
+	private final Object rebuildLock = new Object();
+
+	public RelatedMeetingService(RelatedMeetingSourceRepository sourceRepository,
+			@Qualifier("searchIndexExecutor") ThreadPoolTaskExecutor searchIndexExecutor,
+			@Value("${search.related.index-path:./data/related-meetings.idx}") String indexPath) {
+		this.sourceRepository = sourceRepository;
+		this.searchIndexExecutor = searchIndexExecutor;
+		this.indexPath = Paths.get(indexPath);
+	}
+
+	// 기동 시 디스크 인덱스를 읽고, 저장 이후 바뀐 회의만 다시 반영 (파일이 없거나 깨졌으면 전체 재구성)
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		if (Files.exists(indexPath)) {
+			try (InputStream in = new BufferedInputStream(Files.newInputStream(indexPath))) {
+				long savedAt = index.readFrom(new DataInputStream(in));
+				LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(savedAt), ZoneId.systemDefault());
+				List<Long> changed = sourceRepository.findResultMeetingIdsUpdatedAfter(since);
+				long now = System.currentTimeMillis();
+				changed.forEach(meetingId -> pendingMeetingIds.putIfAbsent(meetingId, now));
+				log.info("비슷한 회의 인덱스 로드 - 회의 {}건, 이후 변경 {}건", index.size(), changed.size());
+				return;
+			} catch (IOException | RuntimeException e) {
+				log.warn("비슷한 회의 인덱스 파일을 읽을 수 없어 다시 만듭니다: {}", e.getMessage());
+			}
+		}
+		// 전체 재구성은 회의 수에 비례해 오래 걸리므로 기동을 막지 않도록 별도 스레드에서 실행
+		// (그동안 추천은 빈 결과, 재구성 중 들어온 변경은 pending 으로 모였다가 반영됨)
+		searchIndexExecutor.execute(() -> {
+			try {
+				rebuild();
+			} catch (RuntimeException e) {
+				log.error("비슷한 회의 인덱스 재구성 실패", e);
+			}
+		});
+	}
+
+	// 전체 재구성 (기동 시 재구성과 관리자 요청이 겹치지 않도록 직렬화)
+	public int rebuild() {
+		synchronized (rebuildLock) {
+			long start = System.currentTimeMillis();
+			rebuilding.set(true);
+			List<Long> meetingIds;
+			try {
+				meetingIds = sourceRepository.findAllResultMeetingIds();
+				Set<Long> stale = new HashSet<>(index.meetingIds());
+				stale.removeAll(meetingIds);
+				stale.forEach(index::remove);
+
+				for (int from = 0; from < meetingIds.size(); from += REBUILD_CHUNK_SIZE) {
+					refresh(meetingIds.subList(from, Math.min(from + REBUILD_CHUNK_SIZE, meetingIds.size())));
+				}
+			} finally {
+				rebuilding.set(false);
+			}
+			dirty.set(true);
+			saveIfDirty();
+			log.info("비슷한 회의 인덱스 재구성 - 회의 {}건, {}ms", meetingIds.size(), System.currentTimeMillis() - start);
+			return meetingIds.size();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMeetingContentChanged(MeetingContentChangedEvent event) {
+		pendingMeetingIds.putIfAbsent(event.getMeetingId(), System.currentTimeMillis());
+	}
+
+	// 녹음 중 발화 저장처럼 요약과 무관한 변경도 이벤트가 오므로 모아서 한 번에 반영
+	// saveIfDirty 와 같은 잠금 - 저장하는 동안 반영 중이던 회의가 파일에서 빠지지 않도록
+	@Scheduled(fixedDelayString = "${search.related.flush-interval-ms:5000}")
+	public synchronized void flushPending() {
+		if (pendingMeetingIds.isEmpty()) {
+			return;
+		}
+		Map<Long, Long> batch = new HashMap<>(pendingMeetingIds);
+		batch.forEach(pendingMeetingIds::remove);
+		try {
+			refresh(new ArrayList<>(batch.keySet()));
+		} catch (DataAccessException e) {
+			// 다음 주기에 다시 시도 (처음 받은 시각 유지 - 저장 시각 계산에 사용)
+			batch.forEach(pendingMeetingIds::putIfAbsent);
+			log.error("비슷한 회의 인덱스 갱신 실패 - {}건", batch.size(), e);
+		}
+	}
+
+	// 저장 전에 쌓인 변경을 먼저 반영하고, 그래도 남은 변경(갱신 실패 등)이 있으면
+	// 그중 가장 오래된 시각을 저장 시각으로 기록해 기동 시 그 이후 변경을 다시 읽게 함
+	@Scheduled(fixedDelayString = "${search.related.save-interval-ms:60000}")
+	public synchronized void saveIfDirty() {
+		if (rebuilding.get()) {
+			return;
+		}
+		long savedAt = System.currentTimeMillis();
+		flushPending();
+		if (!dirty.getAndSet(false)) {
+			return;
+		}
+		for (Long changedAt : pendingMeetingIds.values()) {
+			savedAt = Math.min(savedAt, changedAt);
+		}
+		savedAt -= SAVE_OVERLAP_MS;
+		try {
+			Files.createDirectories(indexPath.toAbsolutePath().getParent());
+			Path temp = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+			try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+				index.writeTo(new DataOutputStream(out), savedAt);
+			}
+			// 저장 도중 종료되어도 이전 파일이 남도록 임시 파일에 쓴 뒤 교체
+			Files.move(temp, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} catch (IOException e) {
+			dirty.set(true);
+			log.error("비슷한 회의 인덱스 저장 실패 - path: {}", indexPath, e);
+		}
+	}
+
+	@PreDestroy
+	public void saveOnShutdown() {
+		saveIfDirty();
+	}
+
+	// 기준 회의와 비슷한 내 회의 상위 k 개
+	public List<RelatedMeetingDto> findRelated(Long meetingId, Long userId, int k) {
+		int limit = Math.max(1, Math.min(k, MAX_K));
+		List<TfIdfIndex.Scored> scored = index.topK(meetingId, userId, limit);
+		if (scored.isEmpty()) {
+			return List.of();
+		}
+
+		List<Long> ids = scored.stream().map(TfIdfIndex.Scored::meetingId).toList();
+		Map<Long, RelatedMeetingDto> summaries = sourceRepository.findSummaries(ids);
+		List<RelatedMeetingDto> result = new ArrayList<>(scored.size());
+		for (TfIdfIndex.Scored s : scored) {
+			RelatedMeetingDto summary = summaries.get(s.meetingId());
+			if (summary == null) {
+				index.remove(s.meetingId()); // 이미 삭제된 회의
+				dirty.set(true);
+				continue;
+			}
+			result.add(new RelatedMeetingDto(summary.getMeetingId(), summary.getTitle(), summary.getScheduledAt(),
+					s.score()));
+		}
+		return result;
+	}
+
+	private void refresh(List<Long> meetingIds) {
+		Set<Long> found = new HashSet<>();
+		for (MeetingSource source : sourceRepository.findSources(meetingIds)) {
+			index.put(source.meetingId(), source.hostUserId(), termCounts(source));
+			found.add(source.meetingId());
+		}
+		// 회의 또는 회의 결과가 없어진 경우
+		for (Long meetingId : meetingIds) {
+			if (!found.contains(meetingId)) {
+				index.remove(meetingId);
+			}
+		}
+		dirty.set(true);
+	}
+
+	// 요약/안건 단어 빈도 + 키워드
+	// 한글은 조사가 붙어 어절 단위로는 잘 겹치지 않으므로 음절 bigram, 그 외(영문/숫자)는 단어 단위
+	private static Map<String, Integer> termCounts(MeetingSource source) {
+		Map<String, Integer> counts = new HashMap<>();
+		addText(counts, source.summary());
+		addText(counts, source.agenda());
+		for (String keyword : source.keywords()) {
+			if (keyword != null && !keyword.isBlank()) {
+				counts.merge(KEYWORD_PREFIX + keyword.trim().toLowerCase(Locale.ROOT), KEYWORD_WEIGHT, Integer::sum);
+			}
+		}
+		return counts;
+	}
+
+	private static void addText(Map<String, Integer> counts, String text) {
+		if (text == null || text.isBlank()) {
+			return;
+		}
+		for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+			if (token.length() < 2) {
+				continue;
+			}
+			if (containsHangul(token)) {
+				for (int i = 0; i + 2 <= token.length(); i++) {
+					counts.merge(token.substring(i, i + 2), 1, Integer::sum);
+				}
+			} else {
+				counts.merge(token, 1, Integer::sum);
+			}
+		}
+	}
+
+	private static boolean containsHangul(String token) {
+		for (int i = 0; i < token.length(); i++) {
+			if (Character.UnicodeScript.of(token.charAt(i)) == Character.UnicodeScript.HANGUL) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
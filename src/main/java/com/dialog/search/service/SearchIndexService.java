@@ -0,0 +1,134 @@
+package com.dialog.search.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.meeting.domain.MeetingContentChangedEvent;
+import com.dialog.search.repository.SearchDocumentRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 회의 검색 색인 관리
+// 발화/요약이 바뀐 회의 ID 를 모아 두었다가 주기적으로 회의 단위로 색인을 다시 만듦
+// 녹음 중 1초마다 들어오는 발화 저장도 한 번의 색인 갱신으로 합쳐짐
+// 발화 추가만 있었던 회의는 새 발화만 색인에 추가하고, 그 밖의 변경이 하나라도 있으면 회의 전체를 다시 만듦
+@Slf4j
+@Service
+public class SearchIndexService {
+
+	private final SearchDocumentRepository searchDocumentRepository;
+	private final TransactionTemplate transactionTemplate;
+
+	// 색인 전체를 다시 만들어야 하는 회의 ID
+	private final Set<Long> pendingMeetingIds = ConcurrentHashMap.newKeySet();
+
+	// 새 발화만 추가하면 되는 회의 ID (녹음 중 실시간 저장)
+	private final Set<Long> appendedMeetingIds = ConcurrentHashMap.newKeySet();
+
+	// FULLTEXT 인덱스 사용 가능 여부 (만들 수 없는 DB 면 LIKE 검색으로 대체)
+	private volatile boolean fulltextAvailable = false;
+
+	public SearchIndexService(SearchDocumentRepository searchDocumentRepository,
+			PlatformTransactionManager transactionManager) {
+		this.searchDocumentRepository = searchDocumentRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	// 기동 시 FULLTEXT 인덱스 확인/생성, 색인이 비어 있으면 전체 회의 색인 예약
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		try {
+			if (!searchDocumentRepository.fulltextIndexExists()) {
+				searchDocumentRepository.createFulltextIndex();
+				log.info("검색 FULLTEXT 인덱스 생성 완료");
+			}
+			fulltextAvailable = true;
+		} catch (DataAccessException e) {
+			fulltextAvailable = false;
+			log.warn("검색 FULLTEXT 인덱스를 사용할 수 없어 LIKE 검색으로 대체합니다: {}", e.getMessage());
+		}
+
+		if (searchDocumentRepository.isEmpty()) {
+			int count = requestFullReindex();
+			log.info("검색 색인이 비어 있어 전체 회의 색인 예약 - {}건", count);
+		}
+	}
+
+	// 커밋된 변경만 반영 (롤백된 저장은 색인하지 않음)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMeetingContentChanged(MeetingContentChangedEvent event) {
+		if (event.isTranscriptsAppendedOnly()) {
+			appendedMeetingIds.add(event.getMeetingId());
+		} else {
+			pendingMeetingIds.add(event.getMeetingId());
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${search.index.flush-interval-ms:2000}")
+	public void flushPending() {
+		if (pendingMeetingIds.isEmpty() && appendedMeetingIds.isEmpty()) {
+			return;
+		}
+		List<Long> meetingIds = new ArrayList<>(pendingMeetingIds);
+		pendingMeetingIds.removeAll(meetingIds);
+		List<Long> appendedIds = new ArrayList<>(appendedMeetingIds);
+		appendedMeetingIds.removeAll(appendedIds);
+		// 전체를 다시 만드는 회의는 새 발화도 함께 들어가므로 추가 대상에서 뺌
+		appendedIds.removeAll(meetingIds);
+
+		long start = System.currentTimeMillis();
+		int documents = 0;
+		for (Long meetingId : meetingIds) {
+			try {
+				documents += reindexMeeting(meetingId);
+			} catch (DataAccessException e) {
+				log.error("회의 검색 색인 실패 - meetingId: {}", meetingId, e);
+			}
+		}
+		for (Long meetingId : appendedIds) {
+			try {
+				Integer inserted = transactionTemplate
+						.execute(status -> searchDocumentRepository.appendTranscripts(meetingId));
+				documents += inserted != null ? inserted : 0;
+			} catch (DataAccessException e) {
+				// 다음 주기에 다시 시도 (추가분은 마지막 색인 발화 ID 기준이라 빠지거나 겹치지 않음)
+				appendedMeetingIds.add(meetingId);
+				log.error("회의 검색 색인 발화 추가 실패 - meetingId: {}", meetingId, e);
+			}
+		}
+		log.debug("검색 색인 갱신 - 회의 {}건, 발화 추가 {}건, 문서 {}건, {}ms", meetingIds.size(), appendedIds.size(),
+				documents, System.currentTimeMillis() - start);
+	}
+
+	// 회의 하나를 즉시 다시 색인
+	public int reindexMeeting(Long meetingId) {
+		Integer inserted = transactionTemplate.execute(status -> searchDocumentRepository.replaceMeeting(meetingId));
+		return inserted != null ? inserted : 0;
+	}
+
+	// 전체 회의를 색인 대기열에 넣음 (관리자 수동 재색인, 최초 기동)
+	public int requestFullReindex() {
+		List<Long> meetingIds = searchDocumentRepository.findAllMeetingIds();
+		pendingMeetingIds.addAll(meetingIds);
+		return meetingIds.size();
+	}
+
+	public int getPendingCount() {
+		return pendingMeetingIds.size() + appendedMeetingIds.size();
+	}
+
+	public boolean isFulltextAvailable() {
+		return fulltextAvailable;
+	}
+}
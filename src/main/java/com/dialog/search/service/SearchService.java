@@ -0,0 +1,111 @@
+package com.dialog.search.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+
+import com.dialog.search.domain.SearchHitDto;
+import com.dialog.search.repository.SearchDocumentRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// 회의 전체 검색 (발화 + 요약/안건)
+// 로그인한 사용자가 호스트인 회의만 검색됨
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+	private static final int MIN_QUERY_LENGTH = 2; // MySQL ngram 기본 토큰 크기
+	private static final int MAX_QUERY_LENGTH = 100;
+	private static final int MAX_PAGE_SIZE = 50;
+
+	// 이보다 긴 본문(요약 등)은 첫 일치 구간 주변만 잘라서 반환
+	private static final int SNIPPET_MAX_LENGTH = 200;
+	private static final int SNIPPET_CONTEXT = 60;
+
+	private final SearchDocumentRepository searchDocumentRepository;
+	private final SearchIndexService searchIndexService;
+
+	public List<SearchHitDto> search(Long userId, String query, int page, int size) {
+		String normalized = query == null ? "" : query.trim().replaceAll("\\s+", " ");
+		if (normalized.length() < MIN_QUERY_LENGTH) {
+			throw new IllegalArgumentException("검색어는 " + MIN_QUERY_LENGTH + "자 이상 입력해주세요.");
+		}
+		if (normalized.length() > MAX_QUERY_LENGTH) {
+			throw new IllegalArgumentException("검색어는 " + MAX_QUERY_LENGTH + "자를 넘을 수 없습니다.");
+		}
+		int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+		int offset = Math.max(0, page) * limit;
+
+		List<SearchHitDto> hits = searchIndexService.isFulltextAvailable()
+				? searchDocumentRepository.searchFulltext(userId, normalized, limit, offset)
+				: searchDocumentRepository.searchLike(userId, normalized, limit, offset);
+
+		List<String> terms = terms(normalized);
+		for (SearchHitDto hit : hits) {
+			applySnippet(hit, terms);
+		}
+		return hits;
+	}
+
+	// 검색어를 공백 기준으로 나눈 소문자 단어 목록 (긴 단어부터 - 겹치는 구간은 긴 단어 우선)
+	private List<String> terms(String query) {
+		Set<String> terms = new LinkedHashSet<>();
+		for (String term : query.toLowerCase(Locale.ROOT).split(" ")) {
+			if (!term.isEmpty()) {
+				terms.add(term);
+			}
+		}
+		List<String> sorted = new ArrayList<>(terms);
+		sorted.sort((a, b) -> b.length() - a.length());
+		return sorted;
+	}
+
+	// 본문에서 검색어 위치를 찾아 highlight 로 채우고, 긴 본문은 첫 일치 구간 주변으로 자름
+	private void applySnippet(SearchHitDto hit, List<String> terms) {
+		String content = hit.getSnippet() == null ? "" : hit.getSnippet();
+		List<int[]> ranges = findRanges(content.toLowerCase(Locale.ROOT), terms);
+
+		int from = 0;
+		int to = content.length();
+		if (content.length() > SNIPPET_MAX_LENGTH) {
+			int anchor = ranges.isEmpty() ? 0 : ranges.get(0)[0];
+			from = Math.max(0, anchor - SNIPPET_CONTEXT);
+			to = Math.min(content.length(), from + SNIPPET_MAX_LENGTH);
+		}
+
+		List<SearchHitDto.Highlight> highlights = new ArrayList<>();
+		for (int[] range : ranges) {
+			if (range[0] >= from && range[1] <= to) {
+				highlights.add(new SearchHitDto.Highlight(range[0] - from, range[1] - from));
+			}
+		}
+		hit.setSnippet(content.substring(from, to));
+		hit.setHighlights(highlights);
+	}
+
+	// 겹치지 않는 일치 구간 목록 (시작 위치 순)
+	private List<int[]> findRanges(String lowerContent, List<String> terms) {
+		boolean[] covered = new boolean[lowerContent.length()];
+		List<int[]> ranges = new ArrayList<>();
+		for (String term : terms) {
+			int idx = lowerContent.indexOf(term);
+			while (idx >= 0) {
+				int end = idx + term.length();
+				if (!covered[idx] && !covered[end - 1]) {
+					for (int i = idx; i < end; i++) {
+						covered[i] = true;
+					}
+					ranges.add(new int[] { idx, end });
+				}
+				idx = lowerContent.indexOf(term, end);
+			}
+		}
+		ranges.sort((a, b) -> Integer.compare(a[0], b[0]));
+		return ranges;
+	}
+}
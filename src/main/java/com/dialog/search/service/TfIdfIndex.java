@@ -0,0 +1,300 @@
+package com.dialog.search.service;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 회의별 희소 TF-IDF 벡터 인덱스 (메모리)
+// 단어는 정수 ID 로 바꾸고, 회의 벡터는 단어 ID 오름차순 int[] + 로그 TF float[] 로만 보관
+// IDF 는 문서 빈도(df) 배열로 조회 시점에 계산하므로 회의 하나가 바뀌어도 다른 벡터를 다시 계산할 필요 없음
+// 읽기(추천 조회)는 동시에, 쓰기(회의 갱신)는 하나씩
+class TfIdfIndex {
+
+	private static final int FILE_MAGIC = 0x44544649; // "DTFI"
+	private static final int FILE_VERSION = 1;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<String, Integer> termIds = new HashMap<>();
+	private final List<String> terms = new ArrayList<>();
+	private int[] documentFrequency = new int[1024];
+
+	private final Map<Long, Entry> entries = new HashMap<>();
+	private final Map<Long, Set<Long>> meetingIdsByUser = new HashMap<>();
+
+	private static final class Entry {
+		final long meetingId;
+		final long hostUserId;
+		final int[] termIds;   // 오름차순
+		final float[] weights; // 1 + ln(tf)
+
+		Entry(long meetingId, long hostUserId, int[] termIds, float[] weights) {
+			this.meetingId = meetingId;
+			this.hostUserId = hostUserId;
+			this.termIds = termIds;
+			this.weights = weights;
+		}
+	}
+
+	// 유사도 조회 결과 (회의 ID, 코사인 유사도)
+	record Scored(long meetingId, double score) {
+	}
+
+	// 회의 벡터 추가/교체 (단어 빈도가 비어 있으면 제거)
+	void put(long meetingId, long hostUserId, Map<String, Integer> termCounts) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(meetingId);
+			if (termCounts.isEmpty()) {
+				return;
+			}
+			int[] ids = new int[termCounts.size()];
+			int i = 0;
+			for (String term : termCounts.keySet()) {
+				ids[i++] = termId(term);
+			}
+			Arrays.sort(ids);
+			float[] weights = new float[ids.length];
+			for (int j = 0; j < ids.length; j++) {
+				weights[j] = (float) (1 + Math.log(termCounts.get(terms.get(ids[j]))));
+				documentFrequency[ids[j]]++;
+			}
+			entries.put(meetingId, new Entry(meetingId, hostUserId, ids, weights));
+			meetingIdsByUser.computeIfAbsent(hostUserId, k -> new HashSet<>()).add(meetingId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	void remove(long meetingId) {
+		lock.writeLock().lock();
+		try {
+			removeInternal(meetingId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 같은 사용자의 다른 회의 중 코사인 유사도 상위 k 개 (기준 회의가 없거나 다른 사용자 회의면 빈 목록)
+	List<Scored> topK(long meetingId, long userId, int k) {
+		lock.readLock().lock();
+		try {
+			Entry target = entries.get(meetingId);
+			if (target == null || target.hostUserId != userId) {
+				return List.of();
+			}
+			double n = entries.size();
+			float[] targetWeights = tfIdf(target, n);
+			double targetNorm = norm(targetWeights);
+			if (targetNorm == 0) {
+				return List.of();
+			}
+
+			PriorityQueue<Scored> heap = new PriorityQueue<>(k + 1, (a, b) -> Double.compare(a.score(), b.score()));
+			for (Long candidateId : meetingIdsByUser.getOrDefault(userId, Set.of())) {
+				if (candidateId == meetingId) {
+					continue;
+				}
+				Entry candidate = entries.get(candidateId);
+				float[] candidateWeights = tfIdf(candidate, n);
+				double dot = dot(target.termIds, targetWeights, candidate.termIds, candidateWeights);
+				if (dot <= 0) {
+					continue;
+				}
+				double score = dot / (targetNorm * norm(candidateWeights));
+				heap.offer(new Scored(candidateId, score));
+				if (heap.size() > k) {
+					heap.poll();
+				}
+			}
+			List<Scored> result = new ArrayList<>(heap);
+			result.sort((a, b) -> Double.compare(b.score(), a.score()));
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	boolean contains(long meetingId) {
+		lock.readLock().lock();
+		try {
+			return entries.containsKey(meetingId);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	int size() {
+		lock.readLock().lock();
+		try {
+			return entries.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 디스크 저장 - 현재 쓰이는 단어(df > 0)만 새 ID 로 다시 매겨 저장하므로 파일이 쌓인 단어로 커지지 않음
+	void writeTo(DataOutputStream out, long savedAtMillis) throws IOException {
+		lock.readLock().lock();
+		try {
+			int[] remap = new int[terms.size()];
+			Arrays.fill(remap, -1);
+			List<String> used = new ArrayList<>();
+			for (int id = 0; id < terms.size(); id++) {
+				if (documentFrequency[id] > 0) {
+					remap[id] = used.size();
+					used.add(terms.get(id));
+				}
+			}
+
+			out.writeInt(FILE_MAGIC);
+			out.writeInt(FILE_VERSION);
+			out.writeLong(savedAtMillis);
+			out.writeInt(used.size());
+			for (String term : used) {
+				out.writeUTF(term);
+			}
+			out.writeInt(entries.size());
+			for (Entry entry : entries.values()) {
+				out.writeLong(entry.meetingId);
+				out.writeLong(entry.hostUserId);
+				out.writeInt(entry.termIds.length);
+				for (int j = 0; j < entry.termIds.length; j++) {
+					out.writeInt(remap[entry.termIds[j]]);
+					out.writeFloat(entry.weights[j]);
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 디스크에서 읽어 현재 내용을 교체, 반환값은 저장 시각 (형식이 다르면 IOException)
+	long readFrom(DataInputStream in) throws IOException {
+		if (in.readInt() != FILE_MAGIC || in.readInt() != FILE_VERSION) {
+			throw new IOException("지원하지 않는 인덱스 파일 형식입니다.");
+		}
+		long savedAt = in.readLong();
+		int termCount = in.readInt();
+		List<String> fileTerms = new ArrayList<>(termCount);
+		for (int i = 0; i < termCount; i++) {
+			fileTerms.add(in.readUTF());
+		}
+
+		lock.writeLock().lock();
+		try {
+			termIds.clear();
+			terms.clear();
+			documentFrequency = new int[Math.max(1024, termCount)];
+			entries.clear();
+			meetingIdsByUser.clear();
+			for (String term : fileTerms) {
+				termId(term);
+			}
+
+			int entryCount = in.readInt();
+			for (int i = 0; i < entryCount; i++) {
+				long meetingId = in.readLong();
+				long hostUserId = in.readLong();
+				int length = in.readInt();
+				int[] ids = new int[length];
+				float[] weights = new float[length];
+				for (int j = 0; j < length; j++) {
+					ids[j] = in.readInt();
+					weights[j] = in.readFloat();
+					documentFrequency[ids[j]]++;
+				}
+				entries.put(meetingId, new Entry(meetingId, hostUserId, ids, weights));
+				meetingIdsByUser.computeIfAbsent(hostUserId, k -> new HashSet<>()).add(meetingId);
+			}
+			return savedAt;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	Set<Long> meetingIds() {
+		lock.readLock().lock();
+		try {
+			return Collections.unmodifiableSet(new HashSet<>(entries.keySet()));
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private void removeInternal(long meetingId) {
+		Entry old = entries.remove(meetingId);
+		if (old == null) {
+			return;
+		}
+		for (int id : old.termIds) {
+			documentFrequency[id]--;
+		}
+		Set<Long> userMeetings = meetingIdsByUser.get(old.hostUserId);
+		if (userMeetings != null) {
+			userMeetings.remove(meetingId);
+			if (userMeetings.isEmpty()) {
+				meetingIdsByUser.remove(old.hostUserId);
+			}
+		}
+	}
+
+	private int termId(String term) {
+		Integer id = termIds.get(term);
+		if (id != null) {
+			return id;
+		}
+		int newId = terms.size();
+		terms.add(term);
+		termIds.put(term, newId);
+		if (newId >= documentFrequency.length) {
+			documentFrequency = Arrays.copyOf(documentFrequency, documentFrequency.length * 2);
+		}
+		return newId;
+	}
+
+	// TF * IDF (smooth idf = ln((1 + N) / (1 + df)) + 1)
+	private float[] tfIdf(Entry entry, double n) {
+		float[] result = new float[entry.termIds.length];
+		for (int j = 0; j < result.length; j++) {
+			double idf = Math.log((1 + n) / (1 + documentFrequency[entry.termIds[j]])) + 1;
+			result[j] = (float) (entry.weights[j] * idf);
+		}
+		return result;
+	}
+
+	private static double norm(float[] weights) {
+		double sum = 0;
+		for (float w : weights) {
+			sum += (double) w * w;
+		}
+		return Math.sqrt(sum);
+	}
+
+	// 정렬된 두 희소 벡터의 내적 (병합 순회)
+	private static double dot(int[] aIds, float[] aWeights, int[] bIds, float[] bWeights) {
+		double sum = 0;
+		int i = 0;
+		int j = 0;
+		while (i < aIds.length && j < bIds.length) {
+			if (aIds[i] == bIds[j]) {
+				sum += (double) aWeights[i++] * bWeights[j++];
+			} else if (aIds[i] < bIds[j]) {
+				i++;
+			} else {
+				j++;
+			}
+		}
+		return sum;
+	}
+}
@@ -20,6 +20,7 @@ import com.dialog.security.oauth2.OAuth2AuthenticationFailurHandler;
 import com.dialog.security.oauth2.OAuth2AuthenticationSuccessHandler;
 import com.dialog.user.service.CustomOAuth2UserService;
 
+import jakarta.servlet.DispatcherType;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -67,6 +68,10 @@ public class SecurityConfig {
             
             // 5. 권한 설정: 지정된 URL만 무인증 접근 가능, 기타는 인증 필요
            .authorizeHttpRequests(auth -> auth
+               // 비동기 응답(Mono/Flux, SSE, 관리자 회의/사용자 내보내기 StreamingResponseBody)의 ASYNC 디스패치는
+               // 최초 요청에서 이미 인가됨 (JWT 필터는 ASYNC 디스패치에서 다시 실행되지 않으므로 여기서 막으면 응답이 403 으로 끝남)
+               // 스트리밍 도중 실패해 /error 로 넘어가는 ERROR 디스패치도 같은 이유로 403 대신 원래 오류를 보여주도록 허용
+               .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
     		   .requestMatchers("/api/auth/signup", "/api/auth/login", "/api/auth/me", "/api/reissue", 
     				   "/api/auth/forgotPassword", "/api/auth/resetPassword").permitAll()
     		   // 추후 스프링 내부에서 css, js, images 사용시 주석 해제후 사용
@@ -145,6 +150,8 @@ public class SecurityConfig {
         ));
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS", "PATCH"));
         configuration.setAllowedHeaders(Arrays.asList("*"));
+        // 캘린더 조회 부분 응답 여부를 프론트에서 읽을 수 있도록 노출
+        configuration.setExposedHeaders(Arrays.asList("X-Calendar-Partial"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
         
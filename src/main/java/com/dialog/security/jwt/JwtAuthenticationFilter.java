@@ -57,9 +57,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // 3. 토큰이 존재하고, 유효한 경우
         if (token != null) {
             try {
-                // 예외 발생 시 catch로 넘어감, 성공하면 인증객체 생성
-                jwtTokenProvider.validateTokenOrThrow(token);
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+                // 한 번의 파싱으로 검증 + 인증객체 생성 (예외 발생 시 catch로 넘어감)
+                Authentication authentication = jwtTokenProvider.authenticate(token);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
             } catch (InvalidJwtTokenException e) {
                 log.error("JWT 인증 실패: {}", e.getMessage());
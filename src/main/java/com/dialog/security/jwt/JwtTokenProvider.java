@@ -3,6 +3,7 @@ package com.dialog.security.jwt;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import javax.crypto.SecretKey;
@@ -12,18 +13,19 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
 import com.dialog.exception.InvalidJwtTokenException;
 import com.dialog.security.oauth2.CustomOAuth2User;
+import com.dialog.token.service.AccessTokenRevocationService;
 import com.dialog.user.domain.MeetUser;
+import com.dialog.user.service.CustomUserDetails;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
-
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -41,16 +43,25 @@ public class JwtTokenProvider {
     private final SecretKey key;
     private final long validityInMilliseconds;
     private final UserDetailsService userDetailsService;
+    private final AccessTokenRevocationService accessTokenRevocationService;
+    // 서명 검증용 파서 (불변 객체라 한 번 만들어 재사용)
+    private final JwtParser jwtParser;
+
+    // 토큰에 담는 사용자 식별 클레임 (필터가 DB 조회 없이 인증 객체를 만들 때 사용)
+    private static final String CLAIM_USER_ID = "uid";
     
     // 생성자에서 시크릿키, 만료시간 설정해 멤버변수에 저장
     public JwtTokenProvider(@Value("${jwt.secret:DefaultSecretKeyDefaultSecretKeyDefaultSecretKeyDefaultSecretKey}") String secretKey,
                             @Value("${jwt.expiration:3600000}") long validityInMilliseconds,
-                            UserDetailsService userDetailsService) {
+                            UserDetailsService userDetailsService,
+                            AccessTokenRevocationService accessTokenRevocationService) {
         // 시크릿키 base64 → 바이트 배열 → HMAC-SHA용 SecretKey 객체 생성
         byte[] keyBytes = Decoders.BASE64.decode(secretKey);
         this.key = Keys.hmacShaKeyFor(keyBytes);
         this.validityInMilliseconds = validityInMilliseconds;
         this.userDetailsService = userDetailsService;
+        this.accessTokenRevocationService = accessTokenRevocationService;
+        this.jwtParser = Jwts.parser().verifyWith(key).build();
     }
 
     // JWT 토큰 발급 메서드: 인증객체 받으면 토큰 생성하여 반환
@@ -66,10 +77,18 @@ public class JwtTokenProvider {
         Object principal = authentication.getPrincipal();
         String name = "";
         String email = "";
+        Long userId = null;
 
         if (principal instanceof CustomOAuth2User) {
             name = ((CustomOAuth2User) principal).getname();
             email = ((CustomOAuth2User) principal).getEmail();
+            if (((CustomOAuth2User) principal).getMeetuser() != null) {
+                userId = ((CustomOAuth2User) principal).getMeetuser().getId();
+            }
+        } else if (principal instanceof CustomUserDetails) {
+            name = ((CustomUserDetails) principal).getName();
+            email = ((CustomUserDetails) principal).getUsername();
+            userId = ((CustomUserDetails) principal).getId();
         } else if (principal instanceof UserDetails) {
             name = ((UserDetails) principal).getUsername();
             email = ((UserDetails) principal).getUsername();
@@ -85,6 +104,9 @@ public class JwtTokenProvider {
                 .claim("auth", authorities)    // roles/권한 목록을 claim에 저장
                 .claim("name", name)            // 사용자 이름을 claim에 저장
                 .claim("email", email)          // 사용자 이메일을 claim에 저장
+                .claim(CLAIM_USER_ID, userId)   // 사용자 ID (없으면 클레임 생략)
+                .id(UUID.randomUUID().toString()) // jti - 로그아웃 시 폐기 목록 키
+                .issuedAt(new Date(now))        // iat - 사용자 단위 폐기 기준 시각과 비교
                 .signWith(key)                  // 서명에 SecretKey 사용
                 .expiration(validity)           // 만료시간 지정
                 .compact();
@@ -103,55 +125,92 @@ public class JwtTokenProvider {
                 .claim("auth", authorities)     // roles/권한 목록을 claim에 저장
                 .claim("name", user.getName())  // 사용자 이름을 claim에 저장
                 .claim("email", user.getEmail())// 사용자 이메일을 claim에 저장
+                .claim(CLAIM_USER_ID, user.getId()) // 사용자 ID
+                .id(UUID.randomUUID().toString()) // jti
+                .issuedAt(new Date(now))        // iat
                 .signWith(key)
                 .expiration(validity)
                 .compact();
     }
-    // JWT 토큰을 파싱해서 인증객체(Authentication)로 복원하는 메서드
-    public Authentication getAuthentication(String token) {
-        try {
-            Claims claims = Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
-
-            Collection<? extends GrantedAuthority> authorities;
-            Object authClaim = claims.get("auth");
-            if (authClaim != null) {
-                authorities = Arrays.stream(authClaim.toString().split(","))
-                    .map(SimpleGrantedAuthority::new)
-                    .collect(Collectors.toList());
-            } else {
-                authorities = Arrays.asList(new SimpleGrantedAuthority("ROLE_USER"));
-            }
+    // JWT 토큰을 한 번만 파싱/검증해서 인증객체(Authentication)로 복원하는 메서드
+    // 사용자 ID/이름/권한은 토큰 클레임에서 가져오므로 DB 를 조회하지 않음
+    public Authentication authenticate(String token) {
+        Claims claims = parseClaimsOrThrow(token);
+        // 로그아웃으로 폐기된 토큰 (메모리 확인만, DB 조회 없음)
+        if (accessTokenRevocationService.isRevoked(claims.getId())) {
+            throw new InvalidJwtTokenException("폐기된 토큰입니다.");
+        }
 
-            String username = claims.getSubject();
-            UserDetails principal = userDetailsService.loadUserByUsername(username);
+        Collection<? extends GrantedAuthority> authorities;
+        Object authClaim = claims.get("auth");
+        if (authClaim != null && !authClaim.toString().isBlank()) {
+            authorities = Arrays.stream(authClaim.toString().split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toList());
+        } else {
+            authorities = Arrays.asList(new SimpleGrantedAuthority("ROLE_USER"));
+        }
 
-            log.info("인증 정보 생성 완료");
+        String username = claims.getSubject();
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
 
-            return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        // 삭제/비활성화/권한 변경된 사용자의 기존 토큰 (메모리 확인만, DB 조회 없음)
+        if (userId != null && accessTokenRevocationService.isRevokedForUser(userId.longValue(), issuedAtOf(claims))) {
+            throw new InvalidJwtTokenException("더 이상 유효하지 않은 사용자 토큰입니다.");
+        }
 
-        } catch (Exception e) {
-            log.error("JWT 인증 정보 추출 중 오류 발생: " + e.getMessage(), e);
-            throw new InvalidJwtTokenException("유효하지 않은 JWT 토큰입니다.", e);
+        UserDetails principal;
+        if (userId != null) {
+            principal = CustomUserDetails.fromClaims(userId.longValue(), username, claims.get("name", String.class),
+                    authorities);
+        } else {
+            // uid 클레임이 없는 이전 형식 토큰 - 만료(최대 jwt.expiration)될 때까지만 DB 에서 사용자 조회
+            log.debug("uid 클레임이 없는 토큰이라 사용자 정보를 조회합니다: {}", username);
+            try {
+                principal = userDetailsService.loadUserByUsername(username);
+            } catch (Exception e) {
+                throw new InvalidJwtTokenException("토큰의 사용자를 찾을 수 없습니다.", e);
+            }
+            if (principal instanceof CustomUserDetails details && details.getMeetUser() != null
+                    && !details.getMeetUser().isActive()) {
+                throw new InvalidJwtTokenException("비활성화된 사용자입니다.");
+            }
+        }
+
+        log.debug("인증 정보 생성 완료");
+        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    }
+
+    // 액세스 토큰 폐기 (로그아웃) - 남은 유효기간 동안 이 토큰으로는 인증되지 않음
+    public void revoke(String token) {
+        Claims claims;
+        try {
+            claims = parseClaimsOrThrow(token);
+        } catch (InvalidJwtTokenException e) {
+            return; // 이미 만료되었거나 유효하지 않은 토큰은 폐기할 필요 없음
+        }
+        Number userId = claims.get(CLAIM_USER_ID, Number.class);
+        accessTokenRevocationService.revoke(claims.getId(), userId != null ? userId.longValue() : null,
+                claims.getExpiration());
+    }
+
+    // 발급 시각 (iat 가 없는 이전 형식 토큰은 만료 시각 - 유효기간으로 추정)
+    private Date issuedAtOf(Claims claims) {
+        Date issuedAt = claims.getIssuedAt();
+        if (issuedAt == null && claims.getExpiration() != null) {
+            issuedAt = new Date(claims.getExpiration().getTime() - validityInMilliseconds);
         }
+        return issuedAt;
     }
 
-    // JWT 유효성 검사 메서드 (서명/만료 등 체크)
-    public void validateTokenOrThrow(String token) {
+    // JWT 파싱 + 유효성 검사 (서명/만료 등 체크), 실패 사유별로 InvalidJwtTokenException 변환
+    private Claims parseClaimsOrThrow(String token) {
         if (token == null || token.trim().isEmpty()) {
-            log.info("토큰이 null이거나 비어있습니다.");
+            log.debug("토큰이 null이거나 비어있습니다.");
             throw new InvalidJwtTokenException("토큰이 비어있거나 없습니다.");
         }
         try {
-            // JWT 파서에 서명키 등록 → 파싱 및 검증
-            Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token);
-            log.info("JWT 토큰 검증 성공!");
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (SignatureException e) {
             log.warn("JWT 서명 검증 실패: " + e.getMessage());
             throw new InvalidJwtTokenException("JWT 서명 검증 실패", e);
@@ -162,7 +221,7 @@ public class JwtTokenProvider {
             log.warn("JWT 디코딩 실패: " + e.getMessage());
             throw new InvalidJwtTokenException("JWT 디코딩 실패", e);
         } catch (ExpiredJwtException e) {
-            log.info("만료된 토큰이니 재발급이 필요합니다. : " + e.getMessage());
+            log.debug("만료된 토큰이니 재발급이 필요합니다. : " + e.getMessage());
             throw new InvalidJwtTokenException("만료된 토큰입니다.", e);
         } catch (UnsupportedJwtException e) {
             log.info("지원하지 않는 JWT 토큰입니다. : " + e.getMessage());
@@ -175,4 +234,4 @@ public class JwtTokenProvider {
             throw new InvalidJwtTokenException("알 수 없는 오류가 발생했습니다.", e);
         }
     }
-}
\ No newline at end of file
+}
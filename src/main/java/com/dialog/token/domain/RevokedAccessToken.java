@@ -0,0 +1,49 @@
+package com.dialog.token.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 로그아웃 등으로 폐기된 액세스 토큰 (JWT jti 기준)
+// 토큰 만료 시각이 지나면 더 이상 확인할 필요가 없으므로 정리 대상
+// 서버 재시작 / 다른 서버 인스턴스는 revoked_at 기준 폴링으로 이 테이블을 읽어 메모리에 반영
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "revoked_access_token", indexes = {
+		@Index(name = "idx_revoked_token_revoked_at", columnList = "revoked_at"),
+		@Index(name = "idx_revoked_token_expires", columnList = "expires_at") })
+public class RevokedAccessToken {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(nullable = false, unique = true, length = 64)
+	private String jti; // JWT ID
+
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(name = "expires_at", nullable = false)
+	private LocalDateTime expiresAt; // 원래 토큰의 만료 시각
+
+	@Column(name = "revoked_at", nullable = false)
+	private LocalDateTime revokedAt;
+
+	public RevokedAccessToken(String jti, Long userId, LocalDateTime expiresAt, LocalDateTime revokedAt) {
+		this.jti = jti;
+		this.userId = userId;
+		this.expiresAt = expiresAt;
+		this.revokedAt = revokedAt;
+	}
+}
@@ -0,0 +1,14 @@
+package com.dialog.token.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 소셜 토큰(연동)이 새로 저장되거나 삭제되었을 때 발행하는 이벤트
+// 액세스 토큰을 메모리에 캐싱하는 SocialTokenService 가 구독해서 해당 항목을 비움
+@Getter
+@RequiredArgsConstructor
+public class SocialTokenChangedEvent {
+
+	private final Long userId;
+	private final String provider;
+}
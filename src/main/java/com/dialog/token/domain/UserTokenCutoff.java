@@ -0,0 +1,39 @@
+package com.dialog.token.domain;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자별 액세스 토큰 일괄 폐기 기준 시각
+// 삭제/비활성화/권한 변경/비밀번호 변경 시 이 시각 이전에 발급(iat)된 토큰은 모두 거절
+// 사용자당 한 행만 두고 다시 폐기하면 시각만 갱신, 다른 서버 인스턴스는 updated_at 기준 폴링으로 반영
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "user_token_cutoff", indexes = {
+		@Index(name = "idx_user_token_cutoff_updated_at", columnList = "updated_at") })
+public class UserTokenCutoff {
+
+	@Id
+	@Column(name = "user_id")
+	private Long userId;
+
+	@Column(name = "cutoff_at", nullable = false)
+	private LocalDateTime cutoffAt;
+
+	@Column(name = "updated_at", nullable = false)
+	private LocalDateTime updatedAt;
+
+	public UserTokenCutoff(Long userId, LocalDateTime cutoffAt) {
+		this.userId = userId;
+		this.cutoffAt = cutoffAt;
+		this.updatedAt = cutoffAt;
+	}
+}
@@ -5,6 +5,9 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.dialog.token.domain.RefreshToken;
@@ -25,6 +28,16 @@ public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long
 	void deleteByUser(MeetUser user);
 
 	void deleteByUserEmail(String email);
+
+	// 만료된 토큰을 최대 limit 건만 삭제 (정리 작업용 - 한 번에 지우는 행 수를 제한해 잠금 시간을 짧게)
+	@Modifying
+	@Transactional
+	@Query(value = "DELETE FROM refresh_token WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+	int deleteExpiredChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	// 아직 지워지지 않은 만료 토큰 중 가장 오래된 만료 시각 (정리 지연 확인용)
+	@Query("SELECT MIN(t.expiresAt) FROM RefreshToken t WHERE t.expiresAt < :now")
+	LocalDateTime findOldestExpiredAt(@Param("now") LocalDateTime now);
     
     
 }
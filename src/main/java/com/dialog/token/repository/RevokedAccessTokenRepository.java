@@ -0,0 +1,27 @@
+package com.dialog.token.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dialog.token.domain.RevokedAccessToken;
+
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, Long> {
+
+	// since 이후 폐기되었고 아직 만료되지 않은 토큰 (기동 시 전체 적재 / 주기 폴링)
+	List<RevokedAccessToken> findByRevokedAtGreaterThanEqualAndExpiresAtAfter(LocalDateTime since, LocalDateTime now);
+
+	// 원래 토큰까지 만료된 폐기 기록을 최대 limit 건만 삭제 (정리 작업용)
+	@Modifying
+	@Transactional
+	@Query(value = "DELETE FROM revoked_access_token WHERE expires_at < :now LIMIT :limit", nativeQuery = true)
+	int deleteExpiredChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	@Query("SELECT MIN(t.expiresAt) FROM RevokedAccessToken t WHERE t.expiresAt < :now")
+	LocalDateTime findOldestExpiredAt(@Param("now") LocalDateTime now);
+}
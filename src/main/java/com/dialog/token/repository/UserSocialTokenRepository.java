@@ -1,8 +1,14 @@
 package com.dialog.token.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.dialog.token.domain.UserSocialToken;
 import com.dialog.user.domain.MeetUser;
@@ -12,4 +18,10 @@ public interface UserSocialTokenRepository extends JpaRepository<UserSocialToken
     Optional<UserSocialToken> findByUser_IdAndProvider(Long userId, String provider);
 
     Optional<UserSocialToken> findByRefreshToken(String refreshToken);    
+
+    // 곧 만료되는 토큰 (만료가 가까운 순) - 백그라운드 선갱신 대상
+    @Query("SELECT t FROM UserSocialToken t WHERE t.provider = :provider AND t.refreshToken IS NOT NULL "
+            + "AND t.expiresAt <= :until AND t.user.id IN :userIds ORDER BY t.expiresAt ASC")
+    List<UserSocialToken> findExpiringBefore(@Param("provider") String provider, @Param("until") LocalDateTime until,
+            @Param("userIds") Collection<Long> userIds, Pageable pageable);
 }
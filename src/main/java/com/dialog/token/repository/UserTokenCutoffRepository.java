@@ -0,0 +1,14 @@
+package com.dialog.token.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.dialog.token.domain.UserTokenCutoff;
+
+public interface UserTokenCutoffRepository extends JpaRepository<UserTokenCutoff, Long> {
+
+	// since 이후 갱신되었고, 그 기준 이전에 발급된 토큰이 아직 살아 있을 수 있는 행 (기동 시 전체 적재 / 주기 폴링)
+	List<UserTokenCutoff> findByUpdatedAtGreaterThanEqualAndCutoffAtAfter(LocalDateTime since, LocalDateTime minCutoff);
+}
@@ -0,0 +1,217 @@
+package com.dialog.token.service;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.dialog.global.utill.BloomFilter;
+import com.dialog.token.domain.RevokedAccessToken;
+import com.dialog.token.domain.UserTokenCutoff;
+import com.dialog.token.repository.RevokedAccessTokenRepository;
+import com.dialog.token.repository.UserTokenCutoffRepository;
+import com.dialog.user.domain.UserChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 액세스 토큰(JWT) 폐기 목록
+// 로그아웃한 토큰의 jti 를 토큰 만료 시각까지 보관하고, JWT 필터가 요청마다 메모리에서만 확인
+// - 블룸 필터로 먼저 걸러서 대부분의 요청(폐기되지 않은 토큰)은 해시 몇 번으로 끝남
+// - 필터가 "있을 수도 있음" 이라고 할 때만 jti -> 만료 시각 맵을 확인
+// - revoked_access_token 테이블에 저장해 재시작 후에도 유지하고, 다른 서버 인스턴스는 주기 폴링으로 반영
+// 사용자 단위 폐기(삭제/비활성화/권한 변경)는 사용자 ID -> 기준 시각 맵으로 확인하고, 그 이전에 발급된 토큰을 거절
+@Slf4j
+@Service
+public class AccessTokenRevocationService {
+
+	private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+	private final UserTokenCutoffRepository userTokenCutoffRepository;
+	// 액세스 토큰 유효기간 - 기준 시각이 이보다 오래되면 그 이전 토큰은 이미 만료되었으므로 정리
+	private final long tokenValidityMs;
+	// 커밋 후 이벤트 리스너에서도 저장되도록 항상 새 트랜잭션
+	private final TransactionTemplate writeTransaction;
+
+	// 블룸 필터 크기 기준 (폐기 토큰 수가 이를 넘으면 두 배 크기로 다시 만듦)
+	private final int expectedInsertions;
+	private final double falsePositiveRate;
+	// 폴링 시 이전 폴링 시각보다 이만큼 앞에서부터 다시 읽음 (서버 간 시계 차이 / 늦게 커밋된 저장 보정)
+	private final long pollOverlapMs;
+
+	// jti -> 토큰 만료 시각 (epoch ms)
+	private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+	// 사용자 ID -> 이 시각(epoch ms) 이전에 발급된 토큰은 거절
+	private final Map<Long, Long> userCutoffs = new ConcurrentHashMap<>();
+	private volatile BloomFilter filter;
+	// 필터 교체와 추가가 섞이지 않도록 (조회는 잠금 없음)
+	private final Object filterLock = new Object();
+	private volatile int filterCapacity;
+
+	// 마지막 폴링 시작 시각 (null 이면 아직 적재 전 - 전체 적재)
+	private volatile LocalDateTime lastPolledAt;
+
+	public AccessTokenRevocationService(RevokedAccessTokenRepository revokedAccessTokenRepository,
+			UserTokenCutoffRepository userTokenCutoffRepository,
+			PlatformTransactionManager transactionManager,
+			@Value("${jwt.expiration:3600000}") long tokenValidityMs,
+			@Value("${jwt.revocation.expected-insertions:10000}") int expectedInsertions,
+			@Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate,
+			@Value("${jwt.revocation.poll-overlap-ms:60000}") long pollOverlapMs) {
+		this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+		this.userTokenCutoffRepository = userTokenCutoffRepository;
+		this.tokenValidityMs = tokenValidityMs;
+		this.writeTransaction = new TransactionTemplate(transactionManager);
+		this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		this.expectedInsertions = expectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+		this.pollOverlapMs = pollOverlapMs;
+		this.filterCapacity = expectedInsertions;
+		this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+	}
+
+	// 폐기된 토큰인지 확인 (jti 가 없는 이전 형식 토큰은 확인 불가 → false)
+	public boolean isRevoked(String jti) {
+		if (jti == null || !filter.mightContain(jti)) {
+			return false;
+		}
+		Long expiresAt = revoked.get(jti);
+		return expiresAt != null && expiresAt > System.currentTimeMillis();
+	}
+
+	// 사용자 단위로 폐기된 토큰인지 확인 (iat 는 초 단위라 기준 시각과 같은 초에 발급된 토큰도 거절)
+	public boolean isRevokedForUser(Long userId, Date issuedAt) {
+		if (userId == null || userCutoffs.isEmpty()) {
+			return false;
+		}
+		Long cutoff = userCutoffs.get(userId);
+		return cutoff != null && (issuedAt == null || issuedAt.getTime() / 1000 <= cutoff / 1000);
+	}
+
+	// 해당 사용자에게 지금까지 발급된 액세스 토큰 전체 폐기 - 메모리에 즉시 반영하고 DB 에 저장
+	public void revokeAllForUser(Long userId) {
+		if (userId == null) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		userCutoffs.merge(userId, toEpochMilli(now), Math::max);
+		try {
+			writeTransaction.executeWithoutResult(status -> userTokenCutoffRepository.save(new UserTokenCutoff(userId, now)));
+		} catch (DataIntegrityViolationException e) {
+			// 다른 요청이 같은 사용자 행을 먼저 만든 경우 - 다시 저장하면 갱신으로 처리됨
+			writeTransaction.executeWithoutResult(status -> userTokenCutoffRepository.save(new UserTokenCutoff(userId, now)));
+		}
+		log.info("사용자 액세스 토큰 일괄 폐기 - userId: {}", userId);
+	}
+
+	// 삭제/비활성화/권한 변경/비밀번호 변경이 커밋되면 그 사용자의 기존 토큰을 즉시 거절 (재로그인 시 새 상태로 발급)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onUserChanged(UserChangedEvent event) {
+		switch (event.getType()) {
+			case DELETED, DEACTIVATED, ROLE_CHANGED, PASSWORD_CHANGED -> revokeAllForUser(event.getUserId());
+			default -> { }
+		}
+	}
+
+	// 토큰 폐기 - 메모리에 즉시 반영하고 DB 에 저장 (이미 만료된 토큰은 무시)
+	public void revoke(String jti, Long userId, Date expiresAt) {
+		if (jti == null || expiresAt == null || expiresAt.getTime() <= System.currentTimeMillis()) {
+			return;
+		}
+		remember(jti, expiresAt.getTime());
+		// 존재 여부를 먼저 조회하지 않고 jti 유니크 제약으로 중복을 판단 (조회 후 저장 사이 경합 없음)
+		try {
+			writeTransaction.executeWithoutResult(status -> revokedAccessTokenRepository.save(new RevokedAccessToken(
+					jti, userId, LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault()),
+					LocalDateTime.now())));
+		} catch (DataIntegrityViolationException e) {
+			log.debug("이미 폐기된 토큰 - jti: {}", jti); // 동시 로그아웃 요청
+		}
+		log.debug("액세스 토큰 폐기 - userId: {}, jti: {}", userId, jti);
+	}
+
+	// 기동 시 아직 만료되지 않은 폐기 토큰 전체 적재
+	@EventListener(ApplicationReadyEvent.class)
+	public void initialize() {
+		pollRevocations();
+		log.info("액세스 토큰 폐기 목록 적재 - {}건", revoked.size());
+	}
+
+	// 다른 서버 인스턴스에서 폐기한 토큰 반영 + 만료된 항목 정리
+	@Scheduled(fixedDelayString = "${jwt.revocation.poll-interval-ms:5000}",
+			initialDelayString = "${jwt.revocation.poll-interval-ms:5000}")
+	public void pollRevocations() {
+		LocalDateTime now = LocalDateTime.now();
+		LocalDateTime since = lastPolledAt == null
+				? LocalDateTime.of(1970, 1, 1, 0, 0)
+				: lastPolledAt.minusNanos(pollOverlapMs * 1_000_000);
+		try {
+			List<RevokedAccessToken> rows =
+					revokedAccessTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(since, now);
+			for (RevokedAccessToken row : rows) {
+				remember(row.getJti(), toEpochMilli(row.getExpiresAt()));
+			}
+			List<UserTokenCutoff> cutoffs = userTokenCutoffRepository.findByUpdatedAtGreaterThanEqualAndCutoffAtAfter(
+					since, now.minusNanos(tokenValidityMs * 1_000_000));
+			for (UserTokenCutoff cutoff : cutoffs) {
+				userCutoffs.merge(cutoff.getUserId(), toEpochMilli(cutoff.getCutoffAt()), Math::max);
+			}
+			lastPolledAt = now;
+		} catch (DataAccessException e) {
+			// 다음 폴링에서 같은 구간부터 다시 읽음
+			log.warn("액세스 토큰 폐기 목록 폴링 실패: {}", e.getMessage());
+		}
+		pruneExpired();
+	}
+
+	private void remember(String jti, long expiresAtMillis) {
+		synchronized (filterLock) {
+			revoked.put(jti, expiresAtMillis);
+			filter.put(jti);
+			if (revoked.size() > filterCapacity) {
+				rebuildFilter();
+			}
+		}
+	}
+
+	// 만료된 항목 제거 - 블룸 필터는 삭제가 안 되므로 제거된 항목이 있으면 새로 만들어 교체
+	private void pruneExpired() {
+		long now = Instant.now().toEpochMilli();
+		// 기준 시각 이전에 발급된 토큰이 모두 만료된 사용자
+		userCutoffs.values().removeIf(cutoff -> cutoff + tokenValidityMs <= now);
+		if (!revoked.values().removeIf(expiresAt -> expiresAt <= now)) {
+			return;
+		}
+		synchronized (filterLock) {
+			rebuildFilter();
+		}
+	}
+
+	private static long toEpochMilli(LocalDateTime time) {
+		return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
+
+	// filterLock 안에서만 호출
+	private void rebuildFilter() {
+		int capacity = Math.max(expectedInsertions, revoked.size() * 2);
+		BloomFilter rebuilt = new BloomFilter(capacity, falsePositiveRate);
+		for (String jti : revoked.keySet()) {
+			rebuilt.put(jti);
+		}
+		filter = rebuilt;
+		filterCapacity = capacity;
+	}
+}
@@ -0,0 +1,163 @@
+package com.dialog.token.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.dialog.token.domain.UserSocialToken;
+import com.dialog.token.repository.UserSocialTokenRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 소셜 액세스 토큰 백그라운드 선갱신
+// 최근 토큰을 사용한 사용자 중 곧 만료되는 토큰을 만료가 가까운 순으로 찾아 미리 갱신해,
+// 사용자 요청이 토큰 엔드포인트 호출을 기다리지 않도록 함
+// 제공자별 초당 갱신 수 제한 + 무작위 지연(jitter)으로 토큰 엔드포인트에 몰리지 않게 분산
+@Slf4j
+@Component
+public class SocialTokenRefreshScheduler {
+
+	// IN 절 하나에 넣을 사용자 ID 수
+	private static final int USER_ID_CHUNK = 1000;
+
+	private final SocialTokenService socialTokenService;
+	private final UserSocialTokenRepository userSocialTokenRepository;
+	private final ThreadPoolTaskExecutor socialTokenRefreshExecutor;
+
+	// 만료까지 이 시간 안에 들어온 토큰을 갱신
+	private final Duration window;
+	// 한 번 스캔에서 제공자별로 갱신할 최대 토큰 수
+	private final int batchSize;
+	// 제공자별 초당 최대 갱신 수
+	private final double maxPerSecond;
+	// 갱신 전 무작위 지연 상한
+	private final long jitterMs;
+	private final List<String> providers;
+
+	// 제공자별 다음 갱신 가능 시각 (ms) - 간단한 간격 기반 속도 제한
+	private final Map<String, AtomicLong> nextSlots = new ConcurrentHashMap<>();
+
+	// 이전 스캔에서 넘긴 갱신 작업이 아직 남아 있는지
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	public SocialTokenRefreshScheduler(SocialTokenService socialTokenService,
+			UserSocialTokenRepository userSocialTokenRepository,
+			@Qualifier("socialTokenRefreshExecutor") ThreadPoolTaskExecutor socialTokenRefreshExecutor,
+			@Value("${social-token.proactive.window-seconds:600}") long windowSeconds,
+			@Value("${social-token.proactive.batch-size:50}") int batchSize,
+			@Value("${social-token.proactive.max-per-second:5}") double maxPerSecond,
+			@Value("${social-token.proactive.jitter-ms:2000}") long jitterMs,
+			@Value("${social-token.proactive.providers:google}") String providers) {
+		this.socialTokenService = socialTokenService;
+		this.userSocialTokenRepository = userSocialTokenRepository;
+		this.socialTokenRefreshExecutor = socialTokenRefreshExecutor;
+		this.window = Duration.ofSeconds(windowSeconds);
+		this.batchSize = batchSize;
+		this.maxPerSecond = maxPerSecond;
+		this.jitterMs = jitterMs;
+		this.providers = Arrays.stream(providers.split(",")).map(String::trim).filter(p -> !p.isEmpty()).toList();
+	}
+
+	// 대상 토큰을 찾아 갱신 작업만 넘기고 바로 반환 (갱신 완료를 기다리면 속도 제한 대기 + jitter 만큼
+	// 공용 스케줄러 스레드가 묶여 실시간 발화 저장/토큰 폐기 확인 등 다른 예약 작업이 밀림)
+	// 이전 배치가 끝나기 전에는 다음 스캔을 건너뛰어 같은 토큰을 다시 잡지 않음
+	@Scheduled(fixedDelayString = "${social-token.proactive.interval-ms:60000}",
+			initialDelayString = "${social-token.proactive.interval-ms:60000}")
+	public void refreshExpiringTokens() {
+		if (!running.compareAndSet(false, true)) {
+			log.debug("이전 토큰 선갱신 배치가 아직 실행 중이라 이번 스캔은 건너뜁니다.");
+			return;
+		}
+		List<CompletableFuture<Void>> batches = new ArrayList<>();
+		try {
+			Set<Long> activeUserIds = socialTokenService.getRecentUserIds();
+			if (activeUserIds.isEmpty()) {
+				return;
+			}
+			for (String provider : providers) {
+				List<UserSocialToken> targets = findTargets(provider, new ArrayList<>(activeUserIds));
+				if (!targets.isEmpty()) {
+					batches.add(refreshAsync(provider, targets));
+				}
+			}
+		} finally {
+			// 넘긴 배치가 모두 끝나면 (없으면 바로) 다음 스캔 허용 - 중간에 예외가 나도 넘긴 것까지만 기다림
+			CompletableFuture.allOf(batches.toArray(new CompletableFuture[0]))
+					.whenComplete((result, e) -> running.set(false));
+		}
+	}
+
+	public boolean isRunning() {
+		return running.get();
+	}
+
+	private CompletableFuture<Void> refreshAsync(String provider, List<UserSocialToken> targets) {
+		long start = System.currentTimeMillis();
+		AtomicInteger refreshed = new AtomicInteger();
+		AtomicInteger failed = new AtomicInteger();
+		List<CompletableFuture<Void>> futures = new ArrayList<>(targets.size());
+		for (UserSocialToken token : targets) {
+			Long userId = token.getUser().getId();
+			futures.add(CompletableFuture.runAsync(() -> {
+				try {
+					awaitSlot(provider);
+					socialTokenService.refreshAhead(userId, provider, window);
+					refreshed.incrementAndGet();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} catch (RuntimeException e) {
+					failed.incrementAndGet();
+					log.warn("{} 토큰 선갱신 실패 (userId={}): {}", provider, userId, e.getMessage());
+				}
+			}, socialTokenRefreshExecutor));
+		}
+		return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+				.whenComplete((result, e) -> log.info("{} 토큰 선갱신 - 대상 {}건, 성공 {}건, 실패 {}건, {}ms", provider,
+						targets.size(), refreshed.get(), failed.get(), System.currentTimeMillis() - start));
+	}
+
+	// 만료가 가까운 순으로 최대 batchSize 건
+	private List<UserSocialToken> findTargets(String provider, List<Long> userIds) {
+		LocalDateTime until = LocalDateTime.now().plus(window);
+		List<UserSocialToken> targets = new ArrayList<>();
+		for (int from = 0; from < userIds.size(); from += USER_ID_CHUNK) {
+			List<Long> chunk = userIds.subList(from, Math.min(from + USER_ID_CHUNK, userIds.size()));
+			targets.addAll(userSocialTokenRepository.findExpiringBefore(provider, until, chunk,
+					PageRequest.of(0, batchSize)));
+		}
+		targets.sort((a, b) -> a.getExpiresAt().compareTo(b.getExpiresAt()));
+		return targets.size() > batchSize ? targets.subList(0, batchSize) : targets;
+	}
+
+	// 제공자별 갱신 간격(1 / maxPerSecond)을 지키고, 그 위에 무작위 지연을 더함
+	private void awaitSlot(String provider) throws InterruptedException {
+		long interval = maxPerSecond > 0 ? (long) (1000 / maxPerSecond) : 0;
+		AtomicLong next = nextSlots.computeIfAbsent(provider, p -> new AtomicLong());
+		long now = System.currentTimeMillis();
+		long slot = next.getAndAccumulate(now, (prev, current) -> Math.max(prev, current) + interval);
+		long wait = Math.max(slot, now) - now;
+		if (jitterMs > 0) {
+			wait += ThreadLocalRandom.current().nextLong(jitterMs);
+		}
+		if (wait > 0) {
+			Thread.sleep(wait);
+		}
+	}
+}
@@ -1,26 +1,43 @@
 package com.dialog.token.service;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import com.dialog.exception.ResourceNotFoundException;
 import com.dialog.exception.GoogleOAuthException;
 import com.dialog.calendarevent.service.GoogleTokenDto;
 import com.dialog.googleauth.domain.GoogleAuthDTO;
+import com.dialog.token.domain.SocialTokenChangedEvent;
 import com.dialog.token.domain.UserSocialToken;
 import com.dialog.token.repository.UserSocialTokenRepository;
 import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.UserChangedEvent;
 import com.dialog.user.repository.MeetUserRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import lombok.extern.slf4j.Slf4j; // 로그 추가
 import reactor.core.publisher.Mono;
 
+// 소셜 액세스 토큰 조회/갱신
+// 유효한 토큰은 (userId, provider) 단위로 만료 직전까지 메모리에 캐싱해 조회마다 DB 를 읽지 않고,
+// 갱신은 사용자/제공자별로 한 번만 수행해 동시에 들어온 요청들이 같은 갱신 결과를 함께 사용(single-flight)
 @Service 
-@RequiredArgsConstructor
 @Slf4j //  로그 추가
 public class SocialTokenService {
 
@@ -30,19 +47,108 @@ public class SocialTokenService {
 	
 	private final GoogleAuthDTO googleAuthDTO;
 
+	// 만료까지 이 시간보다 적게 남은 토큰은 갱신 대상
+	private final Duration refreshMargin;
+	// Google 토큰 엔드포인트 응답 대기 상한 (응답이 없을 때 요청 스레드가 무기한 묶이지 않도록)
+	private final Duration refreshTimeout;
+	// 다른 요청의 갱신 결과 대기 상한 (갱신 쪽 상한 + DB 조회/저장 여유)
+	private final Duration awaitTimeout;
+
+	// "userId:provider" -> 액세스 토큰
+	private final Cache<String, CachedToken> tokenCache;
+	// 이메일 -> 사용자 ID
+	private final Cache<String, Long> userIdCache;
+	// 최근 토큰을 사용한 사용자 ID (백그라운드 선갱신 대상)
+	private final Cache<Long, Boolean> recentUsers;
+	// 진행 중인 토큰 조회/갱신 ("userId:provider" 당 하나)
+	private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+	private record CachedToken(String accessToken, LocalDateTime expiresAt) {
+	}
+
+	public SocialTokenService(MeetUserRepository meetUserRepository,
+			UserSocialTokenRepository userSocialTokenRepository,
+			WebClient webClient,
+			GoogleAuthDTO googleAuthDTO,
+			@Value("${social-token.refresh-margin-seconds:300}") long refreshMarginSeconds,
+			@Value("${social-token.refresh-timeout-seconds:10}") long refreshTimeoutSeconds,
+			@Value("${social-token.cache.max-size:10000}") long maxSize,
+			@Value("${social-token.proactive.active-window-minutes:120}") long activeWindowMinutes) {
+		this.meetUserRepository = meetUserRepository;
+		this.userSocialTokenRepository = userSocialTokenRepository;
+		this.webClient = webClient;
+		this.googleAuthDTO = googleAuthDTO;
+		this.refreshMargin = Duration.ofSeconds(refreshMarginSeconds);
+		this.refreshTimeout = Duration.ofSeconds(refreshTimeoutSeconds);
+		this.awaitTimeout = this.refreshTimeout.plusSeconds(5);
+		// 액세스 토큰 수명(보통 1시간)보다 길게 남지 않도록 상한을 둠
+		this.tokenCache = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofHours(1))
+				.maximumSize(maxSize)
+				.build();
+		this.userIdCache = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofMinutes(30))
+				.maximumSize(maxSize)
+				.build();
+		this.recentUsers = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofMinutes(activeWindowMinutes))
+				.maximumSize(maxSize)
+				.build();
+	}
+
 	public String getToken(String userEmail, String provider){
 	    
-	    // 1. User Email을 통해 MeetUser 엔티티를 조회하고 ID를 얻습니다.
-	    // 사용자를 찾을 수 없는 경우 IllegalArgumentException 발생
-	    MeetUser meetUser = meetUserRepository.findByEmail(userEmail)
-	                        .orElseThrow(() -> {
-	                            log.error("MeetUser를 찾을 수 없습니다: {}", userEmail);
-	                            return new ResourceNotFoundException("User를 찾을 수 없습니다: " + userEmail); 
-	                        });
-	    
-	    Long userId = meetUser.getId(); // MeetUser의 ID(PK) 획득
+	    // 1. User Email을 통해 MeetUser ID를 얻습니다. (캐시 우선)
+	    // 사용자를 찾을 수 없는 경우 ResourceNotFoundException 발생
+	    Long userId = resolveUserId(userEmail);
+	    String key = cacheKey(userId, provider);
+	    recentUsers.put(userId, Boolean.TRUE);
+
+	    // 2. 만료 전 토큰이 캐시에 있으면 DB 조회 없이 반환
+	    CachedToken cached = tokenCache.getIfPresent(key);
+	    if (cached != null && isFresh(cached.expiresAt(), refreshMargin)) {
+	        return cached.accessToken();
+	    }
+
+	    // 3. 같은 사용자/제공자의 조회·갱신이 이미 진행 중이면 그 결과를 함께 사용
+	    return singleFlight(userId, userEmail, provider, refreshMargin);
+	}
+
+	// 백그라운드 선갱신: 만료까지 aheadWindow 보다 적게 남았으면 미리 갱신 (요청 경로와 같은 single-flight 사용)
+	public void refreshAhead(Long userId, String provider, Duration aheadWindow) {
+	    singleFlight(userId, "userId=" + userId, provider, aheadWindow);
+	}
+
+	// 최근 토큰을 사용한 사용자 ID 목록
+	public Set<Long> getRecentUserIds() {
+	    return Set.copyOf(recentUsers.asMap().keySet());
+	}
+
+	private String singleFlight(Long userId, String userLabel, String provider, Duration margin) {
+	    String key = cacheKey(userId, provider);
+	    CompletableFuture<String> flight = new CompletableFuture<>();
+	    CompletableFuture<String> existing = inFlight.putIfAbsent(key, flight);
+	    if (existing != null) {
+	        log.debug("진행 중인 {} 토큰 갱신에 합류합니다. userId={}", provider, userId);
+	        return await(existing);
+	    }
+	    try {
+	        String accessToken = loadOrRefresh(userId, userLabel, provider, key, margin);
+	        flight.complete(accessToken);
+	        return accessToken;
+	    } catch (RuntimeException e) {
+	        flight.completeExceptionally(e);
+	        throw e;
+	    } finally {
+	        inFlight.remove(key, flight);
+	    }
+	}
+
+	// DB 의 토큰이 유효하면 그대로, 만료까지 margin 보다 적게 남았으면 갱신 후 캐시에 저장
+	private String loadOrRefresh(Long userId, String userEmail, String provider, String key, Duration margin) {
 	    Optional<UserSocialToken> socialTokenOpt = userSocialTokenRepository.findByUser_IdAndProvider(userId, provider);
 	    if (socialTokenOpt.isEmpty()) {
+	        tokenCache.invalidate(key);
 	        log.warn("사용자 ID {} (Email: {})에 대한 {} Refresh Token이 DB에 없습니다. Google 연동이 필요합니다.", 
 	                 userId, userEmail, provider);
 	        // [ 3. 수정 ] (400 에러 원인) IllegalArgumentException 대신 GoogleOAuthException 사용 (401 유발)
@@ -52,13 +158,84 @@ public class SocialTokenService {
 	    UserSocialToken socialToken = socialTokenOpt.get();
 	    String refreshToken = socialToken.getRefreshToken();
 	  
-	    // 만료 시간 체크 (현재 시간보다 5분 이상 남았으면 갱신 안 함)
-	    if (socialToken.getExpiresAt() != null && socialToken.getExpiresAt().isAfter(LocalDateTime.now().plusMinutes(5))) {
+	    // 만료 시간 체크 (현재 시간보다 margin 이상 남았으면 갱신 안 함)
+	    if (socialToken.getExpiresAt() != null && isFresh(socialToken.getExpiresAt(), margin)) {
             log.debug("Access Token이 유효하여 갱신 없이 반환합니다.");
+            cache(key, socialToken.getAccessToken(), socialToken.getExpiresAt());
 	        return socialToken.getAccessToken();
 	    }
 	    log.debug("Access Token이 만료되었거나 만료 직전이므로 갱신을 시도합니다.");
-	    return this.refreshAccessToken(refreshToken, provider.toLowerCase(),userId, socialToken);
+	    try {
+	        String accessToken = this.refreshAccessToken(refreshToken, provider.toLowerCase(), userId, socialToken);
+	        cache(key, accessToken, socialToken.getExpiresAt());
+	        return accessToken;
+	    } catch (RuntimeException e) {
+	        tokenCache.invalidate(key);
+	        throw e;
+	    }
+	}
+
+	private Long resolveUserId(String userEmail) {
+	    Long cachedId = userIdCache.getIfPresent(userEmail);
+	    if (cachedId != null) {
+	        return cachedId;
+	    }
+	    MeetUser meetUser = meetUserRepository.findByEmail(userEmail)
+	                        .orElseThrow(() -> {
+	                            log.error("MeetUser를 찾을 수 없습니다: {}", userEmail);
+	                            return new ResourceNotFoundException("User를 찾을 수 없습니다: " + userEmail); 
+	                        });
+	    userIdCache.put(userEmail, meetUser.getId());
+	    return meetUser.getId();
+	}
+
+	// 다른 요청이 수행 중인 갱신 결과 대기 (실패도 같은 예외로 전달, awaitTimeout 이 지나면 갱신 실패와 같은 오류)
+	private String await(CompletableFuture<String> flight) {
+	    try {
+	        return flight.get(awaitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+	    } catch (ExecutionException | CompletionException e) {
+	        if (e.getCause() instanceof RuntimeException cause) {
+	            throw cause;
+	        }
+	        throw new GoogleOAuthException("토큰 갱신 대기 중 오류 발생: " + e.getMessage(), e);
+	    } catch (TimeoutException e) {
+	        log.warn("진행 중인 토큰 갱신이 {}초 안에 끝나지 않았습니다.", awaitTimeout.toSeconds());
+	        throw new GoogleOAuthException("Google 토큰 갱신 응답이 지연되고 있습니다. 잠시 후 다시 시도해주세요.", e);
+	    } catch (InterruptedException e) {
+	        Thread.currentThread().interrupt();
+	        throw new GoogleOAuthException("토큰 갱신 대기 중 중단되었습니다.", e);
+	    }
+	}
+
+	private boolean isFresh(LocalDateTime expiresAt, Duration margin) {
+	    return expiresAt != null && expiresAt.isAfter(LocalDateTime.now().plus(margin));
+	}
+
+	private void cache(String key, String accessToken, LocalDateTime expiresAt) {
+	    if (accessToken != null && expiresAt != null) {
+	        tokenCache.put(key, new CachedToken(accessToken, expiresAt));
+	    }
+	}
+
+	private static String cacheKey(Long userId, String provider) {
+	    return userId + ":" + provider;
+	}
+
+	// 연동을 다시 하거나 토큰이 삭제된 경우 캐시 제거
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onSocialTokenChanged(SocialTokenChangedEvent event) {
+	    tokenCache.invalidate(cacheKey(event.getUserId(), event.getProvider()));
+	}
+
+	// 탈퇴/비활성화 등 사용자 변경 시 해당 사용자의 항목 제거
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onUserChanged(UserChangedEvent event) {
+	    if (event.getEmail() != null) {
+	        userIdCache.invalidate(event.getEmail());
+	    }
+	    recentUsers.invalidate(event.getUserId());
+	    String prefix = event.getUserId() + ":";
+	    tokenCache.asMap().keySet().removeIf(key -> key.startsWith(prefix));
 	}
 
 	 private String refreshAccessToken(String refreshToken, String provider, Long userId, UserSocialToken socialToken) {
@@ -95,7 +272,7 @@ public class SocialTokenService {
 	                                });
 	                    })
 	                .bodyToMono(GoogleTokenDto.class) 
-	                .block(); // WebClient 동기 사용
+	                .block(refreshTimeout); // WebClient 동기 사용 (응답이 없으면 refreshTimeout 후 IllegalStateException)
 	            
 	            log.info("API RESPONSE: {} Access Token 갱신 성공. 만료 시간: {}초", provider, tokenResponse.getExpiresIn());
 	            if (tokenResponse == null || tokenResponse.getAccessToken() == null) {
@@ -3,8 +3,10 @@ package com.dialog.token.service;
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
+import com.dialog.token.domain.SocialTokenChangedEvent;
 import com.dialog.token.domain.UserSocialToken;
 import com.dialog.token.repository.UserSocialTokenRepository;
 import com.dialog.user.domain.MeetUser;
@@ -19,6 +21,7 @@ public class UserTokenServiceImpl implements UserTokenService {
 
     private final UserSocialTokenRepository userSocialTokenRepository;
     private final MeetUserRepository meetUserRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     public void saveGoogleTokens(Long userId, String accessToken, String refreshToken, LocalDateTime expiresAt) {
@@ -37,6 +40,7 @@ public class UserTokenServiceImpl implements UserTokenService {
         token.setRefreshToken(refreshToken);
         token.setExpiresAt(expiresAt);
         userSocialTokenRepository.save(token);
+        eventPublisher.publishEvent(new SocialTokenChangedEvent(userId, "google"));
     }
 
     @Override
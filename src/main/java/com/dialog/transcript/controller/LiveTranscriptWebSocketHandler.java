@@ -0,0 +1,133 @@
+package com.dialog.transcript.controller;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriTemplate;
+
+import com.dialog.exception.LiveTranscriptBufferFullException;
+import com.dialog.security.oauth2.CustomOAuth2User;
+import com.dialog.transcript.domain.TranscriptCreateRequestDto;
+import com.dialog.transcript.service.LiveTranscriptService;
+import com.dialog.user.service.CustomUserDetails;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 녹음 중 실시간 발화 수신 WebSocket (ws://.../ws/meetings/{meetingId}/transcripts)
+// 메시지: 발화 1건(JSON 객체) 또는 여러 건(JSON 배열), 필드는 TranscriptCreateRequestDto와 동일
+// 응답: {"type":"ack","received":n,"pending":m} / {"type":"error","code":"...","message":"..."}
+// 필수 값(speakerId, text, startTime, endTime, sequenceOrder)이 빠진 발화가 있으면 메시지 전체를 INVALID_SEGMENT 로 거절
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LiveTranscriptWebSocketHandler extends TextWebSocketHandler {
+
+	public static final String PATH = "/ws/meetings/{meetingId}/transcripts";
+
+	private static final UriTemplate PATH_TEMPLATE = new UriTemplate(PATH);
+	private static final String MEETING_ID = "meetingId";
+	private static final TypeReference<List<TranscriptCreateRequestDto>> SEGMENT_LIST = new TypeReference<>() {};
+
+	private final LiveTranscriptService liveTranscriptService;
+	private final ObjectMapper objectMapper;
+
+	@Override
+	public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+		try {
+			Long meetingId = Long.valueOf(PATH_TEMPLATE.match(session.getUri().getPath()).get(MEETING_ID));
+			Long userId = resolveUserId(session.getPrincipal());
+			if (userId == null) {
+				session.close(CloseStatus.POLICY_VIOLATION.withReason("인증 정보가 없습니다."));
+				return;
+			}
+			liveTranscriptService.open(meetingId, userId);
+			session.getAttributes().put(MEETING_ID, meetingId);
+			log.info("실시간 발화 수신 연결 - meetingId: {}, userId: {}", meetingId, userId);
+
+		} catch (IllegalArgumentException | IllegalStateException e) {
+			log.warn("실시간 발화 수신 연결 거부: {}", e.getMessage());
+			session.close(CloseStatus.POLICY_VIOLATION.withReason(e.getMessage()));
+		}
+	}
+
+	@Override
+	protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+		Long meetingId = (Long) session.getAttributes().get(MEETING_ID);
+		if (meetingId == null) {
+			return;
+		}
+		List<TranscriptCreateRequestDto> segments;
+		try {
+			JsonNode node = objectMapper.readTree(message.getPayload());
+			segments = node.isArray()
+					? objectMapper.convertValue(node, SEGMENT_LIST)
+					: List.of(objectMapper.treeToValue(node, TranscriptCreateRequestDto.class));
+		} catch (IOException | IllegalArgumentException e) {
+			send(session, Map.of("type", "error", "message", "발화 형식이 올바르지 않습니다."));
+			return;
+		}
+
+		try {
+			int pending = liveTranscriptService.append(meetingId, segments);
+			send(session, Map.of("type", "ack", "received", segments.size(), "pending", pending));
+
+		} catch (IllegalArgumentException e) {
+			// 필수 값이 빠진 발화 - 메시지 전체를 ack 없이 거절 (버퍼에 넣으면 저장이 계속 실패함)
+			log.warn("실시간 발화 거절 - meetingId: {}, {}", meetingId, e.getMessage());
+			send(session, Map.of("type", "error", "code", "INVALID_SEGMENT", "message", e.getMessage()));
+		} catch (LiveTranscriptBufferFullException e) {
+			// 저장 지연으로 버퍼 상한 도달 - 연결은 유지하고 ack 하지 않은 발화를 다시 보내도록 알림
+			log.error("실시간 발화 버퍼 초과 - meetingId: {}, 대기 {}건", meetingId, e.getPending());
+			send(session, Map.of("type", "error", "code", "BUFFER_FULL", "message", e.getMessage()));
+		} catch (IllegalStateException e) {
+			// 회의가 종료되어 버퍼가 닫힌 경우
+			send(session, Map.of("type", "error", "message", e.getMessage()));
+			session.close(CloseStatus.NORMAL.withReason(e.getMessage()));
+		}
+	}
+
+	@Override
+	public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+		Long meetingId = (Long) session.getAttributes().get(MEETING_ID);
+		if (meetingId != null) {
+			// 재연결 가능성이 있으므로 버퍼는 유지하고 쌓인 발화만 저장
+			liveTranscriptService.flush(meetingId);
+			log.info("실시간 발화 수신 종료 - meetingId: {}, status: {}", meetingId, status);
+		}
+	}
+
+	private void send(WebSocketSession session, Map<String, Object> body) throws IOException {
+		if (session.isOpen()) {
+			synchronized (session) {
+				session.sendMessage(new TextMessage(objectMapper.writeValueAsString(body)));
+			}
+		}
+	}
+
+	// 핸드셰이크 요청의 JWT 인증 결과(Authentication)에서 사용자 ID 추출
+	private Long resolveUserId(Principal principal) {
+		if (!(principal instanceof Authentication authentication)) {
+			return null;
+		}
+		Object user = authentication.getPrincipal();
+		if (user instanceof CustomOAuth2User oAuth2User) {
+			return oAuth2User.getMeetuser().getId();
+		}
+		if (user instanceof CustomUserDetails userDetails) {
+			return userDetails.getId();
+		}
+		return null;
+	}
+}
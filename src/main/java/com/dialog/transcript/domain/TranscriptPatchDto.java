@@ -0,0 +1,32 @@
+package com.dialog.transcript.domain;
+
+import java.util.List;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// 발화 변경분(delta) 요청
+// 클라이언트는 마지막으로 받은 transcriptVersion을 baseVersion으로 보내고, 바뀐 발화만 operations에 담음
+@Getter
+@Setter
+@NoArgsConstructor
+public class TranscriptPatchDto {
+
+	private Long baseVersion;
+	private List<Operation> operations;
+
+	@Getter
+	@Setter
+	@NoArgsConstructor
+	public static class Operation {
+		private TranscriptPatchOp op;
+		private Long id;                // INSERT 외에는 필수
+		private String speaker;         // 식별자 ID (예: Speaker 1)
+		private String speakerName;     // 표시 이름
+		private String text;
+		private Long startTime;
+		private Long endTime;
+		private Integer sequenceOrder;  // INSERT, MOVE 시 사용
+	}
+}
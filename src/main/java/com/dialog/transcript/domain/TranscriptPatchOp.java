@@ -0,0 +1,10 @@
+package com.dialog.transcript.domain;
+
+// 발화 패치 연산 종류
+public enum TranscriptPatchOp {
+	INSERT,   // 신규 발화 추가 (id 없음)
+	UPDATE,   // 텍스트/화자/시간 수정 (null 필드는 변경하지 않음)
+	DELETE,   // 소프트 삭제
+	RESTORE,  // 소프트 삭제 복구
+	MOVE      // 순서(sequenceOrder) 변경
+}
@@ -0,0 +1,16 @@
+package com.dialog.transcript.domain;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// 발화 패치 결과 (다음 패치의 baseVersion으로 version 사용)
+@Getter
+@AllArgsConstructor
+public class TranscriptPatchResultDto {
+
+	private final long version;
+	private final int affected;            // 변경된 기존 발화 수
+	private final List<Long> insertedIds;  // INSERT 연산 순서대로 생성된 ID
+}
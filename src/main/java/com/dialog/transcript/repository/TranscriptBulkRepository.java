@@ -0,0 +1,127 @@
+package com.dialog.transcript.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Repository;
+
+import com.dialog.transcript.domain.Transcript;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Transcript 대량 저장 전용 JDBC 리포지토리
+// IDENTITY 전략에서는 Hibernate가 INSERT 배치를 하지 않아 발화 수만큼 왕복이 생기므로,
+// JdbcTemplate 배치 + rewriteBatchedStatements(멀티 로우 INSERT)로 묶어서 저장하고
+// 생성된 ID는 getGeneratedKeys 한 번으로 받아옴
+// JPA 트랜잭션과 같은 커넥션을 사용하므로 호출 측 @Transactional 안에서 함께 커밋/롤백됨
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class TranscriptBulkRepository {
+
+	// 한 번의 executeBatch에 담을 행 수 (MySQL max_allowed_packet 고려)
+	private static final int CHUNK_SIZE = 1000;
+
+	private static final String INSERT_SQL = "INSERT INTO transcript "
+			+ "(meeting_id, speaker_id, speaker_name, speaker_label, text, start_time, end_time, sequence_order, "
+			+ "is_deleted, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	// 아직 저장되지 않은 Transcript 목록을 일괄 INSERT 하고, ID/생성 시각이 채워진 새 객체 목록 반환
+	public List<Transcript> insertAll(List<Transcript> transcripts) {
+		if (transcripts.isEmpty()) {
+			return List.of();
+		}
+		requireNotNullColumns(transcripts);
+		long start = System.nanoTime();
+		LocalDateTime now = LocalDateTime.now();
+		Timestamp timestamp = Timestamp.valueOf(now);
+
+		List<Transcript> saved = new ArrayList<>(transcripts.size());
+		for (int from = 0; from < transcripts.size(); from += CHUNK_SIZE) {
+			List<Transcript> chunk = transcripts.subList(from, Math.min(from + CHUNK_SIZE, transcripts.size()));
+			List<Long> ids = insertChunk(chunk, timestamp);
+			for (int i = 0; i < chunk.size(); i++) {
+				saved.add(chunk.get(i).toBuilder().id(ids.get(i)).createdAt(now).updatedAt(now).build());
+			}
+		}
+
+		long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+		log.info("Transcript 대량 저장 - {}건, {}ms, {} rows/sec", saved.size(), elapsedMs,
+				saved.size() * 1000L / elapsedMs);
+		return saved;
+	}
+
+	// JPA 경로는 NOT NULL 위반을 제약 조건 예외로 돌려줬지만, 여기서는 언박싱 NPE 가 되므로
+	// DB 에 보내기 전에 잘못된 입력을 IllegalArgumentException 으로 구분 (DB 장애와 혼동하지 않도록)
+	private void requireNotNullColumns(List<Transcript> transcripts) {
+		for (int i = 0; i < transcripts.size(); i++) {
+			Transcript t = transcripts.get(i);
+			String missing = t.getMeeting() == null || t.getMeeting().getId() == null ? "meeting"
+					: t.getSpeakerId() == null ? "speakerId"
+					: t.getText() == null ? "text"
+					: t.getStartTime() == null ? "startTime"
+					: t.getEndTime() == null ? "endTime"
+					: t.getSequenceOrder() == null ? "sequenceOrder"
+					: null;
+			if (missing != null) {
+				throw new IllegalArgumentException("Transcript " + missing + " 값이 없습니다. (" + (i + 1) + "번째 발화, sequenceOrder: "
+						+ t.getSequenceOrder() + ")");
+			}
+		}
+	}
+
+	private List<Long> insertChunk(List<Transcript> chunk, Timestamp timestamp) {
+		GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+		jdbcTemplate.batchUpdate(
+				connection -> connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS),
+				new BatchPreparedStatementSetter() {
+					@Override
+					public void setValues(PreparedStatement ps, int i) throws SQLException {
+						Transcript t = chunk.get(i);
+						ps.setLong(1, t.getMeeting().getId());
+						ps.setString(2, t.getSpeakerId());
+						ps.setString(3, t.getSpeakerName());
+						if (t.getSpeakerLabel() != null) {
+							ps.setInt(4, t.getSpeakerLabel());
+						} else {
+							ps.setNull(4, Types.INTEGER);
+						}
+						ps.setString(5, t.getText());
+						ps.setLong(6, t.getStartTime());
+						ps.setLong(7, t.getEndTime());
+						ps.setInt(8, t.getSequenceOrder());
+						ps.setBoolean(9, t.isDeleted());
+						ps.setTimestamp(10, timestamp);
+						ps.setTimestamp(11, timestamp);
+					}
+
+					@Override
+					public int getBatchSize() {
+						return chunk.size();
+					}
+				},
+				keyHolder);
+
+		List<Long> ids = new ArrayList<>(chunk.size());
+		for (Map<String, Object> keys : keyHolder.getKeyList()) {
+			ids.add(((Number) keys.values().iterator().next()).longValue());
+		}
+		if (ids.size() != chunk.size()) {
+			throw new IllegalStateException("생성된 Transcript ID 개수가 일치하지 않습니다. 요청: " + chunk.size() + ", 생성: " + ids.size());
+		}
+		return ids;
+	}
+}
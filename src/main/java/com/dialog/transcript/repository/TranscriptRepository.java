@@ -1,9 +1,13 @@
 package com.dialog.transcript.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 import com.dialog.transcript.domain.Transcript;
 
 public interface TranscriptRepository extends JpaRepository<Transcript, Long> {
@@ -12,11 +16,30 @@ public interface TranscriptRepository extends JpaRepository<Transcript, Long> {
     @Query("SELECT t FROM Transcript t WHERE t.meeting.id = :meetingId ORDER BY t.sequenceOrder ASC")
     List<Transcript> findByMeetingIdOrderBySequenceOrder(@Param("meetingId") Long meetingId);
     
+    // 발화 패치 대상만 조회 (다른 회의의 발화 ID는 걸러짐)
+    @Query("SELECT t FROM Transcript t WHERE t.meeting.id = :meetingId AND t.id IN :ids")
+    List<Transcript> findAllByMeetingIdAndIdIn(@Param("meetingId") Long meetingId, @Param("ids") Collection<Long> ids);
+
     // Meeting ID로 Transcript 존재 여부 확인
     boolean existsByMeetingId(Long meetingId);
+
+    // 삭제(숨김) 후 보관 기간이 지난 발화를 최대 limit 건만 영구 삭제 (정리 작업용)
+    // cutoff 이후에 숨긴 발화는 되돌리기(restore)가 가능하도록 남겨 둠
+    @Modifying
+    @Transactional
+    @Query(value = "DELETE FROM transcript WHERE is_deleted = true AND updated_at < :cutoff LIMIT :limit",
+            nativeQuery = true)
+    int deleteSoftDeletedChunk(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    // 남아 있는 영구 삭제 대상 중 가장 오래된 수정 시각 (정리 지연 확인용)
+    @Query("SELECT MIN(t.updatedAt) FROM Transcript t WHERE t.isDeleted = true AND t.updatedAt < :cutoff")
+    LocalDateTime findOldestSoftDeletedAt(@Param("cutoff") LocalDateTime cutoff);
     
     // Meeting ID로 Transcript 삭제
-    void deleteByMeetingId(Long meetingId);
+    // 파생 삭제 쿼리는 전부 조회 후 한 건씩 DELETE 하므로 단일 DELETE 문으로 처리
+    @Modifying
+    @Query("DELETE FROM Transcript t WHERE t.meeting.id = :meetingId")
+    int deleteByMeetingId(@Param("meetingId") Long meetingId);
     
     // 특정 화자의 발화만 조회
     @Query("SELECT t FROM Transcript t WHERE t.meeting.id = :meetingId AND t.speakerId = :speakerId ORDER BY t.sequenceOrder ASC")
@@ -0,0 +1,294 @@
+package com.dialog.transcript.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.dialog.exception.LiveTranscriptBufferFullException;
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.meeting.domain.Status;
+import com.dialog.meeting.repository.MeetingRepository;
+import com.dialog.transcript.domain.TranscriptCreateRequestDto;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 녹음 중(RECORDING) 회의의 실시간 발화 수신 버퍼
+// WebSocket으로 들어온 발화를 회의별로 모아두었다가 batch-size 또는 flush 주기마다 transcript 테이블에 묶어서 저장
+// 회의 종료 시에는 남은 꼬리 부분만 저장하면 됨
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveTranscriptService {
+
+	private final TranscriptService transcriptService;
+	private final MeetingRepository meetingRepository;
+
+	// 이 개수 이상 쌓이면 주기를 기다리지 않고 바로 저장
+	@Value("${transcript.live.batch-size:50}")
+	private int batchSize;
+
+	// 회의별 버퍼 최대 발화 수 (DB 저장이 계속 실패해 쌓이는 경우 상한, 넘으면 수신을 거절)
+	@Value("${transcript.live.max-pending:5000}")
+	private int maxPending;
+
+	// meetingId -> 수신 버퍼
+	private final Map<Long, LiveBuffer> buffers = new ConcurrentHashMap<>();
+
+	// 실시간 수신 시작 (녹음 중인 회의의 호스트만 가능)
+	@Transactional(readOnly = true)
+	public void open(Long meetingId, Long userId) {
+		Meeting meeting = meetingRepository.findById(meetingId)
+				.orElseThrow(() -> new IllegalArgumentException("회의를 찾을 수 없습니다. ID: " + meetingId));
+
+		if (!meeting.getHostUser().getId().equals(userId)) {
+			throw new IllegalArgumentException("이 회의에 발화를 전송할 권한이 없습니다.");
+		}
+		if (meeting.getStatus() != Status.RECORDING) {
+			throw new IllegalStateException("녹음 중인 회의가 아닙니다. 상태: " + meeting.getStatus());
+		}
+		buffers.computeIfAbsent(meetingId, id -> new LiveBuffer());
+	}
+
+	// 발화 수신 (버퍼에 추가, 배치 크기에 도달하면 즉시 저장)
+	// ack 전에 필수 값을 확인 - 잘못된 발화가 버퍼에 들어가면 그 배치 저장이 매번 실패함
+	public int append(Long meetingId, List<TranscriptCreateRequestDto> segments) {
+		LiveBuffer buffer = buffers.get(meetingId);
+		if (buffer == null) {
+			throw new IllegalStateException("실시간 수신 중인 회의가 아닙니다. ID: " + meetingId);
+		}
+		validate(segments);
+		int pending = buffer.add(segments, maxPending);
+		if (pending >= batchSize) {
+			flush(meetingId, buffer);
+		}
+		return pending;
+	}
+
+	// 연결 종료 등으로 해당 회의 버퍼를 바로 저장
+	public void flush(Long meetingId) {
+		LiveBuffer buffer = buffers.get(meetingId);
+		if (buffer != null) {
+			flush(meetingId, buffer);
+		}
+	}
+
+	// 회의 종료: 남은 발화를 저장하고 수신 종료
+	// 종료 트랜잭션 안에서 호출되므로 저장 실패는 그대로 던져 종료 처리 전체를 롤백
+	// flushLock 안에서 버퍼를 닫고 비우므로, 진행 중인 flush 가 끝난 뒤에 실행되고
+	// 닫힌 뒤 들어온 발화는 ack 없이 거절됨 (ack 한 발화가 빠지지 않음)
+	public void finish(Long meetingId) {
+		LiveBuffer buffer = buffers.get(meetingId);
+		if (buffer == null) {
+			return;
+		}
+		buffer.flushLock.lock();
+		try {
+			List<TranscriptCreateRequestDto> tail = buffer.closeAndDrain();
+			try {
+				if (!tail.isEmpty()) {
+					transcriptService.appendTranscripts(meetingId, tail);
+					log.info("실시간 발화 꼬리 저장 - meetingId: {}, {}건", meetingId, tail.size());
+				}
+			} catch (RuntimeException e) {
+				// 종료가 실패하면 버퍼를 다시 열어 재시도 시 같은 발화를 저장할 수 있도록 함
+				buffer.reopen(tail);
+				throw e;
+			}
+			buffers.remove(meetingId, buffer);
+			reopenOnRollback(meetingId, buffer, tail);
+		} finally {
+			buffer.flushLock.unlock();
+		}
+	}
+
+	// 종료 요청에 전체 발화가 함께 온 경우 (기존 방식) 버퍼는 버림
+	public void discard(Long meetingId) {
+		LiveBuffer buffer = buffers.get(meetingId);
+		if (buffer == null) {
+			return;
+		}
+		buffer.flushLock.lock();
+		try {
+			List<TranscriptCreateRequestDto> dropped = buffer.closeAndDrain();
+			buffers.remove(meetingId, buffer);
+			reopenOnRollback(meetingId, buffer, dropped);
+			log.info("실시간 발화 버퍼 폐기 - meetingId: {}, {}건", meetingId, dropped.size());
+		} finally {
+			buffer.flushLock.unlock();
+		}
+	}
+
+	// 종료 트랜잭션이 커밋 시점에 롤백되면 (회의는 계속 녹음 중) 버퍼를 되살려 수신을 이어감
+	private void reopenOnRollback(Long meetingId, LiveBuffer buffer, List<TranscriptCreateRequestDto> drained) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				if (status == STATUS_ROLLED_BACK) {
+					buffer.reopen(drained);
+					buffers.putIfAbsent(meetingId, buffer);
+					log.warn("회의 종료 롤백 - 실시간 발화 버퍼 복구, meetingId: {}, {}건", meetingId, drained.size());
+				}
+			}
+		});
+	}
+
+	public boolean isOpen(Long meetingId) {
+		return buffers.containsKey(meetingId);
+	}
+
+	// 주기적 마이크로 배치 저장
+	@Scheduled(fixedDelayString = "${transcript.live.flush-interval-ms:1000}")
+	public void flushAll() {
+		buffers.forEach(this::flush);
+	}
+
+	// 같은 회의의 저장은 flushLock으로 직렬화해 순서를 보장하고,
+	// 수신 스레드는 목록 잠금만 짧게 잡으므로 DB 저장 중에도 계속 발화를 받을 수 있음
+	private void flush(Long meetingId, LiveBuffer buffer) {
+		buffer.flushLock.lock();
+		try {
+			List<TranscriptCreateRequestDto> batch = buffer.drain();
+			if (batch.isEmpty()) {
+				return;
+			}
+			try {
+				transcriptService.appendTranscripts(meetingId, batch);
+				log.debug("실시간 발화 저장 - meetingId: {}, {}건", meetingId, batch.size());
+			} catch (Exception e) {
+				if (isTransient(e)) {
+					// DB 일시 장애면 다음 flush에서 다시 시도하도록 버퍼 앞쪽에 되돌림
+					// (이미 ack 한 발화라 버리지 않음, 대신 상한을 넘으면 add 에서 새 발화를 거절)
+					int pending = buffer.requeue(batch);
+					log.error("실시간 발화 저장 실패 - meetingId: {}, {}건 재시도 대기 (버퍼 {}/{})", meetingId,
+							batch.size(), pending, maxPending, e);
+				} else {
+					// 다시 시도해도 같은 이유로 실패하므로 되돌리지 않고, 한 건씩 저장해 문제 발화만 골라냄
+					log.error("실시간 발화 일괄 저장 실패 - meetingId: {}, {}건을 한 건씩 다시 저장합니다.", meetingId,
+							batch.size(), e);
+					saveOneByOne(meetingId, buffer, batch);
+				}
+			}
+		} finally {
+			buffer.flushLock.unlock();
+		}
+	}
+
+	// 저장할 수 없는 발화는 식별 정보를 로그로 남기고 버림
+	// 중간에 일시 장애가 나면 아직 저장하지 않은 나머지는 버퍼 앞쪽에 되돌림
+	private void saveOneByOne(Long meetingId, LiveBuffer buffer, List<TranscriptCreateRequestDto> batch) {
+		for (int i = 0; i < batch.size(); i++) {
+			TranscriptCreateRequestDto segment = batch.get(i);
+			try {
+				transcriptService.appendTranscripts(meetingId, List.of(segment));
+			} catch (Exception e) {
+				if (isTransient(e)) {
+					int pending = buffer.requeue(batch.subList(i, batch.size()));
+					log.error("실시간 발화 저장 실패 - meetingId: {}, {}건 재시도 대기 (버퍼 {}/{})", meetingId,
+							batch.size() - i, pending, maxPending, e);
+					return;
+				}
+				log.error("실시간 발화 저장 불가로 폐기 - meetingId: {}, sequenceOrder: {}, speakerId: {}, "
+						+ "startTime: {}, endTime: {}, 글자 수: {}, 원인: {}", meetingId, segment.getSequenceOrder(),
+						segment.getSpeakerId(), segment.getStartTime(), segment.getEndTime(),
+						segment.getText() != null ? segment.getText().length() : null, e.getMessage());
+			}
+		}
+	}
+
+	// 커넥션/잠금 대기/타임아웃 등 시간이 지나면 풀릴 수 있는 실패
+	private static boolean isTransient(Exception e) {
+		return e instanceof TransientDataAccessException
+				|| e instanceof RecoverableDataAccessException
+				|| e instanceof DataAccessResourceFailureException
+				|| e instanceof CannotCreateTransactionException;
+	}
+
+	// transcript 테이블의 NOT NULL / 길이 제약과 같은 기준
+	private static void validate(List<TranscriptCreateRequestDto> segments) {
+		for (int i = 0; i < segments.size(); i++) {
+			TranscriptCreateRequestDto segment = segments.get(i);
+			String position = (i + 1) + "번째 발화";
+			if (segment == null) {
+				throw new IllegalArgumentException(position + "가 비어 있습니다.");
+			}
+			if (segment.getSpeakerId() == null || segment.getSpeakerId().isBlank()) {
+				throw new IllegalArgumentException(position + "의 speakerId 가 없습니다.");
+			}
+			if (segment.getSpeakerId().length() > 50) {
+				throw new IllegalArgumentException(position + "의 speakerId 가 50자를 넘습니다.");
+			}
+			if (segment.getSpeakerName() != null && segment.getSpeakerName().length() > 100) {
+				throw new IllegalArgumentException(position + "의 speakerName 이 100자를 넘습니다.");
+			}
+			if (segment.getText() == null) {
+				throw new IllegalArgumentException(position + "의 text 가 없습니다.");
+			}
+			if (segment.getStartTime() == null || segment.getEndTime() == null) {
+				throw new IllegalArgumentException(position + "의 startTime/endTime 이 없습니다.");
+			}
+			if (segment.getSequenceOrder() == null) {
+				throw new IllegalArgumentException(position + "의 sequenceOrder 가 없습니다.");
+			}
+		}
+	}
+
+	private static class LiveBuffer {
+
+		private final ReentrantLock flushLock = new ReentrantLock();
+		private List<TranscriptCreateRequestDto> pending = new ArrayList<>();
+		// 종료/폐기된 버퍼 (이후 add 는 거절)
+		private boolean closed;
+
+		synchronized int add(List<TranscriptCreateRequestDto> segments, int maxPending) {
+			if (closed) {
+				throw new IllegalStateException("회의가 종료되어 발화를 받을 수 없습니다.");
+			}
+			if (pending.size() + segments.size() > maxPending) {
+				throw new LiveTranscriptBufferFullException("발화 저장이 지연되어 버퍼가 가득 찼습니다. 잠시 후 다시 보내주세요.",
+						pending.size());
+			}
+			pending.addAll(segments);
+			return pending.size();
+		}
+
+		synchronized List<TranscriptCreateRequestDto> drain() {
+			List<TranscriptCreateRequestDto> drained = pending;
+			pending = new ArrayList<>();
+			return drained;
+		}
+
+		synchronized List<TranscriptCreateRequestDto> closeAndDrain() {
+			closed = true;
+			return drain();
+		}
+
+		synchronized void reopen(List<TranscriptCreateRequestDto> drained) {
+			closed = false;
+			requeue(drained);
+		}
+
+		synchronized int requeue(List<TranscriptCreateRequestDto> batch) {
+			List<TranscriptCreateRequestDto> merged = new ArrayList<>(batch);
+			merged.addAll(pending);
+			pending = merged;
+			return pending.size();
+		}
+	}
+}
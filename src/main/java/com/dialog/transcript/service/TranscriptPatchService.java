@@ -0,0 +1,140 @@
+package com.dialog.transcript.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.transcript.domain.Transcript;
+import com.dialog.transcript.domain.TranscriptPatchDto;
+import com.dialog.transcript.domain.TranscriptPatchOp;
+import com.dialog.transcript.domain.TranscriptPatchResultDto;
+import com.dialog.transcript.repository.TranscriptBulkRepository;
+import com.dialog.transcript.repository.TranscriptRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// 발화 변경분(delta) 적용
+// 전체 발화 목록을 다시 받아 컬렉션 전체를 비교하는 대신, 연산에 등장한 발화만 한 번의 IN 조회로 가져와 수정
+// (한 줄 수정 = SELECT 1회 + UPDATE 1회, 나머지 행은 건드리지 않음)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TranscriptPatchService {
+
+	private static final String SPEAKER_PREFIX = "Speaker ";
+
+	private final TranscriptRepository transcriptRepository;
+	private final TranscriptBulkRepository transcriptBulkRepository;
+	private final TranscriptVersionService transcriptVersionService;
+
+	// speakerIdsByName: 참석자 이름 -> 화자 ID (표시 이름만 온 경우 화자 ID 보정용)
+	@Transactional
+	public TranscriptPatchResultDto apply(Meeting meeting, TranscriptPatchDto patch, Map<String, String> speakerIdsByName) {
+		if (patch.getBaseVersion() == null) {
+			throw new IllegalArgumentException("baseVersion이 필요합니다.");
+		}
+		List<TranscriptPatchDto.Operation> operations = patch.getOperations() != null ? patch.getOperations() : List.of();
+
+		// 1. 버전 확인 및 증가 (조건부 UPDATE 한 번으로 동시 수정 감지)
+		long baseVersion = patch.getBaseVersion();
+		meeting.syncTranscriptVersion(transcriptVersionService.bumpIfCurrent(meeting.getId(), baseVersion));
+
+		// 2. 연산에 등장한 기존 발화만 한 번에 조회
+		List<Long> targetIds = operations.stream()
+				.filter(op -> op.getOp() != TranscriptPatchOp.INSERT)
+				.map(op -> {
+					if (op.getOp() == null || op.getId() == null) {
+						throw new IllegalArgumentException("연산 종류와 발화 ID가 필요합니다.");
+					}
+					return op.getId();
+				})
+				.distinct()
+				.toList();
+
+		Map<Long, Transcript> targets = targetIds.isEmpty() ? Map.of()
+				: transcriptRepository.findAllByMeetingIdAndIdIn(meeting.getId(), targetIds).stream()
+						.collect(Collectors.toMap(Transcript::getId, Function.identity()));
+		if (targets.size() != targetIds.size()) {
+			throw new IllegalArgumentException("이 회의에 존재하지 않는 발화 ID가 포함되어 있습니다.");
+		}
+
+		// 3. 연산 적용 (기존 발화는 Dirty Checking, 신규 발화는 JDBC 배치 INSERT)
+		List<Transcript> inserts = new ArrayList<>();
+		for (TranscriptPatchDto.Operation op : operations) {
+			switch (op.getOp()) {
+			case INSERT -> inserts.add(newTranscript(meeting, op, speakerIdsByName));
+			case UPDATE -> update(targets.get(op.getId()), op, speakerIdsByName);
+			case DELETE -> targets.get(op.getId()).delete();
+			case RESTORE -> targets.get(op.getId()).restore();
+			case MOVE -> {
+				if (op.getSequenceOrder() == null) {
+					throw new IllegalArgumentException("MOVE 연산에는 sequenceOrder가 필요합니다.");
+				}
+				targets.get(op.getId()).updateSequenceOrder(op.getSequenceOrder());
+			}
+			}
+		}
+
+		List<Long> insertedIds = transcriptBulkRepository.insertAll(inserts).stream()
+				.map(Transcript::getId)
+				.toList();
+
+		log.info("발화 패치 적용 - meetingId: {}, version: {} -> {}, 연산 {}건 (수정 {}, 추가 {})", meeting.getId(),
+				baseVersion, baseVersion + 1, operations.size(), targets.size(), insertedIds.size());
+		return new TranscriptPatchResultDto(baseVersion + 1, targets.size(), insertedIds);
+	}
+
+	// null이 아닌 필드만 변경 (값이 같으면 Dirty Checking에서 UPDATE가 나가지 않음)
+	private void update(Transcript transcript, TranscriptPatchDto.Operation op, Map<String, String> speakerIdsByName) {
+		if (op.getText() != null) {
+			transcript.updateText(op.getText());
+		}
+		if (op.getSpeaker() != null || op.getSpeakerName() != null) {
+			String speakerName = op.getSpeakerName() != null ? op.getSpeakerName() : transcript.getSpeakerName();
+			String speakerId = op.getSpeaker();
+			if (speakerId == null || !speakerId.startsWith(SPEAKER_PREFIX)) {
+				speakerId = speakerIdsByName.getOrDefault(speakerName, transcript.getSpeakerId());
+			}
+			if (!Objects.equals(speakerId, transcript.getSpeakerId())
+					|| !Objects.equals(speakerName, transcript.getSpeakerName())) {
+				transcript.updateSpeaker(speakerId, speakerName);
+			}
+		}
+		if (op.getSequenceOrder() != null) {
+			transcript.updateSequenceOrder(op.getSequenceOrder());
+		}
+	}
+
+	private Transcript newTranscript(Meeting meeting, TranscriptPatchDto.Operation op,
+			Map<String, String> speakerIdsByName) {
+		if (op.getText() == null || op.getSequenceOrder() == null) {
+			throw new IllegalArgumentException("INSERT 연산에는 text와 sequenceOrder가 필요합니다.");
+		}
+		// 화자 ID 보정 (updateMeetingResult 신규 발화 처리와 동일한 규칙)
+		String speakerId = op.getSpeaker();
+		if (speakerIdsByName.containsKey(op.getSpeakerName())) {
+			speakerId = speakerIdsByName.get(op.getSpeakerName());
+		} else if (speakerId == null || !speakerId.startsWith(SPEAKER_PREFIX)) {
+			speakerId = op.getSpeakerName();
+		}
+
+		return Transcript.builder()
+				.meeting(meeting)
+				.speakerId(speakerId)
+				.speakerName(op.getSpeakerName())
+				.text(op.getText())
+				.startTime(op.getStartTime() != null ? op.getStartTime() : 0L)
+				.endTime(op.getEndTime() != null ? op.getEndTime() : 0L)
+				.sequenceOrder(op.getSequenceOrder())
+				.isDeleted(false)
+				.build();
+	}
+}
@@ -1,12 +1,15 @@
 package com.dialog.transcript.service;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import com.dialog.meeting.domain.Meeting;
+import com.dialog.meeting.domain.MeetingContentChangedEvent;
 import com.dialog.meeting.repository.MeetingRepository;
 import com.dialog.transcript.domain.Transcript;
 import com.dialog.transcript.domain.TranscriptCreateRequestDto;
 import com.dialog.transcript.domain.TranscriptResponseDto;
+import com.dialog.transcript.repository.TranscriptBulkRepository;
 import com.dialog.transcript.repository.TranscriptRepository;
 import lombok.RequiredArgsConstructor;
 import java.util.List;
@@ -18,7 +21,10 @@ import java.util.stream.Collectors;
 public class TranscriptService {
 
     private final TranscriptRepository transcriptRepository;
+    private final TranscriptBulkRepository transcriptBulkRepository;
     private final MeetingRepository meetingRepository;
+    private final TranscriptVersionService transcriptVersionService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // Transcript 저장 (단일)
     @Transactional
@@ -39,6 +45,7 @@ public class TranscriptService {
             .build();
 
         Transcript savedTranscript = transcriptRepository.save(transcript);
+        publishChanged(meetingId);
         return new TranscriptResponseDto(savedTranscript);
     }
 
@@ -62,13 +69,42 @@ public class TranscriptService {
                 .build())
             .collect(Collectors.toList());
 
-        List<Transcript> savedTranscripts = transcriptRepository.saveAll(transcripts);
+        // IDENTITY 전략이라 saveAll은 건별 INSERT가 되므로 JDBC 배치로 저장
+        List<Transcript> savedTranscripts = transcriptBulkRepository.insertAll(transcripts);
+        publishChanged(meetingId);
         
         return savedTranscripts.stream()
             .map(TranscriptResponseDto::new)
             .collect(Collectors.toList());
     }
 
+    // 실시간 수신 발화 묶음 저장 (LiveTranscriptService의 마이크로 배치 flush에서 호출)
+    // 회의 엔티티는 조회하지 않고 참조(프록시)만 사용
+    // 기존 발화를 바꾸지 않고 뒤에 추가만 하므로 발화 버전은 올리지 않음
+    // (녹음 중 매 flush 마다 버전이 오르면 제목/요약 저장에 딸린 패치가 매번 409 로 거절됨)
+    // 검색 색인도 같은 이유로 회의 전체가 아니라 새 발화만 추가하도록 추가 전용 이벤트 발행
+    @Transactional
+    public void appendTranscripts(Long meetingId, List<TranscriptCreateRequestDto> requestDtos) {
+        Meeting meeting = meetingRepository.getReferenceById(meetingId);
+
+        List<Transcript> transcripts = requestDtos.stream()
+            .map(dto -> Transcript.builder()
+                .meeting(meeting)
+                .speakerId(dto.getSpeakerId())
+                .speakerName(dto.getSpeakerName())
+                .speakerLabel(dto.getSpeakerLabel())
+                .text(dto.getText())
+                .startTime(dto.getStartTime())
+                .endTime(dto.getEndTime())
+                .sequenceOrder(dto.getSequenceOrder())
+                .isDeleted(false)
+                .build())
+            .collect(Collectors.toList());
+
+        transcriptBulkRepository.insertAll(transcripts);
+        eventPublisher.publishEvent(MeetingContentChangedEvent.transcriptsAppended(meetingId));
+    }
+
     // Meeting ID로 모든 Transcript 조회
     public List<TranscriptResponseDto> getTranscriptsByMeetingId(Long meetingId) {
         List<Transcript> transcripts = transcriptRepository.findByMeetingIdOrderBySequenceOrder(meetingId);
@@ -94,6 +130,7 @@ public class TranscriptService {
             .orElseThrow(() -> new IllegalArgumentException("Transcript를 찾을 수 없습니다."));
         
         transcript.updateText(newText);
+        publishChanged(transcript.getMeeting().getId());
         return new TranscriptResponseDto(transcript);
     }
 
@@ -104,6 +141,7 @@ public class TranscriptService {
             .orElseThrow(() -> new IllegalArgumentException("Transcript를 찾을 수 없습니다."));
         
         transcript.updateSpeaker(newSpeakerId, newSpeakerName);
+        publishChanged(transcript.getMeeting().getId());
         return new TranscriptResponseDto(transcript);
     }
 
@@ -114,6 +152,7 @@ public class TranscriptService {
             .orElseThrow(() -> new IllegalArgumentException("Transcript를 찾을 수 없습니다."));
         
         transcript.delete();
+        publishChanged(transcript.getMeeting().getId());
         return new TranscriptResponseDto(transcript);
     }
 
@@ -124,6 +163,7 @@ public class TranscriptService {
             .orElseThrow(() -> new IllegalArgumentException("Transcript를 찾을 수 없습니다."));
         
         transcript.restore();
+        publishChanged(transcript.getMeeting().getId());
         return new TranscriptResponseDto(transcript);
     }
 
@@ -134,12 +174,14 @@ public class TranscriptService {
             .orElseThrow(() -> new IllegalArgumentException("Transcript를 찾을 수 없습니다."));
         
         transcriptRepository.delete(transcript);
+        publishChanged(transcript.getMeeting().getId());
     }
 
     // Meeting의 모든 Transcript 삭제
     @Transactional
     public void deleteTranscriptsByMeetingId(Long meetingId) {
         transcriptRepository.deleteByMeetingId(meetingId);
+        publishChanged(meetingId);
     }
     
     // 특정 회의의 특정 화자(ID)에 해당하는 모든 발화의 speakerName 변경
@@ -157,5 +199,13 @@ public class TranscriptService {
         for (Transcript t : transcripts) {
             t.updateSpeaker(t.getSpeakerId(), newSpeakerName);
         }
+        publishChanged(meetingId);
+    }
+
+    // 발화 버전을 올리고 검색 색인 등 회의 내용 구독자에게 변경 알림 (커밋 후 반영)
+    // 기존 발화를 바꾸는 메서드가 호출하므로, 이전 버전을 가진 클라이언트의 패치는 충돌로 거절됨
+    private void publishChanged(Long meetingId) {
+        transcriptVersionService.bump(meetingId);
+        eventPublisher.publishEvent(new MeetingContentChangedEvent(meetingId));
     }
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.dialog.transcript.service;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dialog.exception.TranscriptVersionConflictException;
+import com.dialog.meeting.repository.MeetingRepository;
+
+import lombok.RequiredArgsConstructor;
+
+// 회의 발화 목록 버전(meeting.transcript_version) 증가
+// 기존 발화를 바꾸는 쓰기 경로가 이 서비스를 거쳐 같은 조건부 UPDATE 로 버전을 올림
+// 녹음 중 실시간 발화 추가(뒤에 붙이기만 함)는 다른 수정과 겹치지 않으므로 버전을 올리지 않음
+// (엔티티 필드는 updatable = false 라서 Dirty Checking 으로는 바뀌지 않음)
+@Service
+@RequiredArgsConstructor
+public class TranscriptVersionService {
+
+	private final MeetingRepository meetingRepository;
+
+	// baseVersion 없이 발화를 바꾸는 경로 (단건 수정, 전체 재저장 등) - 무조건 1 증가
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void bump(Long meetingId) {
+		meetingRepository.increaseTranscriptVersion(meetingId);
+	}
+
+	// 증가 후 현재 버전 반환 (이미 로드된 Meeting 엔티티에 syncTranscriptVersion 으로 반영하는 경로용)
+	@Transactional(propagation = Propagation.MANDATORY)
+	public long bumpAndGet(Long meetingId) {
+		meetingRepository.increaseTranscriptVersion(meetingId);
+		return meetingRepository.findTranscriptVersionById(meetingId).orElse(0L);
+	}
+
+	// 클라이언트가 baseVersion 을 보낸 경로 - 현재 버전과 같을 때만 1 증가, 다르면 충돌
+	@Transactional(propagation = Propagation.MANDATORY)
+	public long bumpIfCurrent(Long meetingId, long baseVersion) {
+		if (meetingRepository.increaseTranscriptVersion(meetingId, baseVersion) == 0) {
+			long currentVersion = meetingRepository.findTranscriptVersionById(meetingId).orElse(0L);
+			throw new TranscriptVersionConflictException(
+					"다른 곳에서 발화가 먼저 수정되었습니다. 최신 내용을 다시 불러와주세요.", currentVersion);
+		}
+		return baseVersion + 1;
+	}
+}
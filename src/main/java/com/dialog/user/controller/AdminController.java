@@ -1,6 +1,7 @@
 package com.dialog.user.controller;
 
 import com.dialog.exception.UserNotFoundException;
+import com.dialog.global.utill.ExportFormat;
 
 import com.dialog.meeting.domain.MeetingCreateResponseDto;
 import com.dialog.meeting.service.MeetingService;
@@ -12,6 +13,10 @@ import com.dialog.user.service.AdminService;
 
 import lombok.RequiredArgsConstructor;
 
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -22,7 +27,9 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.HashMap;
 import java.util.List;
@@ -34,6 +41,7 @@ import java.util.Map;
 public class AdminController {
 
 	private final AdminService adminService;
+	private final PoolingHttpClientConnectionManager fastApiConnectionManager;
 	private final MeetingService meetingService;
 
 	// 관리자만 접근 가능하도록 PreAuthorize 적용 (ROLE_ADMIN 등)
@@ -43,6 +51,16 @@ public class AdminController {
 		return ResponseEntity.ok(adminService.getAllUsers());
 	}
 
+	// 전체 사용자 스트리밍 내보내기 (GET /api/admin/users/export?format=ndjson|csv)
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/users/export")
+	public ResponseEntity<StreamingResponseBody> exportUsers(
+			@RequestParam(name = "format", defaultValue = "ndjson") String format) {
+		ExportFormat exportFormat = ExportFormat.from(format);
+		StreamingResponseBody body = out -> adminService.exportUsers(out, exportFormat);
+		return exportResponse("users", exportFormat, body);
+	}
+
 	// 유저 삭제
 	@PreAuthorize("hasRole('ADMIN')")
 	@DeleteMapping("/users/{userId}")
@@ -67,6 +85,16 @@ public class AdminController {
 		return ResponseEntity.ok(meetings);
 	}
 
+	// 전체 회의 스트리밍 내보내기 (GET /api/admin/meetings/export?format=ndjson|csv)
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/meetings/export")
+	public ResponseEntity<StreamingResponseBody> exportMeetings(
+			@RequestParam(name = "format", defaultValue = "ndjson") String format) {
+		ExportFormat exportFormat = ExportFormat.from(format);
+		StreamingResponseBody body = out -> adminService.exportMeetings(out, exportFormat);
+		return exportResponse("meetings", exportFormat, body);
+	}
+
 	@PreAuthorize("hasRole('ADMIN')")
 	@DeleteMapping("/meetings/{meetingId}")
 	public ResponseEntity<Void> deleteMeeting(@PathVariable("meetingId") Long meetingId) {
@@ -119,4 +147,28 @@ public class AdminController {
 		return adminService.getTodayStats();
 	}
 
+	// FastAPI 커넥션 풀 현황 (leased: 사용 중, pending: 연결 대기 중인 요청, available: 유휴 연결)
+	@PreAuthorize("hasRole('ADMIN')")
+	@GetMapping("/http-pool/fastapi")
+	public Map<String, Object> getFastApiPoolStats() {
+		PoolStats stats = fastApiConnectionManager.getTotalStats();
+		Map<String, Object> result = new HashMap<>();
+		result.put("leased", stats.getLeased());
+		result.put("pending", stats.getPending());
+		result.put("available", stats.getAvailable());
+		result.put("max", stats.getMax());
+		result.put("routes", fastApiConnectionManager.getRoutes().size());
+		return result;
+	}
+
+	// 내보내기 응답 공통 헤더 (파일 다운로드 + 형식별 Content-Type)
+	private ResponseEntity<StreamingResponseBody> exportResponse(String name, ExportFormat format,
+			StreamingResponseBody body) {
+		return ResponseEntity.ok()
+				.contentType(format.getMediaType())
+				.header(HttpHeaders.CONTENT_DISPOSITION,
+						"attachment; filename=\"" + name + "." + format.getExtension() + "\"")
+				.body(body);
+	}
+
 }
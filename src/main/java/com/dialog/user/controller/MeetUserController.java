@@ -1,7 +1,6 @@
 package com.dialog.user.controller;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
 
 
@@ -12,7 +11,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -81,8 +79,10 @@ public class MeetUserController {
         MeetUser user = meetuserService.login(dto.getEmail(), dto.getPassword());
 
         // 인증 정보를 토대로 Authentication 객체 생성 (Spring Security 내 권한정보 포함)
+        // principal 에 사용자 ID/이름이 담겨야 토큰에 uid/name 클레임이 들어감
+        CustomUserDetails principal = new CustomUserDetails(user);
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-            user.getEmail(), null, List.of(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+            principal, null, principal.getAuthorities()
         );
 
         // Access Token(JWT) 토큰 생성
@@ -127,6 +127,10 @@ public class MeetUserController {
         // DB에서 Refresh Token 삭제 
         if (authentication != null && authentication.isAuthenticated()) {
             refreshTokenService.deleteByEmail(authentication.getName());
+            // 현재 액세스 토큰도 만료 시각까지 폐기 (JWT 필터가 인증 시 credentials 에 토큰을 담아 둠)
+            if (authentication.getCredentials() instanceof String accessToken) {
+                jwtTokenProvider.revoke(accessToken);
+            }
         }
         return ResponseEntity.ok(Map.of("success", true, "message", "로그아웃 성공"));
     }
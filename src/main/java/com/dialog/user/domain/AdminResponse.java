@@ -2,11 +2,16 @@ package com.dialog.user.domain;
 import lombok.Builder;
 import lombok.Getter;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
 
 @Getter
 @Builder
 public class AdminResponse {
 
+    // 관리자 사용자 내보내기(CSV) 컬럼 순서
+    public static final List<String> CSV_HEADER = List.of("id", "name", "email", "role", "active", "regDate", "job", "position");
+
     private final Long id;          // PK (수정/삭제용)
     private final String name;      // 이름
     private final String email;     // 이메일
@@ -30,4 +35,8 @@ public class AdminResponse {
                 .position(user.getPosition() != null ? user.getPosition().name() : null)
                 .build();
     }
-}
\ No newline at end of file
+
+    public List<Object> toCsvColumns() {
+        return Arrays.asList(id, name, email, role, active, regDate, job, position);
+    }
+}
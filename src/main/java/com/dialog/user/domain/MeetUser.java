@@ -17,6 +17,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import lombok.Builder;
@@ -26,7 +27,7 @@ import lombok.Setter;
 
  
 @Entity
-@Table(name = "user")
+@Table(name = "user", indexes = @Index(name = "idx_user_reset_token_expires", columnList = "reset_token_expires_at"))
 @Getter
 @Setter
 public class MeetUser {
@@ -74,4 +74,18 @@ public class MeetUserDto {
                 .build();
     }
 
+    // 캐시된 사용자 정보로 변환 (fromEntity 와 같은 필드)
+    public static MeetUserDto fromSnapshot(UserSnapshot user) {
+        return MeetUserDto.builder()
+                .email(user.getEmail())
+                .name(user.getName())
+                .profileImgUrl(user.getProfileImgUrl())
+                .job(user.getJob().name())
+                .position(user.getPosition().name())
+                .socialType(user.getSocialType())
+                .snsId(user.getSnsId())
+                .role(user.getRole() != null ? user.getRole().name() : null)
+                .build();
+    }
+
 }
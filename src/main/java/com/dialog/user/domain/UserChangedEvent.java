@@ -0,0 +1,23 @@
+package com.dialog.user.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 사용자 정보(이름, 활성 상태 등)가 바뀌었을 때 발행하는 이벤트
+// 사용자 정보를 메모리에 캐싱하는 서비스들이 구독해서 캐시를 비움
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+
+	public enum ChangeType {
+		CREATED, RENAMED, DEACTIVATED, UPDATED, DELETED, ROLE_CHANGED, PASSWORD_CHANGED
+	}
+
+	private final Long userId;
+	private final String email;
+	private final ChangeType type;
+
+	public static UserChangedEvent of(MeetUser user, ChangeType type) {
+		return new UserChangedEvent(user.getId(), user.getEmail(), type);
+	}
+}
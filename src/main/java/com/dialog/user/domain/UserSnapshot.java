@@ -0,0 +1,29 @@
+package com.dialog.user.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 캐시에 보관하는 사용자 정보 (읽기 전용)
+// JPA 엔티티를 캐시에 넣으면 다른 스레드/영속성 컨텍스트에서 변경될 수 있으므로 불변 값으로 복사해 둠
+// 비밀번호, 비밀번호 재설정 토큰 등 민감 정보는 담지 않음
+@Getter
+@RequiredArgsConstructor
+public class UserSnapshot {
+
+	private final Long id;
+	private final String email;
+	private final String name;
+	private final String profileImgUrl;
+	private final Job job;
+	private final Position position;
+	private final String socialType;
+	private final String snsId;
+	private final Role role;
+	private final boolean active;
+
+	public static UserSnapshot from(MeetUser user) {
+		return new UserSnapshot(user.getId(), user.getEmail(), user.getName(), user.getProfileImgUrl(),
+				user.getJob(), user.getPosition(), user.getSocialType(), user.getSnsId(), user.getRole(),
+				user.isActive());
+	}
+}
@@ -1,14 +1,23 @@
 package com.dialog.user.repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dialog.user.domain.MeetUser;
 
+import jakarta.persistence.QueryHint;
+
 public interface MeetUserRepository extends JpaRepository<MeetUser, Long> {
 
     // email 컬럼을 기반으로 MeetUser 객체를 optional 형태로 조회
@@ -17,6 +26,9 @@ public interface MeetUserRepository extends JpaRepository<MeetUser, Long> {
     // name 컬럼을 기반으로 MeetUser 객체를 optional 형태로 조회
     Optional<MeetUser> findByName(String name);
 
+    // 액션 아이템 담당자 일괄 조회 (이름 IN 조회 한 번, 활성 사용자만)
+    List<MeetUser> findByNameInAndActiveTrueOrderByIdAsc(Collection<String> names);
+
     // 소셜 로그인 고유 ID 조회
     Optional<MeetUser> findBySnsId(String snsId);
 
@@ -38,5 +50,22 @@ public interface MeetUserRepository extends JpaRepository<MeetUser, Long> {
     long countYesterdayRegisteredUsers(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
 	Optional<MeetUser> findByResetPasswordToken(String resetPasswordToken);
-    
+
+	// 만료된 비밀번호 재설정 토큰을 최대 limit 명분만 비움 (정리 작업용)
+	@Modifying
+	@Transactional
+	@Query(value = "UPDATE user SET reset_password_token = NULL, reset_token_expires_at = NULL "
+			+ "WHERE reset_token_expires_at < :now LIMIT :limit", nativeQuery = true)
+	int clearExpiredResetTokensChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+	@Query("SELECT MIN(u.resetTokenExpiresAt) FROM MeetUser u WHERE u.resetTokenExpiresAt < :now")
+	LocalDateTime findOldestExpiredResetTokenAt(@Param("now") LocalDateTime now);
+
+    // 관리자 내보내기용 전방향 커서 조회 (MySQL 행 단위 스트리밍, 호출 측에서 행마다 detach 필요)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true") })
+    @Query("SELECT u FROM MeetUser u ORDER BY u.id")
+    Stream<MeetUser> streamAllForExport();
+
 }
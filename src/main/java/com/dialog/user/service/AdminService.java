@@ -1,13 +1,20 @@
 package com.dialog.user.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import com.dialog.calendarevent.repository.CalendarEventRepository;
 import com.dialog.exception.ResourceNotFoundException;
 import com.dialog.exception.UserNotFoundException;
+import com.dialog.global.utill.ExportFormat;
+import com.dialog.global.utill.StreamingExportWriter;
+import com.dialog.meeting.domain.MeetingExportRow;
 import com.dialog.meeting.repository.MeetingRepository;
 import com.dialog.participant.repository.ParticipantRepository;
 import com.dialog.token.repository.RefreshTokenRepository;
@@ -15,14 +22,21 @@ import com.dialog.user.domain.AdminResponse;
 import com.dialog.user.domain.MeetUser;
 import com.dialog.user.domain.MeetUserDto;
 import com.dialog.user.domain.TodayStatsDto;
+import com.dialog.user.domain.UserChangedEvent;
 import com.dialog.user.domain.UserSettingsUpdateDto;
 import com.dialog.user.repository.MeetUserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdminService {
@@ -32,6 +46,9 @@ public class AdminService {
 	private final MeetingRepository meetingRepository;
 	private final RefreshTokenRepository refreshTokenRepository;
 	private final CalendarEventRepository calendarEventRepository;
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+	private final ApplicationEventPublisher eventPublisher;
 	
 	@Transactional(readOnly = true)
 	public List<AdminResponse> getAllUsers() {
@@ -39,6 +56,43 @@ public class AdminService {
 				.toList();
 	}
 
+	// 전체 사용자 스트리밍 내보내기
+	// 커서에서 한 행씩 꺼내 바로 쓰고 detach 하므로 사용자 수와 관계없이 힙 사용량이 일정함
+	@Transactional(readOnly = true)
+	public long exportUsers(OutputStream out, ExportFormat format) throws IOException {
+		long start = System.currentTimeMillis();
+		try (Stream<MeetUser> users = meetUserRepository.streamAllForExport();
+				StreamingExportWriter<AdminResponse> writer = new StreamingExportWriter<>(out, format, objectMapper,
+						AdminResponse.CSV_HEADER, AdminResponse::toCsvColumns)) {
+			Iterator<MeetUser> iterator = users.iterator();
+			while (iterator.hasNext()) {
+				MeetUser user = iterator.next();
+				writer.write(AdminResponse.from(user));
+				entityManager.detach(user);
+			}
+			log.info("사용자 내보내기 완료 - {}건, format: {}, {}ms", writer.getRowCount(), format,
+					System.currentTimeMillis() - start);
+			return writer.getRowCount();
+		}
+	}
+
+	// 전체 회의 스트리밍 내보내기 (생성자 프로젝션이라 영속성 컨텍스트에 엔티티가 쌓이지 않음)
+	@Transactional(readOnly = true)
+	public long exportMeetings(OutputStream out, ExportFormat format) throws IOException {
+		long start = System.currentTimeMillis();
+		try (Stream<MeetingExportRow> rows = meetingRepository.streamAllForExport();
+				StreamingExportWriter<MeetingExportRow> writer = new StreamingExportWriter<>(out, format, objectMapper,
+						MeetingExportRow.CSV_HEADER, MeetingExportRow::toCsvColumns)) {
+			Iterator<MeetingExportRow> iterator = rows.iterator();
+			while (iterator.hasNext()) {
+				writer.write(iterator.next());
+			}
+			log.info("회의 내보내기 완료 - {}건, format: {}, {}ms", writer.getRowCount(), format,
+					System.currentTimeMillis() - start);
+			return writer.getRowCount();
+		}
+	}
+
 	@Transactional
 	public void deleteUser(Long userId) {
 	    MeetUser user = meetUserRepository.findById(userId)
@@ -48,6 +102,7 @@ public class AdminService {
 	    meetingRepository.deleteByHostUser(user); 
 	    refreshTokenRepository.deleteByUser(user);
 	    meetUserRepository.delete(user);
+	    eventPublisher.publishEvent(UserChangedEvent.of(user, UserChangedEvent.ChangeType.DELETED));
 	}
 	
 	@Transactional
@@ -61,9 +116,14 @@ public class AdminService {
 	    if (updateDto.getPosition() != null) {
 	        user.setPosition(updateDto.getPosition());
 	    }
+	    UserChangedEvent.ChangeType changeType = UserChangedEvent.ChangeType.UPDATED;
 	    if (updateDto.getActive() != null) {
+	        if (user.isActive() != updateDto.getActive()) {
+	            changeType = UserChangedEvent.ChangeType.DEACTIVATED; // 활성/비활성 전환 모두 이름 매핑에 영향
+	        }
 	        user.setActive(updateDto.getActive());
 	    }
+	    eventPublisher.publishEvent(UserChangedEvent.of(user, changeType));
 	}
 	
 	// 가입한 유저수 조회
@@ -0,0 +1,118 @@
+package com.dialog.user.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.UserChangedEvent;
+import com.dialog.user.repository.MeetUserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 액션 아이템 담당자 이름 -> 사용자 ID 일괄 변환
+// 1) 짧은 TTL 캐시에서 먼저 찾고 (일치하는 사용자가 없는 이름도 캐싱)
+// 2) 캐시에 없는 이름만 IN 조회 한 번
+// 액션 아이템 수와 관계없이 저장 한 번에 사용자 조회 쿼리는 최대 1번
+// 사용자 이름 변경, 비활성화, 삭제 시 UserChangedEvent 로 캐시를 비움
+@Slf4j
+@Service
+public class AssigneeResolver {
+
+	// 일치하는 사용자가 없는 이름 표시용 (Caffeine 은 null 값을 저장할 수 없음)
+	private static final long NOT_FOUND = -1L;
+
+	private final MeetUserRepository meetUserRepository;
+
+	// 사용자 이름 -> ID
+	private final Cache<String, Long> userIdCache;
+
+	public AssigneeResolver(MeetUserRepository meetUserRepository,
+			@Value("${assignee.cache.ttl-seconds:300}") long ttlSeconds,
+			@Value("${assignee.cache.max-size:5000}") long maxSize) {
+		this.meetUserRepository = meetUserRepository;
+		this.userIdCache = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.maximumSize(maxSize)
+				.build();
+	}
+
+	// 이름 목록을 활성 사용자 ID로 변환, 일치하는 사용자가 없는 이름은 결과에서 빠짐
+	@Transactional(readOnly = true)
+	public Map<String, Long> resolveIds(Collection<String> names) {
+		Set<String> requested = new LinkedHashSet<>();
+		for (String name : names) {
+			if (name != null && !name.isBlank()) {
+				requested.add(name.trim());
+			}
+		}
+
+		Map<String, Long> resolved = new HashMap<>();
+		List<String> missing = new ArrayList<>();
+		for (String name : requested) {
+			Long id = userIdCache.getIfPresent(name);
+			if (id == null) {
+				missing.add(name);
+			} else if (id != NOT_FOUND) {
+				resolved.put(name, id);
+			}
+		}
+
+		if (!missing.isEmpty()) {
+			// 동명이인이 있으면 먼저 가입한 사용자로 (ID 오름차순 첫 번째)
+			// MySQL 기본 콜레이션은 대소문자를 구분하지 않으므로 결과도 소문자 이름으로 맞춰 봄
+			Map<String, Long> found = new HashMap<>();
+			for (MeetUser user : meetUserRepository.findByNameInAndActiveTrueOrderByIdAsc(missing)) {
+				found.putIfAbsent(user.getName().toLowerCase(Locale.ROOT), user.getId());
+			}
+			for (String name : missing) {
+				Long id = found.get(name.toLowerCase(Locale.ROOT));
+				userIdCache.put(name, id != null ? id : NOT_FOUND);
+				if (id != null) {
+					resolved.put(name, id);
+				}
+			}
+			log.debug("담당자 이름 조회 - 요청 {}건, DB 조회 {}건", requested.size(), missing.size());
+		}
+		return resolved;
+	}
+
+	// 단건 조회 (캐시 경유)
+	@Transactional(readOnly = true)
+	public Optional<Long> resolveId(String name) {
+		if (name == null || name.isBlank()) {
+			return Optional.empty();
+		}
+		return Optional.ofNullable(resolveIds(List.of(name)).get(name.trim()));
+	}
+
+	// 이름 -> 사용자 매핑이 바뀔 수 있는 변경이 커밋되면 캐시 전체를 비움
+	// 이벤트에는 바뀌기 전 이름이 없고, 신규 가입은 "없음" 으로 캐싱된 이름을 무효화해야 하므로 부분 삭제 대신 전체 삭제
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onUserChanged(UserChangedEvent event) {
+		if (event.getType() == UserChangedEvent.ChangeType.UPDATED
+				|| event.getType() == UserChangedEvent.ChangeType.PASSWORD_CHANGED) {
+			return; // 직무/직급, 비밀번호 등 이름과 무관한 변경
+		}
+		userIdCache.invalidateAll();
+		log.debug("담당자 캐시 비움 - userId: {}, type: {}", event.getUserId(), event.getType());
+	}
+
+	public void clearCache() {
+		userIdCache.invalidateAll();
+	}
+}
@@ -11,39 +11,66 @@ import com.dialog.user.domain.Job;
 import com.dialog.user.domain.MeetUser;
 
 public class CustomUserDetails implements UserDetails {
-	
+
+    // JWT 클레임으로 만든 경우 null (엔티티가 필요하면 ID로 조회)
     private final MeetUser user;
+    private final Long id;
+    private final String email;
+    private final String name;
+    private final Collection<? extends GrantedAuthority> authorities;
 
     public CustomUserDetails(MeetUser user) {
         this.user = user;
+        this.id = user.getId();
+        this.email = user.getEmail();
+        this.name = user.getName();
+        String roleName = user.getRole() != null ? user.getRole().name() : "USER";
+        this.authorities = List.of(new SimpleGrantedAuthority("ROLE_" + roleName));
+    }
+
+    private CustomUserDetails(Long id, String email, String name, Collection<? extends GrantedAuthority> authorities) {
+        this.user = null;
+        this.id = id;
+        this.email = email;
+        this.name = name;
+        this.authorities = authorities;
+    }
+
+    // JWT 클레임(uid, sub, name, auth)만으로 인증 주체 생성 - DB 조회 없음
+    public static CustomUserDetails fromClaims(Long id, String email, String name,
+            Collection<? extends GrantedAuthority> authorities) {
+        return new CustomUserDetails(id, email, name, authorities);
     }
-    
+
     public MeetUser getMeetUser() {
         return this.user;
     }
-    
-    // 직무 설정이 안 되어 있는지 확인
+
+    // 직무 설정이 안 되어 있는지 확인 (엔티티가 없으면 판단 불가 → false)
     public boolean isJobEmpty() {
-        return this.user.getJob() == Job.NONE; 
+        return this.user != null && this.user.getJob() == Job.NONE;
     }
 
     public Long getId() {
-        return user.getId();
+        return id;
+    }
+
+    public String getName() {
+        return name;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        String roleName = user.getRole() != null ? user.getRole().name() : "USER";
-        return List.of(new SimpleGrantedAuthority("ROLE_" + roleName));
+        return authorities;
     }
     @Override
     public String getPassword() {
-    	return user.getPassword(); 
+    	return user != null ? user.getPassword() : null;
     }
-    
+
     @Override
-    public String getUsername() { 
-    	return user.getEmail(); 
+    public String getUsername() {
+    	return email;
     }
 
     // 계정 만료 여부 (false면 만료)
@@ -66,4 +93,4 @@ public class CustomUserDetails implements UserDetails {
     public boolean isEnabled() {
         return true;
     }
-}
\ No newline at end of file
+}
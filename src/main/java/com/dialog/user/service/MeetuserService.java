@@ -9,6 +9,7 @@ import com.dialog.todo.domain.TodoStatus;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -36,7 +37,9 @@ import com.dialog.user.domain.HomeStatsDto;
 import com.dialog.user.domain.MeetUser;
 import com.dialog.user.domain.MeetUserDto;
 import com.dialog.user.domain.Role;
+import com.dialog.user.domain.UserChangedEvent;
 import com.dialog.user.domain.UserSettingsUpdateDto;
+import com.dialog.user.domain.UserSnapshot;
 import com.dialog.user.repository.MeetUserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -50,6 +53,8 @@ public class MeetuserService {
     private final TodoRepository todoRepository;
     private final PasswordEncoder passwordEncoder;       
     private final EmailService emailService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final UserSnapshotCache userSnapshotCache;
 
     @Value("${app.reset-password.url}")
     private String resetPasswordUrl;
@@ -79,6 +84,7 @@ public class MeetuserService {
                 .role(Role.USER)
                 .build();
         meetUserRepository.save(user); // DB에 신규 회원 저장
+        eventPublisher.publishEvent(UserChangedEvent.of(user, UserChangedEvent.ChangeType.CREATED));
     }
 
     
@@ -91,6 +97,16 @@ public class MeetuserService {
     
     // 현재 로그인한 유저 정보 조회
     public MeetUserDto getCurrentUser(Authentication authentication) {
+        // JWT 로그인 사용자는 캐시된 사용자 정보로 응답 (조회 전용이라 엔티티 불필요)
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            UserSnapshot snapshot = (userDetails.getId() != null
+                    ? userSnapshotCache.getById(userDetails.getId())
+                    : userSnapshotCache.getByEmail(userDetails.getUsername()))
+                .orElseThrow(() -> new UserNotFoundException("회원 정보를 찾을 수 없습니다."));
+            return MeetUserDto.fromSnapshot(snapshot);
+        }
+
         // 1. 공용 메서드를 호출해 사용자 엔티티를 가져옴
         MeetUser user = getAuthenticatedUser(authentication);
         
@@ -124,6 +140,7 @@ public class MeetuserService {
 
         // 2. MeetUser 엔티티 내부의 업데이트 메서드 호출
         user.updateSettings(dto.getJob(), dto.getPosition());
+        eventPublisher.publishEvent(UserChangedEvent.of(user, UserChangedEvent.ChangeType.UPDATED));
     }
     
     // 인증된 사용자 엔티티 조회
@@ -186,12 +203,19 @@ public class MeetuserService {
         user.clearResetPasswordToken();
 
         meetUserRepository.save(user);
+        // 비밀번호 변경 전에 발급된 액세스 토큰은 AccessTokenRevocationService 가 이 이벤트로 거절 처리
+        eventPublisher.publishEvent(UserChangedEvent.of(user, UserChangedEvent.ChangeType.PASSWORD_CHANGED));
     }
     
     // 홈화면 상태 카드 4개 데이터 조회
+    // OSIV 가 꺼져 있으므로 프록시 참조와 여러 집계 쿼리가 한 트랜잭션(커넥션) 안에서 실행되도록 묶음
+    @Transactional(readOnly = true)
     public HomeStatsDto getHomeStats(Long userId) {
-        MeetUser user = meetUserRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 없음"));
+        // 존재 확인은 캐시로 하고, 집계 쿼리에는 ID 만 필요하므로 프록시 참조를 사용 (사용자 조회 쿼리 없음)
+        if (userSnapshotCache.getById(userId).isEmpty()) {
+            throw new IllegalArgumentException("사용자 없음");
+        }
+        MeetUser user = meetUserRepository.getReferenceById(userId);
 
         // 날짜 기준 설정 (이번 달 vs 지난 달)
         LocalDateTime now = LocalDateTime.now();
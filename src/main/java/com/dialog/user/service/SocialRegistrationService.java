@@ -1,9 +1,11 @@
 package com.dialog.user.service;
 
 import java.util.Collections;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -14,6 +16,7 @@ import com.dialog.security.jwt.JwtTokenProvider;
 import com.dialog.security.oauth2.SocialUserInfo;
 import com.dialog.user.domain.MeetUser;
 import com.dialog.user.domain.Role;
+import com.dialog.user.domain.UserChangedEvent;
 import com.dialog.user.repository.MeetUserRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -26,6 +29,7 @@ public class SocialRegistrationService {
 
     private final MeetUserRepository meetUserRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public MeetUser saveOrUpdateSocialMember(SocialUserInfo socialUserInfo, String provider) {
@@ -42,6 +46,8 @@ public class SocialRegistrationService {
             if (existingUserOpt.isPresent()) {
                 MeetUser existingUser = existingUserOpt.get();
                 log.info("기존 회원 발견 - 기존 이름: {}, 기존 이메일: {}", existingUser.getName(), existingUser.getEmail());
+                boolean renamed = !Objects.equals(existingUser.getName(), socialUserInfo.getName());
+                boolean imageChanged = !Objects.equals(existingUser.getProfileImgUrl(), socialUserInfo.getProfileImageUrl());
 
                 existingUser.updateSocialInfo(
                     socialUserInfo.getName(),
@@ -49,7 +55,13 @@ public class SocialRegistrationService {
                 );
                 log.info("기존 회원 발견 - 기존 이름: {}, 기존 이메일: {}", existingUser.getName(), existingUser.getEmail());
 
-                return meetUserRepository.save(existingUser);
+                MeetUser saved = meetUserRepository.save(existingUser);
+                if (renamed) {
+                    eventPublisher.publishEvent(UserChangedEvent.of(saved, UserChangedEvent.ChangeType.RENAMED));
+                } else if (imageChanged) {
+                    eventPublisher.publishEvent(UserChangedEvent.of(saved, UserChangedEvent.ChangeType.UPDATED));
+                }
+                return saved;
             }
             // 4. 신규 사용자라면 새로 사용자 생성 후 저장
             else {
@@ -63,7 +75,9 @@ public class SocialRegistrationService {
                     .role(Role.USER)
                     .build();         
                 log.info("신규 사용자 생성 - 이름: {}, 이메일: {}", newUser.getName(), newUser.getEmail());
-                return meetUserRepository.save(newUser);
+                MeetUser saved = meetUserRepository.save(newUser);
+                eventPublisher.publishEvent(UserChangedEvent.of(saved, UserChangedEvent.ChangeType.CREATED));
+                return saved;
             }
         } catch (Exception e) {
             log.error("소셜 사용자 저장 중 오류 발생", e);
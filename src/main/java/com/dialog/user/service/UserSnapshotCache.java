@@ -0,0 +1,103 @@
+package com.dialog.user.service;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.UserChangedEvent;
+import com.dialog.user.domain.UserSnapshot;
+import com.dialog.user.repository.MeetUserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 로그인 사용자 정보 메모리 캐시 (사용자 ID / 이메일 기준)
+// JWT 인증 이후 사용자 정보(이름, 직무, 직급 등)만 필요한 요청이 매번 DB 를 조회하지 않도록 함
+// Caffeine(W-TinyLFU)으로 크기와 TTL 을 제한하고, 사용자 정보 변경 이벤트가 커밋되면 해당 사용자만 비움
+// 엔티티가 필요한 쓰기 작업(설정 변경 등)은 기존처럼 DB 에서 조회
+@Slf4j
+@Service
+public class UserSnapshotCache {
+
+	private final MeetUserRepository meetUserRepository;
+
+	// 사용자 ID -> 사용자 정보
+	private final Cache<Long, UserSnapshot> snapshots;
+	// 이메일 -> 사용자 ID
+	private final Cache<String, Long> idsByEmail;
+
+	public UserSnapshotCache(MeetUserRepository meetUserRepository,
+			@Value("${user.snapshot-cache.ttl-seconds:600}") long ttlSeconds,
+			@Value("${user.snapshot-cache.max-size:10000}") long maxSize) {
+		this.meetUserRepository = meetUserRepository;
+		this.snapshots = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.maximumSize(maxSize)
+				.build();
+		this.idsByEmail = Caffeine.newBuilder()
+				.expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+				.maximumSize(maxSize)
+				.build();
+	}
+
+	// ID 로 조회 (캐시에 없으면 DB 조회 후 저장, 같은 키의 동시 조회는 한 번만 실행됨)
+	public Optional<UserSnapshot> getById(Long userId) {
+		if (userId == null) {
+			return Optional.empty();
+		}
+		UserSnapshot snapshot = snapshots.get(userId, id -> meetUserRepository.findById(id)
+				.map(UserSnapshot::from)
+				.orElse(null));
+		if (snapshot != null) {
+			idsByEmail.put(snapshot.getEmail(), snapshot.getId());
+		}
+		return Optional.ofNullable(snapshot);
+	}
+
+	// 이메일로 조회
+	public Optional<UserSnapshot> getByEmail(String email) {
+		if (email == null) {
+			return Optional.empty();
+		}
+		Long userId = idsByEmail.getIfPresent(email);
+		if (userId != null) {
+			UserSnapshot snapshot = snapshots.getIfPresent(userId);
+			if (snapshot != null) {
+				return Optional.of(snapshot);
+			}
+		}
+		Optional<MeetUser> user = meetUserRepository.findByEmail(email);
+		user.ifPresent(this::put);
+		return user.map(UserSnapshot::from);
+	}
+
+	// 이미 조회한 엔티티로 캐시 채우기
+	public void put(MeetUser user) {
+		if (user == null || user.getId() == null) {
+			return;
+		}
+		snapshots.put(user.getId(), UserSnapshot.from(user));
+		idsByEmail.put(user.getEmail(), user.getId());
+	}
+
+	public void evict(Long userId, String email) {
+		if (userId != null) {
+			snapshots.invalidate(userId);
+		}
+		if (email != null) {
+			idsByEmail.invalidate(email);
+		}
+	}
+
+	// 사용자 정보 변경(설정, 활성 상태, 비밀번호 재설정, 이름, 삭제)이 커밋되면 해당 사용자만 비움
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onUserChanged(UserChangedEvent event) {
+		evict(event.getUserId(), event.getEmail());
+		log.debug("사용자 캐시 비움 - userId: {}, type: {}", event.getUserId(), event.getType());
+	}
+}
@@ -0,0 +1,271 @@
+package com.dialog.calendarevent.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.dialog.calendarevent.domain.GoogleCalendarSyncState;
+import com.dialog.calendarevent.domain.GoogleEventMirror;
+import com.dialog.calendarevent.repository.GoogleCalendarSyncStateRepository;
+import com.dialog.calendarevent.repository.GoogleEventMirrorRepository;
+import com.dialog.token.service.SocialTokenService;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import okhttp3.HttpUrl;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+
+class GoogleCalendarSyncServiceTest {
+
+	private static final Long USER_ID = 1L;
+	private static final String EMAIL = "user@dialog.com";
+	private static final int LOOKBACK_DAYS = 365;
+	private static final long RUN_BUDGET_MS = 45_000;
+
+	private MockWebServer server;
+	private GoogleEventMirrorRepository mirrorRepository;
+	private GoogleCalendarSyncStateRepository syncStateRepository;
+	private SocialTokenService tokenService;
+	private MeetUserRepository meetUserRepository;
+	private PlatformTransactionManager transactionManager;
+	private ThreadPoolTaskExecutor calendarSyncExecutor;
+	private GoogleCalendarApiClient apiClient;
+	private GoogleCalendarSyncService syncService;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		server = new MockWebServer();
+		server.start();
+		// 실제 API 클라이언트가 가짜 서버의 events.list 를 호출하도록 주소만 바꿈
+		apiClient = new GoogleCalendarApiClient(WebClient.create(),
+				server.url("/calendars/").toString() + "{calendarId}/events", server.url("/batch").toString(), 5,
+				new ObjectMapper());
+
+		mirrorRepository = mock(GoogleEventMirrorRepository.class);
+		syncStateRepository = mock(GoogleCalendarSyncStateRepository.class);
+		tokenService = mock(SocialTokenService.class);
+		meetUserRepository = mock(MeetUserRepository.class);
+		transactionManager = mock(PlatformTransactionManager.class);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+		MeetUser user = MeetUser.builder().name("사용자").email(EMAIL).build();
+		user.setId(USER_ID);
+		when(meetUserRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+		when(tokenService.getToken(EMAIL, "google")).thenReturn("access-token");
+
+		// 기본은 넘겨받은 작업을 바로 실행 (동기화 결과를 그대로 검증)
+		calendarSyncExecutor = mock(ThreadPoolTaskExecutor.class);
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(calendarSyncExecutor).execute(any());
+
+		syncService = newService(RUN_BUDGET_MS);
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		server.shutdown();
+	}
+
+	@Test
+	void syncToken이_있으면_변경분만_받아_사본에_반영() throws InterruptedException {
+		GoogleCalendarSyncState state = syncedState("token-1");
+		GoogleEventMirror updated = mirror("evt-updated", 10L);
+		GoogleEventMirror cancelled = mirror("evt-cancelled", 11L);
+		when(mirrorRepository.findByUserIdAndGoogleEventIdIn(eq(USER_ID), anyCollection()))
+				.thenReturn(List.of(updated, cancelled));
+
+		server.enqueue(json("""
+				{"items":[
+				  {"id":"evt-updated","summary":"바뀐 제목","status":"confirmed",
+				   "start":{"date":"2026-10-20"},"end":{"date":"2026-10-22"}},
+				  {"id":"evt-cancelled","status":"cancelled"}
+				],"nextPageToken":"page-2"}"""));
+		server.enqueue(json("""
+				{"items":[
+				  {"id":"evt-new","summary":"새 일정","status":"confirmed",
+				   "start":{"dateTime":"2026-10-21T10:00:00+09:00"},"end":{"dateTime":"2026-10-21T11:00:00+09:00"}}
+				],"nextSyncToken":"token-2"}"""));
+
+		syncService.refreshActiveUsers();
+
+		HttpUrl first = server.takeRequest().getRequestUrl();
+		assertThat(first.queryParameter("syncToken")).isEqualTo("token-1");
+		assertThat(first.queryParameter("timeMin")).isNull();
+		assertThat(first.queryParameter("showDeleted")).isEqualTo("true");
+		HttpUrl second = server.takeRequest().getRequestUrl();
+		assertThat(second.queryParameter("syncToken")).isEqualTo("token-1");
+		assertThat(second.queryParameter("pageToken")).isEqualTo("page-2");
+
+		// 증분 동기화는 기존 사본을 비우지 않고, 취소된 일정만 지움
+		verify(mirrorRepository, never()).deleteByUserId(any());
+		verify(mirrorRepository).deleteAll(List.of(cancelled));
+		assertThat(savedMirrors()).extracting(GoogleEventMirror::getGoogleEventId)
+				.containsExactlyInAnyOrder("evt-updated", "evt-new");
+		// 종일 일정의 Google 종료일(미포함)은 하루 빼서 저장
+		assertThat(updated.getTitle()).isEqualTo("바뀐 제목");
+		assertThat(updated.getEndDate()).isEqualTo(LocalDate.of(2026, 10, 21));
+
+		assertThat(state.getSyncToken()).isEqualTo("token-2");
+		assertThat(state.getWindowStart()).isEqualTo(LocalDate.now().minusDays(30));
+	}
+
+	@Test
+	void syncToken이_만료되면_410을_받고_전체_동기화로_전환() throws InterruptedException {
+		GoogleCalendarSyncState state = syncedState("expired-token");
+
+		server.enqueue(new MockResponse().setResponseCode(410));
+		server.enqueue(json("""
+				{"items":[
+				  {"id":"evt-1","summary":"회의","status":"confirmed",
+				   "start":{"date":"2026-10-20"},"end":{"date":"2026-10-21"}}
+				],"nextSyncToken":"token-full"}"""));
+
+		syncService.refreshActiveUsers();
+
+		assertThat(server.takeRequest().getRequestUrl().queryParameter("syncToken")).isEqualTo("expired-token");
+		HttpUrl retry = server.takeRequest().getRequestUrl();
+		assertThat(retry.queryParameter("syncToken")).isNull();
+		assertThat(retry.queryParameter("timeMin")).isNotNull();
+
+		// 전체 동기화는 사본을 비우고 다시 채우므로 기존 사본을 조회하지 않음
+		verify(mirrorRepository).deleteByUserId(USER_ID);
+		verify(mirrorRepository, never()).findByUserIdAndGoogleEventIdIn(any(), anyCollection());
+		assertThat(savedMirrors()).extracting(GoogleEventMirror::getGoogleEventId).containsExactly("evt-1");
+
+		assertThat(state.getSyncToken()).isEqualTo("token-full");
+		assertThat(state.getWindowStart()).isEqualTo(LocalDate.now().minusDays(LOOKBACK_DAYS));
+	}
+
+	@Test
+	void 최근에_본_사용자는_조회_시각을_다시_기록하지_않음() {
+		syncedState("token-1");
+
+		syncService.getGoogleEvents(user(), "access-token", LocalDate.now(), LocalDate.now().plusDays(7));
+
+		verify(syncStateRepository, never()).touchViewed(any(), any());
+		assertThat(server.getRequestCount()).isZero();
+	}
+
+	@Test
+	void 기록_간격이_지났으면_조회_시각을_갱신() {
+		GoogleCalendarSyncState state = syncedState("token-1");
+		ReflectionTestUtils.setField(state, "lastViewedAt", LocalDateTime.now().minusMinutes(10));
+
+		syncService.getGoogleEvents(user(), "access-token", LocalDate.now(), LocalDate.now().plusDays(7));
+
+		verify(syncStateRepository).touchViewed(eq(USER_ID), any());
+	}
+
+	@Test
+	void 백그라운드_갱신은_실행기에_넘기고_이전_작업이_남은_사용자는_다시_넣지_않음() {
+		syncedState("token-1");
+		List<Runnable> submitted = new ArrayList<>();
+		doAnswer(invocation -> submitted.add(invocation.getArgument(0))).when(calendarSyncExecutor).execute(any());
+
+		syncService.refreshActiveUsers();
+		syncService.refreshActiveUsers();
+
+		// 스케줄러 스레드에서는 Google 을 호출하지 않음
+		assertThat(server.getRequestCount()).isZero();
+		assertThat(submitted).hasSize(1);
+
+		// 작업이 끝나면 다음 주기에 다시 넣음
+		server.enqueue(json("""
+				{"items":[],"nextSyncToken":"token-2"}"""));
+		submitted.get(0).run();
+		syncService.refreshActiveUsers();
+		assertThat(submitted).hasSize(2);
+	}
+
+	@Test
+	void 대기열이_가득_차면_이번_주기는_건너뛰고_다음_주기에_다시_시도() {
+		syncedState("token-1");
+		doThrow(new TaskRejectedException("full")).when(calendarSyncExecutor).execute(any());
+
+		syncService.refreshActiveUsers();
+		syncService.refreshActiveUsers();
+
+		verify(calendarSyncExecutor, times(2)).execute(any());
+		assertThat(server.getRequestCount()).isZero();
+	}
+
+	@Test
+	void 시간_예산이_지난_뒤_시작된_작업은_Google_을_호출하지_않음() {
+		syncedState("token-1");
+		syncService = newService(-1);
+
+		syncService.refreshActiveUsers();
+
+		assertThat(server.getRequestCount()).isZero();
+		verify(mirrorRepository, never()).saveAll(any());
+	}
+
+	private GoogleCalendarSyncService newService(long runBudgetMs) {
+		return new GoogleCalendarSyncService(apiClient, mirrorRepository, syncStateRepository, tokenService,
+				meetUserRepository, transactionManager, calendarSyncExecutor, LOOKBACK_DAYS, 30, 5, runBudgetMs);
+	}
+
+	// 30일 전부터 전체 동기화가 끝나 syncToken 을 가진 상태
+	private GoogleCalendarSyncState syncedState(String syncToken) {
+		GoogleCalendarSyncState state = new GoogleCalendarSyncState(USER_ID);
+		state.markSynced(syncToken, LocalDate.now().minusDays(30));
+		when(syncStateRepository.findByUserId(USER_ID)).thenReturn(Optional.of(state));
+		when(syncStateRepository.findByLastViewedAtAfter(any())).thenReturn(List.of(state));
+		return state;
+	}
+
+	private GoogleEventMirror mirror(String googleEventId, Long id) {
+		GoogleEventMirror mirror = GoogleEventMirror.builder().userId(USER_ID).googleEventId(googleEventId)
+				.title("이전 제목").startDate(LocalDate.of(2026, 10, 1)).endDate(LocalDate.of(2026, 10, 1))
+				.status("confirmed").build();
+		ReflectionTestUtils.setField(mirror, "id", id);
+		return mirror;
+	}
+
+	private MeetUser user() {
+		MeetUser user = MeetUser.builder().name("사용자").email(EMAIL).build();
+		user.setId(USER_ID);
+		return user;
+	}
+
+	@SuppressWarnings("unchecked")
+	private Iterable<GoogleEventMirror> savedMirrors() {
+		ArgumentCaptor<Iterable<GoogleEventMirror>> captor = ArgumentCaptor.forClass(Iterable.class);
+		verify(mirrorRepository).saveAll(captor.capture());
+		return captor.getValue();
+	}
+
+	private static MockResponse json(String body) {
+		return new MockResponse().setHeader("Content-Type", "application/json").setBody(body);
+	}
+}
@@ -0,0 +1,168 @@
+package com.dialog.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+
+// FastAPI 호출 클라이언트 성능 측정 (기본 빌드에서는 제외, ./gradlew perfTest 로 실행)
+// 로컬 스텁 서버에 같은 부하를 주고 기본 RestTemplate 과 커넥션 풀 RestTemplate 의
+// 처리량, 지연(p50/p99), 새로 맺은 TCP 연결 수를 비교
+@Tag("perf")
+class HttpClientConfigBenchmarkTest {
+
+	private static final int THREADS = 20;
+	private static final int REQUESTS = 2_000;
+	private static final int WARM_UP_REQUESTS = 200;
+	private static final int MAX_PER_ROUTE = 20;
+	// FastAPI 처리 시간 흉내
+	private static final long STUB_DELAY_MS = 5;
+
+	private final List<Closeable> resources = new ArrayList<>();
+
+	@Test
+	void 기본_클라이언트와_커넥션_풀_클라이언트_비교() throws Exception {
+		Result simple = measure("simple", server -> new RestTemplate());
+		Result pooled = measure("pooled", server -> {
+			HttpClientConfig config = new HttpClientConfig();
+			ReflectionTestUtils.setField(config, "fastApiBaseUrl", server.url("/").toString());
+			PoolingHttpClientConnectionManager connectionManager = config.fastApiConnectionManager(50, MAX_PER_ROUTE,
+					3_000, 10_000, 5);
+			CloseableHttpClient httpClient = config.fastApiHttpClient(connectionManager, 5_000, 10_000, 30);
+			resources.add(httpClient);
+			return config.restTemplate(httpClient);
+		});
+
+		print(simple);
+		print(pooled);
+		// 풀 클라이언트는 라우트 한도 이상으로 연결을 열지 않고 계속 재사용
+		assertThat(pooled.newConnections()).isLessThanOrEqualTo(MAX_PER_ROUTE);
+		assertThat(pooled.errors()).isZero();
+	}
+
+	@AfterEach
+	void tearDown() throws IOException {
+		for (Closeable resource : resources) {
+			resource.close();
+		}
+	}
+
+	// 워밍업 후 연결이 채워진 상태에서 측정 (워밍업 중 맺은 연결은 세지 않음)
+	private Result measure(String name, ClientFactory factory) throws Exception {
+		try (MockWebServer server = new MockWebServer()) {
+			server.setDispatcher(new Dispatcher() {
+				@Override
+				public MockResponse dispatch(RecordedRequest request) {
+					return new MockResponse()
+							.setHeader("Content-Type", "application/json")
+							.setBody("{\"summary\":\"회의 요약\",\"action_items\":[]}")
+							.setHeadersDelay(STUB_DELAY_MS, TimeUnit.MILLISECONDS);
+				}
+			});
+			server.start();
+			RestTemplate restTemplate = factory.create(server);
+			String url = server.url("/api/summarize").toString();
+
+			run(restTemplate, url, WARM_UP_REQUESTS);
+			drainNewConnections(server, WARM_UP_REQUESTS);
+
+			long start = System.nanoTime();
+			List<Long> latencies = run(restTemplate, url, REQUESTS);
+			long elapsedNanos = System.nanoTime() - start;
+			int newConnections = drainNewConnections(server, latencies.size());
+
+			return new Result(name, latencies, REQUESTS - latencies.size(), elapsedNanos, newConnections);
+		}
+	}
+
+	// THREADS 개 스레드로 requests 건을 나눠 호출하고 성공한 요청의 지연(ns) 반환
+	private static List<Long> run(RestTemplate restTemplate, String url, int requests) throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		List<Long> latencies = Collections.synchronizedList(new ArrayList<>(requests));
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int i = 0; i < requests; i++) {
+				futures.add(executor.submit(() -> {
+					long start = System.nanoTime();
+					restTemplate.postForObject(url, "{\"text\":\"발화\"}", String.class);
+					latencies.add(System.nanoTime() - start);
+				}));
+			}
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					// 실패 건수는 결과에서 요청 수 - 성공 수로 계산
+				}
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		return latencies;
+	}
+
+	// 스텁이 받은 요청을 모두 꺼내며 새 연결의 첫 요청(연결별 순번 0) 개수를 셈
+	private static int drainNewConnections(MockWebServer server, int requests) throws InterruptedException {
+		int newConnections = 0;
+		for (int i = 0; i < requests; i++) {
+			RecordedRequest request = server.takeRequest(1, TimeUnit.SECONDS);
+			if (request == null) {
+				break;
+			}
+			if (request.getSequenceNumber() == 0) {
+				newConnections++;
+			}
+		}
+		return newConnections;
+	}
+
+	private static void print(Result result) {
+		System.out.printf("[perf] fastapi %-6s %d req x %d threads - %.0f req/s, p50 %.1f ms, p99 %.1f ms, "
+				+ "new connections %d, errors %d%n",
+				result.name(), REQUESTS, THREADS, result.requestsPerSecond(), result.percentileMs(50),
+				result.percentileMs(99), result.newConnections(), result.errors());
+	}
+
+	@FunctionalInterface
+	private interface ClientFactory {
+		RestTemplate create(MockWebServer server);
+	}
+
+	private record Result(String name, List<Long> latencies, int errors, long elapsedNanos, int newConnections) {
+
+		double requestsPerSecond() {
+			return latencies.size() * 1_000_000_000.0 / elapsedNanos;
+		}
+
+		double percentileMs(int percentile) {
+			if (latencies.isEmpty()) {
+				return 0;
+			}
+			List<Long> sorted = new ArrayList<>(latencies);
+			Collections.sort(sorted);
+			int index = Math.min(sorted.size() - 1, (int) Math.ceil(percentile / 100.0 * sorted.size()) - 1);
+			return sorted.get(Math.max(0, index)) / 1_000_000.0;
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.dialog.global.utill;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BloomFilterTest {
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 100, 10_000 })
+	void 넣은_값은_항상_있을_수도_있음으로_응답(int count) {
+		BloomFilter filter = new BloomFilter(count, 0.001);
+		List<String> values = jtis(count);
+		values.forEach(filter::put);
+
+		assertThat(values).allMatch(filter::mightContain);
+	}
+
+	@Test
+	void 예상_항목_수를_넘겨_넣어도_누락은_없음() {
+		BloomFilter filter = new BloomFilter(16, 0.001);
+		List<String> values = jtis(5_000);
+		values.forEach(filter::put);
+
+		assertThat(values).allMatch(filter::mightContain);
+	}
+
+	@Test
+	void 오탐률은_지정한_값_근처() {
+		int count = 10_000;
+		BloomFilter filter = new BloomFilter(count, 0.001);
+		jtis(count).forEach(filter::put);
+
+		long falsePositives = jtis(100_000).stream().filter(filter::mightContain).count();
+
+		// 기대값 100건 (0.1%), 해시 분포 편차를 감안해 3배까지 허용
+		assertThat(falsePositives).isLessThan(300);
+	}
+
+	@Test
+	void 여러_스레드가_동시에_넣어도_누락은_없음() throws InterruptedException {
+		int threads = 8;
+		int perThread = 2_000;
+		BloomFilter filter = new BloomFilter(threads * perThread, 0.001);
+		List<List<String>> batches = new ArrayList<>();
+		for (int i = 0; i < threads; i++) {
+			batches.add(jtis(perThread));
+		}
+
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		try {
+			for (List<String> batch : batches) {
+				executor.execute(() -> {
+					try {
+						start.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+						return;
+					}
+					batch.forEach(filter::put);
+				});
+			}
+			start.countDown();
+		} finally {
+			executor.shutdown();
+		}
+		assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+		for (List<String> batch : batches) {
+			assertThat(batch).allMatch(filter::mightContain);
+		}
+	}
+
+	private static List<String> jtis(int count) {
+		List<String> values = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			values.add(UUID.randomUUID().toString());
+		}
+		return values;
+	}
+}
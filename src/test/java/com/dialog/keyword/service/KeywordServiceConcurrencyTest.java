@@ -0,0 +1,101 @@
+package com.dialog.keyword.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import com.dialog.keyword.repository.KeywordRepository;
+
+// 키워드 동시 생성 경합 (MySQL REPEATABLE READ 스냅샷 + INSERT IGNORE 조합이라 H2 로는 재현되지 않음)
+// Docker 가 없는 환경에서는 건너뜀
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=create-drop")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(KeywordService.class)
+class KeywordServiceConcurrencyTest {
+
+	private static final String NAME = "동시 키워드";
+
+	@Container
+	@ServiceConnection
+	static MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0");
+
+	@Configuration
+	@EntityScan(basePackages = "com.dialog")
+	@EnableJpaRepositories(basePackageClasses = KeywordRepository.class)
+	static class JpaConfig {
+	}
+
+	@Autowired
+	private KeywordService keywordService;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM keyword");
+		keywordService.clearCache();
+	}
+
+	@Test
+	void 스냅샷_이후_다른_트랜잭션이_커밋한_키워드도_찾음() {
+		TransactionTemplate request = new TransactionTemplate(transactionManager);
+		TransactionTemplate otherRequest = new TransactionTemplate(transactionManager);
+		otherRequest.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		Map<String, Long> resolved = request.execute(status -> {
+			// 회의 조회 등 앞선 일반 조회로 이 트랜잭션의 스냅샷이 만들어진 상태
+			jdbcTemplate.queryForObject("SELECT COUNT(*) FROM keyword", Long.class);
+
+			// 그 뒤 다른 요청이 같은 키워드를 먼저 만들고 커밋
+			otherRequest.executeWithoutResult(other -> jdbcTemplate
+					.update("INSERT INTO keyword (name, created_at) VALUES (?, NOW())", NAME));
+
+			// 일반 조회로는 보이지 않음 (INSERT IGNORE 후 일반 조회로 다시 찾던 방식이 실패하던 조건)
+			assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM keyword WHERE name = ?", Long.class, NAME))
+					.isZero();
+
+			return keywordService.resolveIds(List.of(NAME));
+		});
+
+		Long committedId = jdbcTemplate.queryForObject("SELECT id FROM keyword WHERE name = ?", Long.class, NAME);
+		assertThat(resolved).containsExactly(Map.entry(NAME, committedId));
+	}
+
+	@Test
+	void 없는_키워드는_한_번만_만들고_대소문자가_달라도_같은_ID() {
+		TransactionTemplate request = new TransactionTemplate(transactionManager);
+
+		Map<String, Long> first = request.execute(status -> keywordService.resolveIds(List.of("Budget")));
+		Map<String, Long> second = request.execute(status -> keywordService.resolveIds(List.of("budget")));
+
+		assertThat(second.get("budget")).isEqualTo(first.get("Budget"));
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM keyword", Long.class)).isEqualTo(1L);
+	}
+}
@@ -0,0 +1,159 @@
+package com.dialog.maintenance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.dialog.keyword.repository.KeywordRepository;
+import com.dialog.keyword.service.KeywordService;
+import com.dialog.maintenance.domain.PurgeCategory;
+import com.dialog.maintenance.domain.PurgeReportDto;
+import com.dialog.token.repository.RefreshTokenRepository;
+import com.dialog.token.repository.RevokedAccessTokenRepository;
+import com.dialog.transcript.repository.TranscriptRepository;
+import com.dialog.user.repository.MeetUserRepository;
+
+class DataPurgeServiceTest {
+
+	private static final int CHUNK_SIZE = 10;
+	private static final int MAX_CHUNKS = 3;
+	private static final long RETENTION_DAYS = 30;
+
+	private RefreshTokenRepository refreshTokenRepository;
+	private TranscriptRepository transcriptRepository;
+	private KeywordRepository keywordRepository;
+	private KeywordService keywordService;
+	private ThreadPoolTaskExecutor maintenanceExecutor;
+	private DataPurgeService dataPurgeService;
+
+	// execute 로 넘어온 작업 (테스트가 원하는 시점에 실행)
+	private final List<Runnable> submitted = new ArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		refreshTokenRepository = mock(RefreshTokenRepository.class);
+		transcriptRepository = mock(TranscriptRepository.class);
+		keywordRepository = mock(KeywordRepository.class);
+		keywordService = mock(KeywordService.class);
+		maintenanceExecutor = mock(ThreadPoolTaskExecutor.class);
+		doAnswer(invocation -> submitted.add(invocation.getArgument(0))).when(maintenanceExecutor).execute(any());
+
+		dataPurgeService = new DataPurgeService(refreshTokenRepository, mock(RevokedAccessTokenRepository.class),
+				mock(MeetUserRepository.class), transcriptRepository, keywordRepository, keywordService,
+				maintenanceExecutor, CHUNK_SIZE, 0, MAX_CHUNKS, RETENTION_DAYS, 60);
+	}
+
+	@Test
+	void 청크가_가득_차지_않을_때까지_반복해서_삭제() {
+		when(refreshTokenRepository.deleteExpiredChunk(any(), eq(CHUNK_SIZE))).thenReturn(CHUNK_SIZE, CHUNK_SIZE, 3);
+
+		PurgeReportDto.CategoryResult result = runOnly(PurgeCategory.REFRESH_TOKEN);
+
+		assertThat(result.getRows()).isEqualTo(2L * CHUNK_SIZE + 3);
+		assertThat(result.getChunks()).isEqualTo(3);
+		assertThat(result.isBacklog()).isFalse();
+		assertThat(result.getError()).isNull();
+		// 같은 실행 안에서는 기준 시각을 고정
+		ArgumentCaptor<LocalDateTime> cutoffs = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(refreshTokenRepository, times(3)).deleteExpiredChunk(cutoffs.capture(), eq(CHUNK_SIZE));
+		assertThat(cutoffs.getAllValues()).containsOnly(cutoffs.getValue());
+	}
+
+	@Test
+	void 실행당_최대_청크_수에_걸리면_남은_행이_있다고_표시() {
+		when(refreshTokenRepository.deleteExpiredChunk(any(), eq(CHUNK_SIZE))).thenReturn(CHUNK_SIZE);
+
+		PurgeReportDto.CategoryResult result = runOnly(PurgeCategory.REFRESH_TOKEN);
+
+		assertThat(result.getChunks()).isEqualTo(MAX_CHUNKS);
+		assertThat(result.getRows()).isEqualTo((long) MAX_CHUNKS * CHUNK_SIZE);
+		assertThat(result.isBacklog()).isTrue();
+		verify(refreshTokenRepository, times(MAX_CHUNKS)).deleteExpiredChunk(any(), anyInt());
+	}
+
+	@Test
+	void 중간에_실패하면_그때까지_처리한_건수와_오류를_기록() {
+		when(refreshTokenRepository.deleteExpiredChunk(any(), eq(CHUNK_SIZE))).thenReturn(CHUNK_SIZE)
+				.thenThrow(new QueryTimeoutException("Lock wait timeout exceeded"));
+
+		PurgeReportDto.CategoryResult result = runOnly(PurgeCategory.REFRESH_TOKEN);
+
+		assertThat(result.getRows()).isEqualTo(CHUNK_SIZE);
+		assertThat(result.getError()).contains("Lock wait timeout");
+		assertThat(dataPurgeService.isRunning()).isFalse();
+	}
+
+	@Test
+	void 삭제한_발화는_보관_기간이_지난_것만_정리() {
+		when(transcriptRepository.deleteSoftDeletedChunk(any(), eq(CHUNK_SIZE))).thenReturn(0);
+
+		LocalDateTime before = LocalDateTime.now().minusDays(RETENTION_DAYS);
+		runOnly(PurgeCategory.DELETED_TRANSCRIPT);
+		LocalDateTime after = LocalDateTime.now().minusDays(RETENTION_DAYS);
+
+		ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(transcriptRepository).deleteSoftDeletedChunk(cutoff.capture(), eq(CHUNK_SIZE));
+		assertThat(cutoff.getValue()).isBetween(before, after);
+	}
+
+	@Test
+	void 키워드를_지운_청크마다_키워드_캐시를_비움() {
+		when(keywordRepository.deleteOrphanChunk(any(), eq(CHUNK_SIZE))).thenReturn(CHUNK_SIZE, CHUNK_SIZE, 0);
+
+		runOnly(PurgeCategory.ORPHAN_KEYWORD);
+
+		verify(keywordService, times(2)).clearCache();
+	}
+
+	@Test
+	void 실행_중이면_새_실행을_거절하고_끝나면_다시_받음() {
+		assertThat(dataPurgeService.start(List.of(PurgeCategory.REFRESH_TOKEN), "admin")).isTrue();
+		assertThat(dataPurgeService.isRunning()).isTrue();
+
+		assertThat(dataPurgeService.start(List.of(PurgeCategory.REFRESH_TOKEN), "admin")).isFalse();
+		dataPurgeService.scheduledPurge(); // 예약 실행도 건너뜀
+		assertThat(submitted).hasSize(1);
+
+		submitted.remove(0).run();
+
+		assertThat(dataPurgeService.isRunning()).isFalse();
+		assertThat(dataPurgeService.start(List.of(PurgeCategory.REFRESH_TOKEN), "admin")).isTrue();
+	}
+
+	@Test
+	void 실행기에_넘기지_못하면_실행_중_표시를_되돌림() {
+		doThrow(new TaskRejectedException("full")).when(maintenanceExecutor).execute(any());
+
+		assertThatThrownBy(() -> dataPurgeService.start(List.of(PurgeCategory.REFRESH_TOKEN), "admin"))
+				.isInstanceOf(TaskRejectedException.class);
+		assertThat(dataPurgeService.isRunning()).isFalse();
+	}
+
+	private PurgeReportDto.CategoryResult runOnly(PurgeCategory category) {
+		assertThat(dataPurgeService.start(List.of(category), "admin")).isTrue();
+		submitted.remove(0).run();
+		PurgeReportDto report = dataPurgeService.getLastReport().orElseThrow();
+		assertThat(report.getTrigger()).isEqualTo("admin");
+		assertThat(report.getResults()).hasSize(1);
+		return report.getResults().get(0);
+	}
+}
@@ -0,0 +1,66 @@
+package com.dialog.search.service;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.dialog.meeting.domain.MeetingContentChangedEvent;
+import com.dialog.search.repository.SearchDocumentRepository;
+
+class SearchIndexServiceTest {
+
+	private static final Long MEETING_ID = 1L;
+
+	private SearchDocumentRepository searchDocumentRepository;
+	private SearchIndexService searchIndexService;
+
+	@BeforeEach
+	void setUp() {
+		searchDocumentRepository = mock(SearchDocumentRepository.class);
+		searchIndexService = new SearchIndexService(searchDocumentRepository, mock(PlatformTransactionManager.class));
+	}
+
+	@Test
+	void 녹음_중_발화_추가만_있으면_새_발화만_색인에_추가() {
+		searchIndexService.onMeetingContentChanged(MeetingContentChangedEvent.transcriptsAppended(MEETING_ID));
+		searchIndexService.onMeetingContentChanged(MeetingContentChangedEvent.transcriptsAppended(MEETING_ID));
+
+		searchIndexService.flushPending();
+
+		verify(searchDocumentRepository).appendTranscripts(MEETING_ID);
+		verify(searchDocumentRepository, never()).replaceMeeting(anyLong());
+	}
+
+	@Test
+	void 다른_변경이_섞이면_회의_전체를_한_번만_다시_만듦() {
+		searchIndexService.onMeetingContentChanged(MeetingContentChangedEvent.transcriptsAppended(MEETING_ID));
+		searchIndexService.onMeetingContentChanged(new MeetingContentChangedEvent(MEETING_ID));
+
+		searchIndexService.flushPending();
+
+		verify(searchDocumentRepository).replaceMeeting(MEETING_ID);
+		verify(searchDocumentRepository, never()).appendTranscripts(anyLong());
+	}
+
+	@Test
+	void 발화_추가에_실패하면_다음_주기에_다시_시도() {
+		when(searchDocumentRepository.appendTranscripts(MEETING_ID))
+				.thenThrow(new QueryTimeoutException("Lock wait timeout exceeded"))
+				.thenReturn(2);
+		searchIndexService.onMeetingContentChanged(MeetingContentChangedEvent.transcriptsAppended(MEETING_ID));
+
+		searchIndexService.flushPending();
+		searchIndexService.flushPending();
+		searchIndexService.flushPending();
+
+		verify(searchDocumentRepository, times(2)).appendTranscripts(MEETING_ID);
+	}
+}
@@ -0,0 +1,157 @@
+package com.dialog.security.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+
+import com.dialog.exception.InvalidJwtTokenException;
+import com.dialog.token.service.AccessTokenRevocationService;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.Role;
+import com.dialog.user.service.CustomUserDetails;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+
+class JwtTokenProviderTest {
+
+	private static final byte[] KEY_BYTES = "dialog-test-secret-dialog-test-secret-dialog-test-secret-0123456"
+			.getBytes();
+	private static final long VALIDITY_MS = 3_600_000L;
+	private static final String EMAIL = "user@dialog.com";
+
+	private final SecretKey key = Keys.hmacShaKeyFor(KEY_BYTES);
+	private UserDetailsService userDetailsService;
+	private AccessTokenRevocationService revocationService;
+	private JwtTokenProvider jwtTokenProvider;
+
+	@BeforeEach
+	void setUp() {
+		userDetailsService = mock(UserDetailsService.class);
+		revocationService = mock(AccessTokenRevocationService.class);
+		jwtTokenProvider = new JwtTokenProvider(Base64.getEncoder().encodeToString(KEY_BYTES), VALIDITY_MS,
+				userDetailsService, revocationService);
+	}
+
+	@Test
+	void uid_클레임이_있으면_DB_조회_없이_인증() {
+		String token = jwtTokenProvider.createToken(user(7L, Role.ADMIN));
+
+		Authentication authentication = jwtTokenProvider.authenticate(token);
+
+		CustomUserDetails principal = (CustomUserDetails) authentication.getPrincipal();
+		assertThat(principal.getId()).isEqualTo(7L);
+		assertThat(principal.getUsername()).isEqualTo(EMAIL);
+		assertThat(principal.getName()).isEqualTo("사용자");
+		assertThat(principal.getMeetUser()).isNull();
+		assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+				.containsExactly("ROLE_ADMIN");
+		verifyNoInteractions(userDetailsService);
+	}
+
+	@Test
+	void 로그아웃으로_폐기된_jti는_거절() {
+		String token = jwtTokenProvider.createToken(user(7L, Role.USER));
+		when(revocationService.isRevoked(any())).thenReturn(true);
+
+		assertThatThrownBy(() -> jwtTokenProvider.authenticate(token)).isInstanceOf(InvalidJwtTokenException.class);
+		verify(revocationService, never()).isRevokedForUser(anyLong(), any());
+	}
+
+	@Test
+	void 사용자_단위_폐기_시각_이전에_발급된_토큰은_거절() {
+		String token = jwtTokenProvider.createToken(user(7L, Role.USER));
+		when(revocationService.isRevokedForUser(eq(7L), any())).thenReturn(true);
+
+		assertThatThrownBy(() -> jwtTokenProvider.authenticate(token)).isInstanceOf(InvalidJwtTokenException.class);
+		verifyNoInteractions(userDetailsService);
+	}
+
+	@Test
+	void iat가_없는_토큰은_만료시각에서_유효기간을_빼서_비교() {
+		Date expiration = new Date(System.currentTimeMillis() + 600_000);
+		String token = Jwts.builder().subject(EMAIL).claim("auth", "ROLE_USER").claim("uid", 7L)
+				.id(UUID.randomUUID().toString()).expiration(expiration).signWith(key).compact();
+
+		jwtTokenProvider.authenticate(token);
+
+		ArgumentCaptor<Date> issuedAt = ArgumentCaptor.forClass(Date.class);
+		verify(revocationService).isRevokedForUser(eq(7L), issuedAt.capture());
+		assertThat(issuedAt.getValue().getTime()).isEqualTo(expiration.getTime() / 1000 * 1000 - VALIDITY_MS);
+	}
+
+	@Test
+	void uid_클레임이_없는_이전_형식_토큰은_사용자를_조회() {
+		MeetUser user = user(7L, Role.USER);
+		when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(new CustomUserDetails(user));
+
+		Authentication authentication = jwtTokenProvider.authenticate(legacyToken());
+
+		assertThat(((CustomUserDetails) authentication.getPrincipal()).getMeetUser()).isSameAs(user);
+		verify(userDetailsService).loadUserByUsername(EMAIL);
+		verify(revocationService, never()).isRevokedForUser(anyLong(), any());
+	}
+
+	@Test
+	void 이전_형식_토큰의_사용자가_비활성화되었으면_거절() {
+		MeetUser user = user(7L, Role.USER);
+		user.deactivate();
+		when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(new CustomUserDetails(user));
+
+		assertThatThrownBy(() -> jwtTokenProvider.authenticate(legacyToken()))
+				.isInstanceOf(InvalidJwtTokenException.class);
+	}
+
+	@Test
+	void 이전_형식_토큰의_사용자가_없으면_거절() {
+		when(userDetailsService.loadUserByUsername(EMAIL)).thenThrow(new UsernameNotFoundException(EMAIL));
+
+		assertThatThrownBy(() -> jwtTokenProvider.authenticate(legacyToken()))
+				.isInstanceOf(InvalidJwtTokenException.class);
+	}
+
+	@Test
+	void 다른_키로_서명한_토큰은_거절() {
+		SecretKey otherKey = Keys.hmacShaKeyFor(
+				"other-secret-other-secret-other-secret-other-secret-0123456789ab".getBytes());
+		String token = Jwts.builder().subject(EMAIL).claim("uid", 7L).signWith(otherKey)
+				.expiration(new Date(System.currentTimeMillis() + 600_000)).compact();
+
+		assertThatThrownBy(() -> jwtTokenProvider.authenticate(token)).isInstanceOf(InvalidJwtTokenException.class);
+		verifyNoInteractions(revocationService);
+	}
+
+	// uid/iat 클레임을 넣기 전에 발급된 형식
+	private String legacyToken() {
+		return Jwts.builder().subject(EMAIL).claim("auth", "ROLE_USER").claim("name", "사용자")
+				.claim("email", EMAIL).signWith(key).expiration(new Date(System.currentTimeMillis() + 600_000))
+				.compact();
+	}
+
+	private static MeetUser user(Long id, Role role) {
+		MeetUser user = MeetUser.builder().name("사용자").email(EMAIL).role(role).build();
+		user.setId(id);
+		return user;
+	}
+}
@@ -0,0 +1,175 @@
+package com.dialog.token.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import com.dialog.token.domain.RevokedAccessToken;
+import com.dialog.token.domain.UserTokenCutoff;
+import com.dialog.token.repository.RevokedAccessTokenRepository;
+import com.dialog.token.repository.UserTokenCutoffRepository;
+import com.dialog.user.domain.UserChangedEvent;
+
+class AccessTokenRevocationServiceTest {
+
+	private static final long VALIDITY_MS = 3_600_000L;
+	private static final long OVERLAP_MS = 60_000L;
+
+	private RevokedAccessTokenRepository revokedAccessTokenRepository;
+	private UserTokenCutoffRepository userTokenCutoffRepository;
+	private AccessTokenRevocationService revocationService;
+
+	@BeforeEach
+	void setUp() {
+		revokedAccessTokenRepository = mock(RevokedAccessTokenRepository.class);
+		userTokenCutoffRepository = mock(UserTokenCutoffRepository.class);
+		PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+		when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+		// 필터를 작게 시작해서 폐기 토큰이 늘면 다시 만드는 경로도 지나가도록
+		revocationService = new AccessTokenRevocationService(revokedAccessTokenRepository, userTokenCutoffRepository,
+				transactionManager, VALIDITY_MS, 16, 0.001, OVERLAP_MS);
+	}
+
+	@Test
+	void 폐기한_토큰은_저장과_동시에_메모리에서_거절() {
+		revocationService.revoke("jti-1", 1L, inMinutes(30));
+
+		assertThat(revocationService.isRevoked("jti-1")).isTrue();
+		assertThat(revocationService.isRevoked("jti-2")).isFalse();
+		assertThat(revocationService.isRevoked(null)).isFalse();
+		verify(revokedAccessTokenRepository, times(1)).save(any(RevokedAccessToken.class));
+	}
+
+	@Test
+	void 동시_로그아웃으로_유니크_제약에_걸려도_폐기는_유지() {
+		when(revokedAccessTokenRepository.save(any(RevokedAccessToken.class)))
+				.thenThrow(new DataIntegrityViolationException("Duplicate entry 'jti-1'"));
+
+		assertThatCode(() -> revocationService.revoke("jti-1", 1L, inMinutes(30))).doesNotThrowAnyException();
+		assertThat(revocationService.isRevoked("jti-1")).isTrue();
+	}
+
+	@Test
+	void 이미_만료된_토큰은_저장하지_않음() {
+		revocationService.revoke("jti-1", 1L, new Date(System.currentTimeMillis() - 1000));
+
+		assertThat(revocationService.isRevoked("jti-1")).isFalse();
+		verify(revokedAccessTokenRepository, never()).save(any());
+	}
+
+	@Test
+	void 다른_서버에서_폐기한_토큰을_폴링으로_반영하고_다음_폴링은_겹침_구간부터() {
+		when(revokedAccessTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any()))
+				.thenReturn(List.of(row("remote-jti", LocalDateTime.now().plusMinutes(30))), List.of());
+
+		LocalDateTime beforeFirstPoll = LocalDateTime.now();
+		revocationService.pollRevocations();
+		LocalDateTime afterFirstPoll = LocalDateTime.now();
+		revocationService.pollRevocations();
+
+		assertThat(revocationService.isRevoked("remote-jti")).isTrue();
+		ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(revokedAccessTokenRepository, times(2))
+				.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(since.capture(), any());
+		assertThat(since.getAllValues().get(0)).isEqualTo(LocalDateTime.of(1970, 1, 1, 0, 0));
+		// 첫 폴링 시작 시각에서 겹침 구간만큼 앞
+		assertThat(since.getAllValues().get(1)).isBetween(beforeFirstPoll.minusNanos(OVERLAP_MS * 1_000_000),
+				afterFirstPoll.minusNanos(OVERLAP_MS * 1_000_000));
+	}
+
+	@Test
+	void 폴링이_실패하면_다음_폴링에서_같은_구간부터_다시_읽음() {
+		when(revokedAccessTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any()))
+				.thenThrow(new QueryTimeoutException("timeout"))
+				.thenReturn(List.of());
+
+		revocationService.pollRevocations();
+		revocationService.pollRevocations();
+
+		ArgumentCaptor<LocalDateTime> since = ArgumentCaptor.forClass(LocalDateTime.class);
+		verify(revokedAccessTokenRepository, times(2))
+				.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(since.capture(), any());
+		assertThat(since.getAllValues()).containsOnly(LocalDateTime.of(1970, 1, 1, 0, 0));
+	}
+
+	@Test
+	void 만료된_항목은_정리하고_남은_항목은_필터를_다시_만든_뒤에도_거절() {
+		List<RevokedAccessToken> rows = new ArrayList<>();
+		for (int i = 0; i < 100; i++) {
+			rows.add(row("live-" + i, LocalDateTime.now().plusMinutes(30)));
+		}
+		rows.add(row("expired", LocalDateTime.now().minusSeconds(1)));
+		when(revokedAccessTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any()))
+				.thenReturn(rows);
+
+		revocationService.pollRevocations();
+
+		assertThat(revocationService.isRevoked("expired")).isFalse();
+		for (int i = 0; i < 100; i++) {
+			assertThat(revocationService.isRevoked("live-" + i)).as("live-" + i).isTrue();
+		}
+	}
+
+	@Test
+	void 사용자_단위_폐기는_기준_시각_이전에_발급된_토큰만_거절() {
+		revocationService.revokeAllForUser(5L);
+
+		assertThat(revocationService.isRevokedForUser(5L, new Date(System.currentTimeMillis() - 60_000))).isTrue();
+		assertThat(revocationService.isRevokedForUser(5L, new Date(System.currentTimeMillis() + 2_000))).isFalse();
+		assertThat(revocationService.isRevokedForUser(6L, new Date(System.currentTimeMillis() - 60_000))).isFalse();
+		verify(userTokenCutoffRepository).save(any(UserTokenCutoff.class));
+	}
+
+	@Test
+	void 비밀번호_변경_이벤트를_받으면_사용자_토큰_전체_폐기() {
+		revocationService.onUserChanged(
+				new UserChangedEvent(5L, "a@dialog.com", UserChangedEvent.ChangeType.PASSWORD_CHANGED));
+		revocationService.onUserChanged(new UserChangedEvent(6L, "b@dialog.com", UserChangedEvent.ChangeType.UPDATED));
+
+		Date issuedBefore = new Date(System.currentTimeMillis() - 60_000);
+		assertThat(revocationService.isRevokedForUser(5L, issuedBefore)).isTrue();
+		assertThat(revocationService.isRevokedForUser(6L, issuedBefore)).isFalse();
+	}
+
+	@Test
+	void 유효기간보다_오래된_사용자_기준_시각은_정리() {
+		when(revokedAccessTokenRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any()))
+				.thenReturn(List.of());
+		when(userTokenCutoffRepository.findByUpdatedAtGreaterThanEqualAndCutoffAtAfter(any(), any()))
+				.thenReturn(List.of(new UserTokenCutoff(5L, LocalDateTime.now().minusMinutes(5)),
+						new UserTokenCutoff(6L, LocalDateTime.now().minusHours(2))));
+
+		revocationService.pollRevocations();
+
+		Date longAgo = new Date(System.currentTimeMillis() - 3 * VALIDITY_MS);
+		assertThat(revocationService.isRevokedForUser(5L, longAgo)).isTrue();
+		// 기준 시각 이전에 발급된 토큰은 이미 모두 만료되었으므로 더 이상 보관하지 않음
+		assertThat(revocationService.isRevokedForUser(6L, longAgo)).isFalse();
+	}
+
+	private static Date inMinutes(int minutes) {
+		return new Date(System.currentTimeMillis() + minutes * 60_000L);
+	}
+
+	private static RevokedAccessToken row(String jti, LocalDateTime expiresAt) {
+		return new RevokedAccessToken(jti, 1L, expiresAt, LocalDateTime.now());
+	}
+}
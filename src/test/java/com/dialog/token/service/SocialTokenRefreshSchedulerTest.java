@@ -0,0 +1,98 @@
+package com.dialog.token.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.dialog.token.domain.UserSocialToken;
+import com.dialog.token.repository.UserSocialTokenRepository;
+import com.dialog.user.domain.MeetUser;
+
+class SocialTokenRefreshSchedulerTest {
+
+	private static final String PROVIDER = "google";
+
+	private SocialTokenService socialTokenService;
+	private UserSocialTokenRepository userSocialTokenRepository;
+	private final List<Runnable> submitted = new ArrayList<>();
+	private SocialTokenRefreshScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		socialTokenService = mock(SocialTokenService.class);
+		userSocialTokenRepository = mock(UserSocialTokenRepository.class);
+		when(socialTokenService.getRecentUserIds()).thenReturn(Set.of(1L, 2L));
+		when(userSocialTokenRepository.findExpiringBefore(eq(PROVIDER), any(), anyCollection(), any()))
+				.thenReturn(List.of(token(1L), token(2L)));
+
+		// 넘겨받은 갱신 작업을 실행하지 않고 모아 둠 (스케줄러 스레드가 기다리지 않는지 확인)
+		ThreadPoolTaskExecutor executor = mock(ThreadPoolTaskExecutor.class);
+		doAnswer(invocation -> submitted.add(invocation.getArgument(0))).when(executor).execute(any());
+
+		// 속도 제한/jitter 없음
+		scheduler = new SocialTokenRefreshScheduler(socialTokenService, userSocialTokenRepository, executor, 600, 50,
+				0, 0, PROVIDER);
+	}
+
+	@Test
+	void 갱신_작업을_넘기고_끝날_때까지_기다리지_않음() {
+		scheduler.refreshExpiringTokens();
+
+		assertThat(submitted).hasSize(2);
+		verify(socialTokenService, never()).refreshAhead(any(), any(), any());
+		assertThat(scheduler.isRunning()).isTrue();
+	}
+
+	@Test
+	void 이전_배치가_끝나기_전에는_다시_스캔하지_않고_끝나면_다음_스캔() {
+		scheduler.refreshExpiringTokens();
+		scheduler.refreshExpiringTokens();
+
+		verify(userSocialTokenRepository, times(1)).findExpiringBefore(eq(PROVIDER), any(), anyCollection(), any());
+
+		submitted.forEach(Runnable::run);
+		verify(socialTokenService, times(2)).refreshAhead(any(), eq(PROVIDER), any());
+		assertThat(scheduler.isRunning()).isFalse();
+
+		scheduler.refreshExpiringTokens();
+		verify(userSocialTokenRepository, times(2)).findExpiringBefore(eq(PROVIDER), any(), anyCollection(), any());
+	}
+
+	@Test
+	void 갱신할_토큰이_없으면_바로_다음_스캔을_허용() {
+		when(userSocialTokenRepository.findExpiringBefore(eq(PROVIDER), any(), anyCollection(), any()))
+				.thenReturn(List.of());
+
+		scheduler.refreshExpiringTokens();
+
+		assertThat(submitted).isEmpty();
+		assertThat(scheduler.isRunning()).isFalse();
+	}
+
+	private static UserSocialToken token(Long userId) {
+		MeetUser user = MeetUser.builder().name("사용자" + userId).email(userId + "@dialog.com").build();
+		user.setId(userId);
+		UserSocialToken token = new UserSocialToken();
+		token.setUser(user);
+		token.setProvider(PROVIDER);
+		token.setRefreshToken("refresh-" + userId);
+		token.setExpiresAt(LocalDateTime.now().plusMinutes(userId));
+		return token;
+	}
+}
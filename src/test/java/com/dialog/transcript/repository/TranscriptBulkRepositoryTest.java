@@ -0,0 +1,51 @@
+package com.dialog.transcript.repository;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.transcript.domain.Transcript;
+
+class TranscriptBulkRepositoryTest {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final TranscriptBulkRepository transcriptBulkRepository = new TranscriptBulkRepository(jdbcTemplate);
+
+	@Test
+	void 필수_값이_빠진_발화가_있으면_DB_에_보내기_전에_거절() {
+		Transcript missingStart = transcript(2).toBuilder().startTime(null).build();
+
+		assertThatThrownBy(() -> transcriptBulkRepository.insertAll(List.of(transcript(1), missingStart)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("startTime")
+				.hasMessageContaining("2번째 발화");
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	@Test
+	void 회의가_없는_발화도_거절() {
+		Transcript noMeeting = transcript(1).toBuilder().meeting(null).build();
+
+		assertThatThrownBy(() -> transcriptBulkRepository.insertAll(List.of(noMeeting)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("meeting");
+		verifyNoInteractions(jdbcTemplate);
+	}
+
+	private static Transcript transcript(int sequenceOrder) {
+		return Transcript.builder()
+				.meeting(Meeting.builder().id(1L).build())
+				.speakerId("speaker-1")
+				.text("발화 " + sequenceOrder)
+				.startTime(sequenceOrder * 1_000L)
+				.endTime(sequenceOrder * 1_000L + 900L)
+				.sequenceOrder(sequenceOrder)
+				.build();
+	}
+}
@@ -0,0 +1,157 @@
+package com.dialog.transcript.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.transcript.domain.Transcript;
+import com.dialog.user.domain.MeetUser;
+
+// 발화 대량 저장 경로 성능 측정 (기본 빌드에서는 제외, ./gradlew perfTest 로 실행)
+// 기존 경로(조회 후 한 건씩 DELETE + IDENTITY saveAll)와 새 경로(단일 DELETE + JDBC 배치 INSERT)의 rows/sec 비교
+// 기본은 H2 인메모리라 네트워크 왕복이 없어 차이가 작게 나옴
+// 실제 차이는 PERF_DATASOURCE_* 환경 변수로 로컬 MySQL(빈 스키마, rewriteBatchedStatements=true)을 지정해서 확인
+@Tag("perf")
+@DataJpaTest(properties = {
+		"spring.datasource.url=${PERF_DATASOURCE_URL:jdbc:h2:mem:transcript-bulk;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1}",
+		"spring.datasource.driver-class-name=${PERF_DATASOURCE_DRIVER:org.h2.Driver}",
+		"spring.datasource.username=${PERF_DATASOURCE_USERNAME:sa}",
+		"spring.datasource.password=${PERF_DATASOURCE_PASSWORD:}",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.dialect=${PERF_DATASOURCE_DIALECT:org.hibernate.dialect.H2Dialect}" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TranscriptBulkRepository.class)
+class TranscriptBulkWriteBenchmarkTest {
+
+	// 요청서 기준 긴 회의 한 건 분량
+	private static final int ROWS = 5_000;
+	private static final int WARM_UP_ROWS = 500;
+
+	@Configuration
+	@EntityScan(basePackages = "com.dialog")
+	@EnableJpaRepositories(basePackageClasses = TranscriptRepository.class)
+	static class JpaConfig {
+	}
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private TranscriptRepository transcriptRepository;
+
+	@Autowired
+	private TranscriptBulkRepository transcriptBulkRepository;
+
+	private MeetUser host;
+
+	@BeforeEach
+	void setUp() {
+		host = em.persist(MeetUser.builder().name("host").email("host@dialog.com").password("password").build());
+		em.flush();
+	}
+
+	@Test
+	void 기존_경로와_대량_저장_경로의_처리량_비교() {
+		// JIT/커넥션/구문 캐시 워밍업
+		replaceWithEntityPath(newMeeting(), WARM_UP_ROWS);
+		replaceWithBulkPath(newMeeting(), WARM_UP_ROWS);
+
+		Meeting before = newMeeting();
+		Meeting after = newMeeting();
+		Timing entityPath = replaceWithEntityPath(before, ROWS);
+		Timing bulkPath = replaceWithBulkPath(after, ROWS);
+
+		print("entity", entityPath);
+		print("bulk", bulkPath);
+		assertThat(transcriptRepository.findByMeetingIdOrderBySequenceOrder(before.getId())).hasSize(ROWS);
+		assertThat(transcriptRepository.findByMeetingIdOrderBySequenceOrder(after.getId()))
+				.hasSize(ROWS)
+				.extracting(Transcript::getSequenceOrder)
+				.isSorted();
+	}
+
+	// 변경 전 경로: 파생 삭제(조회 후 한 건씩 DELETE) + IDENTITY saveAll(한 건씩 INSERT)
+	private Timing replaceWithEntityPath(Meeting meeting, int rows) {
+		transcriptRepository.saveAll(transcripts(meeting, rows));
+		em.flush();
+		em.clear();
+
+		long deleteStart = System.nanoTime();
+		transcriptRepository.deleteAll(transcriptRepository.findByMeetingIdOrderBySequenceOrder(meeting.getId()));
+		em.flush();
+		long deleteNanos = System.nanoTime() - deleteStart;
+
+		long insertStart = System.nanoTime();
+		transcriptRepository.saveAll(transcripts(meeting, rows));
+		em.flush();
+		long insertNanos = System.nanoTime() - insertStart;
+		em.clear();
+		return new Timing(rows, deleteNanos, insertNanos);
+	}
+
+	// 변경 후 경로 (finishMeeting / saveTranscripts 와 같은 순서)
+	private Timing replaceWithBulkPath(Meeting meeting, int rows) {
+		transcriptBulkRepository.insertAll(transcripts(meeting, rows));
+		em.clear();
+
+		long deleteStart = System.nanoTime();
+		transcriptRepository.deleteByMeetingId(meeting.getId());
+		long deleteNanos = System.nanoTime() - deleteStart;
+
+		long insertStart = System.nanoTime();
+		transcriptBulkRepository.insertAll(transcripts(meeting, rows));
+		long insertNanos = System.nanoTime() - insertStart;
+		return new Timing(rows, deleteNanos, insertNanos);
+	}
+
+	private Meeting newMeeting() {
+		Meeting meeting = em.persist(Meeting.builder().title("성능 측정").scheduledAt(LocalDateTime.now())
+				.hostUser(host).build());
+		em.flush();
+		return meeting;
+	}
+
+	private static List<Transcript> transcripts(Meeting meeting, int rows) {
+		List<Transcript> transcripts = new ArrayList<>(rows);
+		for (int i = 0; i < rows; i++) {
+			transcripts.add(Transcript.builder()
+					.meeting(meeting)
+					.speakerId("speaker-" + (i % 4))
+					.speakerName("화자 " + (i % 4))
+					.speakerLabel(i % 4)
+					.text("발화 내용 " + i + " - 회의록 한 문장 정도 길이의 텍스트입니다.")
+					.startTime(i * 3_000L)
+					.endTime(i * 3_000L + 2_500L)
+					.sequenceOrder(i)
+					.build());
+		}
+		return transcripts;
+	}
+
+	private static void print(String path, Timing timing) {
+		System.out.printf("[perf] transcript %-6s %d rows - delete %d ms (%d rows/s), insert %d ms (%d rows/s)%n",
+				path, timing.rows(), timing.deleteNanos() / 1_000_000, timing.rowsPerSecond(timing.deleteNanos()),
+				timing.insertNanos() / 1_000_000, timing.rowsPerSecond(timing.insertNanos()));
+	}
+
+	private record Timing(int rows, long deleteNanos, long insertNanos) {
+		long rowsPerSecond(long nanos) {
+			return rows * 1_000_000_000L / Math.max(1, nanos);
+		}
+	}
+}
@@ -0,0 +1,143 @@
+package com.dialog.transcript.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.meeting.domain.Status;
+import com.dialog.meeting.repository.MeetingRepository;
+import com.dialog.transcript.domain.TranscriptCreateRequestDto;
+import com.dialog.user.domain.MeetUser;
+
+class LiveTranscriptServiceTest {
+
+	private static final Long MEETING_ID = 1L;
+	private static final Long HOST_ID = 10L;
+
+	private TranscriptService transcriptService;
+	private LiveTranscriptService liveTranscriptService;
+
+	@BeforeEach
+	void setUp() {
+		transcriptService = mock(TranscriptService.class);
+		MeetingRepository meetingRepository = mock(MeetingRepository.class);
+		liveTranscriptService = new LiveTranscriptService(transcriptService, meetingRepository);
+		ReflectionTestUtils.setField(liveTranscriptService, "batchSize", 100);
+		ReflectionTestUtils.setField(liveTranscriptService, "maxPending", 5);
+
+		MeetUser host = MeetUser.builder().name("host").email("host@dialog.com").build();
+		host.setId(HOST_ID);
+		Meeting meeting = Meeting.builder().title("회의").scheduledAt(LocalDateTime.now()).hostUser(host)
+				.status(Status.RECORDING).build();
+		when(meetingRepository.findById(MEETING_ID)).thenReturn(Optional.of(meeting));
+		liveTranscriptService.open(MEETING_ID, HOST_ID);
+	}
+
+	@Test
+	void 필수_값이_빠진_발화가_있으면_메시지_전체를_받지_않음() {
+		TranscriptCreateRequestDto missingTime = segment(2);
+		missingTime.setEndTime(null);
+
+		assertThatThrownBy(() -> liveTranscriptService.append(MEETING_ID, List.of(segment(1), missingTime)))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessageContaining("2번째 발화");
+
+		liveTranscriptService.flush(MEETING_ID);
+		verify(transcriptService, never()).appendTranscripts(any(), anyList());
+	}
+
+	@Test
+	void 일시적인_DB_오류면_다음_flush_에서_같은_발화를_다시_저장() {
+		List<List<TranscriptCreateRequestDto>> saved = new ArrayList<>();
+		doThrow(new CannotAcquireLockException("Lock wait timeout exceeded")).doAnswer(invocation -> {
+			saved.add(List.copyOf(invocation.getArgument(1)));
+			return null;
+		}).when(transcriptService).appendTranscripts(eq(MEETING_ID), anyList());
+		liveTranscriptService.append(MEETING_ID, List.of(segment(1), segment(2)));
+
+		liveTranscriptService.flush(MEETING_ID);
+		liveTranscriptService.flush(MEETING_ID);
+
+		assertThat(saved).singleElement().satisfies(batch -> assertThat(batch)
+				.extracting(TranscriptCreateRequestDto::getSequenceOrder).containsExactly(1, 2));
+	}
+
+	@Test
+	void 저장할_수_없는_발화만_버리고_나머지는_저장하며_버퍼가_막히지_않음() {
+		List<List<TranscriptCreateRequestDto>> saved = new ArrayList<>();
+		doAnswer(invocation -> {
+			List<TranscriptCreateRequestDto> batch = invocation.getArgument(1);
+			if (batch.stream().anyMatch(s -> s.getSequenceOrder() == 2)) {
+				throw new DataIntegrityViolationException("Data too long for column 'speaker_name'");
+			}
+			saved.add(List.copyOf(batch));
+			return null;
+		}).when(transcriptService).appendTranscripts(eq(MEETING_ID), anyList());
+		liveTranscriptService.append(MEETING_ID, List.of(segment(1), segment(2), segment(3)));
+
+		liveTranscriptService.flush(MEETING_ID);
+
+		assertThat(saved).flatExtracting(batch -> batch.stream().map(TranscriptCreateRequestDto::getSequenceOrder)
+				.toList()).containsExactly(1, 3);
+		// 버퍼가 비었으므로 상한(5건)까지 다시 받을 수 있음
+		assertThat(liveTranscriptService.append(MEETING_ID,
+				List.of(segment(4), segment(5), segment(6), segment(7), segment(8)))).isEqualTo(5);
+		// 일괄 1번 + 한 건씩 3번
+		verify(transcriptService, times(4)).appendTranscripts(eq(MEETING_ID), anyList());
+	}
+
+	@Test
+	void 한_건씩_저장하다_일시적인_오류가_나면_남은_발화는_되돌림() {
+		List<List<TranscriptCreateRequestDto>> saved = new ArrayList<>();
+		doThrow(new DataIntegrityViolationException("bad row"))
+				.doAnswer(invocation -> {
+					saved.add(List.copyOf(invocation.getArgument(1)));
+					return null;
+				})
+				.doThrow(new CannotAcquireLockException("Lock wait timeout exceeded"))
+				.doAnswer(invocation -> {
+					saved.add(List.copyOf(invocation.getArgument(1)));
+					return null;
+				})
+				.when(transcriptService).appendTranscripts(eq(MEETING_ID), anyList());
+		liveTranscriptService.append(MEETING_ID, List.of(segment(1), segment(2), segment(3)));
+
+		liveTranscriptService.flush(MEETING_ID);
+		liveTranscriptService.flush(MEETING_ID);
+
+		assertThat(saved).flatExtracting(batch -> batch.stream().map(TranscriptCreateRequestDto::getSequenceOrder)
+				.toList()).containsExactly(1, 2, 3);
+	}
+
+	private static TranscriptCreateRequestDto segment(int sequenceOrder) {
+		TranscriptCreateRequestDto dto = new TranscriptCreateRequestDto();
+		dto.setSpeakerId("speaker-1");
+		dto.setSpeakerName("화자 1");
+		dto.setText("발화 " + sequenceOrder);
+		dto.setStartTime(sequenceOrder * 1_000L);
+		dto.setEndTime(sequenceOrder * 1_000L + 900L);
+		dto.setSequenceOrder(sequenceOrder);
+		return dto;
+	}
+}
@@ -0,0 +1,66 @@
+package com.dialog.transcript.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.meeting.domain.MeetingContentChangedEvent;
+import com.dialog.meeting.repository.MeetingRepository;
+import com.dialog.transcript.domain.Transcript;
+import com.dialog.transcript.domain.TranscriptCreateRequestDto;
+import com.dialog.transcript.repository.TranscriptBulkRepository;
+import com.dialog.transcript.repository.TranscriptRepository;
+
+class TranscriptServiceTest {
+
+	private static final Long MEETING_ID = 1L;
+
+	private TranscriptRepository transcriptRepository;
+	private MeetingRepository meetingRepository;
+	private TranscriptVersionService transcriptVersionService;
+	private ApplicationEventPublisher eventPublisher;
+	private TranscriptService transcriptService;
+
+	@BeforeEach
+	void setUp() {
+		transcriptRepository = mock(TranscriptRepository.class);
+		meetingRepository = mock(MeetingRepository.class);
+		transcriptVersionService = mock(TranscriptVersionService.class);
+		eventPublisher = mock(ApplicationEventPublisher.class);
+		transcriptService = new TranscriptService(transcriptRepository, mock(TranscriptBulkRepository.class),
+				meetingRepository, transcriptVersionService, eventPublisher);
+	}
+
+	@Test
+	void 실시간_발화_추가는_발화_버전을_올리지_않음() {
+		when(meetingRepository.getReferenceById(MEETING_ID)).thenReturn(Meeting.builder().id(MEETING_ID).build());
+
+		transcriptService.appendTranscripts(MEETING_ID, List.of(new TranscriptCreateRequestDto()));
+
+		verify(transcriptVersionService, never()).bump(anyLong());
+		// 검색 색인 등은 계속 갱신
+		verify(eventPublisher).publishEvent(any(MeetingContentChangedEvent.class));
+	}
+
+	@Test
+	void 기존_발화를_수정하면_발화_버전을_올림() {
+		Transcript transcript = Transcript.builder().id(5L).meeting(Meeting.builder().id(MEETING_ID).build())
+				.speakerId("speaker-1").text("수정 전").startTime(0L).endTime(1_000L).sequenceOrder(0).build();
+		when(transcriptRepository.findById(5L)).thenReturn(Optional.of(transcript));
+
+		transcriptService.updateTranscriptText(5L, "수정 후");
+
+		verify(transcriptVersionService).bump(MEETING_ID);
+	}
+}
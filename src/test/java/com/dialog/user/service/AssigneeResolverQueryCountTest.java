@@ -0,0 +1,119 @@
+package com.dialog.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+import com.dialog.actionitem.domain.ActionItem;
+import com.dialog.actionitem.repository.ActionItemRepository;
+import com.dialog.meeting.domain.Meeting;
+import com.dialog.meetingresult.domain.MeetingResult;
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.repository.MeetUserRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// 회의 결과 저장(updateMeetingResult)의 액션 아이템 경로와 같은 순서로 실행하고
+// Hibernate 통계로 실제 실행된 쿼리 수를 확인
+@DataJpaTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:assignee;MODE=MySQL;NON_KEYWORDS=USER;DB_CLOSE_DELAY=-1",
+		"spring.datasource.driver-class-name=org.h2.Driver",
+		"spring.datasource.username=sa",
+		"spring.datasource.password=",
+		"spring.jpa.hibernate.ddl-auto=create-drop",
+		"spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.properties.hibernate.generate_statistics=true" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class AssigneeResolverQueryCountTest {
+
+	private static final int USER_COUNT = 5;
+
+	// 애플리케이션 클래스의 전체 컴포넌트 스캔 대신 필요한 엔티티/리포지토리만 등록
+	@Configuration
+	@EntityScan(basePackages = "com.dialog")
+	@EnableJpaRepositories(basePackageClasses = { MeetUserRepository.class, ActionItemRepository.class })
+	static class JpaConfig {
+	}
+
+	@Autowired
+	private TestEntityManager em;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private MeetUserRepository meetUserRepository;
+
+	@Autowired
+	private ActionItemRepository actionItemRepository;
+
+	private AssigneeResolver assigneeResolver;
+	private Long meetingResultId;
+
+	@BeforeEach
+	void setUp() {
+		// 실행마다 새 캐시 (캐시 적중으로 조회가 생략되면 쿼리 수를 확인할 수 없음)
+		assigneeResolver = new AssigneeResolver(meetUserRepository, 300, 1000);
+
+		MeetUser host = em.persist(user("host"));
+		for (int i = 1; i <= USER_COUNT; i++) {
+			em.persist(user("user-" + i));
+		}
+		Meeting meeting = em.persist(Meeting.builder().title("주간 회의").scheduledAt(LocalDateTime.now())
+				.hostUser(host).build());
+		meetingResultId = em.persist(MeetingResult.builder().meeting(meeting).build()).getId();
+		em.flush();
+		em.clear();
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 20, 100 })
+	void 액션아이템_수와_관계없이_담당자_조회_쿼리는_한번(int itemCount) {
+		List<String> assignees = new ArrayList<>();
+		for (int i = 0; i < itemCount; i++) {
+			assignees.add(i % 3 == 0 ? "외부인-" + i : "user-" + (i % USER_COUNT + 1));
+		}
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		Map<String, Long> assigneeIds = assigneeResolver.resolveIds(assignees);
+		MeetingResult meetingResult = em.getEntityManager().getReference(MeetingResult.class, meetingResultId);
+		List<ActionItem> items = new ArrayList<>();
+		for (String name : assignees) {
+			Long assigneeId = assigneeIds.get(name);
+			items.add(ActionItem.builder()
+					.meetingResult(meetingResult)
+					.task(name + " 할 일")
+					.assignee(assigneeId != null ? meetUserRepository.getReferenceById(assigneeId) : null)
+					.build());
+		}
+		actionItemRepository.saveAll(items);
+		em.flush();
+
+		// 조회는 담당자 IN 쿼리 한 번, 프록시 참조는 초기화되지 않고 나머지는 INSERT 만
+		assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+		assertThat(statistics.getEntityFetchCount()).isZero();
+		assertThat(statistics.getEntityInsertCount()).isEqualTo(itemCount);
+		assertThat(statistics.getPrepareStatementCount()).isEqualTo(1 + itemCount);
+	}
+
+	private static MeetUser user(String name) {
+		return MeetUser.builder().name(name).email(name + "@dialog.com").password("password").build();
+	}
+}
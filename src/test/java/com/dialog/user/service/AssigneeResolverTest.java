@@ -0,0 +1,89 @@
+package com.dialog.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.UserChangedEvent;
+import com.dialog.user.repository.MeetUserRepository;
+
+class AssigneeResolverTest {
+
+	private MeetUserRepository meetUserRepository;
+	private AssigneeResolver assigneeResolver;
+
+	@BeforeEach
+	void setUp() {
+		meetUserRepository = mock(MeetUserRepository.class);
+		// 요청한 이름 중 "user-" 로 시작하는 이름만 존재하는 사용자로 응답
+		when(meetUserRepository.findByNameInAndActiveTrueOrderByIdAsc(anyCollection())).thenAnswer(invocation -> {
+			Collection<String> names = invocation.getArgument(0);
+			List<MeetUser> users = new ArrayList<>();
+			for (String name : names) {
+				if (name.startsWith("user-")) {
+					users.add(user(Long.parseLong(name.substring(5)), name));
+				}
+			}
+			return users;
+		});
+		assigneeResolver = new AssigneeResolver(meetUserRepository, 300, 1000);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 10, 40, 200 })
+	void 액션아이템_수와_관계없이_조회는_한번(int itemCount) {
+		List<String> assignees = new ArrayList<>();
+		for (int i = 1; i <= itemCount; i++) {
+			assignees.add("user-" + i);
+			assignees.add("외부인-" + i);
+		}
+
+		Map<String, Long> ids = assigneeResolver.resolveIds(assignees);
+
+		assertThat(ids).hasSize(itemCount);
+		assertThat(ids.get("user-1")).isEqualTo(1L);
+		verify(meetUserRepository, times(1)).findByNameInAndActiveTrueOrderByIdAsc(anyCollection());
+	}
+
+	@Test
+	void 캐시된_이름은_다시_조회하지_않음() {
+		List<String> assignees = List.of("user-1", "user-2", "외부인");
+
+		assigneeResolver.resolveIds(assignees);
+		Map<String, Long> ids = assigneeResolver.resolveIds(assignees);
+
+		assertThat(ids).containsOnlyKeys("user-1", "user-2");
+		verify(meetUserRepository, times(1)).findByNameInAndActiveTrueOrderByIdAsc(anyCollection());
+	}
+
+	@Test
+	void 사용자_변경_이벤트를_받으면_다시_조회() {
+		List<String> assignees = List.of("user-1");
+		assigneeResolver.resolveIds(assignees);
+
+		assigneeResolver.onUserChanged(new UserChangedEvent(1L, "a@dialog.com", UserChangedEvent.ChangeType.RENAMED));
+		assigneeResolver.resolveIds(assignees);
+
+		verify(meetUserRepository, times(2)).findByNameInAndActiveTrueOrderByIdAsc(anyCollection());
+	}
+
+	private static MeetUser user(Long id, String name) {
+		MeetUser user = MeetUser.builder().name(name).email(name + "@dialog.com").build();
+		user.setId(id);
+		return user;
+	}
+}
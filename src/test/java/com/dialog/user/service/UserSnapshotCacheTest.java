@@ -0,0 +1,97 @@
+package com.dialog.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.dialog.user.domain.MeetUser;
+import com.dialog.user.domain.UserChangedEvent;
+import com.dialog.user.domain.UserSnapshot;
+import com.dialog.user.repository.MeetUserRepository;
+
+class UserSnapshotCacheTest {
+
+	private MeetUserRepository meetUserRepository;
+	private UserSnapshotCache userSnapshotCache;
+
+	@BeforeEach
+	void setUp() {
+		meetUserRepository = mock(MeetUserRepository.class);
+		userSnapshotCache = new UserSnapshotCache(meetUserRepository, 600, 100);
+	}
+
+	@Test
+	void 한번_조회한_사용자는_ID와_이메일_모두_캐시에서_응답() {
+		when(meetUserRepository.findById(1L)).thenReturn(Optional.of(user(1L, "가나디", "a@dialog.com")));
+
+		userSnapshotCache.getById(1L);
+		Optional<UserSnapshot> byId = userSnapshotCache.getById(1L);
+		Optional<UserSnapshot> byEmail = userSnapshotCache.getByEmail("a@dialog.com");
+
+		assertThat(byId).map(UserSnapshot::getName).contains("가나디");
+		assertThat(byEmail).map(UserSnapshot::getId).contains(1L);
+		verify(meetUserRepository, times(1)).findById(1L);
+		verify(meetUserRepository, never()).findByEmail(any());
+	}
+
+	@Test
+	void 사용자_변경_이벤트를_받으면_해당_사용자만_다시_조회() {
+		when(meetUserRepository.findById(1L)).thenReturn(Optional.of(user(1L, "가나디", "a@dialog.com")),
+				Optional.of(user(1L, "듀", "a@dialog.com")));
+		when(meetUserRepository.findById(2L)).thenReturn(Optional.of(user(2L, "다른 사용자", "b@dialog.com")));
+		userSnapshotCache.getById(1L);
+		userSnapshotCache.getById(2L);
+
+		userSnapshotCache.onUserChanged(
+				new UserChangedEvent(1L, "a@dialog.com", UserChangedEvent.ChangeType.RENAMED));
+
+		assertThat(userSnapshotCache.getById(1L)).map(UserSnapshot::getName).contains("듀");
+		userSnapshotCache.getById(2L);
+		verify(meetUserRepository, times(2)).findById(1L);
+		verify(meetUserRepository, times(1)).findById(2L);
+	}
+
+	@Test
+	void 삭제된_사용자는_이벤트_후_이메일로도_조회되지_않음() {
+		when(meetUserRepository.findById(1L)).thenReturn(Optional.of(user(1L, "가나디", "a@dialog.com")),
+				Optional.empty());
+		when(meetUserRepository.findByEmail("a@dialog.com")).thenReturn(Optional.empty());
+		userSnapshotCache.getById(1L);
+
+		userSnapshotCache.onUserChanged(
+				new UserChangedEvent(1L, "a@dialog.com", UserChangedEvent.ChangeType.DELETED));
+
+		assertThat(userSnapshotCache.getByEmail("a@dialog.com")).isEmpty();
+		assertThat(userSnapshotCache.getById(1L)).isEmpty();
+		verify(meetUserRepository).findByEmail("a@dialog.com");
+	}
+
+	@Test
+	void 비활성화_이벤트_후에는_비활성_상태가_반영됨() {
+		MeetUser deactivated = user(1L, "가나디", "a@dialog.com");
+		deactivated.deactivate();
+		when(meetUserRepository.findById(1L)).thenReturn(Optional.of(user(1L, "가나디", "a@dialog.com")),
+				Optional.of(deactivated));
+		assertThat(userSnapshotCache.getById(1L)).map(UserSnapshot::isActive).contains(true);
+
+		userSnapshotCache.onUserChanged(
+				new UserChangedEvent(1L, "a@dialog.com", UserChangedEvent.ChangeType.DEACTIVATED));
+
+		assertThat(userSnapshotCache.getById(1L)).map(UserSnapshot::isActive).contains(false);
+	}
+
+	private static MeetUser user(Long id, String name, String email) {
+		MeetUser user = MeetUser.builder().name(name).email(email).build();
+		user.setId(id);
+		return user;
+	}
+}